@@ -37,6 +37,7 @@ dependencies {
   implementation(project(":oss:airbyte-db:db-lib"))
   implementation(project(":oss:airbyte-metrics:metrics-lib"))
   implementation(project(":oss:airbyte-json-validation"))
+  implementation(project(":oss:airbyte-notification"))
   implementation(project(":oss:airbyte-featureflag"))
   implementation(libs.airbyte.protocol)
   implementation(project(":oss:airbyte-persistence:job-persistence"))
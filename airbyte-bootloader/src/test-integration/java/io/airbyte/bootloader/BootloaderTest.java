@@ -57,6 +57,7 @@ import io.airbyte.db.instance.jobs.JobsDatabaseTestProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import java.util.Map;
 import java.util.Optional;
@@ -100,8 +101,8 @@ class BootloaderTest {
 
   // ⚠️ This line should change with every new migration to show that you meant to make a new
   // migration to the prod database
-  private static final String CURRENT_CONFIGS_MIGRATION_VERSION = "0.64.4.002";
-  private static final String CURRENT_JOBS_MIGRATION_VERSION = "0.64.7.002";
+  private static final String CURRENT_CONFIGS_MIGRATION_VERSION = "0.64.7.002";
+  private static final String CURRENT_JOBS_MIGRATION_VERSION = "0.64.7.004";
 
   @BeforeEach
   void setup() {
@@ -196,7 +197,7 @@ class BootloaderTest {
     val organizationPersistence = new OrganizationPersistence(jobDatabase);
     val protocolVersionChecker =
         new ProtocolVersionChecker(jobsPersistence, airbyteProtocolRange, configRepository, actorDefinitionService, definitionsProvider);
-    val breakingChangeNotificationHelper = new BreakingChangeNotificationHelper(configRepository, featureFlagClient);
+    val breakingChangeNotificationHelper = new BreakingChangeNotificationHelper(configRepository, featureFlagClient, (NotificationDispatcher) null);
     val breakingChangeHelper = new BreakingChangesHelper(scopedConfigurationService, workspaceService, destinationService, sourceService);
     val supportStateUpdater =
         new SupportStateUpdater(actorDefinitionService, sourceService, destinationService, DeploymentMode.OSS, breakingChangeHelper,
@@ -211,7 +212,8 @@ class BootloaderTest {
         .thenReturn(new ConnectorPlatformCompatibilityValidationResult(true, ""));
     val applyDefinitionsHelper =
         new ApplyDefinitionsHelper(definitionsProvider, jobsPersistence, actorDefinitionService, sourceService, destinationService,
-            metricClient, supportStateUpdater, actorDefinitionVersionResolver, airbyteCompatibleConnectorsValidator, connectorRolloutService);
+            metricClient, supportStateUpdater, actorDefinitionVersionResolver, airbyteCompatibleConnectorsValidator, connectorRolloutService,
+            true);
     final DeclarativeManifestImageVersionsProvider declarativeManifestImageVersionsProvider = new LocalDeclarativeManifestImageVersionsProvider();
     val declarativeSourceUpdater =
         new DeclarativeSourceUpdater(declarativeManifestImageVersionsProvider, mock(DeclarativeManifestImageVersionService.class),
@@ -303,7 +305,7 @@ class BootloaderTest {
     val jobsDatabaseMigrator = new JobsDatabaseMigrator(jobDatabase, jobsFlyway);
     val jobsPersistence = new DefaultJobPersistence(jobDatabase);
     val organizationPersistence = new OrganizationPersistence(jobDatabase);
-    val breakingChangeNotificationHelper = new BreakingChangeNotificationHelper(configRepository, featureFlagClient);
+    val breakingChangeNotificationHelper = new BreakingChangeNotificationHelper(configRepository, featureFlagClient, (NotificationDispatcher) null);
     val breakingChangesHelper = new BreakingChangesHelper(scopedConfigurationService, workspaceService, destinationService, sourceService);
     val supportStateUpdater =
         new SupportStateUpdater(actorDefinitionService, sourceService, destinationService, DeploymentMode.OSS, breakingChangesHelper,
@@ -316,7 +318,8 @@ class BootloaderTest {
     val connectorRolloutService = mock(ConnectorRolloutService.class);
     val applyDefinitionsHelper =
         new ApplyDefinitionsHelper(definitionsProvider, jobsPersistence, actorDefinitionService, sourceService, destinationService,
-            metricClient, supportStateUpdater, actorDefinitionVersionResolver, airbyteCompatibleConnectorsValidator, connectorRolloutService);
+            metricClient, supportStateUpdater, actorDefinitionVersionResolver, airbyteCompatibleConnectorsValidator, connectorRolloutService,
+            false);
     final DeclarativeManifestImageVersionsProvider declarativeManifestImageVersionsProvider = new LocalDeclarativeManifestImageVersionsProvider();
     val declarativeSourceUpdater =
         new DeclarativeSourceUpdater(declarativeManifestImageVersionsProvider, mock(DeclarativeManifestImageVersionService.class),
@@ -25,7 +25,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -153,6 +152,13 @@ public class CatalogDiffHelpers {
   /**
    * Returns difference between two provided catalogs.
    *
+   * <p>
+   * The fields of changed streams are compared through the hashes of their schemas, see
+   * {@link JsonNodeHasher}, so that streams whose schema is unchanged are not flattened and unchanged
+   * fields are compared in constant time, however deeply nested. Streams themselves are compared for
+   * equality, which returns on the first difference and needs no hashing of the common unchanged
+   * streams.
+   *
    * @param oldCatalog - old catalog
    * @param newCatalog - new catalog
    * @return difference between old and new catalogs
@@ -166,6 +172,9 @@ public class CatalogDiffHelpers {
         oldCatalog);
     final Map<StreamDescriptor, AirbyteStream> descriptorToStreamNew = streamDescriptorToMap(
         newCatalog);
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToConfiguredStream = new HashMap<>();
+    configuredCatalog.getStreams().forEach(s -> descriptorToConfiguredStream.putIfAbsent(
+        new StreamDescriptor().withName(s.getStream().getName()).withNamespace(s.getStream().getNamespace()), s));
 
     Sets.difference(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
         .forEach(descriptor -> streamTransforms.add(
@@ -178,12 +187,9 @@ public class CatalogDiffHelpers {
           final AirbyteStream streamOld = descriptorToStreamOld.get(descriptor);
           final AirbyteStream streamNew = descriptorToStreamNew.get(descriptor);
 
-          final Optional<ConfiguredAirbyteStream> stream = configuredCatalog.getStreams().stream()
-              .filter(s -> Objects.equals(s.getStream().getNamespace(), descriptor.getNamespace())
-                  && s.getStream().getName().equals(descriptor.getName()))
-              .findFirst();
+          final Optional<ConfiguredAirbyteStream> stream = Optional.ofNullable(descriptorToConfiguredStream.get(descriptor));
 
-          if (!streamOld.equals(streamNew) && stream.isPresent()) {
+          if (stream.isPresent() && !streamOld.equals(streamNew)) {
             // getStreamDiff only checks for differences in the stream's field name or field type
             // but there are a number of reasons the streams might be different (such as a source-defined
             // primary key or cursor changing). These should not be expressed as "stream updates".
@@ -210,6 +216,11 @@ public class CatalogDiffHelpers {
     }
 
     final Set<FieldTransform> fieldTransforms = new HashSet<>();
+    final JsonNodeHasher hasher = new JsonNodeHasher();
+    if (hasher.hash(streamOld.getJsonSchema()).equals(hasher.hash(streamNew.getJsonSchema()))) {
+      return new UpdateStreamTransform(fieldTransforms, attributeTransforms);
+    }
+
     final Map<List<String>, JsonNode> fieldNameToTypeOld = getFullyQualifiedFieldNamesWithTypes(
         streamOld.getJsonSchema())
             .stream()
@@ -239,7 +250,8 @@ public class CatalogDiffHelpers {
           final JsonNode oldType = fieldNameToTypeOld.get(fieldName);
           final JsonNode newType = fieldNameToTypeNew.get(fieldName);
 
-          if (!oldType.equals(newType)) {
+          // constant time, the sub-trees were hashed along with the schemas
+          if (!hasher.hash(oldType).equals(hasher.hash(newType))) {
             fieldTransforms.add(FieldTransform.createUpdateFieldTransform(fieldName,
                 new UpdateFieldSchemaTransform(oldType, newType)));
           }
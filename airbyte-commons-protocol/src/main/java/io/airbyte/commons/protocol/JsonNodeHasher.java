@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashes JSON nodes bottom up, so that the hash of a node is built from the hashes of its children
+ * and every sub-tree is hashed once. The hashes are kept per node instance, which makes comparing
+ * two sub-trees that were already hashed constant time.
+ *
+ * <p>
+ * Nodes that are equal as per {@link JsonNode#equals(Object)} have the same hash, whatever the
+ * order of their fields. Nodes that are not equal have different hashes, save for collisions of a
+ * 128 bits hash.
+ */
+class JsonNodeHasher {
+
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+  private static final HashCode NULL_HASH = HASH_FUNCTION.hashInt(0);
+
+  private final Map<JsonNode, HashCode> hashes = new IdentityHashMap<>();
+
+  HashCode hash(final JsonNode node) {
+    if (node == null) {
+      return NULL_HASH;
+    }
+    final HashCode cached = hashes.get(node);
+    if (cached != null) {
+      return cached;
+    }
+
+    final Hasher hasher = HASH_FUNCTION.newHasher();
+    putString(hasher, node.getClass().getName());
+    if (node.isObject()) {
+      final List<String> fieldNames = new ArrayList<>(node.size());
+      node.fieldNames().forEachRemaining(fieldNames::add);
+      // equal objects can list their fields in a different order
+      Collections.sort(fieldNames);
+      hasher.putInt(fieldNames.size());
+      for (final String fieldName : fieldNames) {
+        putString(hasher, fieldName);
+        hasher.putBytes(hash(node.get(fieldName)).asBytes());
+      }
+    } else if (node.isArray()) {
+      hasher.putInt(node.size());
+      for (final JsonNode element : node) {
+        hasher.putBytes(hash(element).asBytes());
+      }
+    } else {
+      putString(hasher, node.asText());
+    }
+
+    final HashCode hash = hasher.hash();
+    hashes.put(node, hash);
+    return hash;
+  }
+
+  private static void putString(final Hasher hasher, final String value) {
+    // length prefixed, so that consecutive strings cannot be split differently into the same bytes
+    hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+  }
+
+}
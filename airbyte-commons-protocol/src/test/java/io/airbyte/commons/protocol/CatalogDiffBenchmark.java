@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Sets;
+import io.airbyte.commons.protocol.transform_models.FieldTransform;
+import io.airbyte.commons.protocol.transform_models.StreamAttributeTransform;
+import io.airbyte.commons.protocol.transform_models.StreamTransform;
+import io.airbyte.commons.protocol.transform_models.UpdateFieldSchemaTransform;
+import io.airbyte.commons.protocol.transform_models.UpdateStreamTransform;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.DestinationSyncMode;
+import io.airbyte.config.StreamDescriptor;
+import io.airbyte.config.SyncMode;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.Jsons;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark of {@link CatalogDiffHelpers#getCatalogDiff} on a large catalog.
+ *
+ * <p>
+ * Diffs a catalog of streams with nested schemas, all of them selected in the connection, against:
+ * <ul>
+ * <li>unchanged: the same catalog, as discovered again, which is the common case of a schema
+ * refresh;</li>
+ * <li>few changed: a catalog where 1% of the streams have a nested field changed;</li>
+ * <li>all changed: a catalog where every stream has a nested field changed.</li>
+ * </ul>
+ *
+ * <p>
+ * Each case is run with the current implementation and with {@link #baselineCatalogDiff}, the
+ * implementation before streams were looked up by descriptor and fields compared through hashes,
+ * so that both can be compared on the same catalogs.
+ *
+ * <p>
+ * Not run as part of the test suite. Run the main method, optionally passing the number of streams
+ * (2000 by default) and the number of fields per stream (50 by default).
+ */
+public class CatalogDiffBenchmark {
+
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int ITERATIONS = 20;
+
+  public static void main(final String[] args) {
+    final int streams = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+    final int fields = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+    final AirbyteCatalog catalog = catalog(streams, fields, i -> false);
+    final ConfiguredAirbyteCatalog configuredCatalog = configuredCatalog(catalog);
+    System.out.printf("%d streams of %d fields%n", streams, fields);
+    run("unchanged", catalog, catalog(streams, fields, i -> false), configuredCatalog);
+    run("few changed", catalog, catalog(streams, fields, i -> i % 100 == 0), configuredCatalog);
+    run("all changed", catalog, catalog(streams, fields, i -> true), configuredCatalog);
+  }
+
+  private static void run(final String name,
+                          final AirbyteCatalog oldCatalog,
+                          final AirbyteCatalog newCatalog,
+                          final ConfiguredAirbyteCatalog configuredCatalog) {
+    final double baselineMillis = time(name + " (baseline)",
+        () -> baselineCatalogDiff(oldCatalog, newCatalog, configuredCatalog));
+    final double millis = time(name, () -> CatalogDiffHelpers.getCatalogDiff(oldCatalog, newCatalog, configuredCatalog));
+    System.out.printf("%-23s %10.2fx%n", name + " speedup", baselineMillis / millis);
+  }
+
+  private static double time(final String name, final Supplier<Set<StreamTransform>> differ) {
+    Set<StreamTransform> diff = Set.of();
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      diff = differ.get();
+    }
+    final long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      diff = differ.get();
+    }
+    final double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    System.out.printf("%-23s %10.2f ms per diff %6d stream transforms%n", name, millis, diff.size());
+    return millis;
+  }
+
+  /**
+   * {@link CatalogDiffHelpers#getCatalogDiff} as it was before streams were looked up by descriptor
+   * and fields compared through hashes: the configured catalog is scanned for every stream and every
+   * common field of a changed stream is deep-compared.
+   */
+  private static Set<StreamTransform> baselineCatalogDiff(final AirbyteCatalog oldCatalog,
+                                                          final AirbyteCatalog newCatalog,
+                                                          final ConfiguredAirbyteCatalog configuredCatalog) {
+    final Set<StreamTransform> streamTransforms = new HashSet<>();
+
+    final Map<StreamDescriptor, AirbyteStream> descriptorToStreamOld = oldCatalog.getStreams().stream()
+        .collect(Collectors.toMap(CatalogDiffHelpers::extractStreamDescriptor, s -> s));
+    final Map<StreamDescriptor, AirbyteStream> descriptorToStreamNew = newCatalog.getStreams().stream()
+        .collect(Collectors.toMap(CatalogDiffHelpers::extractStreamDescriptor, s -> s));
+
+    Sets.difference(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
+        .forEach(descriptor -> streamTransforms.add(StreamTransform.createRemoveStreamTransform(descriptor)));
+    Sets.difference(descriptorToStreamNew.keySet(), descriptorToStreamOld.keySet())
+        .forEach(descriptor -> streamTransforms.add(StreamTransform.createAddStreamTransform(descriptor)));
+    Sets.intersection(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
+        .forEach(descriptor -> {
+          final AirbyteStream streamOld = descriptorToStreamOld.get(descriptor);
+          final AirbyteStream streamNew = descriptorToStreamNew.get(descriptor);
+
+          final Optional<ConfiguredAirbyteStream> stream = configuredCatalog.getStreams().stream()
+              .filter(s -> Objects.equals(s.getStream().getNamespace(), descriptor.getNamespace())
+                  && s.getStream().getName().equals(descriptor.getName()))
+              .findFirst();
+
+          if (!streamOld.equals(streamNew) && stream.isPresent()) {
+            final UpdateStreamTransform streamTransform = baselineStreamDiff(streamOld, streamNew, stream);
+            if (!streamTransform.getFieldTransforms().isEmpty() || !streamTransform.getAttributeTransforms().isEmpty()) {
+              streamTransforms.add(StreamTransform.createUpdateStreamTransform(descriptor, streamTransform));
+            }
+          }
+        });
+
+    return streamTransforms;
+  }
+
+  private static UpdateStreamTransform baselineStreamDiff(final AirbyteStream streamOld,
+                                                          final AirbyteStream streamNew,
+                                                          final Optional<ConfiguredAirbyteStream> configuredStream) {
+    final Set<StreamAttributeTransform> attributeTransforms = new HashSet<>();
+    if (!streamOld.getSourceDefinedPrimaryKey().equals(streamNew.getSourceDefinedPrimaryKey())) {
+      attributeTransforms.add(StreamAttributeTransform.createUpdatePrimaryKeyTransform(
+          streamOld.getSourceDefinedPrimaryKey(),
+          streamNew.getSourceDefinedPrimaryKey(),
+          CatalogDiffHelpers.primaryKeyTransformBreaksConnection(configuredStream, streamNew.getSourceDefinedPrimaryKey())));
+    }
+
+    final Set<FieldTransform> fieldTransforms = new HashSet<>();
+    final Map<List<String>, JsonNode> fieldNameToTypeOld = CatalogDiffHelpers.getFullyQualifiedFieldNamesWithTypes(streamOld.getJsonSchema())
+        .stream()
+        .collect(HashMap::new, CatalogDiffHelpers::collectInHashMap, CatalogDiffHelpers::combineAccumulator);
+    final Map<List<String>, JsonNode> fieldNameToTypeNew = CatalogDiffHelpers.getFullyQualifiedFieldNamesWithTypes(streamNew.getJsonSchema())
+        .stream()
+        .collect(HashMap::new, CatalogDiffHelpers::collectInHashMap, CatalogDiffHelpers::combineAccumulator);
+
+    Sets.difference(fieldNameToTypeOld.keySet(), fieldNameToTypeNew.keySet())
+        .forEach(fieldName -> fieldTransforms.add(FieldTransform.createRemoveFieldTransform(fieldName,
+            fieldNameToTypeOld.get(fieldName),
+            CatalogDiffHelpers.fieldTransformBreaksConnection(configuredStream, fieldName))));
+    Sets.difference(fieldNameToTypeNew.keySet(), fieldNameToTypeOld.keySet())
+        .forEach(fieldName -> fieldTransforms.add(FieldTransform.createAddFieldTransform(fieldName, fieldNameToTypeNew.get(fieldName))));
+    Sets.intersection(fieldNameToTypeOld.keySet(), fieldNameToTypeNew.keySet())
+        .forEach(fieldName -> {
+          final JsonNode oldType = fieldNameToTypeOld.get(fieldName);
+          final JsonNode newType = fieldNameToTypeNew.get(fieldName);
+          if (!oldType.equals(newType)) {
+            fieldTransforms.add(FieldTransform.createUpdateFieldTransform(fieldName, new UpdateFieldSchemaTransform(oldType, newType)));
+          }
+        });
+
+    return new UpdateStreamTransform(fieldTransforms, attributeTransforms);
+  }
+
+  /**
+   * A catalog whose streams have flat fields, an object field nested a few levels deep and an array
+   * of objects. The streams matching changed have the type of their deepest nested field changed.
+   */
+  private static AirbyteCatalog catalog(final int streams, final int fields, final IntPredicate changed) {
+    final List<AirbyteStream> catalogStreams = new ArrayList<>(streams);
+    for (int i = 0; i < streams; i++) {
+      final ObjectNode properties = (ObjectNode) Jsons.emptyObject();
+      for (int j = 0; j < fields; j++) {
+        properties.set("field_" + j, type(j % 2 == 0 ? "string" : "integer"));
+      }
+      JsonNode nested = object(type(changed.test(i) ? "string" : "integer"), "leaf");
+      for (int depth = 0; depth < 5; depth++) {
+        nested = object(nested, "level_" + depth);
+      }
+      properties.set("nested", nested);
+      properties.set("items", Jsons.jsonNode(Map.of("type", "array", "items", object(type("string"), "name"))));
+
+      final ObjectNode schema = (ObjectNode) Jsons.emptyObject();
+      schema.put("type", "object");
+      schema.set("properties", properties);
+      catalogStreams.add(new AirbyteStream()
+          .withName("stream_" + i)
+          .withNamespace("public")
+          .withJsonSchema(schema)
+          .withSupportedSyncModes(List.of(
+              io.airbyte.protocol.models.SyncMode.FULL_REFRESH,
+              io.airbyte.protocol.models.SyncMode.INCREMENTAL))
+          .withSourceDefinedPrimaryKey(List.of(List.of("field_0"))));
+    }
+    return new AirbyteCatalog().withStreams(catalogStreams);
+  }
+
+  private static ConfiguredAirbyteCatalog configuredCatalog(final AirbyteCatalog catalog) {
+    return new ConfiguredAirbyteCatalog().withStreams(catalog.getStreams().stream()
+        .map(stream -> new ConfiguredAirbyteStream(
+            new io.airbyte.config.AirbyteStream(stream.getName(), stream.getJsonSchema(), List.of(SyncMode.FULL_REFRESH))
+                .withNamespace(stream.getNamespace()),
+            SyncMode.FULL_REFRESH,
+            DestinationSyncMode.APPEND))
+        .toList());
+  }
+
+  private static JsonNode type(final String type) {
+    return Jsons.jsonNode(Map.of("type", type));
+  }
+
+  private static JsonNode object(final JsonNode child, final String childName) {
+    final ObjectNode properties = (ObjectNode) Jsons.emptyObject();
+    properties.set(childName, child);
+    final ObjectNode object = (ObjectNode) Jsons.emptyObject();
+    object.put("type", "object");
+    object.set("properties", properties);
+    return object;
+  }
+
+}
@@ -329,4 +329,56 @@ class CatalogDiffHelpersTest {
     Assertions.assertThat(actualDiff).containsExactlyElementsOf(expectedDiff);
   }
 
+  @Test
+  void testCatalogDiffIgnoresFieldOrder() {
+    final JsonNode schema = Jsons.deserialize("""
+                                              {"type": "object", "properties": {"id": {"type": "integer"}, "name": {"type": "string"}}}
+                                              """);
+    final JsonNode reorderedSchema = Jsons.deserialize("""
+                                                       {"properties": {"name": {"type": "string"}, "id": {"type": "integer"}}, "type": "object"}
+                                                       """);
+    final AirbyteCatalog catalog1 = new AirbyteCatalog().withStreams(List.of(
+        new io.airbyte.protocol.models.AirbyteStream().withName(USERS).withJsonSchema(schema)));
+    final AirbyteCatalog catalog2 = new AirbyteCatalog().withStreams(List.of(
+        new io.airbyte.protocol.models.AirbyteStream().withName(USERS).withJsonSchema(reorderedSchema)));
+    final ConfiguredAirbyteCatalog configuredAirbyteCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream(new AirbyteStream(USERS, schema, List.of(SyncMode.FULL_REFRESH)), SyncMode.FULL_REFRESH,
+            DestinationSyncMode.APPEND)));
+
+    assertEquals(Set.of(), CatalogDiffHelpers.getCatalogDiff(catalog1, catalog2, configuredAirbyteCatalog));
+  }
+
+  @Test
+  void testCatalogDiffWithNestedFieldChange() {
+    final JsonNode schema1 = Jsons.deserialize("""
+                                               {"type": "object", "properties": {
+                                                 "id": {"type": "integer"},
+                                                 "address": {"type": "object", "properties": {"zip": {"type": "integer"}}}}}
+                                               """);
+    final JsonNode schema2 = Jsons.deserialize("""
+                                               {"type": "object", "properties": {
+                                                 "address": {"type": "object", "properties": {"zip": {"type": "string"}}},
+                                                 "id": {"type": "integer"}}}
+                                               """);
+    final AirbyteCatalog catalog1 = new AirbyteCatalog().withStreams(List.of(
+        new io.airbyte.protocol.models.AirbyteStream().withName(USERS).withJsonSchema(schema1)));
+    final AirbyteCatalog catalog2 = new AirbyteCatalog().withStreams(List.of(
+        new io.airbyte.protocol.models.AirbyteStream().withName(USERS).withJsonSchema(schema2)));
+    final ConfiguredAirbyteCatalog configuredAirbyteCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream(new AirbyteStream(USERS, schema1, List.of(SyncMode.FULL_REFRESH)), SyncMode.FULL_REFRESH,
+            DestinationSyncMode.APPEND)));
+
+    final Set<StreamTransform> actualDiff = CatalogDiffHelpers.getCatalogDiff(catalog1, catalog2, configuredAirbyteCatalog);
+
+    final JsonNode address1 = schema1.get(PROPERTIES).get("address");
+    final JsonNode address2 = schema2.get(PROPERTIES).get("address");
+    Assertions.assertThat(actualDiff).containsExactly(
+        StreamTransform.createUpdateStreamTransform(new StreamDescriptor().withName(USERS), new UpdateStreamTransform(Set.of(
+            FieldTransform.createUpdateFieldTransform(List.of("address"), new UpdateFieldSchemaTransform(address1, address2)),
+            FieldTransform.createUpdateFieldTransform(List.of("address", "zip"), new UpdateFieldSchemaTransform(
+                address1.get(PROPERTIES).get("zip"),
+                address2.get(PROPERTIES).get("zip")))),
+            Set.of())));
+  }
+
 }
@@ -21,6 +21,7 @@ import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.SyncProgressCache;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.AttemptFailureSummary;
@@ -83,6 +84,7 @@ public class AttemptHandler {
   private final DestinationService destinationService;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
   private final StreamAttemptMetadataService streamAttemptMetadataService;
+  private final SyncProgressCache syncProgressCache;
 
   public AttemptHandler(final JobPersistence jobPersistence,
                         final StatePersistence statePersistence,
@@ -94,7 +96,8 @@ public class AttemptHandler {
                         final ConnectionService connectionService,
                         final DestinationService destinationService,
                         final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
-                        final StreamAttemptMetadataService streamAttemptMetadataService) {
+                        final StreamAttemptMetadataService streamAttemptMetadataService,
+                        final SyncProgressCache syncProgressCache) {
     this.jobPersistence = jobPersistence;
     this.statePersistence = statePersistence;
     this.jobConverter = jobConverter;
@@ -106,6 +109,7 @@ public class AttemptHandler {
     this.destinationService = destinationService;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
     this.streamAttemptMetadataService = streamAttemptMetadataService;
+    this.syncProgressCache = syncProgressCache;
   }
 
   public CreateNewAttemptNumberResponse createNewAttemptNumber(final long jobId)
@@ -279,6 +283,10 @@ public class AttemptHandler {
           stats.getRecordsCommitted(), stats.getBytesCommitted(),
           requestBody.getConnectionId(),
           streamStats);
+      // the connection id is optional in the request
+      if (requestBody.getConnectionId() != null) {
+        syncProgressCache.invalidate(requestBody.getConnectionId());
+      }
 
     } catch (final IOException ioe) {
       LOGGER.error("IOException when setting temporal workflow in attempt;", ioe);
@@ -33,8 +33,12 @@ import io.airbyte.api.model.generated.ConnectionEventsBackfillRequestBody;
 import io.airbyte.api.model.generated.ConnectionEventsRequestBody;
 import io.airbyte.api.model.generated.ConnectionLastJobPerStreamReadItem;
 import io.airbyte.api.model.generated.ConnectionLastJobPerStreamRequestBody;
+import io.airbyte.api.model.generated.ConnectionNextRunSetRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
+import io.airbyte.api.model.generated.ConnectionScheduleInfoRead;
+import io.airbyte.api.model.generated.ConnectionScheduleInfoReadList;
+import io.airbyte.api.model.generated.ConnectionScheduleInfoRequestBody;
 import io.airbyte.api.model.generated.ConnectionStatus;
 import io.airbyte.api.model.generated.ConnectionStatusRead;
 import io.airbyte.api.model.generated.ConnectionStatusesRequestBody;
@@ -85,7 +89,6 @@ import io.airbyte.commons.server.validation.CatalogValidator;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.Attempt;
-import io.airbyte.config.AttemptWithJobInfo;
 import io.airbyte.config.BasicSchedule;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
 import io.airbyte.config.DestinationConnection;
@@ -93,7 +96,6 @@ import io.airbyte.config.FieldSelectionData;
 import io.airbyte.config.Geography;
 import io.airbyte.config.Job;
 import io.airbyte.config.JobConfig.ConfigType;
-import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.config.JobWithStatusAndTimestamp;
@@ -106,7 +108,6 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.ScheduleType;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardWorkspace;
-import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.helpers.CatalogHelpers;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
@@ -118,11 +119,14 @@ import io.airbyte.config.persistence.domain.Generation;
 import io.airbyte.config.persistence.helper.CatalogGenerationSetter;
 import io.airbyte.data.repositories.entities.ConnectionTimelineEvent;
 import io.airbyte.data.services.CatalogService;
+import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.ConnectionTimelineEventService;
 import io.airbyte.data.services.StreamStatusesService;
 import io.airbyte.data.services.shared.ConnectionAutoDisabledReason;
 import io.airbyte.data.services.shared.ConnectionAutoUpdatedReason;
 import io.airbyte.data.services.shared.ConnectionEvent;
+import io.airbyte.data.services.shared.ConnectionNextRun;
+import io.airbyte.data.services.shared.ConnectionScheduleInfo;
 import io.airbyte.data.services.shared.FailedEvent;
 import io.airbyte.data.services.shared.FinalStatusEvent;
 import io.airbyte.featureflag.CheckWithCatalog;
@@ -137,6 +141,7 @@ import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.ConnectionJobStatus;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.validation.json.JsonValidationException;
 import io.micronaut.context.annotation.Value;
@@ -145,7 +150,6 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -158,12 +162,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -204,6 +207,7 @@ public class ConnectionsHandler {
   private final ConnectionTimelineEventService connectionTimelineEventService;
   private final ConnectionTimelineEventHelper connectionTimelineEventHelper;
   private final StatePersistence statePersistence;
+  private final ConnectionService connectionService;
 
   @Inject
   public ConnectionsHandler(final StreamRefreshesHandler streamRefreshesHandler,
@@ -228,7 +232,8 @@ public class ConnectionsHandler {
                             final StreamStatusesService streamStatusesService,
                             final ConnectionTimelineEventService connectionTimelineEventService,
                             final ConnectionTimelineEventHelper connectionTimelineEventHelper,
-                            final StatePersistence statePersistence) {
+                            final StatePersistence statePersistence,
+                            final ConnectionService connectionService) {
     this.jobPersistence = jobPersistence;
     this.configRepository = configRepository;
     this.catalogService = catalogService;
@@ -252,6 +257,7 @@ public class ConnectionsHandler {
     this.connectionTimelineEventService = connectionTimelineEventService;
     this.connectionTimelineEventHelper = connectionTimelineEventHelper;
     this.statePersistence = statePersistence;
+    this.connectionService = connectionService;
   }
 
   /**
@@ -1059,38 +1065,33 @@ public class ConnectionsHandler {
       throws IOException {
     ApmTraceUtils.addTagsToTrace(Map.of(MetricTags.CONNECTION_IDS, connectionStatusesRequestBody.getConnectionIds().toString()));
     final List<UUID> connectionIds = connectionStatusesRequestBody.getConnectionIds();
+    final Map<UUID, ConnectionJobStatus> jobStatuses = jobPersistence.getConnectionJobStatuses(connectionIds, REPLICATION_TYPES, maxJobLookback)
+        .stream()
+        .collect(Collectors.toMap(ConnectionJobStatus::connectionId, Function.identity()));
+    final Map<UUID, OffsetDateTime> nextRuns = connectionService.listConnectionNextRuns(connectionIds).stream()
+        .collect(Collectors.toMap(ConnectionNextRun::connectionId, ConnectionNextRun::nextRunAt));
     final List<ConnectionStatusRead> result = new ArrayList<>();
     for (final UUID connectionId : connectionIds) {
-      final List<Job> jobs = jobPersistence.listJobsLight(REPLICATION_TYPES,
-          connectionId.toString(),
-          maxJobLookback);
-      final boolean isRunning = jobs.stream().anyMatch(job -> JobStatus.NON_TERMINAL_STATUSES.contains(job.getStatus()));
-
-      final Optional<Job> lastSucceededOrFailedJob =
-          jobs.stream().filter(job -> JobStatus.TERMINAL_STATUSES.contains(job.getStatus()) && job.getStatus() != JobStatus.CANCELLED).findFirst();
-      final Optional<JobStatus> lastSyncStatus = lastSucceededOrFailedJob.map(Job::getStatus);
-
-      final Optional<Job> lastSuccessfulJob = jobs.stream().filter(job -> job.getStatus() == JobStatus.SUCCEEDED).findFirst();
-      final Optional<Long> lastSuccessTimestamp = lastSuccessfulJob.map(Job::getUpdatedAtInSecond);
+      final Optional<ConnectionJobStatus> jobStatus = Optional.ofNullable(jobStatuses.get(connectionId));
+      final Optional<ConnectionJobStatus> lastCompletedJob = jobStatus.filter(status -> status.lastCompletedJobId() != null);
 
       final ConnectionStatusRead connectionStatus = new ConnectionStatusRead()
           .connectionId(connectionId)
-          .isRunning(isRunning)
-          .lastSyncJobStatus(Enums.convertTo(lastSyncStatus.orElse(null),
+          .isRunning(jobStatus.map(ConnectionJobStatus::isRunning).orElse(false))
+          .lastSyncJobStatus(Enums.convertTo(lastCompletedJob.map(ConnectionJobStatus::lastCompletedJobStatus).orElse(null),
               io.airbyte.api.model.generated.JobStatus.class))
-          .lastSuccessfulSync(lastSuccessTimestamp.orElse(null))
-          .nextSync(null)
-          .isLastCompletedJobReset(lastSucceededOrFailedJob.map(job -> job.getConfigType() == ConfigType.RESET_CONNECTION).orElse(false));
-      if (lastSucceededOrFailedJob.isPresent()) {
-        connectionStatus.lastSyncJobId(lastSucceededOrFailedJob.get().getId());
-        final Optional<Attempt> lastAttempt = lastSucceededOrFailedJob.get().getLastAttempt();
-        lastAttempt.ifPresent(attempt -> connectionStatus.lastSyncAttemptNumber(attempt.getAttemptNumber()));
+          .lastSuccessfulSync(jobStatus.map(ConnectionJobStatus::lastSucceededJobUpdatedAt).orElse(null))
+          .nextSync(Optional.ofNullable(nextRuns.get(connectionId)).map(OffsetDateTime::toEpochSecond).orElse(null))
+          .isLastCompletedJobReset(lastCompletedJob.map(job -> job.lastCompletedJobConfigType() == ConfigType.RESET_CONNECTION).orElse(false));
+      if (lastCompletedJob.isPresent()) {
+        connectionStatus.lastSyncJobId(lastCompletedJob.get().lastCompletedJobId());
+        connectionStatus.lastSyncAttemptNumber(lastCompletedJob.get().lastCompletedJobAttemptNumber());
       }
-      final Optional<io.airbyte.api.model.generated.FailureReason> failureReason = lastSucceededOrFailedJob.flatMap(Job::getLastFailedAttempt)
-          .flatMap(Attempt::getFailureSummary)
+      final Optional<io.airbyte.api.model.generated.FailureReason> failureReason = lastCompletedJob
+          .map(ConnectionJobStatus::lastCompletedJobFailureSummary)
           .flatMap(s -> s.getFailures().stream().findFirst())
           .map(this::mapFailureReason);
-      if (failureReason.isPresent() && lastSucceededOrFailedJob.get().getStatus() == JobStatus.FAILED) {
+      if (failureReason.isPresent() && lastCompletedJob.get().lastCompletedJobStatus() == JobStatus.FAILED) {
         connectionStatus.setFailureReason(failureReason.get());
       }
       result.add(connectionStatus);
@@ -1099,6 +1100,50 @@ public class ConnectionsHandler {
     return result;
   }
 
+  /**
+   * Get the schedules of connections. This is meant for callers computing when connections should
+   * run, which only need the schedule and would otherwise fetch the whole connection, catalog
+   * included, and its workspace separately.
+   *
+   * @param connectionScheduleInfoRequestBody ids of the connections
+   * @return schedule of each existing connection
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Trace
+  public ConnectionScheduleInfoReadList listConnectionScheduleInfos(final ConnectionScheduleInfoRequestBody connectionScheduleInfoRequestBody)
+      throws IOException {
+    final List<ConnectionScheduleInfoRead> scheduleInfos =
+        connectionService.listConnectionScheduleInfos(connectionScheduleInfoRequestBody.getConnectionIds()).stream()
+            .map(ConnectionsHandler::toConnectionScheduleInfoRead)
+            .toList();
+    return new ConnectionScheduleInfoReadList().scheduleInfos(scheduleInfos);
+  }
+
+  /**
+   * Set the time of the next scheduled run of a connection, for the connection scheduler to trigger
+   * it. A request without a time clears the next run.
+   *
+   * @param connectionNextRunSetRequestBody connection and time of its next run
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Trace
+  public void setConnectionNextRun(final ConnectionNextRunSetRequestBody connectionNextRunSetRequestBody) throws IOException {
+    final Long nextRunAt = connectionNextRunSetRequestBody.getNextRunAt();
+    connectionService.setConnectionNextRun(connectionNextRunSetRequestBody.getConnectionId(),
+        nextRunAt == null ? null : OffsetDateTime.ofInstant(Instant.ofEpochSecond(nextRunAt), ZoneOffset.UTC));
+  }
+
+  private static ConnectionScheduleInfoRead toConnectionScheduleInfoRead(final ConnectionScheduleInfo scheduleInfo) {
+    final StandardSync connection = scheduleInfo.connection();
+    return new ConnectionScheduleInfoRead()
+        .connectionId(connection.getConnectionId())
+        .workspaceId(scheduleInfo.workspaceId())
+        .status(ApiPojoConverters.toApiStatus(connection.getStatus()))
+        .scheduleType(ApiPojoConverters.toApiConnectionScheduleType(connection))
+        .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(connection))
+        .schedule(ApiPojoConverters.toLegacyConnectionSchedule(connection));
+  }
+
   private List<ConnectionEvent.Type> convertConnectionType(final List<ConnectionEventType> eventTypes) {
     if (eventTypes == null) {
       return null;
@@ -1301,76 +1346,22 @@ public class ConnectionsHandler {
       throws IOException {
 
     // Start time in designated timezone
-    final ZonedDateTime endTimeInUserTimeZone = Instant.now().atZone(ZoneId.of(connectionStreamHistoryRequestBody.getTimezone()));
-    final ZonedDateTime startTimeInUserTimeZone = endTimeInUserTimeZone.minusDays(30);
-    // Convert start time to UTC (since that's what the database uses)
-    final Instant startTimeInUTC = startTimeInUserTimeZone.toInstant();
-
-    final List<AttemptWithJobInfo> attempts = jobPersistence.listAttemptsForConnectionAfterTimestamp(
-        connectionStreamHistoryRequestBody.getConnectionId(),
-        ConfigType.SYNC,
-        startTimeInUTC);
-
-    final NavigableMap<LocalDate, Map<List<String>, Long>> connectionStreamHistoryReadItemsByDate = new TreeMap<>();
     final ZoneId userTimeZone = ZoneId.of(connectionStreamHistoryRequestBody.getTimezone());
+    final ZonedDateTime startTimeInUserTimeZone = Instant.now().atZone(userTimeZone).minusDays(30);
 
-    final LocalDate startDate = startTimeInUserTimeZone.toLocalDate();
-    final LocalDate endDate = endTimeInUserTimeZone.toLocalDate();
-    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-      connectionStreamHistoryReadItemsByDate.put(date, new HashMap<>());
-    }
-
-    for (final AttemptWithJobInfo attempt : attempts) {
-      final Optional<Long> endedAtOptional = attempt.getAttempt().getEndedAtInSecond();
-
-      if (endedAtOptional.isPresent()) {
-        // Convert the endedAt timestamp from the database to the designated timezone
-        final Instant attemptEndedAt = Instant.ofEpochSecond(endedAtOptional.get());
-        final LocalDate attemptDateInUserTimeZone = attemptEndedAt.atZone(ZoneId.of(connectionStreamHistoryRequestBody.getTimezone()))
-            .toLocalDate();
-
-        // Merge it with the records synced from the attempt
-        final Optional<JobOutput> attemptOutput = attempt.getAttempt().getOutput();
-        if (attemptOutput.isPresent()) {
-          final List<StreamSyncStats> streamSyncStats = attemptOutput.get().getSync().getStandardSyncSummary().getStreamStats();
-          for (final StreamSyncStats streamSyncStat : streamSyncStats) {
-            final String streamName = streamSyncStat.getStreamName();
-            final String streamNamespace = streamSyncStat.getStreamNamespace();
-            final long recordsCommitted = streamSyncStat.getStats().getRecordsCommitted();
-
-            // Update the records loaded for the corresponding stream for that day
-            final Map<List<String>, Long> existingItem = connectionStreamHistoryReadItemsByDate.get(attemptDateInUserTimeZone);
-            final List<String> key = List.of(streamNamespace, streamName);
-            if (existingItem.containsKey(key)) {
-              existingItem.put(key, existingItem.get(key) + recordsCommitted);
-            } else {
-              existingItem.put(key, recordsCommitted);
-            }
-          }
-        }
-      }
-    }
-
-    final List<ConnectionStreamHistoryReadItem> result = new ArrayList<>();
-    for (final Entry<LocalDate, Map<List<String>, Long>> entry : connectionStreamHistoryReadItemsByDate.entrySet()) {
-      final LocalDate date = entry.getKey();
-      final Map<List<String>, Long> streamRecordsByStream = entry.getValue();
-
-      streamRecordsByStream.entrySet().stream()
-          .sorted(Comparator.comparing((Entry<List<String>, Long> e) -> e.getKey().get(0))
-              .thenComparing(e -> e.getKey().get(1)))
-          .forEach(streamRecords -> {
-            final List<String> streamNamespaceAndName = streamRecords.getKey();
-            final Long recordsCommitted = streamRecords.getValue();
-
-            result.add(new ConnectionStreamHistoryReadItem()
-                .timestamp(Math.toIntExact(date.atStartOfDay(userTimeZone).toEpochSecond()))
-                .streamNamespace(streamNamespaceAndName.get(0))
-                .streamName(streamNamespaceAndName.get(1))
-                .recordsCommitted(recordsCommitted));
-          });
-    }
-    return result;
+    // The stats are rolled up per quarter of an hour and per stream as sync jobs succeed, and summed
+    // per day of the designated timezone by the database
+    return jobPersistence.listStreamDailyStats(
+        connectionStreamHistoryRequestBody.getConnectionId(),
+        startTimeInUserTimeZone.toInstant(),
+        userTimeZone)
+        .stream()
+        .map(streamDailyStats -> new ConnectionStreamHistoryReadItem()
+            .timestamp(Math.toIntExact(streamDailyStats.dayStart()))
+            .streamNamespace(streamDailyStats.streamNamespace())
+            .streamName(streamDailyStats.streamName())
+            .recordsCommitted(streamDailyStats.recordsCommitted()))
+        .toList();
   }
 
   public ConnectionAutoPropagateResult applySchemaChange(final ConnectionAutoPropagateSchemaChange request)
@@ -1388,6 +1379,10 @@ public class ConnectionsHandler {
 
     LOGGER.info("Applying schema change for connection '{}' only", connectionId);
     final ConnectionRead connection = buildConnectionRead(connectionId);
+    if (isCatalogInUse(connection, catalogId)) {
+      LOGGER.info("Connection '{}' already uses catalog '{}', no schema change to apply", connectionId, catalogId);
+      return new ConnectionAutoPropagateResult().propagatedDiff(null);
+    }
     final Optional<io.airbyte.api.model.generated.AirbyteCatalog> catalogUsedToMakeConfiguredCatalog =
         getConnectionAirbyteCatalog(connectionId);
     final io.airbyte.api.model.generated.AirbyteCatalog currentCatalog = connection.getSyncCatalog();
@@ -1593,7 +1588,9 @@ public class ConnectionsHandler {
 
     final var discoveredCatalog = retrieveDiscoveredCatalog(discoveredCatalogId, sourceVersion);
 
-    final var diff = getDiff(connectionRead, discoveredCatalog);
+    final var diff = isCatalogInUse(connectionRead, discoveredCatalogId)
+        ? new CatalogDiff().transforms(List.of())
+        : getDiff(connectionRead, discoveredCatalog);
     final boolean containsBreakingChange = AutoPropagateSchemaChangeHelper.containsBreakingChange(diff);
     final ConnectionRead updatedConnection = disableConnectionIfNeeded(connectionRead, containsBreakingChange, diff);
     return new SourceDiscoverSchemaRead()
@@ -1604,6 +1601,18 @@ public class ConnectionsHandler {
         .connectionStatus(updatedConnection.getStatus());
   }
 
+  /**
+   * Whether the connection was configured from this very catalog, in which case it has nothing to
+   * diff against it. Discovers that find the same catalog as the previous one reuse its id.
+   */
+  private boolean isCatalogInUse(final ConnectionRead connectionRead, final UUID catalogId) {
+    if (catalogId == null || !catalogId.equals(connectionRead.getSourceCatalogId())) {
+      return false;
+    }
+    MetricClientFactory.getMetricClient().count(OssMetricsRegistry.DISCOVER_CATALOG_DIFF_SKIPPED, 1);
+    return true;
+  }
+
   private AirbyteCatalog retrieveDiscoveredCatalog(final UUID catalogId, final ActorDefinitionVersion sourceVersion)
       throws IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
 
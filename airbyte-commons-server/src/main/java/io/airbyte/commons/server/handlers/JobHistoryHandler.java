@@ -9,6 +9,8 @@ import static io.airbyte.config.Job.SYNC_REPLICATION_TYPES;
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import datadog.trace.api.Trace;
 import io.airbyte.api.model.generated.AttemptInfoRead;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
@@ -43,6 +45,7 @@ import io.airbyte.commons.logging.LogClientManager;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.converters.JobConverter;
 import io.airbyte.commons.server.converters.WorkflowStateConverter;
+import io.airbyte.commons.server.handlers.helpers.SyncProgressCache;
 import io.airbyte.commons.temporal.TemporalClient;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.config.ConfiguredAirbyteStream;
@@ -67,6 +70,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import io.micronaut.core.util.CollectionUtils;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -76,9 +80,13 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * JobHistoryHandler. Javadocs suppressed because api docs should be used as source of truth.
@@ -101,6 +109,7 @@ public class JobHistoryHandler {
   private final TemporalClient temporalClient;
   private final FeatureFlagClient featureFlagClient;
   private final JobService jobService;
+  private final SyncProgressCache syncProgressCache;
 
   public JobHistoryHandler(final JobPersistence jobPersistence,
                            final ConnectionService connectionService,
@@ -112,9 +121,11 @@ public class JobHistoryHandler {
                            final TemporalClient temporalClient,
                            final FeatureFlagClient featureFlagClient,
                            final LogClientManager logClientManager,
-                           final JobService jobService) {
+                           final JobService jobService,
+                           final SyncProgressCache syncProgressCache) {
     this.featureFlagClient = featureFlagClient;
     this.jobService = jobService;
+    this.syncProgressCache = syncProgressCache;
     jobConverter = new JobConverter(logClientManager);
     workflowStateConverter = new WorkflowStateConverter();
     this.jobPersistence = jobPersistence;
@@ -361,6 +372,37 @@ public class JobHistoryHandler {
   }
 
   public ConnectionSyncProgressRead getConnectionSyncProgress(final ConnectionIdRequestBody connectionIdRequestBody) throws IOException {
+    try {
+      return syncProgressCache.get(connectionIdRequestBody.getConnectionId(), () -> loadConnectionSyncProgress(connectionIdRequestBody));
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Stream the progress of the sync of a connection. The progress is sent when subscribing, then
+   * whenever it changes: when stats are posted for the sync or when the sync ends, and otherwise
+   * checked at the expiry period of the progress cache.
+   *
+   * @param connectionIdRequestBody connection id
+   * @return the progress of the sync of the connection, each time it changes
+   */
+  public Flux<ConnectionSyncProgressRead> streamConnectionSyncProgress(final ConnectionIdRequestBody connectionIdRequestBody) {
+    final UUID connectionId = connectionIdRequestBody.getConnectionId();
+    return Flux.merge(
+        Flux.interval(Duration.ZERO, SyncProgressCache.EXPIRY, Schedulers.boundedElastic()).map(tick -> connectionId),
+        syncProgressCache.invalidations(connectionId))
+        // progress is loaded off the threads that post stats or poll
+        .onBackpressureLatest()
+        .publishOn(Schedulers.boundedElastic(), 1)
+        .concatMap(ignored -> Mono.fromCallable(() -> getConnectionSyncProgress(connectionIdRequestBody)), 1)
+        .distinctUntilChanged();
+  }
+
+  private ConnectionSyncProgressRead loadConnectionSyncProgress(final ConnectionIdRequestBody connectionIdRequestBody) throws IOException {
+    // not read from the replica, as the progress is reloaded as soon as stats are written
     final List<Job> jobs = jobPersistence.getRunningJobForConnection(connectionIdRequestBody.getConnectionId());
 
     final List<JobWithAttemptsRead> jobReads = jobs.stream()
@@ -438,12 +480,6 @@ public class JobHistoryHandler {
     return jobPersistence.getLastSyncJobForConnections(connectionIds);
   }
 
-  public List<JobRead> getRunningSyncJobForConnections(final List<UUID> connectionIds) throws IOException {
-    return jobPersistence.getRunningSyncJobForConnections(connectionIds).stream()
-        .map(JobConverter::getJobRead)
-        .collect(Collectors.toList());
-  }
-
   private SourceRead getSourceRead(final ConnectionRead connectionRead)
       throws JsonValidationException, IOException, ConfigNotFoundException, io.airbyte.data.exceptions.ConfigNotFoundException {
     final SourceIdRequestBody sourceIdRequestBody = new SourceIdRequestBody().sourceId(connectionRead.getSourceId());
@@ -15,6 +15,7 @@ import io.airbyte.commons.server.JobStatus;
 import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.ConnectionTimelineEventHelper;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.SyncProgressCache;
 import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptSyncConfig;
@@ -52,17 +53,20 @@ public class JobsHandler {
   private final JobNotifier jobNotifier;
   private final JobErrorReporter jobErrorReporter;
   private final ConnectionTimelineEventHelper connectionTimelineEventHelper;
+  private final SyncProgressCache syncProgressCache;
 
   public JobsHandler(final JobPersistence jobPersistence,
                      final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper,
                      final JobNotifier jobNotifier,
                      final JobErrorReporter jobErrorReporter,
-                     final ConnectionTimelineEventHelper connectionTimelineEventHelper) {
+                     final ConnectionTimelineEventHelper connectionTimelineEventHelper,
+                     final SyncProgressCache syncProgressCache) {
     this.jobPersistence = jobPersistence;
     this.jobCreationAndStatusUpdateHelper = jobCreationAndStatusUpdateHelper;
     this.jobNotifier = jobNotifier;
     this.jobErrorReporter = jobErrorReporter;
     this.connectionTimelineEventHelper = connectionTimelineEventHelper;
+    this.syncProgressCache = syncProgressCache;
   }
 
   /**
@@ -75,6 +79,7 @@ public class JobsHandler {
     try {
       final long jobId = input.getJobId();
       jobPersistence.failJob(jobId);
+      syncProgressCache.invalidate(input.getConnectionId());
       final Job job = jobPersistence.getJob(jobId);
 
       final List<JobPersistence.AttemptStats> attemptStats = new ArrayList<>();
@@ -161,6 +166,7 @@ public class JobsHandler {
         log.warn("The job {} doesn't have any output for the attempt {}", jobId, attemptNumber);
       }
       jobPersistence.succeedAttempt(jobId, attemptNumber);
+      syncProgressCache.invalidate(input.getConnectionId());
       final Job job = jobPersistence.getJob(jobId);
       jobCreationAndStatusUpdateHelper.emitJobToReleaseStagesMetric(OssMetricsRegistry.ATTEMPT_SUCCEEDED_BY_RELEASE_STAGE, job);
 
@@ -243,6 +249,7 @@ public class JobsHandler {
       jobPersistence.writeAttemptFailureSummary(jobId, attemptNumber, failureSummary);
       // persist cancellation
       jobPersistence.cancelJob(jobId);
+      syncProgressCache.invalidate(connectionId);
       // post process
       final var job = jobPersistence.getJob(jobId);
       final List<JobPersistence.AttemptStats> attemptStats = new ArrayList<>();
@@ -11,10 +11,12 @@ import io.airbyte.api.model.generated.NotificationRead.StatusEnum;
 import io.airbyte.api.model.generated.NotificationTrigger;
 import io.airbyte.api.model.generated.SlackNotificationConfiguration;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.notification.SlackNotificationClient;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Handler logic for notificationsApiController.
@@ -33,6 +35,12 @@ public class NotificationsHandler {
       NotificationTrigger.CONNECTION_UPDATE_ACTION_REQUIRED,
       "Hello World! This is a test from Airbyte to try slack notification settings about your connection has been updated and action is required.");
 
+  private final Optional<NotificationDispatcher> notificationDispatcher;
+
+  public NotificationsHandler(final Optional<NotificationDispatcher> notificationDispatcher) {
+    this.notificationDispatcher = notificationDispatcher;
+  }
+
   /**
    * Send a test notification message to the provided webhook.
    */
@@ -43,7 +51,8 @@ public class NotificationsHandler {
     // Try notification for webhook only.
     // TODO(Xiaohan): SlackNotificationClient should be micronauted so we can mock this object and test
     // this function.
-    final SlackNotificationClient notificationClient = new SlackNotificationClient(toConfig(slackNotificationConfiguration));
+    final SlackNotificationClient notificationClient =
+        new SlackNotificationClient(toConfig(slackNotificationConfiguration), notificationDispatcher.orElse(null));
 
     boolean isNotificationSent;
     try {
@@ -15,12 +15,14 @@ import io.airbyte.api.model.generated.ActorStatus;
 import io.airbyte.api.model.generated.CompleteOAuthResponse;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.DiscoverCatalogResult;
+import io.airbyte.api.model.generated.DiscoverCatalogUnchangedResult;
 import io.airbyte.api.model.generated.ListResourcesForWorkspacesRequestBody;
 import io.airbyte.api.model.generated.PartialSourceUpdate;
 import io.airbyte.api.model.generated.SourceCloneConfiguration;
 import io.airbyte.api.model.generated.SourceCloneRequestBody;
 import io.airbyte.api.model.generated.SourceCreate;
 import io.airbyte.api.model.generated.SourceDefinitionIdRequestBody;
+import io.airbyte.api.model.generated.SourceDiscoverSchemaUnchangedWriteRequestBody;
 import io.airbyte.api.model.generated.SourceDiscoverSchemaWriteRequestBody;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
 import io.airbyte.api.model.generated.SourceRead;
@@ -56,6 +58,10 @@ import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Organization;
 import io.airbyte.featureflag.UseRuntimeSecretPersistence;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
@@ -397,12 +403,31 @@ public class SourceHandler {
     return new DiscoverCatalogResult().catalogId(catalogId);
   }
 
+  /**
+   * Records a discover of the source without uploading its catalog when the catalog hash matches the
+   * one of the most recent discover. Callers are expected to write the full result with
+   * {@link #writeDiscoverCatalogResult} when the catalog is reported as changed.
+   */
+  public DiscoverCatalogUnchangedResult writeDiscoverCatalogResultIfUnchanged(final SourceDiscoverSchemaUnchangedWriteRequestBody request)
+      throws IOException {
+    final Optional<UUID> catalogId = catalogService.writeActorCatalogFetchEventIfUnchanged(
+        request.getSourceId(),
+        request.getConnectorVersion(),
+        request.getConfigurationHash(),
+        request.getCatalogHash());
+    MetricClientFactory.getMetricClient().count(OssMetricsRegistry.DISCOVER_CATALOG_UNCHANGED_LOOKUP, 1,
+        new MetricAttribute(MetricTags.IS_MATCH, String.valueOf(catalogId.isPresent())));
+
+    return new DiscoverCatalogUnchangedResult().unchanged(catalogId.isPresent()).catalogId(catalogId.orElse(null));
+  }
+
   private UUID writeActorCatalog(final AirbyteCatalog persistenceCatalog, final SourceDiscoverSchemaWriteRequestBody request) throws IOException {
     return catalogService.writeActorCatalogFetchEvent(
         persistenceCatalog,
         request.getSourceId(),
         request.getConnectorVersion(),
-        request.getConfigurationHash());
+        request.getConfigurationHash(),
+        request.getCatalogHash());
   }
 
   private SourceRead buildSourceReadWithStatus(final SourceConnection sourceConnection)
@@ -4,6 +4,7 @@
 
 package io.airbyte.commons.server.handlers;
 
+import static io.airbyte.config.JobStatus.NON_TERMINAL_STATUSES;
 import static java.util.stream.Collectors.toMap;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -54,6 +55,7 @@ import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
+import io.airbyte.commons.server.handlers.helpers.ParallelLookupExecutor;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
@@ -85,6 +87,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -115,6 +118,7 @@ public class WebBackendConnectionsHandler {
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
   private final FeatureFlagClient featureFlagClient;
   private final FieldGenerator fieldGenerator;
+  private final ParallelLookupExecutor parallelLookupExecutor;
 
   public WebBackendConnectionsHandler(final ActorDefinitionVersionHandler actorDefinitionVersionHandler,
                                       final ConnectionsHandler connectionsHandler,
@@ -130,7 +134,8 @@ public class WebBackendConnectionsHandler {
                                       final ConnectionService connectionService,
                                       final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
                                       final FieldGenerator fieldGenerator,
-                                      final FeatureFlagClient featureFlagClient) {
+                                      final FeatureFlagClient featureFlagClient,
+                                      final ParallelLookupExecutor parallelLookupExecutor) {
     this.actorDefinitionVersionHandler = actorDefinitionVersionHandler;
     this.connectionsHandler = connectionsHandler;
     this.stateHandler = stateHandler;
@@ -146,6 +151,7 @@ public class WebBackendConnectionsHandler {
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
     this.fieldGenerator = fieldGenerator;
     this.featureFlagClient = featureFlagClient;
+    this.parallelLookupExecutor = parallelLookupExecutor;
   }
 
   public WebBackendWorkspaceStateResult getWorkspaceState(final WebBackendWorkspaceState webBackendWorkspaceState) throws IOException {
@@ -180,15 +186,25 @@ public class WebBackendConnectionsHandler {
     final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
     final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
 
-    // Fetching all the related objects we need for the final output
-    final Map<UUID, SourceSnippetRead> sourceReadById = getSourceSnippetReadById(sourceIds);
-    final Map<UUID, DestinationSnippetRead> destinationReadById = getDestinationSnippetReadById(destinationIds);
-    final Map<UUID, JobStatusSummary> latestJobByConnectionId = getLatestJobByConnectionId(connectionIds);
-    // This call could be removed, running jobs should be a subset of latest jobs, need to expose the
-    // right status filtering for this.
-    final Map<UUID, JobRead> runningJobByConnectionId = getRunningJobByConnectionId(connectionIds);
-    final Map<UUID, ActorCatalogFetchEvent> newestFetchEventsByActorId =
-        catalogService.getMostRecentActorCatalogFetchEventForSources(sourceIds);
+    // Fetching all the related objects we need for the final output. These lookups are independent of
+    // each other, so they are run concurrently.
+    final CompletableFuture<Map<UUID, SourceSnippetRead>> sourceReadByIdFuture =
+        parallelLookupExecutor.submit("web_backend.list_connections.source_snippets", () -> getSourceSnippetReadById(sourceIds));
+    final CompletableFuture<Map<UUID, DestinationSnippetRead>> destinationReadByIdFuture =
+        parallelLookupExecutor.submit("web_backend.list_connections.destination_snippets", () -> getDestinationSnippetReadById(destinationIds));
+    final CompletableFuture<Map<UUID, JobStatusSummary>> latestJobByConnectionIdFuture =
+        parallelLookupExecutor.submit("web_backend.list_connections.latest_jobs", () -> getLatestJobByConnectionId(connectionIds));
+    final CompletableFuture<Map<UUID, ActorCatalogFetchEvent>> newestFetchEventsByActorIdFuture =
+        parallelLookupExecutor.submit("web_backend.list_connections.catalog_fetch_events",
+            () -> catalogService.getMostRecentActorCatalogFetchEventForSources(sourceIds));
+
+    final Map<UUID, SourceSnippetRead> sourceReadById = ParallelLookupExecutor.await(sourceReadByIdFuture);
+    final Map<UUID, DestinationSnippetRead> destinationReadById = ParallelLookupExecutor.await(destinationReadByIdFuture);
+    final Map<UUID, JobStatusSummary> latestJobByConnectionId = ParallelLookupExecutor.await(latestJobByConnectionIdFuture);
+    // A connection only ever has one sync running at a time and it is always its most recent one, so
+    // running jobs are derived from the latest jobs instead of being queried separately.
+    final Set<UUID> runningConnectionIds = getRunningConnectionIds(latestJobByConnectionId);
+    final Map<UUID, ActorCatalogFetchEvent> newestFetchEventsByActorId = ParallelLookupExecutor.await(newestFetchEventsByActorIdFuture);
 
     final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
 
@@ -199,7 +215,7 @@ public class WebBackendConnectionsHandler {
               sourceReadById,
               destinationReadById,
               latestJobByConnectionId,
-              runningJobByConnectionId,
+              runningConnectionIds,
               Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.getSourceId()))));
     }
 
@@ -211,9 +227,11 @@ public class WebBackendConnectionsHandler {
         .collect(Collectors.toMap(JobStatusSummary::connectionId, Function.identity()));
   }
 
-  private Map<UUID, JobRead> getRunningJobByConnectionId(final List<UUID> connectionIds) throws IOException {
-    return jobHistoryHandler.getRunningSyncJobForConnections(connectionIds).stream()
-        .collect(Collectors.toMap(j -> UUID.fromString(j.getConfigId()), Function.identity()));
+  private static Set<UUID> getRunningConnectionIds(final Map<UUID, JobStatusSummary> latestJobByConnectionId) {
+    return latestJobByConnectionId.values().stream()
+        .filter(job -> NON_TERMINAL_STATUSES.contains(job.status()))
+        .map(JobStatusSummary::connectionId)
+        .collect(Collectors.toSet());
   }
 
   private Map<UUID, SourceSnippetRead> getSourceSnippetReadById(final List<UUID> sourceIds) throws IOException {
@@ -272,14 +290,13 @@ public class WebBackendConnectionsHandler {
                                                                          final Map<UUID, SourceSnippetRead> sourceReadById,
                                                                          final Map<UUID, DestinationSnippetRead> destinationReadById,
                                                                          final Map<UUID, JobStatusSummary> latestJobByConnectionId,
-                                                                         final Map<UUID, JobRead> runningJobByConnectionId,
+                                                                         final Set<UUID> runningConnectionIds,
                                                                          final Optional<ActorCatalogFetchEvent> latestFetchEvent)
       throws JsonValidationException, IOException, io.airbyte.data.exceptions.ConfigNotFoundException, ConfigNotFoundException {
 
     final SourceSnippetRead source = sourceReadById.get(standardSync.getSourceId());
     final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
     final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
-    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
     final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
     final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
 
@@ -299,7 +316,7 @@ public class WebBackendConnectionsHandler {
         .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(standardSync))
         .source(source)
         .destination(destination)
-        .isSyncing(latestRunningSyncJob.isPresent())
+        .isSyncing(runningConnectionIds.contains(standardSync.getConnectionId()))
         .schemaChange(schemaChange)
         .sourceActorDefinitionVersion(sourceActorDefinitionVersionRead)
         .destinationActorDefinitionVersion(destinationActorDefinitionVersionRead);
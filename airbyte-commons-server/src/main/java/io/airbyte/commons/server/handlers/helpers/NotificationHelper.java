@@ -12,6 +12,7 @@ import io.airbyte.config.NotificationSettings;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.notification.CustomerioNotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.notification.messages.ConnectionInfo;
 import io.airbyte.notification.messages.SchemaUpdateNotification;
@@ -19,6 +20,7 @@ import io.airbyte.notification.messages.SourceInfo;
 import io.airbyte.notification.messages.WorkspaceInfo;
 import io.airbyte.persistence.job.WebUrlHelper;
 import jakarta.inject.Singleton;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,9 +30,11 @@ public class NotificationHelper {
   private static final Logger LOGGER = LoggerFactory.getLogger(NotificationHelper.class);
 
   private final WebUrlHelper webUrlHelper;
+  private final Optional<NotificationDispatcher> notificationDispatcher;
 
-  public NotificationHelper(final WebUrlHelper webUrlHelper) {
+  public NotificationHelper(final WebUrlHelper webUrlHelper, final Optional<NotificationDispatcher> notificationDispatcher) {
     this.webUrlHelper = webUrlHelper;
+    this.notificationDispatcher = notificationDispatcher;
   }
 
   public void notifySchemaPropagated(final NotificationSettings notificationSettings,
@@ -75,11 +79,12 @@ public class NotificationHelper {
         try {
           switch (type) {
             case SLACK -> {
-              final SlackNotificationClient slackNotificationClient = new SlackNotificationClient(item.getSlackConfiguration());
+              final SlackNotificationClient slackNotificationClient =
+                  new SlackNotificationClient(item.getSlackConfiguration(), notificationDispatcher.orElse(null));
               slackNotificationClient.notifySchemaPropagated(notification, email);
             }
             case CUSTOMERIO -> {
-              final CustomerioNotificationClient emailNotificationClient = new CustomerioNotificationClient();
+              final CustomerioNotificationClient emailNotificationClient = new CustomerioNotificationClient(notificationDispatcher.orElse(null));
               emailNotificationClient.notifySchemaPropagated(notification, email);
             }
             default -> {
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import io.airbyte.commons.functional.CheckedSupplier;
+import io.airbyte.commons.server.scheduling.AirbyteTaskExecutors;
+import io.airbyte.metrics.lib.ApmTraceUtils;
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.Tracer;
+import io.opentracing.util.GlobalTracer;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs independent lookups of an endpoint concurrently on a bounded executor. Each lookup is
+ * recorded as a child span of the calling request so that the critical path of the endpoint is
+ * visible in traces.
+ */
+@Singleton
+public class ParallelLookupExecutor {
+
+  private final ExecutorService executorService;
+
+  public ParallelLookupExecutor(@Named(AirbyteTaskExecutors.WEB_BACKEND_LOOKUP) final ExecutorService executorService) {
+    this.executorService = executorService;
+  }
+
+  /**
+   * Schedule a lookup.
+   *
+   * @param operationName name of the span recorded for the lookup
+   * @param lookup lookup to run
+   * @param <T> type of the looked up value
+   * @return future that completes with the value of the lookup
+   */
+  public <T> CompletableFuture<T> submit(final String operationName, final CheckedSupplier<T, IOException> lookup) {
+    final Tracer tracer = GlobalTracer.get();
+    final Span parentSpan = tracer.activeSpan();
+    return CompletableFuture.supplyAsync(() -> {
+      final Span span = tracer.buildSpan(operationName).asChildOf(parentSpan).start();
+      try (final Scope ignored = tracer.activateSpan(span)) {
+        return lookup.get();
+      } catch (final IOException e) {
+        ApmTraceUtils.addExceptionToTrace(span, e);
+        throw new UncheckedIOException(e);
+      } catch (final RuntimeException e) {
+        ApmTraceUtils.addExceptionToTrace(span, e);
+        throw e;
+      } finally {
+        span.finish();
+      }
+    }, executorService);
+  }
+
+  /**
+   * Wait for a lookup scheduled with {@link #submit(String, CheckedSupplier)} and rethrow the
+   * original exception if it failed.
+   *
+   * @param future future returned by submit
+   * @param <T> type of the looked up value
+   * @return value of the lookup
+   * @throws IOException if the lookup failed with an IOException
+   */
+  public static <T> T await(final CompletableFuture<T> future) throws IOException {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+        throw uncheckedIOException.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.api.model.generated.ConnectionSyncProgressRead;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Caches the progress of the running syncs of connections, so that progress reads do not load the
+ * running job and its stats every time. The progress of a connection is invalidated when stats are
+ * posted for its sync or when the sync ends, and subscribers of the connection are notified so that
+ * they can read the new progress.
+ *
+ * <p>
+ * The cache is local to a server instance, while stats may be posted to another instance. Entries
+ * therefore also expire after the period at which the orchestrator flushes stats.
+ *
+ * <p>
+ * Every invalidation bumps the version of the connection, and progress is cached with the version
+ * it was loaded at. Progress whose load started before an invalidation is never served from the
+ * cache, so the invalidation wins over a load that was already in flight.
+ */
+@Singleton
+public class SyncProgressCache {
+
+  public static final Duration EXPIRY = Duration.ofSeconds(10);
+  // versions only have to outlive the loads in flight and the progress cached before an invalidation
+  private static final Duration VERSION_EXPIRY = Duration.ofHours(1);
+
+  private final Cache<UUID, VersionedProgress> progressByConnection = CacheBuilder.newBuilder()
+      .expireAfterWrite(EXPIRY)
+      .build();
+  private final Cache<UUID, AtomicLong> versionByConnection = CacheBuilder.newBuilder()
+      .expireAfterAccess(VERSION_EXPIRY)
+      .build();
+  private final Sinks.Many<UUID> invalidations = Sinks.many().multicast().directBestEffort();
+
+  private record VersionedProgress(long version, ConnectionSyncProgressRead progress) {}
+
+  /**
+   * Get the progress of the sync of a connection, loading it if it is not cached. Concurrent reads of
+   * a connection that is not cached load its progress once. Progress without a running sync is not
+   * cached, so that a sync that starts is seen right away.
+   *
+   * @param connectionId connection id
+   * @param loader loads the progress of the connection
+   * @return progress of the sync of the connection
+   * @throws ExecutionException if the progress fails to load
+   */
+  public ConnectionSyncProgressRead get(final UUID connectionId, final Callable<ConnectionSyncProgressRead> loader) throws ExecutionException {
+    final VersionedProgress cached = progressByConnection.get(connectionId, () -> {
+      final long version = getVersion(connectionId);
+      return new VersionedProgress(version, loader.call());
+    });
+    if (cached.version() != getVersion(connectionId)) {
+      // loaded before the connection was invalidated, load again without caching
+      progressByConnection.asMap().remove(connectionId, cached);
+      try {
+        return loader.call();
+      } catch (final Exception e) {
+        throw new ExecutionException(e);
+      }
+    }
+    if (cached.progress().getJobId() == null) {
+      progressByConnection.asMap().remove(connectionId, cached);
+    }
+    return cached.progress();
+  }
+
+  /**
+   * Invalidate the progress of a connection and notify its subscribers.
+   *
+   * @param connectionId connection id
+   */
+  public void invalidate(final UUID connectionId) {
+    // the version is bumped first, so that a load that misses the invalidation is seen as stale
+    versionByConnection.asMap().computeIfAbsent(connectionId, id -> new AtomicLong()).incrementAndGet();
+    progressByConnection.invalidate(connectionId);
+    // a sink must not be emitted to concurrently
+    synchronized (invalidations) {
+      invalidations.tryEmitNext(connectionId);
+    }
+  }
+
+  private long getVersion(final UUID connectionId) {
+    final AtomicLong version = versionByConnection.getIfPresent(connectionId);
+    return version == null ? 0 : version.get();
+  }
+
+  /**
+   * Subscribe to the invalidations of the progress of a connection.
+   *
+   * @param connectionId connection id
+   * @return the connection id, every time its progress is invalidated
+   */
+  public Flux<UUID> invalidations(final UUID connectionId) {
+    return invalidations.asFlux().filter(connectionId::equals);
+  }
+
+}
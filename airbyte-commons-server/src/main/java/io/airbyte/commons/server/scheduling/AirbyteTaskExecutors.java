@@ -35,4 +35,10 @@ public interface AirbyteTaskExecutors extends TaskExecutors {
    */
   String WEBHOOK = "webhook";
 
+  /**
+   * The name of the {@link java.util.concurrent.ExecutorService} used to run independent lookups of
+   * web backend endpoints concurrently.
+   */
+  String WEB_BACKEND_LOOKUP = "web-backend-lookup";
+
 }
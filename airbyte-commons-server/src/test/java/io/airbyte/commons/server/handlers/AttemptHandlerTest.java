@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.api.model.generated.AttemptInfoRead;
 import io.airbyte.api.model.generated.AttemptStats;
+import io.airbyte.api.model.generated.AttemptStreamStats;
 import io.airbyte.api.model.generated.AttemptSyncConfig;
 import io.airbyte.api.model.generated.ConnectionState;
 import io.airbyte.api.model.generated.ConnectionStateType;
@@ -31,6 +32,7 @@ import io.airbyte.api.model.generated.GlobalState;
 import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.api.model.generated.LogRead;
 import io.airbyte.api.model.generated.SaveAttemptSyncConfigRequestBody;
+import io.airbyte.api.model.generated.SaveStatsRequestBody;
 import io.airbyte.api.model.generated.SaveStreamAttemptMetadataRequestBody;
 import io.airbyte.api.model.generated.StreamAttemptMetadata;
 import io.airbyte.commons.json.Jsons;
@@ -40,6 +42,7 @@ import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.SyncProgressCache;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.AirbyteStream;
@@ -115,6 +118,7 @@ class AttemptHandlerTest {
   private final DestinationService destinationService = mock(DestinationService.class);
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
   private final StreamAttemptMetadataService streamAttemptMetadataService = mock(StreamAttemptMetadataService.class);
+  private final SyncProgressCache syncProgressCache = mock(SyncProgressCache.class);
 
   private final AttemptHandler handler = new AttemptHandler(jobPersistence,
       statePersistence,
@@ -126,7 +130,8 @@ class AttemptHandlerTest {
       connectionService,
       destinationService,
       actorDefinitionVersionHelper,
-      streamAttemptMetadataService);
+      streamAttemptMetadataService,
+      syncProgressCache);
 
   private static final UUID CONNECTION_ID = UUID.randomUUID();
   private static final UUID WORKSPACE_ID = UUID.randomUUID();
@@ -624,6 +629,53 @@ class AttemptHandlerTest {
     assertEquals(new InternalOperationResult().succeeded(false), result);
   }
 
+  @Test
+  void saveStatsInvalidatesSyncProgress() throws IOException {
+    final AttemptStats stats = new AttemptStats().recordsEmitted(10L).bytesEmitted(100L).recordsCommitted(5L).bytesCommitted(50L);
+
+    final var result = handler.saveStats(new SaveStatsRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER)
+        .connectionId(CONNECTION_ID)
+        .stats(stats)
+        .streamStats(List.of(new AttemptStreamStats().streamName("s").stats(stats))));
+
+    assertEquals(new InternalOperationResult().succeeded(true), result);
+    verify(jobPersistence).writeStats(eq(JOB_ID), eq(ATTEMPT_NUMBER), any(), any(), eq(10L), eq(100L), eq(5L), eq(50L), eq(CONNECTION_ID), any());
+    verify(syncProgressCache).invalidate(CONNECTION_ID);
+  }
+
+  @Test
+  void saveStatsWithoutConnectionId() throws IOException {
+    final AttemptStats stats = new AttemptStats().recordsEmitted(10L);
+
+    final var result = handler.saveStats(new SaveStatsRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER)
+        .stats(stats)
+        .streamStats(List.of()));
+
+    assertEquals(new InternalOperationResult().succeeded(true), result);
+    verify(syncProgressCache, never()).invalidate(any());
+  }
+
+  @Test
+  void saveStatsFailureKeepsSyncProgress() throws IOException {
+    final AttemptStats stats = new AttemptStats().recordsEmitted(10L);
+    doThrow(new IOException("oops")).when(jobPersistence)
+        .writeStats(anyLong(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+
+    final var result = handler.saveStats(new SaveStatsRequestBody()
+        .jobId(JOB_ID)
+        .attemptNumber(ATTEMPT_NUMBER)
+        .connectionId(CONNECTION_ID)
+        .stats(stats)
+        .streamStats(List.of()));
+
+    assertEquals(new InternalOperationResult().succeeded(false), result);
+    verify(syncProgressCache, never()).invalidate(any());
+  }
+
   private static Stream<Arguments> randomObjects() {
     return Stream.of(
         Arguments.of(123L),
@@ -41,6 +41,7 @@ import io.airbyte.api.model.generated.ConnectionCreate;
 import io.airbyte.api.model.generated.ConnectionDataHistoryRequestBody;
 import io.airbyte.api.model.generated.ConnectionLastJobPerStreamReadItem;
 import io.airbyte.api.model.generated.ConnectionLastJobPerStreamRequestBody;
+import io.airbyte.api.model.generated.ConnectionNextRunSetRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
 import io.airbyte.api.model.generated.ConnectionSchedule;
@@ -48,6 +49,8 @@ import io.airbyte.api.model.generated.ConnectionScheduleData;
 import io.airbyte.api.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.model.generated.ConnectionScheduleDataBasicSchedule.TimeUnitEnum;
 import io.airbyte.api.model.generated.ConnectionScheduleDataCron;
+import io.airbyte.api.model.generated.ConnectionScheduleInfoRead;
+import io.airbyte.api.model.generated.ConnectionScheduleInfoRequestBody;
 import io.airbyte.api.model.generated.ConnectionScheduleType;
 import io.airbyte.api.model.generated.ConnectionSearch;
 import io.airbyte.api.model.generated.ConnectionStatus;
@@ -100,10 +103,7 @@ import io.airbyte.commons.server.validation.ValidationError;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ActorType;
-import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
-import io.airbyte.config.AttemptStatus;
-import io.airbyte.config.AttemptWithJobInfo;
 import io.airbyte.config.BasicSchedule;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
@@ -118,8 +118,6 @@ import io.airbyte.config.Geography;
 import io.airbyte.config.Job;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
-import io.airbyte.config.JobOutput;
-import io.airbyte.config.JobOutput.OutputType;
 import io.airbyte.config.JobResetConnectionConfig;
 import io.airbyte.config.JobStatus;
 import io.airbyte.config.JobSyncConfig;
@@ -138,11 +136,7 @@ import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.ScheduleType;
 import io.airbyte.config.StandardSync.Status;
-import io.airbyte.config.StandardSyncOutput;
-import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.StandardWorkspace;
-import io.airbyte.config.StreamSyncStats;
-import io.airbyte.config.SyncStats;
 import io.airbyte.config.helpers.CatalogHelpers;
 import io.airbyte.config.helpers.FieldGenerator;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
@@ -157,18 +151,23 @@ import io.airbyte.config.secrets.JsonSecretsProcessor;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
 import io.airbyte.data.helpers.ActorDefinitionVersionUpdater;
 import io.airbyte.data.services.CatalogService;
+import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.ConnectionTimelineEventService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.StreamStatusesService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ConnectionNextRun;
+import io.airbyte.data.services.shared.ConnectionScheduleInfo;
 import io.airbyte.featureflag.ResetStreamsStateWhenDisabled;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.mappers.helpers.MapperHelperKt;
 import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.ConnectionJobStatus;
+import io.airbyte.persistence.job.JobPersistence.StreamDailyStats;
 import io.airbyte.persistence.job.WorkspaceHelper;
 import io.airbyte.persistence.job.factory.OAuthConfigSupplier;
 import io.airbyte.protocol.models.Field;
@@ -177,11 +176,12 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -189,7 +189,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.junit.Assert;
@@ -283,6 +282,7 @@ class ConnectionsHandlerTest {
   private ConnectionTimelineEventService connectionTimelineEventService;
   private ConnectionTimelineEventHelper connectionTimelineEventHelper;
   private StatePersistence statePersistence;
+  private ConnectionService connectionService;
   private CatalogService catalogService;
 
   @SuppressWarnings("unchecked")
@@ -395,6 +395,7 @@ class ConnectionsHandlerTest {
     connectionTimelineEventService = mock(ConnectionTimelineEventService.class);
     connectionTimelineEventHelper = mock(ConnectionTimelineEventHelper.class);
     statePersistence = mock(StatePersistence.class);
+    connectionService = mock(ConnectionService.class);
 
     featureFlagClient = mock(TestClient.class);
 
@@ -471,7 +472,8 @@ class ConnectionsHandlerTest {
           streamStatusesService,
           connectionTimelineEventService,
           connectionTimelineEventHelper,
-          statePersistence);
+          statePersistence,
+          connectionService);
 
       when(uuidGenerator.get()).thenReturn(standardSync.getConnectionId());
       final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
@@ -1938,31 +1940,8 @@ class ConnectionsHandlerTest {
           streamStatusesService,
           connectionTimelineEventService,
           connectionTimelineEventHelper,
-          statePersistence);
-    }
-
-    private Attempt generateMockAttemptWithStreamStats(final Instant attemptTime, final List<Map<List<String>, Long>> streamsToRecordsSynced) {
-      final List<StreamSyncStats> streamSyncStatsList = streamsToRecordsSynced.stream().map(streamToRecordsSynced -> {
-        final List<String> streamKey = new ArrayList<>(streamToRecordsSynced.keySet().iterator().next());
-        final String streamNamespace = streamKey.get(0);
-        final String streamName = streamKey.get(1);
-        final long recordsSynced = streamToRecordsSynced.get(streamKey);
-
-        return new StreamSyncStats()
-            .withStreamName(streamName)
-            .withStreamNamespace(streamNamespace)
-            .withStats(new SyncStats().withRecordsCommitted(recordsSynced));
-      }).collect(Collectors.toList());
-
-      final StandardSyncSummary standardSyncSummary = new StandardSyncSummary().withStreamStats(streamSyncStatsList);
-      final StandardSyncOutput standardSyncOutput = new StandardSyncOutput().withStandardSyncSummary(standardSyncSummary);
-      final JobOutput jobOutput = new JobOutput().withOutputType(OutputType.SYNC).withSync(standardSyncOutput);
-
-      return new Attempt(0, 0, null, null, jobOutput, AttemptStatus.FAILED, null, null, 0, 0, attemptTime.getEpochSecond());
-    }
-
-    private Job generateMockJob(final UUID connectionId, final Attempt attempt) {
-      return new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, List.of(attempt), JobStatus.RUNNING, 1001L, 1000L, 1002L);
+          statePersistence,
+          connectionService);
     }
 
     @Nested
@@ -2052,7 +2031,7 @@ class ConnectionsHandlerTest {
             .connectionId(connectionId)
             .timezone(TIMEZONE_LOS_ANGELES);
 
-        when(jobPersistence.listAttemptsForConnectionAfterTimestamp(eq(connectionId), eq(ConfigType.SYNC), any(Instant.class)))
+        when(jobPersistence.listStreamDailyStats(eq(connectionId), any(Instant.class), eq(ZoneId.of(TIMEZONE_LOS_ANGELES))))
             .thenReturn(Collections.emptyList());
 
         final List<ConnectionStreamHistoryReadItem> actual = connectionsHandler.getConnectionStreamHistory(requestBody);
@@ -2063,82 +2042,49 @@ class ConnectionsHandlerTest {
       }
 
       @Test
-      @DisplayName("Aggregates data correctly")
-      void testStreamHistoryAggregation() throws IOException {
+      @DisplayName("Reads the daily stats of the last 30 days in the requested timezone")
+      void testStreamHistoryFromDailyStats() throws IOException {
         final UUID connectionId = UUID.randomUUID();
-        final Instant endTime = Instant.now();
-        final Instant startTime = endTime.minus(30, ChronoUnit.DAYS);
-        final long attempt1Records = 100L;
-        final long attempt2Records = 150L;
-        final long attempt3Records = 200L;
-        final long attempt4Records = 125L;
+        final ZoneId timeZone = ZoneId.of(TIMEZONE_LOS_ANGELES);
+        final Instant startTime = Instant.now().minus(30, ChronoUnit.DAYS);
+        final long dayOne = startTime.plus(1, ChronoUnit.DAYS).atZone(timeZone).toLocalDate().atStartOfDay(timeZone).toEpochSecond();
+        final long dayTwo = startTime.plus(2, ChronoUnit.DAYS).atZone(timeZone).toLocalDate().atStartOfDay(timeZone).toEpochSecond();
         final String streamName = "testStream";
         final String streamNamespace = "testNamespace";
         final String streamName2 = "testStream2";
 
-        // First Attempt - Day 1
-        final Attempt attempt1 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt1Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo1 = new AttemptWithJobInfo(attempt1, generateMockJob(connectionId, attempt1));
-
-        // Second Attempt - Same Day as First, same stream as first
-        final Attempt attempt2 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt2Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo2 = new AttemptWithJobInfo(attempt2, generateMockJob(connectionId, attempt2));
-
-        // Third Attempt - Same Day, different stream
-        final Attempt attempt3 = generateMockAttemptWithStreamStats(startTime.plus(1, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName2),
-                attempt3Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo3 = new AttemptWithJobInfo(attempt3, generateMockJob(connectionId, attempt3));
-
-        // Fourth Attempt - Different day, first stream
-        final Attempt attempt4 = generateMockAttemptWithStreamStats(startTime.plus(2, ChronoUnit.DAYS),
-            List.of(Map.of(List.of(streamNamespace, streamName),
-                attempt4Records))); // 100 records
-        final AttemptWithJobInfo attemptWithJobInfo4 = new AttemptWithJobInfo(attempt4, generateMockJob(connectionId, attempt4));
-
-        final List<AttemptWithJobInfo> attempts = Arrays.asList(attemptWithJobInfo1, attemptWithJobInfo2, attemptWithJobInfo3, attemptWithJobInfo4);
-
-        when(jobPersistence.listAttemptsForConnectionAfterTimestamp(eq(connectionId), eq(ConfigType.SYNC), any(Instant.class)))
-            .thenReturn(attempts);
+        when(jobPersistence.listStreamDailyStats(eq(connectionId), any(Instant.class), eq(timeZone)))
+            .thenReturn(List.of(
+                new StreamDailyStats(dayOne, streamNamespace, streamName, 250L, 2500L, 260L, 2600L),
+                new StreamDailyStats(dayOne, streamNamespace, streamName2, 200L, 2000L, 200L, 2000L),
+                new StreamDailyStats(dayTwo, streamNamespace, streamName, 125L, 1250L, 125L, 1250L)));
 
         final ConnectionStreamHistoryRequestBody requestBody = new ConnectionStreamHistoryRequestBody()
             .connectionId(connectionId)
             .timezone(TIMEZONE_LOS_ANGELES);
         final List<ConnectionStreamHistoryReadItem> actual = connectionsHandler.getConnectionStreamHistory(requestBody);
 
-        final List<ConnectionStreamHistoryReadItem> expected = new ArrayList<>();
-        // expect the first entry to contain stream 1, day 1, 250 records... next item should be stream 2,
-        // day 1, 200 records, and final entry should be stream 1, day 2, 125 records
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(1, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt1Records + attempt2Records));
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(1, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName2)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt3Records));
-        expected.add(new ConnectionStreamHistoryReadItem()
-            .timestamp(Math.toIntExact(startTime.plus(2, ChronoUnit.DAYS)
-                .atZone(ZoneId.of(requestBody.getTimezone()))
-                .toLocalDate().atStartOfDay(ZoneId.of(requestBody.getTimezone()))
-                .toEpochSecond()))
-            .streamName(streamName)
-            .streamNamespace(streamNamespace)
-            .recordsCommitted(attempt4Records));
-
-        assertEquals(actual, expected);
+        final List<ConnectionStreamHistoryReadItem> expected = List.of(
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(dayOne))
+                .streamName(streamName)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(250L),
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(dayOne))
+                .streamName(streamName2)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(200L),
+            new ConnectionStreamHistoryReadItem()
+                .timestamp(Math.toIntExact(dayTwo))
+                .streamName(streamName)
+                .streamNamespace(streamNamespace)
+                .recordsCommitted(125L));
+        assertEquals(expected, actual);
+
+        final ArgumentCaptor<Instant> startTimeCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(jobPersistence).listStreamDailyStats(eq(connectionId), startTimeCaptor.capture(), eq(timeZone));
+        assertTrue(Math.abs(Duration.between(startTime, startTimeCaptor.getValue()).toMinutes()) < 1);
       }
 
     }
@@ -2173,7 +2119,8 @@ class ConnectionsHandlerTest {
           streamStatusesService,
           connectionTimelineEventService,
           connectionTimelineEventHelper,
-          statePersistence);
+          statePersistence,
+          connectionService);
     }
 
     @Test
@@ -2695,26 +2642,82 @@ class ConnectionsHandlerTest {
     @Test
     void testConnectionStatus() throws IOException {
       final UUID connectionId = UUID.randomUUID();
+      final UUID connectionWithoutJobsId = UUID.randomUUID();
       final AttemptFailureSummary failureSummary = new AttemptFailureSummary();
       failureSummary.setFailures(List.of(new FailureReason().withFailureOrigin(FailureReason.FailureOrigin.DESTINATION)));
-      final Attempt failedAttempt = new Attempt(0, 0, null, null, null, AttemptStatus.FAILED, null, failureSummary, 0, 0, 0L);
-      final List<Job> jobs = List.of(
-          new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, null, JobStatus.RUNNING, 1001L, 1000L, 1002L),
-          new Job(1L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, List.of(failedAttempt), JobStatus.FAILED, 901L, 900L, 902L),
-          new Job(0L, JobConfig.ConfigType.SYNC, connectionId.toString(), null, null, JobStatus.SUCCEEDED, 801L, 800L, 802L));
-      when(jobPersistence.listJobsLight(REPLICATION_TYPES,
-          connectionId.toString(), 10))
-              .thenReturn(jobs);
-      final ConnectionStatusesRequestBody req = new ConnectionStatusesRequestBody().connectionIds(List.of(connectionId));
+      when(jobPersistence.getConnectionJobStatuses(List.of(connectionId, connectionWithoutJobsId), REPLICATION_TYPES, 10))
+          .thenReturn(List.of(new ConnectionJobStatus(connectionId, true, 1L, JobStatus.FAILED, JobConfig.ConfigType.SYNC, 0, failureSummary, 802L)));
+      when(connectionService.listConnectionNextRuns(List.of(connectionId, connectionWithoutJobsId)))
+          .thenReturn(List.of(new ConnectionNextRun(connectionWithoutJobsId, OffsetDateTime.parse("2023-11-14T22:13:20Z"))));
+      final ConnectionStatusesRequestBody req = new ConnectionStatusesRequestBody().connectionIds(List.of(connectionId, connectionWithoutJobsId));
       final List<ConnectionStatusRead> status = connectionsHandler.getConnectionStatuses(req);
-      assertEquals(1, status.size());
+      assertEquals(2, status.size());
 
       final ConnectionStatusRead connectionStatus = status.get(0);
       assertEquals(connectionId, connectionStatus.getConnectionId());
       assertEquals(Enums.convertTo(JobStatus.FAILED, io.airbyte.api.model.generated.JobStatus.class), connectionStatus.getLastSyncJobStatus());
+      assertEquals(1L, connectionStatus.getLastSyncJobId());
+      assertEquals(0, connectionStatus.getLastSyncAttemptNumber());
       assertEquals(802L, connectionStatus.getLastSuccessfulSync());
       assertEquals(true, connectionStatus.getIsRunning());
+      assertEquals(false, connectionStatus.getIsLastCompletedJobReset());
+      assertEquals(io.airbyte.api.model.generated.FailureOrigin.DESTINATION, connectionStatus.getFailureReason().getFailureOrigin());
       assertNull(connectionStatus.getNextSync());
+
+      final ConnectionStatusRead connectionWithoutJobsStatus = status.get(1);
+      assertEquals(connectionWithoutJobsId, connectionWithoutJobsStatus.getConnectionId());
+      assertNull(connectionWithoutJobsStatus.getLastSyncJobStatus());
+      assertNull(connectionWithoutJobsStatus.getLastSuccessfulSync());
+      assertEquals(false, connectionWithoutJobsStatus.getIsRunning());
+      assertEquals(1_700_000_000L, connectionWithoutJobsStatus.getNextSync());
+    }
+
+    @Test
+    void testListConnectionScheduleInfos() throws IOException {
+      final UUID cronConnectionId = UUID.randomUUID();
+      final UUID manualConnectionId = UUID.randomUUID();
+      final UUID workspaceId = UUID.randomUUID();
+      when(connectionService.listConnectionScheduleInfos(List.of(cronConnectionId, manualConnectionId))).thenReturn(List.of(
+          new ConnectionScheduleInfo(workspaceId, new StandardSync()
+              .withConnectionId(cronConnectionId)
+              .withStatus(Status.ACTIVE)
+              .withManual(false)
+              .withScheduleType(ScheduleType.CRON)
+              .withScheduleData(new ScheduleData().withCron(new Cron().withCronExpression(CRON_EXPRESSION).withCronTimeZone(CRON_TIMEZONE_UTC)))),
+          new ConnectionScheduleInfo(workspaceId, new StandardSync()
+              .withConnectionId(manualConnectionId)
+              .withStatus(Status.INACTIVE)
+              .withManual(true)
+              .withScheduleType(ScheduleType.MANUAL))));
+
+      final List<ConnectionScheduleInfoRead> scheduleInfos = connectionsHandler.listConnectionScheduleInfos(
+          new ConnectionScheduleInfoRequestBody().connectionIds(List.of(cronConnectionId, manualConnectionId))).getScheduleInfos();
+
+      assertEquals(List.of(
+          new ConnectionScheduleInfoRead()
+              .connectionId(cronConnectionId)
+              .workspaceId(workspaceId)
+              .status(ConnectionStatus.ACTIVE)
+              .scheduleType(ConnectionScheduleType.CRON)
+              .scheduleData(new ConnectionScheduleData()
+                  .cron(new ConnectionScheduleDataCron().cronExpression(CRON_EXPRESSION).cronTimeZone(CRON_TIMEZONE_UTC))),
+          new ConnectionScheduleInfoRead()
+              .connectionId(manualConnectionId)
+              .workspaceId(workspaceId)
+              .status(ConnectionStatus.INACTIVE)
+              .scheduleType(ConnectionScheduleType.MANUAL)),
+          scheduleInfos);
+    }
+
+    @Test
+    void testSetConnectionNextRun() throws IOException {
+      final UUID connectionId = UUID.randomUUID();
+
+      connectionsHandler.setConnectionNextRun(new ConnectionNextRunSetRequestBody().connectionId(connectionId).nextRunAt(1_700_000_000L));
+      connectionsHandler.setConnectionNextRun(new ConnectionNextRunSetRequestBody().connectionId(connectionId));
+
+      verify(connectionService).setConnectionNextRun(connectionId, OffsetDateTime.parse("2023-11-14T22:13:20Z"));
+      verify(connectionService).setConnectionNextRun(connectionId, null);
     }
 
     private AirbyteStreamAndConfiguration getStreamAndConfig(final String name, final AirbyteStreamConfiguration config) {
@@ -2825,7 +2828,8 @@ class ConnectionsHandlerTest {
           streamStatusesService,
           connectionTimelineEventService,
           connectionTimelineEventHelper,
-          statePersistence);
+          statePersistence,
+          connectionService);
     }
 
     @Test
@@ -2944,6 +2948,38 @@ class ConnectionsHandlerTest {
       assertNotEquals(Status.INACTIVE, savedSync.getStatus());
     }
 
+    @Test
+    void diffCatalogIsSkippedForTheCatalogInUse()
+        throws JsonValidationException, ConfigNotFoundException, IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
+      standardSync = standardSync.withSourceCatalogId(SOURCE_CATALOG_ID);
+      when(configRepository.getStandardSync(CONNECTION_ID)).thenReturn(standardSync);
+
+      final var result = connectionsHandler.diffCatalogAndConditionallyDisable(CONNECTION_ID, SOURCE_CATALOG_ID);
+
+      assertEquals(new CatalogDiff().transforms(List.of()), result.getCatalogDiff());
+      assertEquals(false, result.getBreakingChange());
+      assertEquals(SOURCE_CATALOG_ID, result.getCatalogId());
+    }
+
+    @Test
+    void applySchemaChangeIsSkippedForTheCatalogInUse()
+        throws JsonValidationException, ConfigNotFoundException, IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
+      standardSync = standardSync.withSourceCatalogId(SOURCE_CATALOG_ID);
+      when(configRepository.getStandardSync(CONNECTION_ID)).thenReturn(standardSync);
+
+      final ConnectionAutoPropagateSchemaChange request = new ConnectionAutoPropagateSchemaChange()
+          .connectionId(CONNECTION_ID)
+          .workspaceId(WORKSPACE_ID)
+          .catalogId(SOURCE_CATALOG_ID)
+          .catalog(CatalogConverter.toApi(Jsons.clone(airbyteCatalog), SOURCE_VERSION));
+
+      final ConnectionAutoPropagateResult actualResult = connectionsHandler.applySchemaChange(request);
+
+      assertNull(actualResult.getPropagatedDiff());
+      verify(configRepository, Mockito.never()).writeStandardSync(any());
+      verify(notificationHelper, Mockito.never()).notifySchemaPropagated(any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void diffCatalogADisablesForBreakingChange()
         throws JsonValidationException, ConfigNotFoundException, IOException, io.airbyte.data.exceptions.ConfigNotFoundException {
@@ -3035,7 +3071,8 @@ class ConnectionsHandlerTest {
           streamStatusesService,
           connectionTimelineEventService,
           connectionTimelineEventHelper,
-          statePersistence);
+          statePersistence,
+          connectionService);
     }
 
     @Test
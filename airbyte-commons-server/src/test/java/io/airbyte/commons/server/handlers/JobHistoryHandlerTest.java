@@ -13,6 +13,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -48,6 +50,7 @@ import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.LogClientManager;
 import io.airbyte.commons.server.converters.JobConverter;
+import io.airbyte.commons.server.handlers.helpers.SyncProgressCache;
 import io.airbyte.commons.server.helpers.ConnectionHelpers;
 import io.airbyte.commons.server.helpers.DestinationHelpers;
 import io.airbyte.commons.server.helpers.SourceHelpers;
@@ -213,6 +216,7 @@ class JobHistoryHandlerTest {
   private JobHistoryHandler jobHistoryHandler;
   private TemporalClient temporalClient;
   private JobService jobService;
+  private SyncProgressCache syncProgressCache;
 
   private static JobRead toJobInfo(final Job job) {
     return new JobRead().id(job.getId())
@@ -272,6 +276,7 @@ class JobHistoryHandlerTest {
     final DestinationDefinitionsHandler destinationDefinitionsHandler = mock(DestinationDefinitionsHandler.class);
     final AirbyteVersion airbyteVersion = mock(AirbyteVersion.class);
     jobService = mock(JobService.class);
+    syncProgressCache = new SyncProgressCache();
     jobHistoryHandler = new JobHistoryHandler(
         jobPersistence,
         connectionService,
@@ -283,7 +288,8 @@ class JobHistoryHandlerTest {
         temporalClient,
         featureFlagClient,
         mock(LogClientManager.class),
-        jobService);
+        jobService,
+        syncProgressCache);
   }
 
   @Nested
@@ -677,6 +683,47 @@ class JobHistoryHandlerTest {
       assertEquals(expectedSyncProgress, actual);
     }
 
+    @Test
+    @DisplayName("Should not cache the progress of a connection with no running sync")
+    void testGetConnectionSyncProgressNoJobsIsNotCached() throws IOException {
+      final UUID connectionId = UUID.randomUUID();
+      final ConnectionIdRequestBody request = new ConnectionIdRequestBody().connectionId(connectionId);
+
+      jobHistoryHandler.getConnectionSyncProgress(request);
+      jobHistoryHandler.getConnectionSyncProgress(request);
+
+      verify(jobPersistence, times(2)).getRunningJobForConnection(connectionId);
+    }
+
+    @Test
+    @DisplayName("Should serve the progress of a running sync from the cache until it is invalidated")
+    void testGetConnectionSyncProgressIsCached() throws IOException {
+      final UUID connectionId = UUID.randomUUID();
+      final ConnectionIdRequestBody request = new ConnectionIdRequestBody().connectionId(connectionId);
+
+      final Job job = new Job(JOB_ID, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, ImmutableList.of(testJobAttempt), JobStatus.RUNNING,
+          CREATED_AT, CREATED_AT, CREATED_AT);
+      final JobRead jobRead = toJobInfo(job);
+      jobRead.setEnabledStreams(List.of());
+      jobRead.setStreamAggregatedStats(List.of());
+      final JobWithAttemptsRead jobWithAttemptsRead = new JobWithAttemptsRead()
+          .job(jobRead)
+          .attempts(ImmutableList.of(toAttemptRead(testJobAttempt)));
+
+      when(jobPersistence.getRunningJobForConnection(connectionId)).thenReturn(List.of(job));
+      try (final MockedStatic<JobConverter> mockedConverter = Mockito.mockStatic(JobConverter.class)) {
+        mockedConverter.when(() -> JobConverter.getJobWithAttemptsRead(job)).thenReturn(jobWithAttemptsRead);
+
+        final ConnectionSyncProgressRead first = jobHistoryHandler.getConnectionSyncProgress(request);
+        assertEquals(first, jobHistoryHandler.getConnectionSyncProgress(request));
+        verify(jobPersistence, times(1)).getRunningJobForConnection(connectionId);
+
+        syncProgressCache.invalidate(connectionId);
+        assertEquals(first, jobHistoryHandler.getConnectionSyncProgress(request));
+        verify(jobPersistence, times(2)).getRunningJobForConnection(connectionId);
+      }
+    }
+
     @Test
     @DisplayName("Should return data for a running sync")
     void testGetConnectionSyncProgressWithRunningJob() throws IOException {
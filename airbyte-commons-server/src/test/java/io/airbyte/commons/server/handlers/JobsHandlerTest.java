@@ -28,6 +28,7 @@ import io.airbyte.commons.server.JobStatus;
 import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.ConnectionTimelineEventHelper;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.SyncProgressCache;
 import io.airbyte.config.AirbyteStream;
 import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
@@ -76,6 +77,7 @@ public class JobsHandlerTest {
   private JobCreationAndStatusUpdateHelper helper;
   private JobErrorReporter jobErrorReporter;
   private ConnectionTimelineEventHelper connectionTimelineEventHelper;
+  private SyncProgressCache syncProgressCache;
 
   private static final long JOB_ID = 12;
   private static final int ATTEMPT_NUMBER = 1;
@@ -104,9 +106,10 @@ public class JobsHandlerTest {
     jobNotifier = mock(JobNotifier.class);
     jobErrorReporter = mock(JobErrorReporter.class);
     connectionTimelineEventHelper = mock(ConnectionTimelineEventHelper.class);
+    syncProgressCache = mock(SyncProgressCache.class);
 
     helper = mock(JobCreationAndStatusUpdateHelper.class);
-    jobsHandler = new JobsHandler(jobPersistence, helper, jobNotifier, jobErrorReporter, connectionTimelineEventHelper);
+    jobsHandler = new JobsHandler(jobPersistence, helper, jobNotifier, jobErrorReporter, connectionTimelineEventHelper, syncProgressCache);
   }
 
   @Test
@@ -127,6 +130,7 @@ public class JobsHandlerTest {
     verify(jobNotifier).successJob(any(), any());
     verify(helper).trackCompletion(any(), eq(JobStatus.SUCCEEDED));
     verify(connectionTimelineEventHelper).logJobSuccessEventInConnectionTimeline(eq(job), eq(CONNECTION_ID), any());
+    verify(syncProgressCache).invalidate(CONNECTION_ID);
   }
 
   @Test
@@ -6,6 +6,9 @@ package io.airbyte.commons.server.handlers;
 
 import static io.airbyte.protocol.models.CatalogHelpers.createAirbyteStream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -22,11 +25,13 @@ import io.airbyte.api.model.generated.AirbyteStreamConfiguration;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
 import io.airbyte.api.model.generated.DiscoverCatalogResult;
+import io.airbyte.api.model.generated.DiscoverCatalogUnchangedResult;
 import io.airbyte.api.model.generated.SourceCloneConfiguration;
 import io.airbyte.api.model.generated.SourceCloneRequestBody;
 import io.airbyte.api.model.generated.SourceCreate;
 import io.airbyte.api.model.generated.SourceDefinitionIdRequestBody;
 import io.airbyte.api.model.generated.SourceDefinitionSpecificationRead;
+import io.airbyte.api.model.generated.SourceDiscoverSchemaUnchangedWriteRequestBody;
 import io.airbyte.api.model.generated.SourceDiscoverSchemaWriteRequestBody;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
 import io.airbyte.api.model.generated.SourceRead;
@@ -71,6 +76,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -525,13 +531,40 @@ class SourceHandlerTest {
         .connectorVersion(connectorVersion)
         .configurationHash(hashValue);
 
-    when(catalogService.writeActorCatalogFetchEvent(expectedCatalog, actorId, connectorVersion, hashValue)).thenReturn(catalogId);
+    when(catalogService.writeActorCatalogFetchEvent(expectedCatalog, actorId, connectorVersion, hashValue, null)).thenReturn(catalogId);
     final DiscoverCatalogResult result = sourceHandler.writeDiscoverCatalogResult(request);
 
-    verify(catalogService).writeActorCatalogFetchEvent(expectedCatalog, actorId, connectorVersion, hashValue);
+    verify(catalogService).writeActorCatalogFetchEvent(expectedCatalog, actorId, connectorVersion, hashValue, null);
     assert (result.getCatalogId()).equals(catalogId);
   }
 
+  @Test
+  void testWriteDiscoverCatalogResultIfUnchanged() throws IOException {
+    final UUID actorId = UUID.randomUUID();
+    final UUID catalogId = UUID.randomUUID();
+    final String connectorVersion = "0.0.1";
+    final String hashValue = "0123456789abcd";
+    final String catalogHash = "fedcba9876543210";
+
+    final SourceDiscoverSchemaUnchangedWriteRequestBody request = new SourceDiscoverSchemaUnchangedWriteRequestBody()
+        .sourceId(actorId)
+        .connectorVersion(connectorVersion)
+        .configurationHash(hashValue)
+        .catalogHash(catalogHash);
+
+    when(catalogService.writeActorCatalogFetchEventIfUnchanged(actorId, connectorVersion, hashValue, catalogHash))
+        .thenReturn(Optional.of(catalogId));
+    final DiscoverCatalogUnchangedResult unchanged = sourceHandler.writeDiscoverCatalogResultIfUnchanged(request);
+    assertTrue(unchanged.getUnchanged());
+    assertEquals(catalogId, unchanged.getCatalogId());
+
+    when(catalogService.writeActorCatalogFetchEventIfUnchanged(actorId, connectorVersion, hashValue, catalogHash))
+        .thenReturn(Optional.empty());
+    final DiscoverCatalogUnchangedResult changed = sourceHandler.writeDiscoverCatalogResultIfUnchanged(request);
+    assertFalse(changed.getUnchanged());
+    assertNull(changed.getCatalogId());
+  }
+
   @Test
   @SuppressWarnings("PMD")
   void testCatalogResultSelectedStreams() {
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelLookupExecutorTest {
+
+  private ExecutorService executorService;
+  private ParallelLookupExecutor parallelLookupExecutor;
+
+  @BeforeEach
+  void setup() {
+    executorService = Executors.newFixedThreadPool(2);
+    parallelLookupExecutor = new ParallelLookupExecutor(executorService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void testLookupsRunConcurrently() throws IOException {
+    final CountDownLatch latch = new CountDownLatch(2);
+    final CompletableFuture<String> first = parallelLookupExecutor.submit("first", () -> awaitOther(latch, "a"));
+    final CompletableFuture<String> second = parallelLookupExecutor.submit("second", () -> awaitOther(latch, "b"));
+
+    assertEquals("a", ParallelLookupExecutor.await(first));
+    assertEquals("b", ParallelLookupExecutor.await(second));
+  }
+
+  @Test
+  void testIOExceptionIsRethrown() {
+    final CompletableFuture<String> failed = parallelLookupExecutor.submit("failed", () -> {
+      throw new IOException("boom");
+    });
+
+    final IOException exception = assertThrows(IOException.class, () -> ParallelLookupExecutor.await(failed));
+    assertEquals("boom", exception.getMessage());
+  }
+
+  @Test
+  void testRuntimeExceptionIsRethrown() {
+    final CompletableFuture<String> failed = parallelLookupExecutor.submit("failed", () -> {
+      throw new IllegalStateException("boom");
+    });
+
+    assertThrows(IllegalStateException.class, () -> ParallelLookupExecutor.await(failed));
+  }
+
+  private static String awaitOther(final CountDownLatch latch, final String value) throws IOException {
+    latch.countDown();
+    try {
+      if (!latch.await(10, TimeUnit.SECONDS)) {
+        throw new IOException("lookups did not run concurrently");
+      }
+    } catch (final InterruptedException e) {
+      throw new IOException(e);
+    }
+    return value;
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.api.model.generated.ConnectionSyncProgressRead;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SyncProgressCacheTest {
+
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+
+  private final SyncProgressCache syncProgressCache = new SyncProgressCache();
+
+  @Test
+  void testProgressIsCachedUntilInvalidated() throws ExecutionException {
+    final AtomicInteger loads = new AtomicInteger();
+
+    assertEquals(1L, syncProgressCache.get(CONNECTION_ID, () -> progress(loads.incrementAndGet())).getJobId());
+    assertEquals(1L, syncProgressCache.get(CONNECTION_ID, () -> progress(loads.incrementAndGet())).getJobId());
+
+    syncProgressCache.invalidate(CONNECTION_ID);
+
+    assertEquals(2L, syncProgressCache.get(CONNECTION_ID, () -> progress(loads.incrementAndGet())).getJobId());
+  }
+
+  @Test
+  void testInvalidationWinsOverLoadInFlight() throws Exception {
+    final CountDownLatch loading = new CountDownLatch(1);
+    final CountDownLatch invalidated = new CountDownLatch(1);
+    final AtomicInteger loads = new AtomicInteger();
+
+    final CompletableFuture<ConnectionSyncProgressRead> racingRead = CompletableFuture.supplyAsync(() -> {
+      try {
+        return syncProgressCache.get(CONNECTION_ID, () -> {
+          loading.countDown();
+          invalidated.await();
+          return progress(loads.incrementAndGet());
+        });
+      } catch (final ExecutionException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    loading.await();
+    syncProgressCache.invalidate(CONNECTION_ID);
+    invalidated.countDown();
+
+    // the progress loaded before the invalidation is neither returned nor cached
+    assertEquals(2L, racingRead.get().getJobId());
+    assertEquals(3L, syncProgressCache.get(CONNECTION_ID, () -> progress(loads.incrementAndGet())).getJobId());
+  }
+
+  private static ConnectionSyncProgressRead progress(final long jobId) {
+    return new ConnectionSyncProgressRead().connectionId(CONNECTION_ID).jobId(jobId);
+  }
+
+}
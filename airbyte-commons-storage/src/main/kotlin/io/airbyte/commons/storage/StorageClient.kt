@@ -80,7 +80,9 @@ enum class DocumentType(
   LOGS(prefix = Path.of("job-logging")),
   STATE(prefix = Path.of("/state")),
   WORKLOAD_OUTPUT(prefix = Path.of("/workload/output")),
+  WORKLOAD_INPUT(prefix = Path.of("/workload/input")),
   ACTIVITY_PAYLOADS(prefix = Path.of("/activity-payloads")),
+  RESOLVED_MANIFESTS(prefix = Path.of("/connector-builder/resolved-manifests")),
 }
 
 /**
@@ -468,7 +470,10 @@ fun StorageConfig.bucketName(type: DocumentType): String =
   when (type) {
     DocumentType.STATE -> this.buckets.state
     DocumentType.WORKLOAD_OUTPUT -> this.buckets.workloadOutput
+    DocumentType.WORKLOAD_INPUT -> this.buckets.workloadOutput
     DocumentType.APPLICATION_LOGS -> this.buckets.log
     DocumentType.LOGS -> this.buckets.log
     DocumentType.ACTIVITY_PAYLOADS -> this.buckets.activityPayload
+    // resolved manifests are a cache of payloads handed to the CDK
+    DocumentType.RESOLVED_MANIFESTS -> this.buckets.activityPayload
   }
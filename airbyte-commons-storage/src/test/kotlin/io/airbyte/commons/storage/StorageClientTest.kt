@@ -54,6 +54,7 @@ class DocumentTypeTest {
     assertEquals(DocumentType.LOGS.prefix, Path.of("job-logging"))
     assertEquals(DocumentType.STATE.prefix, Path.of("/state"))
     assertEquals(DocumentType.WORKLOAD_OUTPUT.prefix, Path.of("/workload/output"))
+    assertEquals(DocumentType.WORKLOAD_INPUT.prefix, Path.of("/workload/input"))
   }
 }
 
@@ -260,6 +260,25 @@ public class TemporalClient {
         Optional.of(jobId), Optional.empty());
   }
 
+  /**
+   * Signal the connection manager workflow of a connection that its next scheduled run is due. Unlike
+   * {@link #startNewManualSync(UUID)}, this does not wait for the sync to start, so that many
+   * connections can be triggered in a row. A workflow that is already running a sync ignores the
+   * signal.
+   *
+   * @param connectionId connection id
+   * @return false if the workflow of the connection was deleted
+   */
+  public boolean signalScheduledSync(final UUID connectionId) {
+    try {
+      connectionManagerUtils.signalWorkflowAndRepairIfNecessary(connectionId, workflow -> workflow::submitManualSync);
+      return true;
+    } catch (final DeletedWorkflowException e) {
+      log.warn("Can't trigger the scheduled sync of deleted connection {}.", connectionId);
+      return false;
+    }
+  }
+
   /**
    * Cancel a running job for a connection.
    *
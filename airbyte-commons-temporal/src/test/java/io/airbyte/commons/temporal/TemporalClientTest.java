@@ -483,6 +483,37 @@ public class TemporalClientTest {
       verify(mConnectionManagerWorkflow, times(0)).submitManualSync();
     }
 
+    @Test
+    @DisplayName("Test signalScheduledSync signals the workflow without waiting for the sync to start")
+    void testSignalScheduledSync() {
+      final ConnectionManagerWorkflow mConnectionManagerWorkflow = mock(ConnectionManagerWorkflow.class);
+      final WorkflowState mWorkflowState = mock(WorkflowState.class);
+      when(mConnectionManagerWorkflow.getState()).thenReturn(mWorkflowState);
+      when(mWorkflowState.isDeleted()).thenReturn(false);
+      when(workflowClient.newWorkflowStub(any(), anyString())).thenReturn(mConnectionManagerWorkflow);
+
+      assertTrue(temporalClient.signalScheduledSync(CONNECTION_ID));
+
+      verify(mConnectionManagerWorkflow).submitManualSync();
+      verify(mWorkflowState, times(0)).isRunning();
+    }
+
+    @Test
+    @SuppressWarnings(UNCHECKED)
+    @DisplayName("Test signalScheduledSync does not signal a deleted workflow")
+    void testSignalScheduledSyncDeletedWorkflow() {
+      final ConnectionManagerWorkflow mConnectionManagerWorkflow = mock(ConnectionManagerWorkflow.class);
+      final WorkflowState mWorkflowState = mock(WorkflowState.class);
+      when(mConnectionManagerWorkflow.getState()).thenReturn(mWorkflowState);
+      when(mWorkflowState.isDeleted()).thenReturn(true);
+      when(workflowClient.newWorkflowStub(any(), anyString())).thenReturn(mConnectionManagerWorkflow);
+      mockWorkflowStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_COMPLETED);
+
+      assertFalse(temporalClient.signalScheduledSync(CONNECTION_ID));
+
+      verify(mConnectionManagerWorkflow, times(0)).submitManualSync();
+    }
+
   }
 
   @Nested
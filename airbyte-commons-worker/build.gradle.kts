@@ -108,6 +108,16 @@ tasks.named<Test>("test") {
   }
 }
 
+tasks.register<JavaExec>("replicationThroughputBenchmark") {
+  description = "Run the replication throughput benchmark and write its results to build/jmh/replication-throughput.json"
+  classpath = sourceSets["test"].runtimeClasspath
+  mainClass.set("io.airbyte.workers.general.performance.ReplicationThroughputBenchmark")
+  args = listOf(layout.buildDirectory.file("jmh/replication-throughput.json").get().asFile.path)
+  doFirst {
+    layout.buildDirectory.dir("jmh").get().asFile.mkdirs()
+  }
+}
+
 // The DuplicatesStrategy will be required while this module is mixture of kotlin and java _with_ lombok dependencies.)
 // Once lombok has been removed, this can also be removed.)
 tasks.withType<Jar>().configureEach {
@@ -113,10 +113,9 @@ public class BufferedReplicationWorker {
     this.recordSchemaValidator = recordSchemaValidator;
     this.syncPersistence = syncPersistence;
     this.srcHeartbeatTimeoutChaperone = srcHeartbeatTimeoutChaperone;
-    this.messagesFromSourceQueue =
-        new ClosableLinkedBlockingQueue<>(bufferConfiguration.getSourceMaxBufferSize(), bufferConfiguration.getPollTimeoutDuration());
+    this.messagesFromSourceQueue = createQueue(bufferConfiguration, bufferConfiguration.getSourceMaxBufferSize(), "source", metricClient);
     this.messagesForDestinationQueue =
-        new ClosableLinkedBlockingQueue<>(bufferConfiguration.getDestinationMaxBufferSize(), bufferConfiguration.getPollTimeoutDuration());
+        createQueue(bufferConfiguration, bufferConfiguration.getDestinationMaxBufferSize(), "destination", metricClient);
     // readFromSource + processMessage + writeToDestination + readFromDestination +
     // source heartbeat + dest timeout monitor + workload heartbeat = 7 threads
     this.executors = Executors.newFixedThreadPool(7);
@@ -133,6 +132,19 @@ public class BufferedReplicationWorker {
     this.replicationInput = replicationInput;
   }
 
+  private static ClosableQueue<AirbyteMessage> createQueue(final BufferConfiguration bufferConfiguration,
+                                                          final int maxBufferSize,
+                                                          final String name,
+                                                          final MetricClient metricClient) {
+    if (bufferConfiguration.hasByteBudget()) {
+      LOGGER.info("Using a {} buffer of {} bytes, spilling up to {} bytes to disk", name, bufferConfiguration.getMaxBufferBytes(),
+          bufferConfiguration.getMaxSpillBytes());
+      return new ByteBudgetedMessageQueue(bufferConfiguration.getMaxBufferBytes(), bufferConfiguration.getMaxSpillBytes(),
+          bufferConfiguration.getPollTimeoutDuration(), metricClient, name);
+    }
+    return new ClosableLinkedBlockingQueue<>(maxBufferSize, bufferConfiguration.getPollTimeoutDuration());
+  }
+
   @Trace(operationName = WORKER_OPERATION_NAME)
   public ReplicationOutput run(final ReplicationInput replicationInput, final Path jobRoot) throws WorkerException {
     final Map<String, String> mdc = MDC.getCopyOfContextMap();
@@ -188,6 +200,9 @@ public class BufferedReplicationWorker {
           // Preserve the interrupt status
           Thread.currentThread().interrupt();
         }
+        // the queues still hold messages if the replication was aborted
+        releaseQueue(messagesFromSourceQueue);
+        releaseQueue(messagesForDestinationQueue);
       }
 
       if (!replicationWorkerHelper.getCancelled()) {
@@ -201,6 +216,7 @@ public class BufferedReplicationWorker {
           .withAdditionalProperty("writeToDest", writeToDestStopwatch)
           .withAdditionalProperty("readFromDest", readFromDestStopwatch)
           .withAdditionalProperty("processFromDest", processFromDestStopwatch);
+      destination.getPerformanceMetrics().forEach(perfMetrics::setAdditionalProperty);
       return replicationWorkerHelper.getReplicationOutput(perfMetrics);
     } catch (final Exception e) {
       ApmTraceUtils.addExceptionToTrace(e);
@@ -209,6 +225,12 @@ public class BufferedReplicationWorker {
 
   }
 
+  private static void releaseQueue(final ClosableQueue<AirbyteMessage> queue) {
+    if (queue instanceof final ByteBudgetedMessageQueue byteBudgetedQueue) {
+      byteBudgetedQueue.release();
+    }
+  }
+
   private CompletableFuture<?> runAsync(final Runnable runnable, final Map<String, String> mdc) {
     return CompletableFuture.runAsync(() -> {
       MDC.setContextMap(mdc);
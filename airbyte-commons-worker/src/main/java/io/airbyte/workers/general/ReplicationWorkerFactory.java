@@ -27,11 +27,14 @@ import io.airbyte.featureflag.FieldSelectionEnabled;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.PrintLongRecordPks;
 import io.airbyte.featureflag.RemoveValidationLimit;
+import io.airbyte.featureflag.ReplicationBufferMegabytes;
 import io.airbyte.featureflag.ReplicationBufferOverride;
+import io.airbyte.featureflag.ReplicationSpillMegabytes;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
 import io.airbyte.featureflag.Source;
 import io.airbyte.featureflag.SourceDefinition;
 import io.airbyte.featureflag.SourceType;
+import io.airbyte.featureflag.UseBatchedDestinationWriter;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.mappers.application.RecordMapper;
 import io.airbyte.mappers.transformations.DestinationCatalogGenerator;
@@ -50,6 +53,7 @@ import io.airbyte.workers.internal.AirbyteMessageBufferedWriterFactory;
 import io.airbyte.workers.internal.AirbyteSource;
 import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.AnalyticsMessageTracker;
+import io.airbyte.workers.internal.BatchedAirbyteMessageBufferedWriterFactory;
 import io.airbyte.workers.internal.ContainerIOHandle;
 import io.airbyte.workers.internal.DestinationTimeoutMonitor;
 import io.airbyte.workers.internal.EmptyAirbyteSource;
@@ -112,6 +116,8 @@ public class ReplicationWorkerFactory {
       .setLogPrefix(LoggingHelper.SOURCE_LOGGER_PREFIX)
       .setPrefixColor(Color.BLUE_BACKGROUND);
 
+  private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
   public ReplicationWorkerFactory(
                                   final AirbyteMessageSerDeProvider serDeProvider,
                                   final AirbyteProtocolVersionedMigratorFactory migratorFactory,
@@ -175,11 +181,18 @@ public class ReplicationWorkerFactory {
             heartbeatMonitor,
             getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig),
             new MessageMetricsTracker(metricClient),
-            ContainerIOHandle.source());
+            ContainerIOHandle.source(),
+            () -> getStreamFactory(sourceLauncherConfig, replicationInput.getCatalog(), SOURCE_LOG_MDC_BUILDER, invalidLineConfig));
 
     log.info("Setting up destination...");
-    final AirbyteMessageBufferedWriterFactory messageWriterFactory =
-        new VersionedAirbyteMessageBufferedWriterFactory(serDeProvider, migratorFactory, destinationLauncherConfig.getProtocolVersion(),
+    final boolean useBatchedDestinationWriter = featureFlagClient.boolVariation(UseBatchedDestinationWriter.INSTANCE,
+        new Multi(List.of(
+            new Connection(destinationLauncherConfig.getConnectionId()),
+            new Workspace(destinationLauncherConfig.getWorkspaceId()))));
+    final AirbyteMessageBufferedWriterFactory messageWriterFactory = useBatchedDestinationWriter
+        ? new BatchedAirbyteMessageBufferedWriterFactory(serDeProvider, migratorFactory, destinationLauncherConfig.getProtocolVersion(),
+            Optional.of(replicationInput.getCatalog()))
+        : new VersionedAirbyteMessageBufferedWriterFactory(serDeProvider, migratorFactory, destinationLauncherConfig.getProtocolVersion(),
             Optional.of(replicationInput.getCatalog()));
 
     final var airbyteDestination = new LocalContainerAirbyteDestination(
@@ -322,8 +335,15 @@ public class ReplicationWorkerFactory {
     final Context flagContext = getFeatureFlagContext(replicationInput);
 
     final int bufferSize = featureFlagClient.intVariation(ReplicationBufferOverride.INSTANCE, flagContext);
-    final BufferConfiguration bufferConfiguration =
-        bufferSize > 0 ? BufferConfiguration.withBufferSize(bufferSize) : BufferConfiguration.withDefaultConfiguration();
+    final int bufferMegabytes = featureFlagClient.intVariation(ReplicationBufferMegabytes.INSTANCE, flagContext);
+    final BufferConfiguration bufferConfiguration;
+    if (bufferMegabytes > 0) {
+      final int spillMegabytes = featureFlagClient.intVariation(ReplicationSpillMegabytes.INSTANCE, flagContext);
+      bufferConfiguration =
+          BufferConfiguration.withByteBudget(bufferMegabytes * BYTES_PER_MEGABYTE, Math.max(spillMegabytes, 0) * BYTES_PER_MEGABYTE);
+    } else {
+      bufferConfiguration = bufferSize > 0 ? BufferConfiguration.withBufferSize(bufferSize) : BufferConfiguration.withDefaultConfiguration();
+    }
 
     return buildReplicationWorkerInstance(
         jobRunConfig.getJobId(),
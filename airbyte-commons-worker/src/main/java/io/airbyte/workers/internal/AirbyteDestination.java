@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import io.airbyte.config.WorkerDestinationConfig;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -90,4 +91,14 @@ public interface AirbyteDestination extends AutoCloseable {
    */
   void cancel() throws Exception;
 
+  /**
+   * Performance metrics of the writes to the Destination, to be reported along with the ones of the
+   * replication.
+   *
+   * @return metrics by name, empty if the Destination does not track any
+   */
+  default Map<String, Object> getPerformanceMetrics() {
+    return Map.of();
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.workers.internal;
 
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.IOException;
+import java.util.Map;
 
 /**
  * Interface for writing airbyte messages. Base interface that the versioned writers build upon.
@@ -18,4 +19,13 @@ public interface AirbyteMessageBufferedWriter {
 
   void close() throws IOException;
 
+  /**
+   * Performance metrics of the writer, to be reported along with the ones of the replication.
+   *
+   * @return metrics by name, empty if the writer does not track any
+   */
+  default Map<String, Object> getPerformanceMetrics() {
+    return Map.of();
+  }
+
 }
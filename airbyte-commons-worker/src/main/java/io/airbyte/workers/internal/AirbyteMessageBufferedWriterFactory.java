@@ -5,6 +5,9 @@
 package io.airbyte.workers.internal;
 
 import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Factory for creating airbyte message writers. Base class that the versioned writers build upon.
@@ -13,4 +16,12 @@ public interface AirbyteMessageBufferedWriterFactory {
 
   AirbyteMessageBufferedWriter createWriter(BufferedWriter bufferedWriter);
 
+  /**
+   * Create a writer to a stream, by default through a {@link BufferedWriter}. Writers that encode
+   * messages themselves write to the stream directly.
+   */
+  default AirbyteMessageBufferedWriter createStreamWriter(final OutputStream outputStream) {
+    return createWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+  }
+
 }
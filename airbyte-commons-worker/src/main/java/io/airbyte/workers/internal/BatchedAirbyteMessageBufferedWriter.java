@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
+import io.airbyte.commons.timer.Stopwatch;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes messages to the destination in large chunks.
+ *
+ * <p>
+ * Messages are serialized as UTF-8 straight into a reusable byte buffer by a single Jackson
+ * generator, with the same output as the protocol serializers, instead of going through a String
+ * and a char encoder per message. The buffer is written to the destination in one call once it
+ * reaches the flush size, once the flush interval elapsed since the previous write, and after each
+ * state message so that the destination can commit it without waiting for more records.
+ *
+ * @param <T> message type of the protocol version of the destination
+ */
+public class BatchedAirbyteMessageBufferedWriter<T> implements AirbyteMessageBufferedWriter {
+
+  public static final int DEFAULT_FLUSH_BYTES = 1024 * 1024;
+  public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+  public static final String PERFORMANCE_METRICS_KEY = "destinationWriter";
+
+  private static final byte NEW_LINE = '\n';
+
+  private final OutputStream outputStream;
+  private final AirbyteMessageVersionedMigrator<T> migrator;
+  private final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog;
+  private final ObjectMapper objectMapper;
+  private final ChunkBuffer buffer;
+  private final JsonGenerator generator;
+  private final int flushBytes;
+  private final long flushIntervalMillis;
+  private final Clock clock;
+  private final Stopwatch writeStopwatch = new Stopwatch();
+
+  private long lastWriteMillis;
+  private long messagesWritten;
+  private long bytesWritten;
+  private long chunksWritten;
+
+  public BatchedAirbyteMessageBufferedWriter(final OutputStream outputStream,
+                                             final AirbyteMessageVersionedMigrator<T> migrator,
+                                             final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog,
+                                             final ObjectMapper objectMapper,
+                                             final int flushBytes,
+                                             final Duration flushInterval,
+                                             final Clock clock)
+      throws IOException {
+    this.outputStream = outputStream;
+    this.migrator = migrator;
+    this.configuredAirbyteCatalog = configuredAirbyteCatalog;
+    this.objectMapper = objectMapper;
+    // a message over the flush size grows the buffer, which then keeps its capacity
+    this.buffer = new ChunkBuffer(flushBytes + flushBytes / 4);
+    this.generator = objectMapper.getFactory().createGenerator(buffer);
+    // messages are separated by new lines rather than by the default root value separator
+    this.generator.setRootValueSeparator(null);
+    this.flushBytes = flushBytes;
+    this.flushIntervalMillis = flushInterval.toMillis();
+    this.clock = clock;
+    this.lastWriteMillis = clock.millis();
+  }
+
+  @Override
+  public void write(final AirbyteMessage message) throws IOException {
+    try (final var t = writeStopwatch.start()) {
+      objectMapper.writeValue(generator, migrator.downgrade(message, configuredAirbyteCatalog));
+      generator.flush();
+      buffer.write(NEW_LINE);
+      messagesWritten++;
+
+      if (buffer.size() >= flushBytes
+          || message.getType() == AirbyteMessage.Type.STATE
+          || clock.millis() - lastWriteMillis >= flushIntervalMillis) {
+        writeChunk();
+        outputStream.flush();
+      }
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writeChunk();
+    outputStream.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writeChunk();
+    generator.close();
+    outputStream.close();
+  }
+
+  @Override
+  public Map<String, Object> getPerformanceMetrics() {
+    final double elapsedSeconds = writeStopwatch.getElapsedTimeInNanos() / 1_000_000_000.0;
+    return Map.of(PERFORMANCE_METRICS_KEY, new WriterMetrics(
+        messagesWritten,
+        bytesWritten,
+        chunksWritten,
+        writeStopwatch.getElapsedTimeInNanos(),
+        elapsedSeconds > 0 ? messagesWritten / elapsedSeconds : 0,
+        elapsedSeconds > 0 ? bytesWritten / elapsedSeconds : 0));
+  }
+
+  private void writeChunk() throws IOException {
+    lastWriteMillis = clock.millis();
+    if (buffer.size() == 0) {
+      return;
+    }
+    bytesWritten += buffer.size();
+    chunksWritten++;
+    buffer.writeTo(outputStream);
+    buffer.reset();
+  }
+
+  /**
+   * Throughput of the writer, the time being the time spent serializing and writing messages.
+   */
+  public record WriterMetrics(long messagesWritten,
+                              long bytesWritten,
+                              long chunksWritten,
+                              long elapsedTimeInNanos,
+                              double messagesPerSecond,
+                              double bytesPerSecond) {}
+
+  /**
+   * Unsynchronized byte buffer, as the writer is only used by the thread writing to the destination.
+   */
+  private static final class ChunkBuffer extends OutputStream {
+
+    private byte[] bytes;
+    private int size;
+
+    ChunkBuffer(final int capacity) {
+      this.bytes = new byte[capacity];
+    }
+
+    @Override
+    public void write(final int b) {
+      ensureCapacity(1);
+      bytes[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      ensureCapacity(len);
+      System.arraycopy(b, off, bytes, size, len);
+      size += len;
+    }
+
+    int size() {
+      return size;
+    }
+
+    void writeTo(final OutputStream outputStream) throws IOException {
+      outputStream.write(bytes, 0, size);
+    }
+
+    void reset() {
+      size = 0;
+    }
+
+    private void ensureCapacity(final int length) {
+      if (size + length > bytes.length) {
+        final byte[] grown = new byte[Math.max(bytes.length * 2, size + length)];
+        System.arraycopy(bytes, 0, grown, 0, size);
+        bytes = grown;
+      }
+    }
+
+  }
+
+}
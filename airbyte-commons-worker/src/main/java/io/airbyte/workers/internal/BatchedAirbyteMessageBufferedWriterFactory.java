@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.protocol.AirbyteMessageSerDeProvider;
+import io.airbyte.commons.protocol.AirbyteProtocolVersionedMigratorFactory;
+import io.airbyte.commons.version.Version;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.util.Optional;
+
+/**
+ * Factory for creating a writer that writes protocol messages in a specific protocol version to a
+ * stream in large chunks, see {@link BatchedAirbyteMessageBufferedWriter}.
+ */
+public class BatchedAirbyteMessageBufferedWriterFactory extends VersionedAirbyteMessageBufferedWriterFactory {
+
+  private final AirbyteProtocolVersionedMigratorFactory migratorFactory;
+  private final Version protocolVersion;
+  private final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog;
+
+  public BatchedAirbyteMessageBufferedWriterFactory(final AirbyteMessageSerDeProvider serDeProvider,
+                                                    final AirbyteProtocolVersionedMigratorFactory migratorFactory,
+                                                    final Version protocolVersion,
+                                                    final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+    super(serDeProvider, migratorFactory, protocolVersion, configuredAirbyteCatalog);
+    this.migratorFactory = migratorFactory;
+    this.protocolVersion = protocolVersion;
+    this.configuredAirbyteCatalog = configuredAirbyteCatalog;
+  }
+
+  @Override
+  public AirbyteMessageBufferedWriter createStreamWriter(final OutputStream outputStream) {
+    try {
+      return new BatchedAirbyteMessageBufferedWriter<>(
+          outputStream,
+          migratorFactory.getAirbyteMessageMigrator(protocolVersion),
+          configuredAirbyteCatalog,
+          // configured as the mapper of the protocol serializers
+          MoreMappers.initMapper(),
+          BatchedAirbyteMessageBufferedWriter.DEFAULT_FLUSH_BYTES,
+          BatchedAirbyteMessageBufferedWriter.DEFAULT_FLUSH_INTERVAL,
+          Clock.systemUTC());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
@@ -33,6 +33,7 @@ import io.airbyte.workers.internal.exception.DestinationException;
 import io.airbyte.workers.internal.exception.SourceException;
 import io.airbyte.workers.models.ReplicationActivityInput;
 import io.airbyte.workers.pod.Metadata;
+import io.airbyte.workers.serde.WorkloadInputStore;
 import io.airbyte.workers.workload.JobOutputDocStore;
 import io.airbyte.workers.workload.WorkloadConstants;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
@@ -80,6 +81,7 @@ public class WorkloadApiWorker implements ReplicationWorker {
   private final ReplicationActivityInput input;
   private final FeatureFlagClient featureFlagClient;
   private final LogClientManager logClientManager;
+  private final WorkloadInputStore workloadInputStore;
 
   private String workloadId = null;
 
@@ -90,7 +92,8 @@ public class WorkloadApiWorker implements ReplicationWorker {
                            final WorkloadIdGenerator workloadIdGenerator,
                            final ReplicationActivityInput input,
                            final FeatureFlagClient featureFlagClient,
-                           final LogClientManager logClientManager) {
+                           final LogClientManager logClientManager,
+                           final WorkloadInputStore workloadInputStore) {
     this.jobOutputDocStore = jobOutputDocStore;
     this.apiClient = apiClient;
     this.workloadApiClient = workloadApiClient;
@@ -99,6 +102,7 @@ public class WorkloadApiWorker implements ReplicationWorker {
     this.input = input;
     this.featureFlagClient = featureFlagClient;
     this.logClientManager = logClientManager;
+    this.workloadInputStore = workloadInputStore;
   }
 
   @Override
@@ -110,7 +114,7 @@ public class WorkloadApiWorker implements ReplicationWorker {
   }
 
   public String createWorkload(final ReplicationInput replicationInput, final Path jobRoot) throws WorkerException {
-    final String serializedInput = Jsons.serialize(input);
+    final String serializedInput = workloadInputStore.store(Jsons.serialize(input));
     workloadId = workloadIdGenerator.generateSyncWorkloadId(replicationInput.getConnectionId(),
         Long.parseLong(replicationInput.getJobRunConfig().getJobId()),
         replicationInput.getJobRunConfig().getAttemptId().intValue());
@@ -163,10 +167,11 @@ public class WorkloadApiWorker implements ReplicationWorker {
     // TODO merge this with WorkloadApiHelper.waitForWorkload. The only difference currently is the
     // progress log.
     int i = 0;
-    final Duration sleepInterval = Duration.ofSeconds(featureFlagClient.intVariation(WorkloadPollingInterval.INSTANCE, getFeatureFlagContext()));
+    final Duration fallbackPollingInterval = Duration.ofSeconds(featureFlagClient.intVariation(WorkloadPollingInterval.INSTANCE, getFeatureFlagContext()));
     Workload workload;
     while (true) {
-      workload = getWorkload(workloadId);
+      // Returns as soon as the workload is terminal, or after a bounded wait if it is still active.
+      workload = callWithRetry(() -> workloadClient.awaitWorkload(workloadId, fallbackPollingInterval));
 
       if (workload.getStatus() != null) {
         if (TERMINAL_STATUSES.contains(workload.getStatus())) {
@@ -184,7 +189,6 @@ public class WorkloadApiWorker implements ReplicationWorker {
         }
         i++;
       }
-      sleep(sleepInterval.toMillis());
     }
 
     if (workload.getStatus() == WorkloadStatus.CANCELLED) {
@@ -300,13 +304,4 @@ public class WorkloadApiWorker implements ReplicationWorker {
         .build()).get(workloadApiCall);
   }
 
-  private void sleep(final long millis) {
-    try {
-      Thread.sleep(millis);
-    } catch (final InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new RuntimeException(e);
-    }
-  }
-
 }
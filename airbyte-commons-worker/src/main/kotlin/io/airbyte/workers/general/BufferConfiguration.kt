@@ -6,17 +6,30 @@ data class BufferConfiguration(
   val sourceMaxBufferSize: Int = DEFAULT_SOURCE_MAX_BUFFER_SIZE,
   val destinationMaxBufferSize: Int = DEFAULT_DESTINATION_MAX_BUFFER_SIZE,
   val pollTimeoutDuration: Int = DEFAULT_POLL_TIME_OUT_DURATION_SECONDS,
+  // when set, each buffer holds up to this many bytes of messages in memory instead of a number of messages
+  val maxBufferBytes: Long = NO_BYTE_BUDGET,
+  // when set along with maxBufferBytes, each buffer spills up to this many bytes of messages to local disk once full
+  val maxSpillBytes: Long = NO_BYTE_BUDGET,
 ) {
+  fun hasByteBudget() = maxBufferBytes > NO_BYTE_BUDGET
+
   companion object {
     const val DEFAULT_SOURCE_MAX_BUFFER_SIZE = 1000
     const val DEFAULT_DESTINATION_MAX_BUFFER_SIZE = 1000
     const val DEFAULT_POLL_TIME_OUT_DURATION_SECONDS = ClosableLinkedBlockingQueue.DEFAULT_POLL_TIME_OUT_DURATION_SECONDS
+    const val NO_BYTE_BUDGET = 0L
 
     // Helpers for Java due to the lack of named parameters
 
     @JvmStatic
     fun withBufferSize(bufferSize: Int) = BufferConfiguration(sourceMaxBufferSize = bufferSize, destinationMaxBufferSize = bufferSize)
 
+    @JvmStatic
+    fun withByteBudget(
+      maxBufferBytes: Long,
+      maxSpillBytes: Long,
+    ) = BufferConfiguration(maxBufferBytes = maxBufferBytes, maxSpillBytes = maxSpillBytes)
+
     @JvmStatic
     fun withPollTimeout(pollTimeoutDuration: Int): BufferConfiguration = BufferConfiguration(pollTimeoutDuration = pollTimeoutDuration)
 
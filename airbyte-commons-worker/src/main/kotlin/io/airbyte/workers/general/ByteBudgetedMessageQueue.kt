@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general
+
+import com.fasterxml.jackson.databind.JsonNode
+import io.airbyte.commons.concurrency.ClosableQueue
+import io.airbyte.commons.json.Jsons
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.protocol.models.AirbyteMessage
+import io.github.oshai.kotlinlogging.KotlinLogging
+import java.io.IOException
+import java.nio.MappedByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.StandardOpenOption
+import java.time.Clock
+import java.util.ArrayDeque
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Replication buffer bounded by the estimated bytes of the messages it holds rather than by their number,
+ * so that a burst of large records does not exhaust the heap.
+ *
+ * Once the memory budget is used up, messages are spilled to a memory-mapped segment on local disk, if a
+ * spill budget is set, and read back in order with the messages in memory. Messages go back to memory as
+ * soon as there is room, and the space of a spilled message is reused once it is read, so the buffer only
+ * blocks producers while both budgets are used up. A message larger than the memory budget is still accepted once
+ * the buffer is empty, so that it does not block the replication.
+ *
+ * Like [io.airbyte.commons.concurrency.ClosableLinkedBlockingQueue], [add] and [poll] give up after the
+ * poll timeout, and the buffer is done once it is closed and empty.
+ */
+class ByteBudgetedMessageQueue(
+  private val maxMemoryBytes: Long,
+  private val maxSpillBytes: Long,
+  private val pollTimeoutSeconds: Int,
+  private val metricClient: MetricClient,
+  name: String,
+  private val clock: Clock = Clock.systemUTC(),
+) : ClosableQueue<AirbyteMessage> {
+  companion object {
+    // rough bytes of the envelope of a serialized message, on top of its data
+    const val MESSAGE_OVERHEAD_BYTES = 64L
+    val METRICS_REPORT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10)
+
+    /**
+     * Estimates the serialized size of a message without serializing it, as this runs for every record.
+     */
+    @JvmStatic
+    fun estimateBytes(message: AirbyteMessage): Long =
+      if (message.type == AirbyteMessage.Type.RECORD && message.record != null) {
+        MESSAGE_OVERHEAD_BYTES + (message.record.stream?.length ?: 0) + estimateBytes(message.record.data)
+      } else {
+        // other messages are few, serializing them is fine
+        Jsons.serialize(message).length.toLong()
+      }
+
+    @JvmStatic
+    fun estimateBytes(node: JsonNode?): Long {
+      if (node == null) {
+        return 0
+      }
+      var bytes = 0L
+      val nodes = ArrayDeque<JsonNode>()
+      nodes.push(node)
+      while (nodes.isNotEmpty()) {
+        val current = nodes.pop()
+        when {
+          current.isTextual -> bytes += current.textValue().length + 2L
+          current.isObject -> {
+            bytes += 2L
+            current.fields().forEach { (key, value) ->
+              bytes += key.length + 4L
+              nodes.push(value)
+            }
+          }
+          current.isArray -> {
+            bytes += 2L + current.size()
+            current.forEach { nodes.push(it) }
+          }
+          current.isBinary -> bytes += current.binaryValue().size * 4L / 3 + 2L
+          else -> bytes += current.asText().length
+        }
+      }
+      return bytes
+    }
+  }
+
+  private sealed interface Item
+
+  private class Entry(val message: AirbyteMessage, val bytes: Long) : Item
+
+  // consecutive messages spilled to disk, read back in the order of the spill segment
+  private class SpilledRun(var count: Int) : Item
+
+  private val bufferAttribute = MetricAttribute(MetricTags.BUFFER, name)
+  private val lock = ReentrantLock()
+  private val notEmpty = lock.newCondition()
+  private val notFull = lock.newCondition()
+
+  // messages in memory and runs of spilled messages, in the order they were added
+  private val items = ArrayDeque<Item>()
+  private var memoryCount = 0
+  private var memoryBytes = 0L
+  private var spill: SpillSegment? = null
+  private var closed = false
+  private val nextMetricsReportMillis = AtomicLong(0)
+
+  override fun add(e: AirbyteMessage): Boolean {
+    val bytes = estimateBytes(e)
+    // serialize outside of the lock, in case the message has to be spilled
+    var serialized: ByteArray? = null
+    var remainingNanos = TimeUnit.SECONDS.toNanos(pollTimeoutSeconds.toLong())
+    lock.withLock {
+      while (true) {
+        if (closed) {
+          return false
+        }
+        if (memoryBytes + bytes <= maxMemoryBytes || items.isEmpty()) {
+          items.addLast(Entry(e, bytes))
+          memoryCount++
+          memoryBytes += bytes
+          notEmpty.signal()
+          break
+        }
+        if (maxSpillBytes > 0) {
+          if (serialized == null) {
+            lock.unlock()
+            try {
+              serialized = Jsons.serialize(e).toByteArray(StandardCharsets.UTF_8)
+            } finally {
+              lock.lock()
+            }
+            // the buffer may have changed meanwhile
+            continue
+          }
+          val segment = spill ?: SpillSegment(maxSpillBytes).also { spill = it }
+          if (segment.canFit(serialized!!.size)) {
+            segment.write(serialized!!)
+            when (val last = items.peekLast()) {
+              is SpilledRun -> last.count++
+              else -> items.addLast(SpilledRun(1))
+            }
+            notEmpty.signal()
+            break
+          }
+        }
+        if (remainingNanos <= 0) {
+          return false
+        }
+        remainingNanos = notFull.awaitNanos(remainingNanos)
+      }
+    }
+    maybeReportMetrics()
+    return true
+  }
+
+  override fun poll(): AirbyteMessage? {
+    var remainingNanos = TimeUnit.SECONDS.toNanos(pollTimeoutSeconds.toLong())
+    val entry: Entry?
+    val spilled: ByteArray?
+    lock.withLock {
+      while (items.isEmpty()) {
+        if (closed) {
+          releaseSpill()
+          return null
+        }
+        if (remainingNanos <= 0) {
+          return null
+        }
+        remainingNanos = notEmpty.awaitNanos(remainingNanos)
+      }
+      val first: Item = items.peekFirst()
+      when (first) {
+        is Entry -> {
+          items.pollFirst()
+          memoryCount--
+          memoryBytes -= first.bytes
+          entry = first
+          spilled = null
+        }
+        is SpilledRun -> {
+          entry = null
+          spilled = spill!!.read()
+          if (--first.count == 0) {
+            items.pollFirst()
+          }
+          if (closed && spill!!.isEmpty()) {
+            // nothing is spilled after the buffer is closed
+            releaseSpill()
+          }
+        }
+      }
+      notFull.signalAll()
+    }
+    maybeReportMetrics()
+    return entry?.message ?: Jsons.deserialize(String(spilled!!, StandardCharsets.UTF_8), AirbyteMessage::class.java)
+  }
+
+  override fun size(): Int = lock.withLock { memoryCount + (spill?.count ?: 0) }
+
+  override fun isDone(): Boolean = lock.withLock { closed && items.isEmpty() }
+
+  /**
+   * Stops accepting messages. The messages already buffered can still be polled, the spill segment is released once they are.
+   */
+  override fun close() {
+    lock.withLock {
+      closed = true
+      if (spill?.isEmpty() == true) {
+        releaseSpill()
+      }
+      notEmpty.signalAll()
+      notFull.signalAll()
+    }
+  }
+
+  /**
+   * Closes the buffer and drops the messages it still holds, releasing the spill segment right away. For when nothing will
+   * poll the buffer anymore, e.g. once the replication is aborted.
+   */
+  fun release() {
+    lock.withLock {
+      closed = true
+      items.clear()
+      memoryCount = 0
+      memoryBytes = 0
+      releaseSpill()
+      notEmpty.signalAll()
+      notFull.signalAll()
+    }
+  }
+
+  override fun isClosed(): Boolean = lock.withLock { closed }
+
+  fun getMemoryBytes(): Long = lock.withLock { memoryBytes }
+
+  fun getSpilledBytes(): Long = lock.withLock { spill?.bytes() ?: 0L }
+
+  private fun releaseSpill() {
+    spill?.close()
+    spill = null
+  }
+
+  private fun maybeReportMetrics() {
+    val now = clock.millis()
+    val nextReport = nextMetricsReportMillis.get()
+    if (now >= nextReport && nextMetricsReportMillis.compareAndSet(nextReport, now + METRICS_REPORT_INTERVAL_MILLIS)) {
+      metricClient.gauge(OssMetricsRegistry.REPLICATION_BUFFERED_BYTES, getMemoryBytes().toDouble(), bufferAttribute)
+      metricClient.gauge(OssMetricsRegistry.REPLICATION_SPILLED_BYTES, getSpilledBytes().toDouble(), bufferAttribute)
+    }
+  }
+
+  /**
+   * Ring buffer of length prefixed serialized messages in a memory-mapped temporary file. The spilled messages live in the
+   * page cache rather than on the heap. The space of a message is reused as soon as it is read, and a message may wrap around
+   * the end of the segment.
+   */
+  private class SpillSegment(maxBytes: Long) : AutoCloseable {
+    private val channel: FileChannel
+    private val buffer: MappedByteBuffer
+    private val capacity: Int
+    private val lengthBytes = ByteArray(Int.SIZE_BYTES)
+
+    // total bytes written and read since the segment was created, their difference is the space in use
+    private var readPosition = 0L
+    private var writePosition = 0L
+    var count = 0
+      private set
+
+    init {
+      val file = Files.createTempFile("replication-buffer", ".spill")
+      channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+      // a mapped buffer is indexed by int
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxBytes.coerceAtMost(Int.MAX_VALUE.toLong()))
+      capacity = buffer.capacity()
+      // the mapping outlives the file, which is then cleaned up even if the replication crashes
+      Files.delete(file)
+      logger.info { "Spilling replication buffer to local disk, up to $capacity bytes" }
+    }
+
+    fun isEmpty() = count == 0
+
+    fun bytes() = writePosition - readPosition
+
+    fun canFit(length: Int) = Int.SIZE_BYTES.toLong() + length <= capacity - bytes()
+
+    fun write(bytes: ByteArray) {
+      for (i in 0 until Int.SIZE_BYTES) {
+        lengthBytes[i] = (bytes.size ushr (8 * (Int.SIZE_BYTES - 1 - i))).toByte()
+      }
+      put(writePosition, lengthBytes)
+      put(writePosition + Int.SIZE_BYTES, bytes)
+      writePosition += Int.SIZE_BYTES + bytes.size
+      count++
+    }
+
+    fun read(): ByteArray {
+      get(readPosition, lengthBytes)
+      val length = lengthBytes.fold(0) { value, byte -> (value shl 8) or (byte.toInt() and 0xff) }
+      val bytes = ByteArray(length)
+      get(readPosition + Int.SIZE_BYTES, bytes)
+      readPosition += Int.SIZE_BYTES + length
+      count--
+      return bytes
+    }
+
+    private fun put(
+      position: Long,
+      bytes: ByteArray,
+    ) {
+      val offset = (position % capacity).toInt()
+      val head = minOf(bytes.size, capacity - offset)
+      buffer.put(offset, bytes, 0, head)
+      if (head < bytes.size) {
+        buffer.put(0, bytes, head, bytes.size - head)
+      }
+    }
+
+    private fun get(
+      position: Long,
+      bytes: ByteArray,
+    ) {
+      val offset = (position % capacity).toInt()
+      val head = minOf(bytes.size, capacity - offset)
+      buffer.get(offset, bytes, 0, head)
+      if (head < bytes.size) {
+        buffer.get(0, bytes, head, bytes.size - head)
+      }
+    }
+
+    override fun close() {
+      try {
+        // frees the pages of the deleted file right away, rather than once the mapping is garbage collected
+        channel.truncate(0)
+      } catch (e: IOException) {
+        logger.warn(e) { "Failed to truncate the replication buffer spill segment" }
+      }
+      channel.close()
+    }
+  }
+}
@@ -28,6 +28,7 @@ data class ContainerIOHandle(
   private val errInputStream: InputStream,
   private val exitValueFile: File,
   private val terminationFile: File,
+  private val additionalInputStreams: List<InputStream> = listOf(),
 ) {
   companion object {
     const val EXIT_CODE_CHECK_EXISTS_FAILURE = "No exit code found."
@@ -72,6 +73,14 @@ data class ContainerIOHandle(
         Channels.newInputStream(
           FileChannel.open(Path.of(FileConstants.SOURCE_DIR, FileConstants.STDOUT_PIPE_FILE), StandardOpenOption.READ),
         )
+      // The additional output pipes only exist if the source writes on several output channels.
+      val outputChannelPipes =
+        generateSequence(1) { it + 1 }
+          .take(FileConstants.MAX_SOURCE_OUTPUT_CHANNELS - 1)
+          .map { Path.of(FileConstants.SOURCE_DIR, FileConstants.sourceOutputChannelPipeFile(it)) }
+          .takeWhile { Files.exists(it) }
+          .map { Channels.newInputStream(FileChannel.open(it, StandardOpenOption.READ)) }
+          .toList()
       val nullPipe = NullOutputStream.INSTANCE
       val exitValueFile = Path.of(FileConstants.SOURCE_DIR, FileConstants.EXIT_CODE_FILE).toFile()
       val terminationFile = Path.of(FileConstants.SOURCE_DIR, FileConstants.TERMINATION_MARKER_FILE).toFile()
@@ -82,6 +91,7 @@ data class ContainerIOHandle(
         errInputStream = stdErrPipe,
         exitValueFile = exitValueFile,
         terminationFile = terminationFile,
+        additionalInputStreams = outputChannelPipes,
       )
     }
   }
@@ -94,6 +104,13 @@ data class ContainerIOHandle(
     return inputStream
   }
 
+  /**
+   * The input streams of the additional output channels of a source, after the one of its stdout.
+   */
+  fun getAdditionalInputStreams(): List<InputStream> {
+    return additionalInputStreams
+  }
+
   fun getOutputStream(): OutputStream {
     return outputStream
   }
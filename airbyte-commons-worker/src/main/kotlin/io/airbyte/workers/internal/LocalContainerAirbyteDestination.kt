@@ -20,9 +20,7 @@ import io.airbyte.workers.internal.LocalContainerConstants.ACCEPTED_MESSAGE_TYPE
 import io.airbyte.workers.internal.LocalContainerConstants.IGNORED_EXIT_CODES
 import io.airbyte.workers.internal.LocalContainerConstants.LOCAL_CONTAINER_RETRY_POLICY
 import io.github.oshai.kotlinlogging.KotlinLogging
-import java.io.BufferedWriter
 import java.io.IOException
-import java.io.OutputStreamWriter
 import java.nio.file.Path
 import java.util.Optional
 import java.util.concurrent.atomic.AtomicBoolean
@@ -78,7 +76,7 @@ class LocalContainerAirbyteDestination(
     LineGobbler.gobble(containerIOHandle.getErrInputStream(), { msg: String -> logger.error { msg } }, CALLER, containerLogMdcBuilder)
 
     // TODO are these the correct pipes?
-    writer = messageWriterFactory.createWriter(BufferedWriter(OutputStreamWriter(containerIOHandle.getOutputStream(), Charsets.UTF_8)))
+    writer = messageWriterFactory.createStreamWriter(containerIOHandle.getOutputStream())
 
     Failsafe.with<Any, RetryPolicy<Any>>(LOCAL_CONTAINER_RETRY_POLICY).run(
       CheckedRunnable {
@@ -131,6 +129,8 @@ class LocalContainerAirbyteDestination(
     close()
   }
 
+  override fun getPerformanceMetrics(): Map<String, Any> = if (::writer.isInitialized) writer.performanceMetrics else mapOf()
+
   @Throws(IOException::class)
   private fun acceptWithNoTimeoutMonitor(message: AirbyteMessage) {
     // TODO also check if stdout file exists? or check if some other startup file exists?
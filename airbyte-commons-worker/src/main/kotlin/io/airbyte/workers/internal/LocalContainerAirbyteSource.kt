@@ -19,7 +19,12 @@ import io.airbyte.workers.internal.LocalContainerConstants.LOCAL_CONTAINER_RETRY
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.nio.file.Path
 import java.util.Optional
+import java.util.Spliterator
+import java.util.Spliterators
 import java.util.UUID
+import java.util.function.Supplier
+import java.util.stream.Stream
+import java.util.stream.StreamSupport
 
 private val logger = KotlinLogging.logger {}
 
@@ -28,8 +33,11 @@ class LocalContainerAirbyteSource(
   private val streamFactory: AirbyteStreamFactory,
   private val messageMetricsTracker: MessageMetricsTracker,
   private val containerIOHandle: ContainerIOHandle,
+  // parsing is stateful, so each additional output channel gets a stream factory of its own
+  private val channelStreamFactory: Supplier<AirbyteStreamFactory> = Supplier { streamFactory },
 ) : AirbyteSource {
   private lateinit var messageIterator: Iterator<AirbyteMessage>
+  private var channelMerger: SourceChannelMerger? = null
 
   companion object {
     const val CALLER = "airbyte-source"
@@ -42,6 +50,7 @@ class LocalContainerAirbyteSource(
   override fun close() {
     messageMetricsTracker.flushSourceReadCountMetric()
     val terminationResult = containerIOHandle.terminate()
+    channelMerger?.close()
     if (terminationResult) {
       if (!IGNORED_EXIT_CODES.contains(exitValue)) {
         throw WorkerException("Source process exit with code $exitValue. This warning is normal if the job was cancelled.")
@@ -66,7 +75,7 @@ class LocalContainerAirbyteSource(
     Failsafe.with(LOCAL_CONTAINER_RETRY_POLICY).run(
       CheckedRunnable {
         messageIterator =
-          streamFactory.create(IOs.newBufferedReader(containerIOHandle.getInputStream()))
+          createMessageStream()
             .peek { message: AirbyteMessage ->
               if (shouldBeat(message.type)) {
                 heartbeatMonitor.beat()
@@ -78,6 +87,22 @@ class LocalContainerAirbyteSource(
     )
   }
 
+  private fun createMessageStream(): Stream<AirbyteMessage> {
+    val stdOutMessages = streamFactory.create(IOs.newBufferedReader(containerIOHandle.getInputStream()))
+    val additionalInputStreams = containerIOHandle.getAdditionalInputStreams()
+    if (additionalInputStreams.isEmpty()) {
+      return stdOutMessages
+    }
+
+    logger.info { "Reading the source output on ${additionalInputStreams.size + 1} channels" }
+    val channels =
+      listOf(stdOutMessages.iterator()) +
+        additionalInputStreams.map { channelStreamFactory.get().create(IOs.newBufferedReader(it)).iterator() }
+    val merger = SourceChannelMerger(channels)
+    channelMerger = merger
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merger, Spliterator.ORDERED), false)
+  }
+
   override fun isFinished(): Boolean {
     /*
      * As this check is done on every message read, it is important for this operation to be efficient.
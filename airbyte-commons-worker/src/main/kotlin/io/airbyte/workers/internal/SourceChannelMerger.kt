@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal
+
+import io.airbyte.protocol.models.AirbyteMessage
+import io.airbyte.protocol.models.AirbyteStateMessage
+import io.airbyte.protocol.models.AirbyteTraceMessage
+import io.github.oshai.kotlinlogging.KotlinLogging
+import java.util.concurrent.BlockingQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.Phaser
+import java.util.concurrent.atomic.AtomicReference
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Merges the messages a source writes on several output channels into a single iterator. Each channel
+ * is read and parsed on its own thread.
+ *
+ * The source writes all the messages of a stream on a single channel, so their order is preserved.
+ * Stream states go along with the records of their stream. Global and legacy states cover all the
+ * streams though, so the source writes a copy of each of them on every channel: the copies act as a
+ * barrier, and the state is only emitted once, after all the messages the channels sent before it.
+ *
+ * Only the sources that announce it write on several channels: the wrapper opens the additional channels for every source, and
+ * a source that only writes on stdout must not hold the global states. A source announces its channels with a handshake, an
+ * analytics trace message of type [OUTPUT_CHANNELS_HANDSHAKE] written on stdout before its first global state, whose value is
+ * the number of channels it writes on. Until then, stdout is the only channel taking part in the barrier, as with a single pipe.
+ * A channel leaves the barrier once it is closed.
+ */
+class SourceChannelMerger(
+  channels: List<Iterator<AirbyteMessage>>,
+  queueCapacity: Int = QUEUE_CAPACITY_PER_CHANNEL * channels.size,
+) : Iterator<AirbyteMessage>, AutoCloseable {
+  companion object {
+    const val QUEUE_CAPACITY_PER_CHANNEL = 1_000
+    const val OUTPUT_CHANNELS_HANDSHAKE = "source_output_channels"
+    private const val STDOUT_CHANNEL = 0
+
+    fun isGlobalState(message: AirbyteMessage): Boolean =
+      message.type == AirbyteMessage.Type.STATE && message.state?.type != AirbyteStateMessage.AirbyteStateType.STREAM
+
+    /**
+     * @return the number of channels announced by the message if it is the output channels handshake, null otherwise
+     */
+    fun announcedChannels(message: AirbyteMessage): Int? =
+      message.trace
+        ?.takeIf { message.type == AirbyteMessage.Type.TRACE && it.type == AirbyteTraceMessage.Type.ANALYTICS }
+        ?.analytics
+        ?.takeIf { it.type == OUTPUT_CHANNELS_HANDSHAKE }
+        ?.value
+        ?.toIntOrNull()
+  }
+
+  private sealed interface Item {
+    data class Message(val message: AirbyteMessage) : Item
+
+    data class Failure(val cause: Throwable) : Item
+
+    data object ChannelEnd : Item
+  }
+
+  private val queue: BlockingQueue<Item> = LinkedBlockingQueue(queueCapacity)
+  private val pendingGlobalState = AtomicReference<AirbyteMessage>()
+
+  // stdout registers up front, the channels announced by the handshake register with it, and they deregister once they are done
+  private val globalStateBarrier =
+    object : Phaser(1) {
+      override fun onAdvance(
+        phase: Int,
+        registeredParties: Int,
+      ): Boolean {
+        // runs on the last channel to reach the global state, once the others wait at it
+        try {
+          pendingGlobalState.getAndSet(null)?.let { queue.put(Item.Message(it)) }
+        } catch (e: InterruptedException) {
+          // closed while waiting for room in the queue, the reader stops on its next interruptible call
+          Thread.currentThread().interrupt()
+        }
+        return registeredParties == 0
+      }
+    }
+
+  private val channelCount = channels.size
+
+  // the number of channels taking part in the barrier, set once the handshake is read or stdout is closed
+  @Volatile
+  private var barrierChannels = 1
+  private val barrierChannelsSet = CountDownLatch(1)
+
+  private var openChannels = channels.size
+  private var next: AirbyteMessage? = null
+
+  private val readers =
+    channels.mapIndexed { index, channel ->
+      Thread({ read(index, channel) }, "source-channel-$index").apply {
+        isDaemon = true
+        start()
+      }
+    }
+
+  private fun read(
+    index: Int,
+    channel: Iterator<AirbyteMessage>,
+  ) {
+    var end: Item = Item.ChannelEnd
+    var closed = false
+    try {
+      for (message in channel) {
+        if (index == STDOUT_CHANNEL && barrierChannelsSet.count > 0L) {
+          val announced = announcedChannels(message)
+          if (announced != null) {
+            setBarrierChannels(announced.coerceIn(1, channelCount))
+            continue
+          }
+        }
+        if (isGlobalState(message) && takesPartInBarrier(index)) {
+          pendingGlobalState.set(message)
+          // unlike arriveAndAwaitAdvance, stops waiting when the merger is closed
+          globalStateBarrier.awaitAdvanceInterruptibly(globalStateBarrier.arrive())
+          if (Thread.interrupted()) {
+            // closed while emitting the global state
+            throw InterruptedException()
+          }
+        } else {
+          queue.put(Item.Message(message))
+        }
+      }
+    } catch (e: InterruptedException) {
+      // closed while reading, nobody reads the queue anymore
+      closed = true
+      return
+    } catch (e: Exception) {
+      logger.error(e) { "Failed to read the source output channel ${Thread.currentThread().name}." }
+      end = Item.Failure(e)
+    } finally {
+      if (index == STDOUT_CHANNEL) {
+        // without a handshake, the source only wrote on stdout
+        setBarrierChannels(barrierChannels)
+      }
+      // once closed, the barrier is not used anymore, and the channel may have already arrived at it
+      if (!closed) {
+        leaveBarrier(index)
+      }
+    }
+    try {
+      queue.put(end)
+    } catch (e: InterruptedException) {
+      Thread.currentThread().interrupt()
+    }
+  }
+
+  /**
+   * Blocks until the next message is read, or until all the channels are closed.
+   */
+  override fun hasNext(): Boolean {
+    while (next == null && openChannels > 0) {
+      when (val item = queue.take()) {
+        is Item.Message -> next = item.message
+        is Item.Failure -> throw IllegalStateException("Failed to read the source output channels.", item.cause)
+        Item.ChannelEnd -> openChannels--
+      }
+    }
+    return next != null
+  }
+
+  override fun next(): AirbyteMessage {
+    if (!hasNext()) {
+      throw NoSuchElementException()
+    }
+    return next!!.also { next = null }
+  }
+
+  override fun close() {
+    readers.forEach { it.interrupt() }
+  }
+
+  private fun leaveBarrier(index: Int) {
+    try {
+      if (takesPartInBarrier(index)) {
+        globalStateBarrier.arriveAndDeregister()
+      }
+    } catch (e: InterruptedException) {
+      Thread.currentThread().interrupt()
+    }
+  }
+
+  private fun setBarrierChannels(count: Int) {
+    if (barrierChannelsSet.count == 0L) {
+      return
+    }
+    if (count > 1) {
+      logger.info { "The source writes on $count output channels" }
+      // the handshake comes before the first global state, so the channels register in the first phase, as stdout did
+      globalStateBarrier.bulkRegister(count - 1)
+    }
+    barrierChannels = count
+    barrierChannelsSet.countDown()
+  }
+
+  /**
+   * Whether the channel takes part in the barrier of the global states. The additional channels wait for the handshake, or for
+   * stdout to be closed, to know.
+   */
+  private fun takesPartInBarrier(index: Int): Boolean {
+    if (index == STDOUT_CHANNEL) {
+      return true
+    }
+    barrierChannelsSet.await()
+    return index < barrierChannels
+  }
+}
@@ -15,6 +15,12 @@ object FileConstants {
   const val STDOUT_PIPE_FILE = "stdout"
   const val STDERR_PIPE_FILE = "stderr"
 
+  // additional output pipes of a source, named stdout-1 to stdout-N after its stdout; capped as the
+  // connector wrapper script can only open them on the single digit file descriptors 3 to 9
+  const val MAX_SOURCE_OUTPUT_CHANNELS = 8
+
+  fun sourceOutputChannelPipeFile(channel: Int) = "$STDOUT_PIPE_FILE-$channel"
+
   // output files
   const val EXIT_CODE_FILE = "exitCode.txt"
   const val JOB_OUTPUT_FILE = "jobOutput.json"
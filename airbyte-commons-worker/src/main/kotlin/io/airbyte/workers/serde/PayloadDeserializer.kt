@@ -7,21 +7,27 @@ import io.airbyte.workers.models.ReplicationActivityInput
 import io.airbyte.workers.models.SpecInput
 import jakarta.inject.Singleton
 
+/**
+ * Deserializes the input payloads of workloads. Payloads that were offloaded to the doc store by [WorkloadInputStore] are fetched when
+ * deserialized.
+ */
 @Singleton
-class PayloadDeserializer {
+class PayloadDeserializer(
+  private val workloadInputStore: WorkloadInputStore,
+) {
   fun toReplicationActivityInput(payload: String): ReplicationActivityInput {
-    return Jsons.deserialize(payload, ReplicationActivityInput::class.java)
+    return Jsons.deserialize(workloadInputStore.resolve(payload), ReplicationActivityInput::class.java)
   }
 
   fun toCheckConnectionInput(payload: String): CheckConnectionInput {
-    return Jsons.deserialize(payload, CheckConnectionInput::class.java)
+    return Jsons.deserialize(workloadInputStore.resolve(payload), CheckConnectionInput::class.java)
   }
 
   fun toDiscoverCatalogInput(payload: String): DiscoverCatalogInput {
-    return Jsons.deserialize(payload, DiscoverCatalogInput::class.java)
+    return Jsons.deserialize(workloadInputStore.resolve(payload), DiscoverCatalogInput::class.java)
   }
 
   fun toSpecInput(payload: String): SpecInput {
-    return Jsons.deserialize(payload, SpecInput::class.java)
+    return Jsons.deserialize(workloadInputStore.resolve(payload), SpecInput::class.java)
   }
 }
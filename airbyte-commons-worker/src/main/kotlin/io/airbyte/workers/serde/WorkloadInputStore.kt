@@ -0,0 +1,85 @@
+package io.airbyte.workers.serde
+
+import io.airbyte.commons.storage.DocumentType
+import io.airbyte.commons.storage.StorageClient
+import io.airbyte.commons.storage.StorageClientFactory
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Provider
+import jakarta.inject.Singleton
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.security.MessageDigest
+import java.util.Base64
+import java.util.HexFormat
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+/**
+ * Keeps large workload inputs out of the workload table.
+ *
+ * Inputs over [thresholdBytes] are compressed and written to the doc store under the hash of their content, and only a reference to the
+ * document is kept as the input payload of the workload. Identical inputs share the same document.
+ *
+ * References are always resolved, whether or not [offloadEnabled] is set, so that consumers can read workloads created by producers that
+ * have the offloading turned on.
+ */
+@Singleton
+class WorkloadInputStore(
+  private val storageClientFactory: Provider<StorageClientFactory>,
+  private val metricClient: MetricClient,
+  @Value("\${airbyte.workload.input.offload.enabled:false}") private val offloadEnabled: Boolean,
+  @Value("\${airbyte.workload.input.offload.threshold-bytes:262144}") private val thresholdBytes: Int,
+) {
+  // Only created once a large input is written or a reference is read, so that applications that never see one do not need a doc store.
+  private val storageClient: StorageClient by lazy { storageClientFactory.get().get(DocumentType.WORKLOAD_INPUT) }
+
+  /**
+   * Returns the payload to store on the workload for the serialized [input]: the input itself, or a reference to it if it was written
+   * to the doc store.
+   */
+  fun store(input: String): String {
+    val bytes = input.toByteArray(Charsets.UTF_8)
+    if (!offloadEnabled || bytes.size <= thresholdBytes) {
+      return input
+    }
+
+    val id = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes))
+    val document = Base64.getEncoder().encodeToString(compress(bytes))
+    storageClient.write(id, document)
+
+    metricClient.count(OssMetricsRegistry.WORKLOAD_INPUT_WRITTEN_TO_DOC_STORE, 1)
+    metricClient.distribution(OssMetricsRegistry.WORKLOAD_INPUT_STORED_BYTES, document.length.toDouble())
+    return "$REFERENCE_PREFIX$id"
+  }
+
+  /**
+   * Returns the serialized input for the input [payload] of a workload, reading it from the doc store if the payload is a reference.
+   */
+  fun resolve(payload: String): String {
+    if (!payload.startsWith(REFERENCE_PREFIX)) {
+      return payload
+    }
+
+    val id = payload.removePrefix(REFERENCE_PREFIX)
+    val document = storageClient.read(id) ?: throw IllegalStateException("Workload input $id was not found in the doc store")
+    metricClient.count(OssMetricsRegistry.WORKLOAD_INPUT_READ_FROM_DOC_STORE, 1)
+    return decompress(Base64.getDecoder().decode(document)).toString(Charsets.UTF_8)
+  }
+
+  private fun compress(bytes: ByteArray): ByteArray {
+    val out = ByteArrayOutputStream(bytes.size / 4)
+    GZIPOutputStream(out).use { it.write(bytes) }
+    return out.toByteArray()
+  }
+
+  private fun decompress(bytes: ByteArray): ByteArray = GZIPInputStream(ByteArrayInputStream(bytes)).use { it.readBytes() }
+
+  companion object {
+    /**
+     * Serialized inputs are JSON objects, so a payload starting with this prefix can only be a reference.
+     */
+    const val REFERENCE_PREFIX = "airbyte-workload-input:v1:gzip:"
+  }
+}
@@ -7,17 +7,20 @@ import io.airbyte.workers.workload.JobOutputDocStore
 import io.airbyte.workers.workload.WorkloadConstants.WORKLOAD_CANCELLED_BY_USER_REASON
 import io.airbyte.workload.api.client.WorkloadApiClient
 import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadAwaitRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadCancelRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
+import io.airbyte.workload.api.client.model.generated.WorkloadStatusListRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadStatusSummary
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.http.HttpStatus
 import io.temporal.activity.ActivityExecutionContext
 import jakarta.inject.Singleton
 import org.openapitools.client.infrastructure.ClientException
 import java.io.IOException
+import java.time.Duration
 import java.util.concurrent.atomic.AtomicReference
-import kotlin.time.Duration.Companion.seconds
 
 private val logger = KotlinLogging.logger { }
 
@@ -30,8 +33,15 @@ class WorkloadClient(private val workloadApiClient: WorkloadApiClient, private v
   companion object {
     const val CANCELLATION_SOURCE_STR = "Cancellation callback."
     val TERMINAL_STATUSES = setOf(WorkloadStatus.SUCCESS, WorkloadStatus.FAILURE, WorkloadStatus.CANCELLED)
+    const val AWAIT_TIMEOUT_SECONDS = 60L
+
+    // Returned by workload-api versions that predate the long-poll endpoint.
+    private val AWAIT_UNSUPPORTED_STATUS_CODES = setOf(HttpStatus.NOT_FOUND.code, HttpStatus.METHOD_NOT_ALLOWED.code)
   }
 
+  @Volatile
+  private var awaitSupported = true
+
   fun createWorkload(workloadCreateRequest: WorkloadCreateRequest) {
     try {
       workloadApiClient.workloadApi.workloadCreate(workloadCreateRequest)
@@ -52,17 +62,32 @@ class WorkloadClient(private val workloadApiClient: WorkloadApiClient, private v
     }
   }
 
-  fun isTerminal(workloadId: String) = isWorkloadTerminal(workloadApiClient.workloadApi.workloadGet(workloadId))
+  fun isTerminal(workloadId: String): Boolean {
+    val summary =
+      getWorkloadStatuses(listOf(workloadId))[workloadId]
+        ?: throw IllegalStateException("Workload $workloadId was not found")
+    return summary.status in TERMINAL_STATUSES
+  }
+
+  /**
+   * Returns the status of the given workloads in a single call. Unknown workloads are omitted from the result.
+   */
+  fun getWorkloadStatuses(workloadIds: List<String>): Map<String, WorkloadStatusSummary> {
+    if (workloadIds.isEmpty()) {
+      return mapOf()
+    }
+    return workloadApiClient.workloadApi.workloadStatusList(WorkloadStatusListRequest(workloadIds)).workloads.associateBy { it.id }
+  }
 
   fun waitForWorkload(
     workloadId: String,
     pollingFrequencyInSeconds: Int,
   ) {
     try {
-      var workload = workloadApiClient.workloadApi.workloadGet(workloadId)
+      val pollingInterval = Duration.ofSeconds(pollingFrequencyInSeconds.toLong())
+      var workload = awaitWorkload(workloadId, pollingInterval)
       while (!isWorkloadTerminal(workload)) {
-        Thread.sleep(pollingFrequencyInSeconds.seconds.inWholeMilliseconds)
-        workload = workloadApiClient.workloadApi.workloadGet(workloadId)
+        workload = awaitWorkload(workloadId, pollingInterval)
       }
     } catch (e: IOException) {
       throw RuntimeException(e)
@@ -71,6 +96,37 @@ class WorkloadClient(private val workloadApiClient: WorkloadApiClient, private v
     }
   }
 
+  /**
+   * Waits for the workload to reach a terminal status and returns it. The wait is bounded: the returned workload may still be active, in
+   * which case callers are expected to call this method again.
+   *
+   * The workload-api holds the request until the workload is terminal, so completion is observed as soon as it happens. If the workload-api
+   * doesn't support it, or is already holding as many requests as it accepts, this falls back to sleeping for [fallbackPollingInterval] before
+   * reading the workload.
+   */
+  fun awaitWorkload(
+    workloadId: String,
+    fallbackPollingInterval: Duration,
+  ): Workload {
+    if (awaitSupported) {
+      try {
+        return workloadApiClient.workloadApi.workloadAwaitTerminal(WorkloadAwaitRequest(workloadId, AWAIT_TIMEOUT_SECONDS))
+      } catch (e: ClientException) {
+        if (e.statusCode == HttpStatus.TOO_MANY_REQUESTS.code) {
+          // Too many requests are already waiting on the workload-api, this one polls.
+          logger.info { "The workload-api is not accepting more waits, polling workload $workloadId instead." }
+        } else if (e.statusCode !in AWAIT_UNSUPPORTED_STATUS_CODES || !workloadExists(workloadId)) {
+          throw e
+        } else {
+          logger.warn { "The workload-api doesn't support waiting for workloads, falling back to polling." }
+          awaitSupported = false
+        }
+      }
+    }
+    Thread.sleep(fallbackPollingInterval.toMillis())
+    return workloadApiClient.workloadApi.workloadGet(workloadId)
+  }
+
   fun getConnectorJobOutput(
     workloadId: String,
     onFailure: (FailureReason) -> ConnectorJobOutput,
@@ -175,4 +231,16 @@ class WorkloadClient(private val workloadApiClient: WorkloadApiClient, private v
   }
 
   private fun isWorkloadTerminal(workload: Workload): Boolean = workload.status in TERMINAL_STATUSES
+
+  /**
+   * Distinguishes a missing workload from a missing endpoint, both are reported as a 404.
+   */
+  private fun workloadExists(workloadId: String): Boolean {
+    return try {
+      workloadApiClient.workloadApi.workloadGet(workloadId)
+      true
+    } catch (e: ClientException) {
+      if (e.statusCode == HttpStatus.NOT_FOUND.code) false else throw e
+    }
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.internal.AirbyteDestination;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In process destination discarding records and acknowledging states, for benchmarking the
+ * replication without the cost of a connector.
+ * <p>
+ * States are sent back in the order they were accepted, as a destination committing every state
+ * would, so that the replication goes through the same bookkeeping as in a sync. Reading waits for
+ * the next state rather than spinning, as reading from a destination blocks on its output.
+ */
+public class AckingAirbyteDestination implements AirbyteDestination {
+
+  private static final long READ_TIMEOUT_MILLIS = 10;
+
+  private final BlockingQueue<AirbyteMessage> states = new LinkedBlockingQueue<>();
+  private volatile boolean isEndOfInput;
+
+  @Override
+  public void start(final WorkerDestinationConfig destinationConfig, final Path jobRoot) {
+    states.clear();
+    isEndOfInput = false;
+  }
+
+  @Override
+  public void accept(final AirbyteMessage message) throws InterruptedException {
+    if (message.getType() == AirbyteMessage.Type.STATE) {
+      states.put(message);
+    }
+  }
+
+  @Override
+  public void notifyEndOfInput() {
+    isEndOfInput = true;
+  }
+
+  @Override
+  public boolean isFinished() {
+    return isEndOfInput && states.isEmpty();
+  }
+
+  @Override
+  public int getExitValue() {
+    return 0;
+  }
+
+  @Override
+  public Optional<AirbyteMessage> attemptRead() {
+    try {
+      return Optional.ofNullable(states.poll(READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public void cancel() {}
+
+}
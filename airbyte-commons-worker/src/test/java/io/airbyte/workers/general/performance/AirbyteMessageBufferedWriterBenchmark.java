@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
+import io.airbyte.commons.protocol.serde.AirbyteMessageV1Serializer;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.AirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.BatchedAirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.VersionedAirbyteMessageBufferedWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the throughput of the destination writers, writing small records to a stream that
+ * discards them, so that only the serialization and the buffering are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class AirbyteMessageBufferedWriterBenchmark {
+
+  private static final int MESSAGES = 10_000;
+
+  @Param({"versioned", "batched"})
+  public String writerType;
+
+  private AirbyteMessage record;
+  private AirbyteMessageBufferedWriter writer;
+
+  public static void main(final String[] args) throws Exception {
+    // Run this main class to start benchmarking.
+    org.openjdk.jmh.Main.main(new String[] {AirbyteMessageBufferedWriterBenchmark.class.getSimpleName()});
+  }
+
+  @Setup
+  public void setup(final Blackhole blackhole) throws IOException {
+    record = new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("users")
+            .withEmittedAt(1L)
+            .withData(Jsons.jsonNode(Map.of("id", 1, "name", "airbyte", "email", "integration-test@airbyte.io"))));
+
+    // the destination is on the most recent protocol version, messages are not migrated
+    final AirbyteMessageVersionedMigrator<AirbyteMessage> migrator = new AirbyteMessageVersionedMigrator<>(null, null) {
+
+      @Override
+      public AirbyteMessage downgrade(final AirbyteMessage message, final Optional<ConfiguredAirbyteCatalog> configuredAirbyteCatalog) {
+        return message;
+      }
+
+    };
+    final OutputStream outputStream = new BlackholeOutputStream(blackhole);
+    writer = switch (writerType) {
+      case "versioned" -> new VersionedAirbyteMessageBufferedWriter<>(
+          new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)),
+          new AirbyteMessageV1Serializer(),
+          migrator,
+          Optional.empty());
+      case "batched" -> new BatchedAirbyteMessageBufferedWriter<>(
+          outputStream,
+          migrator,
+          Optional.empty(),
+          MoreMappers.initMapper(),
+          BatchedAirbyteMessageBufferedWriter.DEFAULT_FLUSH_BYTES,
+          BatchedAirbyteMessageBufferedWriter.DEFAULT_FLUSH_INTERVAL,
+          Clock.systemUTC());
+      default -> throw new IllegalArgumentException("Unknown writer " + writerType);
+    };
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public void writeRecords() throws IOException {
+    for (int i = 0; i < MESSAGES; i++) {
+      writer.write(record);
+    }
+    writer.flush();
+  }
+
+  private static final class BlackholeOutputStream extends OutputStream {
+
+    private final Blackhole blackhole;
+
+    BlackholeOutputStream(final Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(final int b) {
+      blackhole.consume(b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      blackhole.consume(b);
+      blackhole.consume(len);
+    }
+
+  }
+
+}
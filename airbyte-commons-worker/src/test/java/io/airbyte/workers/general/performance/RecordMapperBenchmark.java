@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.config.ConfiguredMapper;
+import io.airbyte.config.adapters.AirbyteJsonRecordAdapter;
+import io.airbyte.mappers.application.RecordMapper;
+import io.airbyte.mappers.helpers.MapperHelperKt;
+import io.airbyte.mappers.transformations.HashingMapper;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of the mappers of a stream for each record, with 1, 10 and 100 hashing mappers each hashing
+ * a different field of the record.
+ * <p>
+ * Run with the GC profiler, {@code gc.alloc.rate.norm} being the bytes allocated per record. The
+ * record is put back in its original state after being mapped, the {@code replaceFields} benchmark
+ * measures what replacing the fields costs without hashing, so that it can be subtracted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class RecordMapperBenchmark {
+
+  private static final int FIELDS = 100;
+  private static final String[] FIELD_NAMES = new String[FIELDS];
+  private static final String[] HASHED_FIELD_NAMES = new String[FIELDS];
+
+  static {
+    for (int i = 0; i < FIELDS; i++) {
+      FIELD_NAMES[i] = "field_" + i;
+      HASHED_FIELD_NAMES[i] = FIELD_NAMES[i] + "_hashed";
+    }
+  }
+
+  @Param({"1", "10", "100"})
+  public int mappers;
+
+  private RecordMapper recordMapper;
+  private List<ConfiguredMapper> configuredMappers;
+  private AirbyteMessage message;
+  private ObjectNode data;
+  private JsonNode[] values;
+
+  public static void main(final String[] args) throws RunnerException {
+    // Run this main class to start benchmarking.
+    new Runner(new OptionsBuilder()
+        .include(RecordMapperBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+
+  @Setup
+  public void setup() {
+    recordMapper = new RecordMapper(List.of(new HashingMapper()));
+
+    configuredMappers = new ArrayList<>();
+    for (int i = 0; i < mappers; i++) {
+      configuredMappers.add(MapperHelperKt.createHashingMapper(FIELD_NAMES[i]));
+    }
+
+    data = JsonNodeFactory.instance.objectNode();
+    values = new JsonNode[FIELDS];
+    for (int i = 0; i < FIELDS; i++) {
+      values[i] = JsonNodeFactory.instance.textNode("value of the field " + i + " for the record éèà");
+      data.set(FIELD_NAMES[i], values[i]);
+    }
+    message = new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withStream("users").withData(data));
+  }
+
+  @Benchmark
+  public AirbyteMessage mapRecord() {
+    recordMapper.applyMappers(new AirbyteJsonRecordAdapter(message), configuredMappers);
+    restoreRecord();
+    return message;
+  }
+
+  /**
+   * Replaces the mapped fields with their hashed fields and restores them, as {@link #mapRecord()}
+   * does, without hashing.
+   */
+  @Benchmark
+  public AirbyteMessage replaceFields() {
+    for (int i = 0; i < mappers; i++) {
+      data.set(HASHED_FIELD_NAMES[i], values[i]);
+      data.remove(FIELD_NAMES[i]);
+    }
+    restoreRecord();
+    return message;
+  }
+
+  private void restoreRecord() {
+    for (int i = 0; i < mappers; i++) {
+      data.set(FIELD_NAMES[i], values[i]);
+      data.remove(HASHED_FIELD_NAMES[i]);
+    }
+  }
+
+}
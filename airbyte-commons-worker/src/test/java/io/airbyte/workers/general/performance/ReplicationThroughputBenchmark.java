@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.api.client.AirbyteApiClient;
+import io.airbyte.api.client.generated.ActorDefinitionVersionApi;
+import io.airbyte.api.client.generated.DestinationApi;
+import io.airbyte.api.client.generated.SourceApi;
+import io.airbyte.api.client.model.generated.DestinationRead;
+import io.airbyte.api.client.model.generated.ResolveActorDefinitionVersionResponse;
+import io.airbyte.api.client.model.generated.SourceRead;
+import io.airbyte.commons.converters.ThreadedTimeTracker;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.timer.Stopwatch;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.config.ReplicationAttemptSummary;
+import io.airbyte.config.StandardSyncSummary.ReplicationStatus;
+import io.airbyte.config.helpers.CatalogHelpers;
+import io.airbyte.config.helpers.FieldGenerator;
+import io.airbyte.featureflag.TestClient;
+import io.airbyte.mappers.application.RecordMapper;
+import io.airbyte.mappers.helpers.MapperHelperKt;
+import io.airbyte.mappers.transformations.DestinationCatalogGenerator;
+import io.airbyte.mappers.transformations.HashingMapper;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
+import io.airbyte.persistence.job.models.ReplicationInput;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerMetricReporter;
+import io.airbyte.workers.context.ReplicationFeatureFlags;
+import io.airbyte.workers.general.BufferConfiguration;
+import io.airbyte.workers.general.BufferedReplicationWorker;
+import io.airbyte.workers.general.ReplicationFeatureFlagReader;
+import io.airbyte.workers.general.ReplicationWorkerHelper;
+import io.airbyte.workers.general.StateCheckSumCountEventHandler;
+import io.airbyte.workers.helper.StreamStatusCompletionTracker;
+import io.airbyte.workers.internal.AnalyticsMessageTracker;
+import io.airbyte.workers.internal.DestinationTimeoutMonitor;
+import io.airbyte.workers.internal.FieldSelector;
+import io.airbyte.workers.internal.HeartbeatMonitor;
+import io.airbyte.workers.internal.HeartbeatTimeoutChaperone;
+import io.airbyte.workers.internal.NamespacingMapper;
+import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker;
+import io.airbyte.workers.internal.bookkeeping.ParallelStreamStatsTracker;
+import io.airbyte.workers.internal.bookkeeping.events.ReplicationAirbyteMessageEventPublishingHelper;
+import io.airbyte.workers.internal.bookkeeping.streamstatus.StreamStatusTracker;
+import io.airbyte.workers.internal.bookkeeping.streamstatus.StreamStatusTrackerFactory;
+import io.airbyte.workers.internal.syncpersistence.SyncPersistence;
+import io.airbyte.workload.api.client.WorkloadApiClient;
+import io.airbyte.workload.api.client.generated.WorkloadApi;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * End to end throughput of the {@link BufferedReplicationWorker}, between a
+ * {@link SyntheticAirbyteSource} and an {@link AckingAirbyteDestination}.
+ * <p>
+ * Everything between the source and the destination is the code of a sync: the buffers, the
+ * {@link ReplicationWorkerHelper}, the schema validation, the namespace and hashing mappers and the
+ * stats tracking. Only the calls to the Airbyte and workload APIs are stubbed.
+ * <p>
+ * The score is the number of syncs per second. The {@link SyncCounters} report the records and
+ * bytes replicated per second, and how many milliseconds per second each stage of the worker was
+ * busy, 1000 meaning that the stage was busy the whole time. The allocation rate is reported by the
+ * GC profiler, {@code gc.alloc.rate.norm} being the bytes allocated per sync.
+ * <p>
+ * Run the main method, with the path of a result file to compare against a baseline, or the
+ * {@code replicationThroughputBenchmark} Gradle task which writes to
+ * {@code build/jmh/replication-throughput.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 3, time = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReplicationThroughputBenchmark {
+
+  private static final CatalogHelpers catalogHelpers = new CatalogHelpers(new FieldGenerator());
+  private static final String JOB_ID = "1";
+  private static final int ATTEMPT = 0;
+
+  @Param({"1", "10"})
+  public int streams;
+
+  @Param({"100", "10000"})
+  public int recordBytes;
+
+  @Param({"1000"})
+  public int stateEvery;
+
+  @Param({"false", "true"})
+  public boolean hashData;
+
+  @Param({"100000"})
+  public long records;
+
+  private ReplicationInput replicationInput;
+  private Map<AirbyteStreamNameNamespacePair, JsonNode> streamSchemas;
+  private Path jobRoot;
+
+  private SyncPersistence syncPersistence;
+  private ReplicationFeatureFlagReader replicationFeatureFlagReader;
+  private StateCheckSumCountEventHandler stateCheckSumCountEventHandler;
+  private ReplicationAirbyteMessageEventPublishingHelper messageEventPublishingHelper;
+  private WorkloadApiClient workloadApiClient;
+  private AnalyticsMessageTracker analyticsMessageTracker;
+  private AirbyteApiClient airbyteApiClient;
+  private StreamStatusCompletionTracker streamStatusCompletionTracker;
+  private StreamStatusTrackerFactory streamStatusTrackerFactory;
+
+  /**
+   * Counters of a benchmark iteration, reported by JMH as rates.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class SyncCounters {
+
+    public long records;
+    public long bytes;
+    public long readFromSourceMillis;
+    public long processFromSourceMillis;
+    public long writeToDestMillis;
+    public long readFromDestMillis;
+    public long processFromDestMillis;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      records = 0;
+      bytes = 0;
+      readFromSourceMillis = 0;
+      processFromSourceMillis = 0;
+      writeToDestMillis = 0;
+      readFromDestMillis = 0;
+      processFromDestMillis = 0;
+    }
+
+    void add(final ReplicationAttemptSummary summary) {
+      records += summary.getTotalStats().getRecordsEmitted();
+      bytes += summary.getTotalStats().getBytesEmitted();
+      final Map<String, Object> stopwatches = summary.getPerformanceMetrics().getAdditionalProperties();
+      readFromSourceMillis += elapsedMillis(stopwatches.get("readFromSource"));
+      processFromSourceMillis += elapsedMillis(stopwatches.get("processFromSource"));
+      writeToDestMillis += elapsedMillis(stopwatches.get("writeToDest"));
+      readFromDestMillis += elapsedMillis(stopwatches.get("readFromDest"));
+      processFromDestMillis += elapsedMillis(stopwatches.get("processFromDest"));
+    }
+
+    private static long elapsedMillis(final Object stopwatch) {
+      return TimeUnit.NANOSECONDS.toMillis(((Stopwatch) stopwatch).getElapsedTimeInNanos());
+    }
+
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    // Run this main class to start benchmarking, with the path of a result file as argument to write
+    // the results as JSON.
+    final ChainedOptionsBuilder options = new OptionsBuilder()
+        .include(ReplicationThroughputBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class);
+    if (args.length > 0) {
+      options.resultFormat(ResultFormatType.JSON).result(args[0]);
+    }
+    new Runner(options.build()).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    jobRoot = Files.createTempDirectory("replication-benchmark");
+
+    final List<ConfiguredAirbyteStream> configuredStreams = new ArrayList<>();
+    streamSchemas = new HashMap<>();
+    for (int i = 0; i < streams; i++) {
+      final ConfiguredAirbyteStream stream = catalogHelpers.createConfiguredAirbyteStream(SyntheticAirbyteSource.streamName(i), null,
+          Field.of(SyntheticAirbyteSource.ID_FIELD, JsonSchemaType.NUMBER),
+          Field.of(SyntheticAirbyteSource.DATA_FIELD, JsonSchemaType.STRING));
+      if (hashData) {
+        stream.setMappers(List.of(MapperHelperKt.createHashingMapper(SyntheticAirbyteSource.DATA_FIELD)));
+      }
+      configuredStreams.add(stream);
+      streamSchemas.put(new AirbyteStreamNameNamespacePair(SyntheticAirbyteSource.streamName(i), null), stream.getStream().getJsonSchema());
+    }
+
+    replicationInput = new ReplicationInput()
+        .withNamespaceDefinition(NamespaceDefinitionType.SOURCE)
+        .withConnectionId(UUID.randomUUID())
+        .withWorkspaceId(UUID.randomUUID())
+        .withSourceId(UUID.randomUUID())
+        .withDestinationId(UUID.randomUUID())
+        .withSourceLauncherConfig(new IntegrationLauncherConfig().withDockerImage("airbyte/source-synthetic:dev"))
+        .withDestinationLauncherConfig(new IntegrationLauncherConfig().withDockerImage("airbyte/destination-acking:dev"))
+        .withSourceConfiguration(Jsons.emptyObject())
+        .withDestinationConfiguration(Jsons.emptyObject())
+        .withCatalog(new ConfiguredAirbyteCatalog().withStreams(configuredStreams))
+        .withIsReset(false);
+
+    // the platform APIs are stubbed without recording the calls, as some are made for every message
+    syncPersistence = mock(SyncPersistence.class, withSettings().stubOnly());
+    stateCheckSumCountEventHandler = mock(StateCheckSumCountEventHandler.class, withSettings().stubOnly());
+    messageEventPublishingHelper = mock(ReplicationAirbyteMessageEventPublishingHelper.class, withSettings().stubOnly());
+    analyticsMessageTracker = mock(AnalyticsMessageTracker.class, withSettings().stubOnly());
+    streamStatusCompletionTracker = mock(StreamStatusCompletionTracker.class, withSettings().stubOnly());
+
+    replicationFeatureFlagReader = mock(ReplicationFeatureFlagReader.class, withSettings().stubOnly());
+    when(replicationFeatureFlagReader.readReplicationFeatureFlags()).thenReturn(new ReplicationFeatureFlags(false, 60, 4, false, false, false, false));
+
+    final StreamStatusTracker streamStatusTracker = mock(StreamStatusTracker.class, withSettings().stubOnly());
+    streamStatusTrackerFactory = mock(StreamStatusTrackerFactory.class, withSettings().stubOnly());
+    when(streamStatusTrackerFactory.create(any())).thenReturn(streamStatusTracker);
+
+    workloadApiClient = mock(WorkloadApiClient.class, withSettings().stubOnly());
+    when(workloadApiClient.getWorkloadApi()).thenReturn(mock(WorkloadApi.class, withSettings().stubOnly()));
+
+    final SourceApi sourceApi = mock(SourceApi.class, withSettings().stubOnly());
+    when(sourceApi.getSource(any())).thenReturn(new SourceRead(UUID.randomUUID(), replicationInput.getSourceId(),
+        replicationInput.getWorkspaceId(), Jsons.emptyObject(), "name", "source-synthetic", null, null, null, null, null));
+    final DestinationApi destinationApi = mock(DestinationApi.class, withSettings().stubOnly());
+    when(destinationApi.getDestination(any())).thenReturn(new DestinationRead(UUID.randomUUID(), replicationInput.getDestinationId(),
+        replicationInput.getWorkspaceId(), Jsons.emptyObject(), "name", "destination-acking", null, null, null, null, null));
+    final ActorDefinitionVersionApi actorDefinitionVersionApi = mock(ActorDefinitionVersionApi.class, withSettings().stubOnly());
+    when(actorDefinitionVersionApi.resolveActorDefinitionVersionByTag(any()))
+        .thenReturn(new ResolveActorDefinitionVersionResponse(UUID.randomUUID(), "airbyte/destination-acking", "dev", false));
+    airbyteApiClient = mock(AirbyteApiClient.class, withSettings().stubOnly());
+    when(airbyteApiClient.getSourceApi()).thenReturn(sourceApi);
+    when(airbyteApiClient.getDestinationApi()).thenReturn(destinationApi);
+    when(airbyteApiClient.getActorDefinitionVersionApi()).thenReturn(actorDefinitionVersionApi);
+  }
+
+  @Benchmark
+  public ReplicationAttemptSummary sync(final SyncCounters counters) throws Exception {
+    final ReplicationAttemptSummary summary = newWorker().run(replicationInput, jobRoot).getReplicationAttemptSummary();
+    if (summary.getStatus() != ReplicationStatus.COMPLETED) {
+      throw new IllegalStateException("The benchmarked sync did not complete: " + summary.getStatus());
+    }
+    counters.add(summary);
+    return summary;
+  }
+
+  /**
+   * A worker runs a single sync, the components keeping state across the sync are created for each
+   * one.
+   */
+  private BufferedReplicationWorker newWorker() {
+    final var metricClient = new NotImplementedMetricClient();
+    final var recordSchemaValidator = new RecordSchemaValidator(streamSchemas);
+    final var fieldSelector = new FieldSelector(recordSchemaValidator, new WorkerMetricReporter(metricClient, "airbyte/source-synthetic:dev"),
+        false, false);
+    final var mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null);
+    final var messageTracker = new AirbyteMessageTracker(new ParallelStreamStatsTracker(metricClient, stateCheckSumCountEventHandler), false, false,
+        "airbyte/source-synthetic:dev", "airbyte/destination-acking:dev");
+    final var hashingMapper = new HashingMapper();
+
+    final var replicationWorkerHelper = new ReplicationWorkerHelper(fieldSelector, mapper, messageTracker, syncPersistence,
+        messageEventPublishingHelper, new ThreadedTimeTracker(), () -> {}, workloadApiClient, analyticsMessageTracker,
+        Optional.of("replication-benchmark"), airbyteApiClient, streamStatusCompletionTracker, streamStatusTrackerFactory,
+        new RecordMapper(List.of(hashingMapper)), new TestClient(Map.of()), new DestinationCatalogGenerator(List.of(hashingMapper)));
+
+    final var heartbeatTimeoutChaperone = new HeartbeatTimeoutChaperone(new HeartbeatMonitor(Duration.ofHours(1)),
+        HeartbeatTimeoutChaperone.DEFAULT_TIMEOUT_CHECK_DURATION, new TestClient(Map.of()), replicationInput.getWorkspaceId(),
+        replicationInput.getConnectionId(), "airbyte/source-synthetic:dev", metricClient);
+    final var destinationTimeoutMonitor = new DestinationTimeoutMonitor(replicationInput.getWorkspaceId(), replicationInput.getConnectionId(),
+        metricClient, Duration.ofHours(1), false);
+
+    return new BufferedReplicationWorker(JOB_ID, ATTEMPT,
+        new SyntheticAirbyteSource(streams, records, recordBytes, stateEvery),
+        new AckingAirbyteDestination(),
+        syncPersistence,
+        recordSchemaValidator,
+        heartbeatTimeoutChaperone,
+        replicationFeatureFlagReader,
+        replicationWorkerHelper,
+        destinationTimeoutMonitor,
+        streamStatusCompletionTracker,
+        BufferConfiguration.withDefaultConfiguration(),
+        metricClient,
+        replicationInput);
+  }
+
+}
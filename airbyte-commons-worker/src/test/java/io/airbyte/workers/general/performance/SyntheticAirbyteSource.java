@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
+import io.airbyte.protocol.models.AirbyteStateStats;
+import io.airbyte.protocol.models.AirbyteStreamState;
+import io.airbyte.protocol.models.StreamDescriptor;
+import io.airbyte.workers.internal.AirbyteSource;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In process source emitting a fixed number of records, for benchmarking the replication without
+ * the cost of a connector.
+ * <p>
+ * Records are emitted round-robin across the streams, with an incrementing {@code id} and a
+ * {@code data} string of the configured width. Each message is a new object, as it would be once
+ * parsed from a connector, but the data string is shared. A per stream state carrying the number
+ * of records emitted since the previous state of the stream is emitted after every
+ * {@code stateEvery} records, and for every stream once all the records are emitted.
+ */
+public class SyntheticAirbyteSource implements AirbyteSource {
+
+  public static final String ID_FIELD = "id";
+  public static final String DATA_FIELD = "data";
+
+  private static final long EMITTED_AT = 1_700_000_000_000L;
+
+  private final int streamCount;
+  private final long recordCount;
+  private final int stateEvery;
+  private final String data;
+
+  private long recordsEmitted;
+  private long[] recordsSinceState;
+  private int finalStatesEmitted;
+
+  public SyntheticAirbyteSource(final int streamCount, final long recordCount, final int recordBytes, final int stateEvery) {
+    this.streamCount = streamCount;
+    this.recordCount = recordCount;
+    this.stateEvery = stateEvery;
+    this.data = "x".repeat(recordBytes);
+  }
+
+  public static String streamName(final int stream) {
+    return "stream_" + stream;
+  }
+
+  @Override
+  public void start(final WorkerSourceConfig sourceConfig, final Path jobRoot, final UUID connectionId) {
+    recordsEmitted = 0;
+    recordsSinceState = new long[streamCount];
+    finalStatesEmitted = 0;
+  }
+
+  @Override
+  public boolean isFinished() {
+    return recordsEmitted == recordCount && finalStatesEmitted == streamCount;
+  }
+
+  @Override
+  public int getExitValue() {
+    return 0;
+  }
+
+  @Override
+  public Optional<AirbyteMessage> attemptRead() {
+    if (recordsEmitted < recordCount) {
+      final int stream = (int) (recordsEmitted % streamCount);
+      // the state follows the record it was due after, before the next record
+      if (recordsEmitted > 0 && recordsEmitted % stateEvery == 0 && recordsSinceState[previousStream()] > 0) {
+        return Optional.of(state(previousStream()));
+      }
+      recordsEmitted++;
+      recordsSinceState[stream]++;
+      return Optional.of(record(stream, recordsEmitted));
+    }
+    if (finalStatesEmitted < streamCount) {
+      return Optional.of(state(finalStatesEmitted++));
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public void cancel() {}
+
+  private int previousStream() {
+    return (int) ((recordsEmitted - 1) % streamCount);
+  }
+
+  private AirbyteMessage record(final int stream, final long id) {
+    final ObjectNode recordData = JsonNodeFactory.instance.objectNode();
+    recordData.put(ID_FIELD, id);
+    recordData.put(DATA_FIELD, data);
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(streamName(stream))
+            .withEmittedAt(EMITTED_AT)
+            .withData(recordData));
+  }
+
+  private AirbyteMessage state(final int stream) {
+    final long records = recordsSinceState[stream];
+    recordsSinceState[stream] = 0;
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage()
+            .withType(AirbyteStateType.STREAM)
+            .withStream(new AirbyteStreamState()
+                .withStreamDescriptor(new StreamDescriptor().withName(streamName(stream)))
+                .withStreamState(Jsons.jsonNode(Map.of("cursor", recordsEmitted))))
+            .withSourceStats(new AirbyteStateStats().withRecordCount((double) records)));
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.workers.internal.BatchedAirbyteMessageBufferedWriter.WriterMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BatchedAirbyteMessageBufferedWriterTest {
+
+  private static final AirbyteMessage RECORD = new AirbyteMessage()
+      .withType(AirbyteMessage.Type.RECORD)
+      .withRecord(new AirbyteRecordMessage().withStream("users").withEmittedAt(1L).withData(Jsons.jsonNode(Map.of("name", "é"))));
+  private static final AirbyteMessage STATE = new AirbyteMessage()
+      .withType(AirbyteMessage.Type.STATE)
+      .withState(new AirbyteStateMessage().withType(AirbyteStateMessage.AirbyteStateType.LEGACY).withData(Jsons.jsonNode(Map.of("cursor", 1))));
+
+  private ByteArrayOutputStream outputStream;
+  private AirbyteMessageVersionedMigrator<AirbyteMessage> migrator;
+  private Clock clock;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    outputStream = new ByteArrayOutputStream();
+    migrator = mock(AirbyteMessageVersionedMigrator.class);
+    when(migrator.downgrade(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+    clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(0L);
+  }
+
+  @Test
+  void testMessagesAreWrittenAsTheProtocolSerializerWould() throws IOException {
+    final var writer = writer(1024);
+
+    writer.write(RECORD);
+    writer.write(RECORD);
+    assertEquals(0, outputStream.size());
+
+    writer.flush();
+    assertEquals(Jsons.serialize(RECORD) + "\n" + Jsons.serialize(RECORD) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testStateMessagesAreWrittenRightAway() throws IOException {
+    final var writer = writer(1024);
+
+    writer.write(RECORD);
+    writer.write(STATE);
+
+    assertEquals(Jsons.serialize(RECORD) + "\n" + Jsons.serialize(STATE) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testChunksAreWrittenOnceFull() throws IOException {
+    final int recordBytes = (Jsons.serialize(RECORD) + "\n").getBytes(StandardCharsets.UTF_8).length;
+    final var writer = writer(2 * recordBytes);
+
+    writer.write(RECORD);
+    assertEquals(0, outputStream.size());
+    writer.write(RECORD);
+    assertEquals(2 * recordBytes, outputStream.size());
+    writer.write(RECORD);
+    assertEquals(2 * recordBytes, outputStream.size());
+  }
+
+  @Test
+  void testChunksAreWrittenOnceTheIntervalElapsed() throws IOException {
+    final var writer = writer(1024);
+
+    writer.write(RECORD);
+    assertEquals(0, outputStream.size());
+
+    when(clock.millis()).thenReturn(Duration.ofSeconds(1).toMillis());
+    writer.write(RECORD);
+    assertEquals(List.of(Jsons.serialize(RECORD), Jsons.serialize(RECORD)), outputStream.toString(StandardCharsets.UTF_8).lines().toList());
+  }
+
+  @Test
+  void testCloseWritesTheLastChunk() throws IOException {
+    final var writer = writer(1024);
+
+    writer.write(RECORD);
+    writer.close();
+
+    assertEquals(Jsons.serialize(RECORD) + "\n", outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testPerformanceMetrics() throws IOException {
+    final var writer = writer(1024);
+
+    writer.write(RECORD);
+    writer.write(STATE);
+    writer.write(RECORD);
+    writer.flush();
+
+    final var metrics = (WriterMetrics) writer.getPerformanceMetrics().get(BatchedAirbyteMessageBufferedWriter.PERFORMANCE_METRICS_KEY);
+    assertEquals(3, metrics.messagesWritten());
+    assertEquals(outputStream.size(), metrics.bytesWritten());
+    assertEquals(2, metrics.chunksWritten());
+  }
+
+  private BatchedAirbyteMessageBufferedWriter<AirbyteMessage> writer(final int flushBytes) throws IOException {
+    return new BatchedAirbyteMessageBufferedWriter<>(outputStream, migrator, Optional.empty(), MoreMappers.initMapper(), flushBytes,
+        Duration.ofSeconds(1), clock);
+  }
+
+}
@@ -20,6 +20,7 @@ import io.airbyte.workers.exception.WorkerException
 import io.airbyte.workers.internal.exception.DestinationException
 import io.airbyte.workers.internal.exception.SourceException
 import io.airbyte.workers.models.ReplicationActivityInput
+import io.airbyte.workers.serde.WorkloadInputStore
 import io.airbyte.workers.sync.WorkloadApiWorker
 import io.airbyte.workers.sync.WorkloadClient
 import io.airbyte.workers.workload.JobOutputDocStore
@@ -27,6 +28,7 @@ import io.airbyte.workers.workload.WorkloadIdGenerator
 import io.airbyte.workload.api.client.WorkloadApiClient
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadAwaitRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.mockk.every
 import io.mockk.mockk
@@ -59,6 +61,7 @@ internal class WorkloadApiWorkerTest {
   fun beforeEach() {
     every { apiClient.connectionApi } returns connectionApi
     every { workloadApiClient.workloadApi } returns workloadApi
+    every { workloadApi.workloadAwaitTerminal(any()) } answers { workloadApi.workloadGet(firstArg<WorkloadAwaitRequest>().workloadId) }
     every { logClientManager.fullLogPath(any()) } answers { Path.of(invocation.args.first().toString(), DEFAULT_LOG_FILENAME).toString() }
     featureFlagClient = TestClient()
     jobRoot = Path.of("test", "path")
@@ -74,6 +77,7 @@ internal class WorkloadApiWorkerTest {
         replicationActivityInput,
         featureFlagClient,
         logClientManager,
+        WorkloadInputStore(mockk(), mockk(relaxed = true), false, 0),
       )
   }
 
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general
+
+import io.airbyte.commons.json.Jsons
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.protocol.models.AirbyteMessage
+import io.airbyte.protocol.models.AirbyteRecordMessage
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+
+internal class ByteBudgetedMessageQueueTest {
+  private lateinit var metricClient: MetricClient
+
+  @BeforeEach
+  fun setup() {
+    metricClient = mockk(relaxed = true)
+  }
+
+  @Test
+  fun `messages are bounded by their bytes`() {
+    val record = record(0, 100)
+    val queue = queue(maxMemoryBytes = 2 * ByteBudgetedMessageQueue.estimateBytes(record), maxSpillBytes = 0)
+
+    assertTrue(queue.add(record))
+    assertTrue(queue.add(record))
+    assertFalse(queue.add(record))
+    assertEquals(2, queue.size())
+
+    queue.poll()
+    assertTrue(queue.add(record))
+  }
+
+  @Test
+  fun `a message larger than the budget is accepted once the buffer is empty`() {
+    val queue = queue(maxMemoryBytes = 10, maxSpillBytes = 0)
+
+    assertTrue(queue.add(record(0, 100)))
+    assertFalse(queue.add(record(1, 100)))
+    assertEquals(0, queue.poll()!!.record.data["id"].asInt())
+    assertTrue(queue.add(record(1, 100)))
+  }
+
+  @Test
+  fun `messages over the memory budget are spilled and polled in order`() {
+    val records = (0 until 10).map { record(it, 1_000) }
+    val queue = queue(maxMemoryBytes = 3 * ByteBudgetedMessageQueue.estimateBytes(records[0]), maxSpillBytes = 1024 * 1024)
+
+    records.take(5).forEach { assertTrue(queue.add(it)) }
+    assertEquals(3 * ByteBudgetedMessageQueue.estimateBytes(records[0]), queue.getMemoryBytes())
+    assertTrue(queue.getSpilledBytes() > 2_000)
+
+    // the memory has room again, but the next messages must come after the spilled ones
+    assertEquals(records[0], queue.poll())
+    records.drop(5).forEach { assertTrue(queue.add(it)) }
+
+    assertEquals(records.drop(1), (1 until 10).map { queue.poll() })
+    assertEquals(0, queue.size())
+    assertEquals(0, queue.getSpilledBytes())
+  }
+
+  @Test
+  fun `the memory budget is used while messages are spilled`() {
+    val records = (0 until 6).map { record(it, 1_000) }
+    val queue = queue(maxMemoryBytes = 3 * ByteBudgetedMessageQueue.estimateBytes(records[0]), maxSpillBytes = 1024 * 1024)
+    records.take(5).forEach { assertTrue(queue.add(it)) }
+    val spilledBytes = queue.getSpilledBytes()
+
+    assertEquals(records[0], queue.poll())
+    assertTrue(queue.add(records[5]))
+
+    assertEquals(3 * ByteBudgetedMessageQueue.estimateBytes(records[0]), queue.getMemoryBytes())
+    assertEquals(spilledBytes, queue.getSpilledBytes())
+    assertEquals(records.drop(1), (1 until 6).map { queue.poll() })
+  }
+
+  @Test
+  fun `the space of spilled messages is reused once they are read`() {
+    val queue = queue(maxMemoryBytes = 1, maxSpillBytes = 2_500)
+    // the first message goes to memory, the next ones to the spill segment, which holds two of them
+    (0 until 3).forEach { assertTrue(queue.add(record(it, 1_000))) }
+    assertEquals(0, queue.poll()!!.record.data["id"].asInt())
+
+    // the segment is never empty, the messages wrap around its end
+    (3 until 20).forEach {
+      assertEquals(it - 2, queue.poll()!!.record.data["id"].asInt())
+      assertTrue(queue.add(record(it, 1_000)))
+    }
+    assertEquals(18, queue.poll()!!.record.data["id"].asInt())
+    assertEquals(19, queue.poll()!!.record.data["id"].asInt())
+  }
+
+  @Test
+  fun `producers wait once the spill budget is used up`() {
+    val record = record(0, 1_000)
+    val queue = queue(maxMemoryBytes = ByteBudgetedMessageQueue.estimateBytes(record), maxSpillBytes = 2_500)
+
+    assertTrue(queue.add(record))
+    assertTrue(queue.add(record))
+    assertTrue(queue.add(record))
+    assertFalse(queue.add(record))
+    assertEquals(3, queue.size())
+  }
+
+  @Test
+  fun `the queue is done once closed and drained`() {
+    val queue = queue(maxMemoryBytes = 1, maxSpillBytes = 1024 * 1024)
+    queue.add(record(0, 10))
+    queue.add(record(1, 10))
+
+    queue.close()
+
+    assertTrue(queue.isClosed)
+    assertFalse(queue.isDone)
+    assertFalse(queue.add(record(2, 10)))
+    assertEquals(0, queue.poll()!!.record.data["id"].asInt())
+    assertEquals(1, queue.poll()!!.record.data["id"].asInt())
+    assertNull(queue.poll())
+    assertTrue(queue.isDone)
+  }
+
+  @Test
+  fun `released queues drop their messages`() {
+    val queue = queue(maxMemoryBytes = 1, maxSpillBytes = 1024 * 1024)
+    queue.add(record(0, 10))
+    queue.add(record(1, 10))
+
+    queue.release()
+
+    assertTrue(queue.isDone)
+    assertNull(queue.poll())
+    assertEquals(0, queue.size())
+    assertEquals(0, queue.getSpilledBytes())
+  }
+
+  @Test
+  fun `buffered and spilled bytes are reported`() {
+    val queue = queue(maxMemoryBytes = 1, maxSpillBytes = 1024 * 1024)
+
+    queue.add(record(0, 10))
+
+    val attribute = MetricAttribute(MetricTags.BUFFER, "source")
+    verify { metricClient.gauge(OssMetricsRegistry.REPLICATION_BUFFERED_BYTES, any(), attribute) }
+    verify { metricClient.gauge(OssMetricsRegistry.REPLICATION_SPILLED_BYTES, 0.0, attribute) }
+  }
+
+  @Test
+  fun `record bytes are estimated from their data`() {
+    val small = ByteBudgetedMessageQueue.estimateBytes(record(0, 10))
+    val large = ByteBudgetedMessageQueue.estimateBytes(record(0, 10_010))
+
+    assertEquals(10_000, large - small)
+    assertEquals(
+      Jsons.serialize(mapOf("a" to "bc", "d" to listOf(1, 2))).length.toDouble(),
+      ByteBudgetedMessageQueue.estimateBytes(Jsons.jsonNode(mapOf("a" to "bc", "d" to listOf(1, 2)))).toDouble(),
+      5.0,
+    )
+  }
+
+  private fun queue(
+    maxMemoryBytes: Long,
+    maxSpillBytes: Long,
+  ) = ByteBudgetedMessageQueue(maxMemoryBytes, maxSpillBytes, 0, metricClient, "source")
+
+  private fun record(
+    id: Int,
+    length: Int,
+  ): AirbyteMessage =
+    AirbyteMessage()
+      .withType(AirbyteMessage.Type.RECORD)
+      .withRecord(AirbyteRecordMessage().withStream("users").withData(Jsons.jsonNode(mapOf("id" to id, "value" to "x".repeat(length)))))
+}
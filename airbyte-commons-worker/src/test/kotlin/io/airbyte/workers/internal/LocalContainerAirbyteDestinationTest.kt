@@ -73,6 +73,7 @@ internal class LocalContainerAirbyteDestinationTest {
     messageWriterFactory =
       mockk<AirbyteMessageBufferedWriterFactory> {
         every { createWriter(any()) } returns writer
+        every { createStreamWriter(any()) } returns writer
       }
     stream =
       mockk<Stream<AirbyteMessage>> {
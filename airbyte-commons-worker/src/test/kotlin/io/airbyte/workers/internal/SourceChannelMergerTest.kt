@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal
+
+import io.airbyte.commons.json.Jsons
+import io.airbyte.protocol.models.AirbyteAnalyticsTraceMessage
+import io.airbyte.protocol.models.AirbyteGlobalState
+import io.airbyte.protocol.models.AirbyteMessage
+import io.airbyte.protocol.models.AirbyteRecordMessage
+import io.airbyte.protocol.models.AirbyteStateMessage
+import io.airbyte.protocol.models.AirbyteStreamState
+import io.airbyte.protocol.models.AirbyteTraceMessage
+import io.airbyte.protocol.models.StreamDescriptor
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.Timeout
+import java.util.concurrent.CountDownLatch
+
+@Timeout(10)
+internal class SourceChannelMergerTest {
+  @Test
+  internal fun testRecordsOfAStreamKeepTheirOrder() {
+    val users = (0 until 100).map { record("users", it) }
+    val orders = (0 until 100).map { record("orders", it) }
+
+    val merged = SourceChannelMerger(listOf(users.iterator(), orders.iterator())).asSequence().toList()
+
+    assertEquals(200, merged.size)
+    assertEquals(users, merged.filter { it.record.stream == "users" })
+    assertEquals(orders, merged.filter { it.record.stream == "orders" })
+  }
+
+  @Test
+  internal fun testStreamStatesGoAlongWithTheirStream() {
+    val users = listOf(record("users", 0), streamState("users"), record("users", 1))
+    val orders = listOf(record("orders", 0), streamState("orders"))
+
+    val merged = SourceChannelMerger(listOf(users.iterator(), orders.iterator())).asSequence().toList()
+
+    assertEquals(users, merged.filter { it.record?.stream == "users" || it.state?.stream?.streamDescriptor?.name == "users" })
+    assertEquals(orders, merged.filter { it.record?.stream == "orders" || it.state?.stream?.streamDescriptor?.name == "orders" })
+  }
+
+  @Test
+  internal fun testGlobalStatesAreEmittedOnceAfterTheMessagesOfAllChannels() {
+    val first = globalState(1)
+    val second = globalState(2)
+    val users = listOf(handshake(2), record("users", 0), first, record("users", 1), record("users", 2), second)
+    val orders = listOf(record("orders", 0), record("orders", 1), first, second, record("orders", 2))
+
+    val merged = SourceChannelMerger(listOf(users.iterator(), orders.iterator())).asSequence().toList()
+
+    assertEquals(7, merged.size)
+    val firstIndex = merged.indexOf(first)
+    val secondIndex = merged.indexOf(second)
+    assertEquals(setOf(record("users", 0), record("orders", 0), record("orders", 1)), merged.subList(0, firstIndex).toSet())
+    assertEquals(setOf(record("users", 1), record("users", 2)), merged.subList(firstIndex + 1, secondIndex).toSet())
+    assertEquals(listOf(record("orders", 2)), merged.subList(secondIndex + 1, merged.size))
+  }
+
+  @Test
+  internal fun testClosedChannelsDoNotHoldGlobalStates() {
+    val state = globalState(1)
+    val users = listOf(handshake(2), record("users", 0))
+    val orders = listOf(record("orders", 0), state)
+
+    val merged = SourceChannelMerger(listOf(users.iterator(), orders.iterator())).asSequence().toList()
+
+    assertEquals(3, merged.size)
+    assertEquals(state, merged.last())
+  }
+
+  @Test
+  internal fun testGlobalStatesOfSourcesWithoutHandshakeDoNotWaitForTheOtherChannels() {
+    val state = globalState(1)
+    val users = listOf(record("users", 0), state, record("users", 1))
+    // the wrapper holds the additional channels open until the source exits
+    val unused = OpenChannel()
+
+    val merger = SourceChannelMerger(listOf(users.iterator(), unused))
+
+    assertEquals(users, merger.asSequence().take(3).toList())
+    unused.close()
+    assertFalse(merger.hasNext())
+  }
+
+  @Test
+  internal fun testOnlyTheAnnouncedChannelsHoldGlobalStates() {
+    val state = globalState(1)
+    val users = listOf(handshake(2), record("users", 0), state)
+    val orders = listOf(record("orders", 0), state)
+    val unused = OpenChannel()
+
+    val merger = SourceChannelMerger(listOf(users.iterator(), orders.iterator(), unused))
+    val merged = merger.asSequence().take(3).toList()
+
+    // the handshake is not forwarded
+    assertEquals(setOf(record("users", 0), record("orders", 0)), merged.subList(0, 2).toSet())
+    assertEquals(state, merged.last())
+    unused.close()
+    assertFalse(merger.hasNext())
+  }
+
+  @Test
+  internal fun testClosingReleasesTheChannelsWaitingForAGlobalState() {
+    // stdout waits at the barrier for the other channel, which never reaches the global state
+    val merger = SourceChannelMerger(listOf(listOf(handshake(2), globalState(1)).iterator(), OpenChannel()))
+    val stdoutReader = awaitReader("source-channel-0") { it.state == Thread.State.WAITING }
+
+    merger.close()
+
+    stdoutReader.join()
+  }
+
+  @Test
+  internal fun testChannelFailuresAreRethrown() {
+    val failing =
+      iterator<AirbyteMessage> {
+        yield(record("orders", 0))
+        throw IllegalArgumentException("invalid line")
+      }
+
+    val merger = SourceChannelMerger(listOf(listOf(record("users", 0)).iterator(), failing))
+
+    val error = assertThrows(IllegalStateException::class.java) { merger.asSequence().toList() }
+    assertEquals("invalid line", error.cause?.message)
+  }
+
+  @Test
+  internal fun testIsGlobalState() {
+    assertTrue(SourceChannelMerger.isGlobalState(globalState(1)))
+    assertTrue(
+      SourceChannelMerger.isGlobalState(
+        AirbyteMessage().withType(AirbyteMessage.Type.STATE).withState(AirbyteStateMessage().withData(Jsons.emptyObject())),
+      ),
+    )
+    assertFalse(SourceChannelMerger.isGlobalState(streamState("users")))
+    assertFalse(SourceChannelMerger.isGlobalState(record("users", 0)))
+  }
+
+  @Test
+  internal fun testAnnouncedChannels() {
+    assertEquals(3, SourceChannelMerger.announcedChannels(handshake(3)))
+    assertNull(SourceChannelMerger.announcedChannels(record("users", 0)))
+    assertNull(
+      SourceChannelMerger.announcedChannels(
+        AirbyteMessage()
+          .withType(AirbyteMessage.Type.TRACE)
+          .withTrace(
+            AirbyteTraceMessage()
+              .withType(AirbyteTraceMessage.Type.ANALYTICS)
+              .withAnalytics(AirbyteAnalyticsTraceMessage().withType("other").withValue("3")),
+          ),
+      ),
+    )
+  }
+
+  private fun awaitReader(
+    name: String,
+    condition: (Thread) -> Boolean,
+  ): Thread {
+    while (true) {
+      Thread.getAllStackTraces().keys.firstOrNull { it.name == name && it.isAlive && condition(it) }?.let { return it }
+      Thread.sleep(10)
+    }
+  }
+
+  /**
+   * A channel the source does not write on, which stays open until closed.
+   */
+  private class OpenChannel : Iterator<AirbyteMessage> {
+    private val closed = CountDownLatch(1)
+
+    fun close() = closed.countDown()
+
+    override fun hasNext(): Boolean {
+      closed.await()
+      return false
+    }
+
+    override fun next(): AirbyteMessage = throw NoSuchElementException()
+  }
+
+  private fun handshake(channels: Int): AirbyteMessage =
+    AirbyteMessage()
+      .withType(AirbyteMessage.Type.TRACE)
+      .withTrace(
+        AirbyteTraceMessage()
+          .withType(AirbyteTraceMessage.Type.ANALYTICS)
+          .withAnalytics(
+            AirbyteAnalyticsTraceMessage().withType(SourceChannelMerger.OUTPUT_CHANNELS_HANDSHAKE).withValue(channels.toString()),
+          ),
+      )
+
+  private fun record(
+    stream: String,
+    id: Int,
+  ): AirbyteMessage =
+    AirbyteMessage()
+      .withType(AirbyteMessage.Type.RECORD)
+      .withRecord(AirbyteRecordMessage().withStream(stream).withData(Jsons.jsonNode(mapOf("id" to id))))
+
+  private fun streamState(stream: String): AirbyteMessage =
+    AirbyteMessage()
+      .withType(AirbyteMessage.Type.STATE)
+      .withState(
+        AirbyteStateMessage()
+          .withType(AirbyteStateMessage.AirbyteStateType.STREAM)
+          .withStream(AirbyteStreamState().withStreamDescriptor(StreamDescriptor().withName(stream))),
+      )
+
+  private fun globalState(cursor: Int): AirbyteMessage =
+    AirbyteMessage()
+      .withType(AirbyteMessage.Type.STATE)
+      .withState(
+        AirbyteStateMessage()
+          .withType(AirbyteStateMessage.AirbyteStateType.GLOBAL)
+          .withGlobal(AirbyteGlobalState().withSharedState(Jsons.jsonNode(mapOf("cursor" to cursor)))),
+      )
+}
@@ -0,0 +1,89 @@
+package io.airbyte.workers.serde
+
+import io.airbyte.commons.storage.DocumentType
+import io.airbyte.commons.storage.StorageClient
+import io.airbyte.commons.storage.StorageClientFactory
+import io.airbyte.metrics.lib.MetricClient
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+class WorkloadInputStoreTest {
+  private val storageClientFactory: StorageClientFactory = mockk()
+  private val storageClient: StorageClient = mockk()
+  private val metricClient: MetricClient = mockk(relaxed = true)
+  private val documents = mutableMapOf<String, String>()
+
+  @BeforeEach
+  fun setup() {
+    documents.clear()
+    val id = slot<String>()
+    val document = slot<String>()
+    every { storageClientFactory.get(DocumentType.WORKLOAD_INPUT) } returns storageClient
+    every { storageClient.write(capture(id), capture(document)) } answers { documents[id.captured] = document.captured }
+    every { storageClient.read(any()) } answers { documents[firstArg()] }
+  }
+
+  @Test
+  fun `small inputs are kept inline`() {
+    val store = WorkloadInputStore({ storageClientFactory }, metricClient, true, THRESHOLD)
+
+    assertEquals(SMALL_INPUT, store.store(SMALL_INPUT))
+    assertEquals(SMALL_INPUT, store.resolve(SMALL_INPUT))
+    verify(exactly = 0) { storageClientFactory.get(any()) }
+  }
+
+  @Test
+  fun `large inputs are kept inline when offloading is disabled`() {
+    val store = WorkloadInputStore({ storageClientFactory }, metricClient, false, THRESHOLD)
+
+    assertEquals(LARGE_INPUT, store.store(LARGE_INPUT))
+    verify(exactly = 0) { storageClientFactory.get(any()) }
+  }
+
+  @Test
+  fun `large inputs are offloaded and resolved`() {
+    val store = WorkloadInputStore({ storageClientFactory }, metricClient, true, THRESHOLD)
+
+    val reference = store.store(LARGE_INPUT)
+
+    assertTrue(reference.startsWith(WorkloadInputStore.REFERENCE_PREFIX))
+    assertEquals(1, documents.size)
+    assertTrue(documents.values.first().length < LARGE_INPUT.length)
+    assertEquals(LARGE_INPUT, store.resolve(reference))
+  }
+
+  @Test
+  fun `identical inputs share a document`() {
+    val store = WorkloadInputStore({ storageClientFactory }, metricClient, true, THRESHOLD)
+
+    assertEquals(store.store(LARGE_INPUT), store.store(LARGE_INPUT))
+    assertEquals(1, documents.size)
+  }
+
+  @Test
+  fun `references are resolved when offloading is disabled`() {
+    val reference = WorkloadInputStore({ storageClientFactory }, metricClient, true, THRESHOLD).store(LARGE_INPUT)
+
+    assertEquals(LARGE_INPUT, WorkloadInputStore({ storageClientFactory }, metricClient, false, THRESHOLD).resolve(reference))
+  }
+
+  @Test
+  fun `missing documents fail to resolve`() {
+    val store = WorkloadInputStore({ storageClientFactory }, metricClient, true, THRESHOLD)
+
+    assertThrows<IllegalStateException> { store.resolve("${WorkloadInputStore.REFERENCE_PREFIX}unknown") }
+  }
+
+  companion object {
+    private const val THRESHOLD = 1024
+    private const val SMALL_INPUT = "{\"jobRunConfig\":{\"jobId\":\"1\"}}"
+    private val LARGE_INPUT = "{\"streams\":[${(1..500).joinToString(",") { "{\"name\":\"stream_$it\",\"syncMode\":\"incremental\"}" }}]}"
+  }
+}
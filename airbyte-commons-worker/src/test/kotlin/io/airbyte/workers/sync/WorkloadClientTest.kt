@@ -6,9 +6,15 @@ import io.airbyte.workers.workload.JobOutputDocStore
 import io.airbyte.workers.workload.WorkloadConstants.WORKLOAD_CANCELLED_BY_USER_REASON
 import io.airbyte.workload.api.client.WorkloadApiClient
 import io.airbyte.workload.api.client.generated.WorkloadApi
+import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadAwaitRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadCancelRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadPriority
+import io.airbyte.workload.api.client.model.generated.WorkloadStatus
+import io.airbyte.workload.api.client.model.generated.WorkloadStatusListRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadStatusListResponse
+import io.airbyte.workload.api.client.model.generated.WorkloadStatusSummary
 import io.airbyte.workload.api.client.model.generated.WorkloadType
 import io.mockk.every
 import io.mockk.mockk
@@ -17,9 +23,16 @@ import io.mockk.slot
 import io.mockk.spyk
 import io.mockk.verify
 import io.temporal.activity.ActivityExecutionContext
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
+import org.junit.jupiter.api.assertThrows
+import org.openapitools.client.infrastructure.ClientException
+import java.time.Duration
+import java.util.UUID
 import java.util.concurrent.Callable
 import java.util.concurrent.atomic.AtomicReference
 
@@ -104,4 +117,74 @@ class WorkloadClientTest {
     verify { client.createWorkload(createReq) }
     verify { client.waitForWorkload(createReq.workloadId, checkFreqSecs) }
   }
+
+  @Test
+  fun `awaitWorkload waits on the workload-api`() {
+    every { apiClient.workloadAwaitTerminal(WorkloadAwaitRequest("workloadId", WorkloadClient.AWAIT_TIMEOUT_SECONDS)) } returns
+      workload(WorkloadStatus.SUCCESS)
+
+    assertEquals(WorkloadStatus.SUCCESS, client.awaitWorkload("workloadId", Duration.ZERO).status)
+    verify(exactly = 0) { apiClient.workloadGet(any()) }
+  }
+
+  @Test
+  fun `awaitWorkload falls back to polling when the workload-api doesn't support waiting`() {
+    every { apiClient.workloadAwaitTerminal(any()) } throws ClientException(statusCode = 405)
+    every { apiClient.workloadGet("workloadId") } returns workload(WorkloadStatus.RUNNING)
+
+    assertEquals(WorkloadStatus.RUNNING, client.awaitWorkload("workloadId", Duration.ZERO).status)
+    assertEquals(WorkloadStatus.RUNNING, client.awaitWorkload("workloadId", Duration.ZERO).status)
+    // The long-poll endpoint isn't retried once known to be unsupported.
+    verify(exactly = 1) { apiClient.workloadAwaitTerminal(any()) }
+  }
+
+  @Test
+  fun `awaitWorkload polls while the workload-api is not accepting more waits`() {
+    every { apiClient.workloadAwaitTerminal(any()) } throws ClientException(statusCode = 429)
+    every { apiClient.workloadGet("workloadId") } returns workload(WorkloadStatus.RUNNING)
+
+    assertEquals(WorkloadStatus.RUNNING, client.awaitWorkload("workloadId", Duration.ZERO).status)
+    assertEquals(WorkloadStatus.RUNNING, client.awaitWorkload("workloadId", Duration.ZERO).status)
+    // The long-poll endpoint is still used once the workload-api accepts waits again.
+    verify(exactly = 2) { apiClient.workloadAwaitTerminal(any()) }
+  }
+
+  @Test
+  fun `awaitWorkload propagates not found when the workload doesn't exist`() {
+    every { apiClient.workloadAwaitTerminal(any()) } throws ClientException(statusCode = 404)
+    every { apiClient.workloadGet("workloadId") } throws ClientException(statusCode = 404)
+
+    assertThrows<ClientException> { client.awaitWorkload("workloadId", Duration.ZERO) }
+  }
+
+  @Test
+  fun `isTerminal reads the workload status in a single batched call`() {
+    every { apiClient.workloadStatusList(WorkloadStatusListRequest(listOf("workloadId"))) } returns
+      WorkloadStatusListResponse(listOf(WorkloadStatusSummary("workloadId", WorkloadStatus.CANCELLED)))
+
+    assertTrue(client.isTerminal("workloadId"))
+    verify(exactly = 0) { apiClient.workloadGet(any()) }
+  }
+
+  @Test
+  fun `isTerminal is false for active workloads and fails for unknown ones`() {
+    every { apiClient.workloadStatusList(WorkloadStatusListRequest(listOf("workloadId"))) } returns
+      WorkloadStatusListResponse(listOf(WorkloadStatusSummary("workloadId", WorkloadStatus.RUNNING)))
+    every { apiClient.workloadStatusList(WorkloadStatusListRequest(listOf("unknown"))) } returns WorkloadStatusListResponse(listOf())
+
+    assertFalse(client.isTerminal("workloadId"))
+    assertThrows<IllegalStateException> { client.isTerminal("unknown") }
+  }
+
+  private fun workload(status: WorkloadStatus): Workload =
+    Workload(
+      id = "workloadId",
+      labels = listOf(),
+      inputPayload = "",
+      logPath = "",
+      geography = "",
+      type = WorkloadType.SYNC,
+      autoId = UUID.randomUUID(),
+      status = status,
+    )
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Helpers to store the configured catalog of a job separately from the rest of its config.
+ * Replication jobs embed the configured catalog of their connection, which is the same from one job
+ * to the next until the connection is edited, so it is stored once per distinct catalog and
+ * referenced by its hash.
+ */
+public class JobConfigCatalogs {
+
+  /**
+   * Fields of a serialized job config that hold a configured catalog.
+   */
+  private static final List<String> CATALOG_SECTIONS = List.of("sync", "resetConnection", "refresh");
+  private static final String CATALOG_FIELD = "configuredAirbyteCatalog";
+
+  /**
+   * Catalog split out of a job config.
+   *
+   * @param config serialized job config without its catalog
+   * @param catalog serialized catalog
+   * @param hash hash of the serialized catalog
+   */
+  public record DetachedCatalog(JsonNode config, String catalog, String hash) {
+
+  }
+
+  /**
+   * Split the configured catalog out of a serialized job config.
+   *
+   * @param config serialized job config, left untouched
+   * @return the config without its catalog and the catalog, empty if the config has no catalog
+   */
+  public static Optional<DetachedCatalog> detach(final JsonNode config) {
+    for (final String section : CATALOG_SECTIONS) {
+      if (config.get(section) instanceof ObjectNode sectionNode && sectionNode.hasNonNull(CATALOG_FIELD)) {
+        final JsonNode configWithoutCatalog = config.deepCopy();
+        final JsonNode catalog = ((ObjectNode) configWithoutCatalog.get(section)).remove(CATALOG_FIELD);
+        final String serializedCatalog = Jsons.serialize(catalog);
+        return Optional.of(new DetachedCatalog(configWithoutCatalog, serializedCatalog, hash(serializedCatalog)));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Put a catalog back into a serialized job config it was detached from.
+   *
+   * @param config serialized job config without its catalog, modified in place
+   * @param catalog catalog of the job
+   * @return the config with its catalog
+   */
+  public static JsonNode attach(final JsonNode config, final JsonNode catalog) {
+    for (final String section : CATALOG_SECTIONS) {
+      if (config.get(section) instanceof ObjectNode sectionNode) {
+        sectionNode.set(CATALOG_FIELD, catalog);
+        return config;
+      }
+    }
+    throw new IllegalArgumentException("Job config has no section to attach a catalog to");
+  }
+
+  /**
+   * Hash identifying a serialized catalog.
+   *
+   * @param serializedCatalog serialized catalog
+   * @return hex encoded sha-256 of the catalog
+   */
+  public static String hash(final String serializedCatalog) {
+    return Hashing.sha256().hashString(serializedCatalog, StandardCharsets.UTF_8).toString();
+  }
+
+}
@@ -20,6 +20,20 @@ interface AirbyteRecord {
 
   fun get(fieldName: String): Value
 
+  fun getBoolean(fieldName: String): Boolean = get(fieldName).asBoolean()
+
+  fun getNumber(fieldName: String): Number = get(fieldName).asNumber()
+
+  fun getString(fieldName: String): String = get(fieldName).asString()
+
+  /**
+   * Reads the value of a field as UTF-8 bytes into a buffer reused across records.
+   */
+  fun getUtf8Bytes(
+    fieldName: String,
+    buffer: Utf8Bytes,
+  ): Utf8Bytes = buffer.encode(getString(fieldName))
+
   fun remove(fieldName: String)
 
   fun <T : Any> set(
@@ -29,6 +29,14 @@ data class AirbyteJsonRecordAdapter(private val message: AirbyteMessage) : Airby
 
   override fun get(fieldName: String): Value = JsonValueAdapter(data.get(fieldName))
 
+  // the typed accessors read the node directly rather than through a value adapter
+  override fun getBoolean(fieldName: String): Boolean = data.get(fieldName).asBoolean()
+
+  override fun getNumber(fieldName: String): Number = data.get(fieldName).asDouble()
+
+  // the text of a string node is its value, only other nodes are converted to a new string
+  override fun getString(fieldName: String): String = data.get(fieldName).asText()
+
   override fun remove(fieldName: String) {
     data.remove(fieldName)
   }
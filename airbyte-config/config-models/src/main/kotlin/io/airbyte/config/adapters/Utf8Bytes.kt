@@ -0,0 +1,55 @@
+package io.airbyte.config.adapters
+
+/**
+ * Reusable buffer of the UTF-8 bytes of a string value.
+ *
+ * Reading a value through the same buffer for every record avoids allocating an array per value. The bytes are only valid until the next
+ * [encode], the buffer is not thread safe.
+ */
+class Utf8Bytes(initialCapacity: Int = 256) {
+  var bytes: ByteArray = ByteArray(initialCapacity)
+    private set
+  var length: Int = 0
+    private set
+
+  /**
+   * Encodes the value in the buffer, replacing unpaired surrogates with '?' as [String.toByteArray] does.
+   */
+  fun encode(value: CharSequence): Utf8Bytes {
+    // a char is encoded in at most 3 bytes, a surrogate pair in 4
+    ensureCapacity(value.length * 3)
+    var position = 0
+    var i = 0
+    while (i < value.length) {
+      val c = value[i++]
+      when {
+        c.code < 0x80 -> bytes[position++] = c.code.toByte()
+        c.code < 0x800 -> {
+          bytes[position++] = (0xC0 or (c.code shr 6)).toByte()
+          bytes[position++] = (0x80 or (c.code and 0x3F)).toByte()
+        }
+        c.isHighSurrogate() && i < value.length && value[i].isLowSurrogate() -> {
+          val codePoint = Character.toCodePoint(c, value[i++])
+          bytes[position++] = (0xF0 or (codePoint shr 18)).toByte()
+          bytes[position++] = (0x80 or ((codePoint shr 12) and 0x3F)).toByte()
+          bytes[position++] = (0x80 or ((codePoint shr 6) and 0x3F)).toByte()
+          bytes[position++] = (0x80 or (codePoint and 0x3F)).toByte()
+        }
+        c.isSurrogate() -> bytes[position++] = '?'.code.toByte()
+        else -> {
+          bytes[position++] = (0xE0 or (c.code shr 12)).toByte()
+          bytes[position++] = (0x80 or ((c.code shr 6) and 0x3F)).toByte()
+          bytes[position++] = (0x80 or (c.code and 0x3F)).toByte()
+        }
+      }
+    }
+    length = position
+    return this
+  }
+
+  private fun ensureCapacity(capacity: Int) {
+    if (bytes.size < capacity) {
+      bytes = ByteArray(maxOf(capacity, bytes.size * 2))
+    }
+  }
+}
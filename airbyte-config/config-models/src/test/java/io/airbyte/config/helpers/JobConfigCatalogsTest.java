@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.JobConfig;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobGetSpecConfig;
+import io.airbyte.config.JobResetConnectionConfig;
+import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.helpers.JobConfigCatalogs.DetachedCatalog;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JobConfigCatalogsTest {
+
+  private static final ConfiguredAirbyteCatalog CATALOG = new ConfiguredAirbyteCatalog().withStreams(List.of());
+
+  @Test
+  void testDetachAndAttachSyncCatalog() {
+    final JobConfig config = new JobConfig()
+        .withConfigType(ConfigType.SYNC)
+        .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(CATALOG).withSourceDockerImage("source:1.0.0"));
+    final JsonNode serializedConfig = Jsons.jsonNode(config);
+
+    final DetachedCatalog detached = JobConfigCatalogs.detach(serializedConfig).orElseThrow();
+
+    assertFalse(detached.config().get("sync").has("configuredAirbyteCatalog"));
+    assertTrue(serializedConfig.get("sync").has("configuredAirbyteCatalog"));
+    assertEquals(Jsons.serialize(CATALOG), detached.catalog());
+    assertEquals(JobConfigCatalogs.hash(Jsons.serialize(CATALOG)), detached.hash());
+    assertEquals(config,
+        Jsons.object(JobConfigCatalogs.attach(detached.config(), Jsons.deserialize(detached.catalog())), JobConfig.class));
+  }
+
+  @Test
+  void testDetachResetCatalog() {
+    final JobConfig config = new JobConfig()
+        .withConfigType(ConfigType.RESET_CONNECTION)
+        .withResetConnection(new JobResetConnectionConfig().withConfiguredAirbyteCatalog(CATALOG));
+
+    final DetachedCatalog detached = JobConfigCatalogs.detach(Jsons.jsonNode(config)).orElseThrow();
+
+    assertFalse(detached.config().get("resetConnection").has("configuredAirbyteCatalog"));
+  }
+
+  @Test
+  void testDetachWithoutCatalog() {
+    final JobConfig config = new JobConfig()
+        .withConfigType(ConfigType.GET_SPEC)
+        .withGetSpec(new JobGetSpecConfig().withDockerImage("source:1.0.0"));
+
+    assertTrue(JobConfigCatalogs.detach(Jsons.jsonNode(config)).isEmpty());
+  }
+
+  @Test
+  void testHashDependsOnContent() {
+    assertEquals(JobConfigCatalogs.hash("{\"streams\":[]}"), JobConfigCatalogs.hash("{\"streams\":[]}"));
+    assertNotEquals(JobConfigCatalogs.hash("{\"streams\":[]}"), JobConfigCatalogs.hash("{\"streams\":[{}]}"));
+  }
+
+}
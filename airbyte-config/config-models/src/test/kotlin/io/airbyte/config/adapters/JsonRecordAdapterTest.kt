@@ -50,6 +50,19 @@ class JsonRecordAdapterTest {
     assertEquals("4.2", adapter.get(NUMBER_FIELD).asString())
   }
 
+  @Test
+  fun `typed read`() {
+    val adapter = getAdapterFromRecord(jsonRecordString)
+
+    assertEquals("bar", adapter.getString(STRING_FIELD))
+    assertEquals(true, adapter.getBoolean(BOOLEAN_FIELD))
+    assertEquals(42.0, adapter.getNumber(INT_FIELD))
+    assertEquals("4.2", adapter.getString(NUMBER_FIELD))
+
+    val bytes = adapter.getUtf8Bytes(STRING_FIELD, Utf8Bytes())
+    assertEquals("bar", String(bytes.bytes, 0, bytes.length))
+  }
+
   @Test
   fun `tracking meta changes`() {
     val adapter = getAdapterFromRecord(jsonRecordString)
@@ -0,0 +1,31 @@
+package io.airbyte.config.adapters
+
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+
+class Utf8BytesTest {
+  @ParameterizedTest
+  @ValueSource(strings = ["", "ascii", "café", "日本語", "emoji 😀", "unpaired \uD83D surrogate", "low \uDE00 first"])
+  fun `values are encoded as String toByteArray does`(value: String) {
+    val buffer = Utf8Bytes(1).encode(value)
+
+    assertArrayEquals(value.toByteArray(), buffer.bytes.copyOf(buffer.length))
+  }
+
+  @Test
+  fun `the buffer is reused across values`() {
+    val buffer = Utf8Bytes(16)
+
+    buffer.encode("a longer value than the next one")
+    val bytes = buffer.bytes
+    buffer.encode("short")
+
+    assertEquals(5, buffer.length)
+    assertArrayEquals("short".toByteArray(), buffer.bytes.copyOf(buffer.length))
+    assertSame(bytes, buffer.bytes)
+  }
+}
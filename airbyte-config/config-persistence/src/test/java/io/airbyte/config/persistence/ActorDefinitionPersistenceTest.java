@@ -15,6 +15,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.Geography;
@@ -32,6 +33,7 @@ import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.OrganizationService;
 import io.airbyte.data.services.ScopedConfigurationService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
+import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.impls.jooq.ActorDefinitionServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.ConnectionServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.ConnectorBuilderServiceJooqImpl;
@@ -65,6 +67,7 @@ class ActorDefinitionPersistenceTest extends BaseConfigDatabaseTest {
 
   private ConfigRepository configRepository;
   private ActorDefinitionService actorDefinitionService;
+  private SourceService sourceService;
 
   @BeforeEach
   void setup() throws SQLException, IOException {
@@ -84,6 +87,13 @@ class ActorDefinitionPersistenceTest extends BaseConfigDatabaseTest {
     final ActorDefinitionVersionUpdater actorDefinitionVersionUpdater =
         new ActorDefinitionVersionUpdater(featureFlagClient, connectionService, actorDefinitionService, scopedConfigurationService);
     final OrganizationService organizationService = new OrganizationServiceJooqImpl(database);
+    sourceService = new SourceServiceJooqImpl(database,
+        featureFlagClient,
+        secretsRepositoryReader,
+        secretsRepositoryWriter,
+        secretPersistenceConfigService,
+        connectionService,
+        actorDefinitionVersionUpdater);
     configRepository = spy(
         new ConfigRepository(
             connectionService,
@@ -96,13 +106,7 @@ class ActorDefinitionPersistenceTest extends BaseConfigDatabaseTest {
                 connectionService,
                 actorDefinitionVersionUpdater),
             new OperationServiceJooqImpl(database),
-            new SourceServiceJooqImpl(database,
-                featureFlagClient,
-                secretsRepositoryReader,
-                secretsRepositoryWriter,
-                secretPersistenceConfigService,
-                connectionService,
-                actorDefinitionVersionUpdater),
+            sourceService,
             new WorkspaceServiceJooqImpl(database,
                 featureFlagClient,
                 secretsRepositoryReader,
@@ -435,6 +439,26 @@ class ActorDefinitionPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(sourceDefinition2.withDefaultVersionId(actorDefinitionVersion.getVersionId()), sourceDefinition2FromDB);
   }
 
+  @Test
+  void testUpdateStandardSourceDefinitions() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final StandardSourceDefinition sourceDefinition = createBaseSourceDef();
+    final ActorDefinitionVersion actorDefinitionVersion = createBaseActorDefVersion(sourceDefinition.getSourceDefinitionId());
+    final StandardSourceDefinition otherSourceDefinition = createBaseSourceDef();
+    final ActorDefinitionVersion otherActorDefinitionVersion = createBaseActorDefVersion(otherSourceDefinition.getSourceDefinitionId());
+    configRepository.writeConnectorMetadata(sourceDefinition, actorDefinitionVersion);
+    configRepository.writeConnectorMetadata(otherSourceDefinition, otherActorDefinitionVersion);
+
+    final StandardSourceDefinition updatedSourceDefinition = Jsons.clone(sourceDefinition).withName("new name").withDefaultVersionId(null);
+    final StandardSourceDefinition updatedOtherSourceDefinition =
+        Jsons.clone(otherSourceDefinition).withIcon("updated icon").withDefaultVersionId(null);
+    sourceService.updateStandardSourceDefinitions(List.of(updatedSourceDefinition, updatedOtherSourceDefinition));
+
+    assertEquals(updatedSourceDefinition.withDefaultVersionId(actorDefinitionVersion.getVersionId()),
+        configRepository.getStandardSourceDefinition(sourceDefinition.getSourceDefinitionId()));
+    assertEquals(updatedOtherSourceDefinition.withDefaultVersionId(otherActorDefinitionVersion.getVersionId()),
+        configRepository.getStandardSourceDefinition(otherSourceDefinition.getSourceDefinitionId()));
+  }
+
   @Test
   void testUpdateNonexistentStandardSourceDefinitionThrows() {
     final StandardSourceDefinition sourceDefinition = createBaseSourceDef();
@@ -278,6 +278,40 @@ class ConfigRepositoryE2EReadWriteTest extends BaseConfigDatabaseTest {
     assertEquals(expectedCatalog, Jsons.serialize(catalogResult.get().getCatalog()));
   }
 
+  @Test
+  void testWriteActorCatalogFetchEventIfUnchanged() throws IOException {
+    final StandardWorkspace workspace = MockData.standardWorkspaces().get(0);
+
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(UUID.randomUUID())
+        .withSourceType(SourceType.DATABASE)
+        .withName("sourceDefinition");
+    final ActorDefinitionVersion actorDefinitionVersion = MockData.actorDefinitionVersion()
+        .withActorDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withVersionId(sourceDefinition.getDefaultVersionId());
+    configRepository.writeConnectorMetadata(sourceDefinition, actorDefinitionVersion);
+
+    final SourceConnection source = new SourceConnection()
+        .withSourceDefinitionId(sourceDefinition.getSourceDefinitionId())
+        .withSourceId(UUID.randomUUID())
+        .withName("SomeConnector")
+        .withWorkspaceId(workspace.getWorkspaceId())
+        .withConfiguration(Jsons.deserialize("{}"));
+    configRepository.writeSourceConnectionNoSecrets(source);
+
+    final String catalogHash = "aaaa";
+    assertTrue(catalogService.writeActorCatalogFetchEventIfUnchanged(source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH, catalogHash).isEmpty());
+
+    final AirbyteCatalog catalog = CatalogHelpers.createAirbyteCatalog("product",
+        Field.of("label", JsonSchemaType.STRING), Field.of("size", JsonSchemaType.NUMBER));
+    final UUID catalogId = catalogService.writeActorCatalogFetchEvent(catalog, source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH, catalogHash);
+
+    assertEquals(Optional.of(catalogId),
+        catalogService.writeActorCatalogFetchEventIfUnchanged(source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH, catalogHash));
+    assertTrue(catalogService.writeActorCatalogFetchEventIfUnchanged(source.getSourceId(), DOCKER_IMAGE_TAG, CONFIG_HASH, "bbbb").isEmpty());
+    assertEquals(catalogId, catalogService.getMostRecentSourceActorCatalog(source.getSourceId()).orElseThrow().getId());
+  }
+
   @Test
   void testWriteCanonicalHashActorCatalog() throws IOException, JsonValidationException, SQLException {
     final String canonicalConfigHash = "8ad32981";
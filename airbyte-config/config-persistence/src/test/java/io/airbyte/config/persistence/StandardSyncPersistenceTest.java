@@ -23,18 +23,21 @@ import io.airbyte.config.ActorType;
 import io.airbyte.config.AirbyteStream;
 import io.airbyte.config.ConfiguredAirbyteCatalog;
 import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.Cron;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.DestinationSyncMode;
 import io.airbyte.config.Geography;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.config.ReleaseStage;
 import io.airbyte.config.ResourceRequirements;
+import io.airbyte.config.ScheduleData;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSourceDefinition.SourceType;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.NonBreakingChangesPreference;
+import io.airbyte.config.StandardSync.ScheduleType;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardWorkspace;
@@ -58,6 +61,8 @@ import io.airbyte.data.services.impls.jooq.OperationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.OrganizationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.SourceServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
+import io.airbyte.data.services.shared.ConnectionNextRun;
+import io.airbyte.data.services.shared.ConnectionScheduleInfo;
 import io.airbyte.db.instance.configs.jooq.generated.enums.AutoPropagationStatus;
 import io.airbyte.db.instance.configs.jooq.generated.enums.NotificationType;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
@@ -70,6 +75,8 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -80,6 +87,7 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
   private static final UUID workspaceId = UUID.randomUUID();
 
   private ConfigRepository configRepository;
+  private ConnectionService connectionService;
   private StandardSyncPersistence standardSyncPersistence;
 
   private StandardSourceDefinition sourceDef1;
@@ -107,7 +115,7 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     final SecretPersistenceConfigService secretPersistenceConfigService = mock(SecretPersistenceConfigService.class);
     final ScopedConfigurationService scopedConfigurationService = mock(ScopedConfigurationService.class);
 
-    final ConnectionService connectionService = new ConnectionServiceJooqImpl(database);
+    connectionService = new ConnectionServiceJooqImpl(database);
     final ActorDefinitionService actorDefinitionService = new ActorDefinitionServiceJooqImpl(database);
     final ActorDefinitionVersionUpdater actorDefinitionVersionUpdater =
         new ActorDefinitionVersionUpdater(featureFlagClient, connectionService, actorDefinitionService, scopedConfigurationService);
@@ -425,6 +433,81 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(Status.DEPRECATED, sync4.getStatus());
   }
 
+  @Test
+  void testListConnectionScheduleInfos() throws IOException, JsonValidationException {
+    createBaseObjects();
+
+    final StandardSync cronSync = createStandardSync(source1, destination1);
+    final ScheduleData cronScheduleData = new ScheduleData().withCron(new Cron().withCronExpression("0 0 * * * ?").withCronTimeZone("UTC"));
+    standardSyncPersistence.writeStandardSync(cronSync.withManual(false).withScheduleType(ScheduleType.CRON).withScheduleData(cronScheduleData));
+
+    final StandardSync manualSync = createStandardSync(source2, destination2);
+    standardSyncPersistence.writeStandardSync(manualSync.withStatus(Status.INACTIVE).withScheduleType(ScheduleType.MANUAL));
+
+    final List<ConnectionScheduleInfo> scheduleInfos = connectionService.listConnectionScheduleInfos(
+        List.of(cronSync.getConnectionId(), manualSync.getConnectionId(), UUID.randomUUID()));
+
+    assertThat(scheduleInfos).containsExactlyInAnyOrder(
+        new ConnectionScheduleInfo(workspaceId, new StandardSync()
+            .withConnectionId(cronSync.getConnectionId())
+            .withStatus(Status.ACTIVE)
+            .withManual(false)
+            .withScheduleType(ScheduleType.CRON)
+            .withScheduleData(cronScheduleData)),
+        new ConnectionScheduleInfo(workspaceId, new StandardSync()
+            .withConnectionId(manualSync.getConnectionId())
+            .withStatus(Status.INACTIVE)
+            .withManual(true)
+            .withScheduleType(ScheduleType.MANUAL)));
+    assertTrue(connectionService.listConnectionScheduleInfos(List.of()).isEmpty());
+  }
+
+  @Test
+  void testConnectionNextRuns() throws IOException, JsonValidationException {
+    createBaseObjects();
+
+    final StandardSync activeSync = createStandardSync(source1, destination1);
+    final StandardSync inactiveSync = createStandardSync(source2, destination2);
+    standardSyncPersistence.writeStandardSync(inactiveSync.withStatus(Status.INACTIVE));
+
+    final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+    final OffsetDateTime listedAfter = now.minusMinutes(1);
+    connectionService.setConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(5));
+    connectionService.setConnectionNextRun(inactiveSync.getConnectionId(), now.plusMinutes(5));
+
+    // inactive connections are left out
+    assertEquals(List.of(new ConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(5))),
+        connectionService.listConnectionNextRunsBetween(now, now.plusHours(1)));
+    assertTrue(connectionService.listConnectionNextRunsBetween(now.plusHours(1), now.plusHours(2)).isEmpty());
+    assertEquals(1, connectionService.listConnectionNextRunsUpdatedSince(listedAfter, now.plusHours(1)).size());
+
+    // setting the next run again replaces it
+    connectionService.setConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(10));
+    assertEquals(List.of(new ConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(10))),
+        connectionService.listConnectionNextRunsBetween(now, now.plusHours(1)));
+
+    // runs that are not due yet cannot be claimed, due runs are claimed once
+    final ConnectionNextRun dueRun = new ConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(10));
+    assertTrue(connectionService.claimDueConnectionNextRuns(List.of(activeSync.getConnectionId()), now).isEmpty());
+    assertEquals(List.of(dueRun), connectionService.claimDueConnectionNextRuns(List.of(activeSync.getConnectionId()), now.plusMinutes(10)));
+    assertTrue(connectionService.claimDueConnectionNextRuns(List.of(activeSync.getConnectionId()), now.plusMinutes(10)).isEmpty());
+
+    // a claimed run that failed to be triggered can be claimed again once restored
+    connectionService.restoreConnectionNextRun(dueRun);
+    assertEquals(List.of(dueRun), connectionService.claimDueConnectionNextRuns(List.of(activeSync.getConnectionId()), now.plusMinutes(10)));
+
+    // restoring a claimed run keeps a next run set since
+    connectionService.setConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(15));
+    connectionService.restoreConnectionNextRun(dueRun);
+    assertEquals(List.of(new ConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(15))),
+        connectionService.listConnectionNextRunsBetween(now, now.plusHours(1)));
+
+    // clearing the next run removes it
+    connectionService.setConnectionNextRun(activeSync.getConnectionId(), now.plusMinutes(20));
+    connectionService.setConnectionNextRun(activeSync.getConnectionId(), null);
+    assertTrue(connectionService.listConnectionNextRunsBetween(now, now.plusHours(1)).isEmpty());
+  }
+
   private void createBaseObjects() throws IOException, JsonValidationException {
     final StandardWorkspace workspace = new StandardWorkspace()
         .withWorkspaceId(workspaceId)
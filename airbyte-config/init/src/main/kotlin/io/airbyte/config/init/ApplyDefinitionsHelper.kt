@@ -3,6 +3,7 @@
  */
 package io.airbyte.config.init
 
+import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.version.AirbyteProtocolVersion
 import io.airbyte.commons.version.AirbyteProtocolVersionRange
 import io.airbyte.config.ActorDefinitionBreakingChange
@@ -24,11 +25,14 @@ import io.airbyte.data.services.ActorDefinitionService
 import io.airbyte.data.services.ConnectorRolloutService
 import io.airbyte.data.services.DestinationService
 import io.airbyte.data.services.SourceService
+import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.persistence.job.JobPersistence
 import io.airbyte.validation.json.JsonValidationException
 import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import org.slf4j.Logger
@@ -55,9 +59,23 @@ class ApplyDefinitionsHelper(
   private val actorDefinitionVersionResolver: ActorDefinitionVersionResolver,
   private val airbyteCompatibleConnectorsValidator: AirbyteCompatibleConnectorsValidator,
   private val connectorRolloutService: ConnectorRolloutService,
+  @param:Value("\${airbyte.connector-registry.apply-definitions.diff-mode-enabled:false}") private val diffModeEnabled: Boolean,
 ) {
   private var newConnectorCount = 0
   private var changedConnectorCount = 0
+  private var currentDefinitions: CurrentDefinitions? = null
+
+  /**
+   * Definitions stored before the registry is applied. In diff mode, they are loaded once and the definitions whose version is unchanged
+   * are only written if they differ from the stored ones, in a single batch per actor type, instead of being read and written one by one.
+   */
+  private class CurrentDefinitions(
+    val sources: Map<UUID, StandardSourceDefinition>,
+    val destinations: Map<UUID, StandardDestinationDefinition>,
+  ) {
+    val sourcesToUpdate: MutableList<StandardSourceDefinition> = ArrayList()
+    val destinationsToUpdate: MutableList<StandardDestinationDefinition> = ArrayList()
+  }
 
   /**
    * Apply the latest definitions from the provider to the repository.
@@ -78,32 +96,63 @@ class ApplyDefinitionsHelper(
     updateAll: Boolean = false,
     reImportVersionInUse: Boolean = false,
   ) {
-    val latestSourceDefinitions = definitionsProvider.sourceDefinitions
-    val latestDestinationDefinitions = definitionsProvider.destinationDefinitions
-
-    val currentProtocolRange = jobPersistence.currentProtocolVersionRange
-    val protocolCompatibleSourceDefinitions =
-      filterOutIncompatibleSourceDefs(currentProtocolRange, latestSourceDefinitions)
-    val protocolCompatibleDestinationDefinitions =
-      filterOutIncompatibleDestDefs(currentProtocolRange, latestDestinationDefinitions)
-
-    val airbyteCompatibleSourceDefinitions =
-      filterOutIncompatibleSourceDefsWithCurrentAirbyteVersion(protocolCompatibleSourceDefinitions)
-    val airbyteCompatibleDestinationDefinitions =
-      filterOutIncompatibleDestinationDefsWithCurrentAirbyteVersion(protocolCompatibleDestinationDefinitions)
-    val actorDefinitionIdsToDefaultVersionsMap =
-      actorDefinitionService.actorDefinitionIdsToDefaultVersionsMap
-    val actorDefinitionIdsInUse = actorDefinitionService.actorDefinitionIdsInUse
+    val (airbyteCompatibleSourceDefinitions, airbyteCompatibleDestinationDefinitions) =
+      timePhase("load_registry") {
+        val latestSourceDefinitions = definitionsProvider.sourceDefinitions
+        val latestDestinationDefinitions = definitionsProvider.destinationDefinitions
+
+        val currentProtocolRange = jobPersistence.currentProtocolVersionRange
+        val protocolCompatibleSourceDefinitions =
+          filterOutIncompatibleSourceDefs(currentProtocolRange, latestSourceDefinitions)
+        val protocolCompatibleDestinationDefinitions =
+          filterOutIncompatibleDestDefs(currentProtocolRange, latestDestinationDefinitions)
+
+        Pair(
+          filterOutIncompatibleSourceDefsWithCurrentAirbyteVersion(protocolCompatibleSourceDefinitions),
+          filterOutIncompatibleDestinationDefsWithCurrentAirbyteVersion(protocolCompatibleDestinationDefinitions),
+        )
+      }
+
+    val (actorDefinitionIdsToDefaultVersionsMap, actorDefinitionIdsInUse) =
+      timePhase("load_current") {
+        currentDefinitions =
+          if (diffModeEnabled) {
+            CurrentDefinitions(
+              sourceService.listStandardSourceDefinitions(true).associateBy { it.sourceDefinitionId },
+              destinationService.listStandardDestinationDefinitions(true).associateBy { it.destinationDefinitionId },
+            )
+          } else {
+            null
+          }
+        Pair(actorDefinitionService.actorDefinitionIdsToDefaultVersionsMap, actorDefinitionService.actorDefinitionIdsInUse)
+      }
 
     newConnectorCount = 0
     changedConnectorCount = 0
-    for (def in airbyteCompatibleSourceDefinitions) {
-      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
-    }
-    for (def in airbyteCompatibleDestinationDefinitions) {
-      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
+    try {
+      timePhase("diff") {
+        for (def in airbyteCompatibleSourceDefinitions) {
+          applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
+        }
+        for (def in airbyteCompatibleDestinationDefinitions) {
+          applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, reImportVersionInUse)
+        }
+      }
+      currentDefinitions?.let { current ->
+        timePhase("write") {
+          if (current.sourcesToUpdate.isNotEmpty()) {
+            sourceService.updateStandardSourceDefinitions(current.sourcesToUpdate)
+          }
+          if (current.destinationsToUpdate.isNotEmpty()) {
+            destinationService.updateStandardDestinationDefinitions(current.destinationsToUpdate)
+          }
+        }
+        log.info("Definitions with an unchanged version updated: {}", current.sourcesToUpdate.size + current.destinationsToUpdate.size)
+      }
+    } finally {
+      currentDefinitions = null
     }
-    supportStateUpdater.updateSupportStates()
+    timePhase("update_support_states") { supportStateUpdater.updateSupportStates() }
     log.info("New connectors added: {}", newConnectorCount)
     log.info("Version changes applied: {}", changedConnectorCount)
   }
@@ -190,7 +239,7 @@ class ApplyDefinitionsHelper(
         trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.REFRESH_VERSION)
       }
     } else {
-      sourceService.updateStandardSourceDefinition(newSourceDef)
+      updateSourceDefinition(newSourceDef)
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED)
     }
 
@@ -306,13 +355,48 @@ class ApplyDefinitionsHelper(
         trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED)
       }
     } else {
-      destinationService.updateStandardDestinationDefinition(newDestinationDef)
+      updateDestinationDefinition(newDestinationDef)
       trackDefinitionProcessed(newDef.dockerRepository, newDef.dockerImageTag, DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED)
     }
 
     applyReleaseCandidates(rcDefinitions)
   }
 
+  /**
+   * Update a source definition whose default version is unchanged. In diff mode, the update is only queued if the definition differs from
+   * the stored one.
+   */
+  private fun updateSourceDefinition(newSourceDef: StandardSourceDefinition) {
+    val current = currentDefinitions
+    if (current == null) {
+      sourceService.updateStandardSourceDefinition(newSourceDef)
+      return
+    }
+    // The registry does not carry the default version, which is managed separately.
+    val storedSourceDef = current.sources[newSourceDef.sourceDefinitionId]?.let { Jsons.clone(it).withDefaultVersionId(null) }
+    if (storedSourceDef != newSourceDef) {
+      current.sourcesToUpdate.add(newSourceDef)
+    }
+  }
+
+  /**
+   * Update a destination definition whose default version is unchanged. In diff mode, the update is only queued if the definition differs
+   * from the stored one.
+   */
+  private fun updateDestinationDefinition(newDestinationDef: StandardDestinationDefinition) {
+    val current = currentDefinitions
+    if (current == null) {
+      destinationService.updateStandardDestinationDefinition(newDestinationDef)
+      return
+    }
+    // The registry does not carry the default version, which is managed separately.
+    val storedDestinationDef =
+      current.destinations[newDestinationDef.destinationDefinitionId]?.let { Jsons.clone(it).withDefaultVersionId(null) }
+    if (storedDestinationDef != newDestinationDef) {
+      current.destinationsToUpdate.add(newDestinationDef)
+    }
+  }
+
   private fun getShouldRefreshActorDefinitionDefaultVersion(
     currentDefaultADV: ActorDefinitionVersion,
     actorDefinitionIdsInUse: Set<UUID>,
@@ -415,6 +499,26 @@ class ApplyDefinitionsHelper(
     return protocolVersionRange.isSupported(AirbyteProtocolVersion.getWithDefault(protocolVersion))
   }
 
+  /**
+   * Run a phase of the application of the definitions, recording its duration in diff mode.
+   */
+  private inline fun <T> timePhase(
+    phase: String,
+    block: () -> T,
+  ): T {
+    if (!diffModeEnabled) {
+      return block()
+    }
+    val start = System.nanoTime()
+    try {
+      return block()
+    } finally {
+      val durationMs = (System.nanoTime() - start) / 1_000_000.0
+      log.info("Applied definitions phase {} in {} ms", phase, durationMs)
+      metricClient.distribution(OssMetricsRegistry.CONNECTOR_REGISTRY_APPLY_PHASE_DURATION_MS, durationMs, MetricAttribute(MetricTags.PHASE, phase))
+    }
+  }
+
   private fun trackDefinitionProcessed(
     dockerRepository: String,
     dockerImageTag: String,
@@ -13,6 +13,8 @@ import io.airbyte.featureflag.NotifyOnConnectorBreakingChanges
 import io.airbyte.featureflag.Workspace
 import io.airbyte.notification.CustomerioNotificationClient
 import io.airbyte.notification.NotificationClient
+import io.airbyte.notification.NotificationDispatcher
+import jakarta.inject.Inject
 import jakarta.inject.Singleton
 import org.slf4j.LoggerFactory
 import java.io.IOException
@@ -46,10 +48,19 @@ class BreakingChangeNotificationHelper {
   private val notificationClient: NotificationClient
   private val featureFlagClient: FeatureFlagClient
 
-  constructor(configRepository: ConfigRepository, featureFlagClient: FeatureFlagClient) {
+  /**
+   * With a notification dispatcher, the emails are sent in the background, so that a slow Customer.io does not hold the connector
+   * definitions update that triggered them.
+   */
+  @Inject
+  constructor(
+    configRepository: ConfigRepository,
+    featureFlagClient: FeatureFlagClient,
+    notificationDispatcher: NotificationDispatcher?,
+  ) {
     this.configRepository = configRepository
     this.featureFlagClient = featureFlagClient
-    this.notificationClient = CustomerioNotificationClient()
+    this.notificationClient = CustomerioNotificationClient(notificationDispatcher)
   }
 
   @VisibleForTesting
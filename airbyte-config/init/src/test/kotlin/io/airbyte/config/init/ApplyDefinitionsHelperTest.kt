@@ -81,6 +81,7 @@ internal class ApplyDefinitionsHelperTest {
         actorDefinitionVersionResolver,
         airbyteCompatibleConnectorsValidator,
         connectorRolloutService,
+        false,
       )
 
     every { actorDefinitionService.actorDefinitionIdsInUse } returns emptySet()
@@ -661,6 +662,79 @@ internal class ApplyDefinitionsHelperTest {
     confirmVerified(actorDefinitionService, sourceService, destinationService, supportStateUpdater, metricClient)
   }
 
+  @Test
+  fun `diff mode should not write definitions that are unchanged`() {
+    mockSeedInitialDefinitions()
+    every { actorDefinitionService.actorDefinitionIdsInUse } returns setOf(POSTGRES_ID, S3_ID)
+    every { definitionsProvider.sourceDefinitions } returns listOf(SOURCE_POSTGRES)
+    every { definitionsProvider.destinationDefinitions } returns listOf(DESTINATION_S3)
+    every { sourceService.listStandardSourceDefinitions(true) } returns
+      listOf(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES).withDefaultVersionId(UUID.randomUUID()))
+    every { destinationService.listStandardDestinationDefinitions(true) } returns
+      listOf(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3).withDefaultVersionId(UUID.randomUUID()))
+    justRun { metricClient.distribution(any(), any(), *anyVararg<MetricAttribute>()) }
+
+    diffModeApplyDefinitionsHelper().apply()
+
+    verify(exactly = 0) { sourceService.updateStandardSourceDefinition(any()) }
+    verify(exactly = 0) { sourceService.updateStandardSourceDefinitions(any()) }
+    verify(exactly = 0) { destinationService.updateStandardDestinationDefinition(any()) }
+    verify(exactly = 0) { destinationService.updateStandardDestinationDefinitions(any()) }
+    verify(exactly = 0) { sourceService.writeConnectorMetadata(any(), any(), any()) }
+    verify(exactly = 0) { destinationService.writeConnectorMetadata(any(), any(), any()) }
+    listOf("load_registry", "load_current", "diff", "write", "update_support_states").forEach { phase ->
+      verify {
+        metricClient.distribution(OssMetricsRegistry.CONNECTOR_REGISTRY_APPLY_PHASE_DURATION_MS, any(), MetricAttribute("phase", phase))
+      }
+    }
+  }
+
+  @Test
+  fun `diff mode should write changed definitions in a single batch`() {
+    mockSeedInitialDefinitions()
+    every { actorDefinitionService.actorDefinitionIdsInUse } returns setOf(POSTGRES_ID, S3_ID)
+    val renamedSource = Jsons.clone(SOURCE_POSTGRES).withName("Postgres - Renamed")
+    every { definitionsProvider.sourceDefinitions } returns listOf(renamedSource)
+    every { definitionsProvider.destinationDefinitions } returns listOf(DESTINATION_S3)
+    every { sourceService.listStandardSourceDefinitions(true) } returns
+      listOf(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES))
+    every { destinationService.listStandardDestinationDefinitions(true) } returns
+      listOf(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3))
+    justRun { sourceService.updateStandardSourceDefinitions(any()) }
+    justRun { metricClient.distribution(any(), any(), *anyVararg<MetricAttribute>()) }
+
+    diffModeApplyDefinitionsHelper().apply()
+
+    verify(exactly = 1) {
+      sourceService.updateStandardSourceDefinitions(listOf(ConnectorRegistryConverters.toStandardSourceDefinition(renamedSource)))
+    }
+    verify(exactly = 0) { sourceService.updateStandardSourceDefinition(any()) }
+    verify(exactly = 0) { destinationService.updateStandardDestinationDefinitions(any()) }
+    verify(exactly = 2) {
+      metricClient.count(
+        OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
+        1,
+        MetricAttribute("status", "ok"),
+        MetricAttribute("outcome", DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED.toString()),
+      )
+    }
+  }
+
+  private fun diffModeApplyDefinitionsHelper(): ApplyDefinitionsHelper =
+    ApplyDefinitionsHelper(
+      definitionsProvider,
+      jobPersistence,
+      actorDefinitionService,
+      sourceService,
+      destinationService,
+      metricClient,
+      supportStateUpdater,
+      actorDefinitionVersionResolver,
+      airbyteCompatibleConnectorsValidator,
+      connectorRolloutService,
+      true,
+    )
+
   companion object {
     private const val INITIAL_CONNECTOR_VERSION = "0.1.0"
     private const val UPDATED_CONNECTOR_VERSION = "0.2.0"
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.storage.StorageClient;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content-addressed cache of resolved manifests. Resolving a manifest only depends on the manifest
+ * itself and on the CDK version, so the cache key is the CDK version plus a hash of the canonical
+ * serialization of the manifest.
+ * <p>
+ * Entries are kept in a local cache bounded by the total size of the serialized resolved manifests
+ * and, if a document store is configured, in a cache shared by all replicas.
+ */
+@Singleton
+public class ResolvedManifestCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResolvedManifestCache.class);
+  private static final String LOCAL_TIER = "local";
+  private static final String SHARED_TIER = "shared";
+
+  private final boolean enabled;
+  private final String cdkVersion;
+  private final Cache<String, String> localCache;
+  private final Optional<StorageClient> sharedCache;
+  private final MetricClient metricClient;
+
+  public ResolvedManifestCache(@Value("${airbyte.connector-builder-server.resolve-manifest-cache.enabled}") final boolean enabled,
+                               @Value("${airbyte.connector-builder-server.resolve-manifest-cache.max-size-bytes}") final long maxSizeBytes,
+                               @Named("buildCdkVersion") final String cdkVersion,
+                               @Named("resolvedManifestDocumentStore") final Optional<StorageClient> sharedCache,
+                               final MetricClient metricClient) {
+    this.enabled = enabled;
+    this.cdkVersion = cdkVersion;
+    this.localCache = Caffeine.newBuilder()
+        .maximumWeight(maxSizeBytes)
+        .weigher((final String key, final String resolvedManifest) -> key.length() + resolvedManifest.length())
+        .build();
+    this.sharedCache = sharedCache;
+    this.metricClient = metricClient;
+  }
+
+  /**
+   * Compute the cache key of a manifest.
+   */
+  public String key(final JsonNode manifest) throws IOException {
+    final String canonicalManifest = Jsons.canonicalJsonSerialize(Jsons.deserializeIfText(manifest));
+    return String.format("%s/%s", cdkVersion, Hashing.sha256().hashString(canonicalManifest, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Look up the resolved manifest for the given key, first locally then in the shared cache.
+   */
+  public Optional<JsonNode> get(final String key) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    final String localHit = localCache.getIfPresent(key);
+    if (localHit != null) {
+      recordLookup(OssMetricsRegistry.RESOLVE_MANIFEST_CACHE_HIT, LOCAL_TIER);
+      return Optional.of(Jsons.deserialize(localHit));
+    }
+    recordLookup(OssMetricsRegistry.RESOLVE_MANIFEST_CACHE_MISS, LOCAL_TIER);
+
+    if (sharedCache.isEmpty()) {
+      return Optional.empty();
+    }
+    final String sharedHit = readShared(key);
+    if (sharedHit == null) {
+      recordLookup(OssMetricsRegistry.RESOLVE_MANIFEST_CACHE_MISS, SHARED_TIER);
+      return Optional.empty();
+    }
+    recordLookup(OssMetricsRegistry.RESOLVE_MANIFEST_CACHE_HIT, SHARED_TIER);
+    localCache.put(key, sharedHit);
+    return Optional.of(Jsons.deserialize(sharedHit));
+  }
+
+  /**
+   * Store the resolved manifest for the given key.
+   */
+  public void put(final String key, final JsonNode resolvedManifest) {
+    if (!enabled || resolvedManifest == null) {
+      return;
+    }
+
+    final String serialized = Jsons.serialize(resolvedManifest);
+    localCache.put(key, serialized);
+    sharedCache.ifPresent(storageClient -> {
+      try {
+        storageClient.write(key, serialized);
+      } catch (final RuntimeException e) {
+        // The shared cache is an optimization, failing to populate it must not fail the request.
+        LOGGER.warn("Failed to write resolved manifest {} to the shared cache", key, e);
+      }
+    });
+  }
+
+  private String readShared(final String key) {
+    try {
+      return sharedCache.get().read(key);
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Failed to read resolved manifest {} from the shared cache", key, e);
+      return null;
+    }
+  }
+
+  private void recordLookup(final OssMetricsRegistry metric, final String tier) {
+    metricClient.count(metric, 1, new MetricAttribute(MetricTags.CACHE_TIER, tier));
+  }
+
+}
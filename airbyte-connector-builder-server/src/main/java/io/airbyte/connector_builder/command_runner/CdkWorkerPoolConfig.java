@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import java.time.Duration;
+
+/**
+ * Sizing and recycling configuration of the pool of long-lived CDK workers.
+ *
+ * @param size number of workers kept alive
+ * @param maxRequestsPerWorker number of requests after which a worker is replaced
+ * @param maxWorkerMemoryBytes resident memory above which a worker is replaced
+ * @param acquireTimeout how long a request waits for an idle worker
+ * @param requestTimeout how long a worker has to answer a request
+ */
+public record CdkWorkerPoolConfig(int size,
+                                  int maxRequestsPerWorker,
+                                  long maxWorkerMemoryBytes,
+                                  Duration acquireTimeout,
+                                  Duration requestTimeout) {}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A long-lived CDK process that serves connector builder requests one at a time. Each request is
+ * written as a single JSON line to the process' stdin, and the process answers with a single
+ * AirbyteMessage JSON line on its stdout.
+ */
+class CdkWorkerProcess implements AutoCloseable {
+
+  private static final long BYTES_PER_KB = 1024L;
+
+  private final Process process;
+  private final BufferedWriter stdin;
+  private final BufferedReader stdout;
+  private int requestsServed;
+
+  private CdkWorkerProcess(final Process process) {
+    this.process = process;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+  }
+
+  static CdkWorkerProcess start(final ProcessBuilder processBuilder) throws IOException {
+    return new CdkWorkerProcess(processBuilder.start());
+  }
+
+  /**
+   * Send a request to the worker and wait for its response.
+   *
+   * @throws IOException if the worker could not be reached
+   * @throws CdkProcessException if the worker did not answer in time or answered with garbage
+   */
+  AirbyteMessage request(final String configContents,
+                         final String catalogContents,
+                         final String stateContents,
+                         final Duration timeout,
+                         final ExecutorService responseReaders)
+      throws IOException {
+    final String request = Jsons.serialize(Map.of(
+        "config", configContents,
+        "catalog", catalogContents,
+        "state", stateContents));
+    stdin.write(request);
+    stdin.newLine();
+    stdin.flush();
+    requestsServed++;
+
+    final CompletableFuture<String> response = CompletableFuture.supplyAsync(this::readResponseLine, responseReaders);
+    final String line;
+    try {
+      line = response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final TimeoutException e) {
+      response.cancel(true);
+      throw new CdkProcessException(String.format("CDK worker did not answer within %s.", timeout));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CdkProcessException("Interrupted while waiting for the CDK worker to answer.");
+    } catch (final ExecutionException e) {
+      throw new IOException("Failed to read the response of the CDK worker.", e.getCause());
+    }
+
+    if (line == null) {
+      throw new CdkProcessException(String.format("CDK worker exited before answering with exit code %s.",
+          process.isAlive() ? "unknown" : process.exitValue()));
+    }
+    try {
+      return Jsons.deserialize(line, AirbyteMessage.class);
+    } catch (final RuntimeException e) {
+      throw new CdkProcessException(String.format("CDK worker answered with an invalid message: %s", line));
+    }
+  }
+
+  private String readResponseLine() {
+    try {
+      return stdout.readLine();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  int getRequestsServed() {
+    return requestsServed;
+  }
+
+  /**
+   * Resident memory of the worker, read from procfs. Empty if it cannot be determined, e.g. when not
+   * running on Linux.
+   */
+  OptionalLong residentMemoryBytes() {
+    final Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+    try {
+      return Files.readAllLines(status).stream()
+          .filter(line -> line.startsWith("VmRSS:"))
+          .map(line -> line.replaceAll("[^0-9]", ""))
+          .filter(value -> !value.isEmpty())
+          .mapToLong(value -> Long.parseLong(value) * BYTES_PER_KB)
+          .findFirst();
+    } catch (final IOException | RuntimeException e) {
+      return OptionalLong.empty();
+    }
+  }
+
+  @Override
+  public void close() {
+    process.destroy();
+  }
+
+}
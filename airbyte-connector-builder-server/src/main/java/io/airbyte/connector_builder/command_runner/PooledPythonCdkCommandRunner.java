@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import datadog.trace.api.Trace;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteTraceMessage;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Communicates with the CDK's Connector Builder handler through a pool of long-lived CDK worker
+ * processes, avoiding the interpreter and CDK import startup cost of
+ * {@link SynchronousPythonCdkCommandRunner} on every request. Workers are recycled after serving a
+ * configured number of requests, when their memory grows past a threshold, or when they misbehave.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+
+  private final List<String> workerCommand;
+  private final Map<String, String> workerEnvironment;
+  private final CdkWorkerPoolConfig config;
+  private final MetricClient metricClient;
+  private final BlockingQueue<CdkWorkerProcess> idleWorkers = new LinkedBlockingQueue<>();
+  private final AtomicInteger liveWorkers = new AtomicInteger();
+  private final AtomicInteger busyWorkers = new AtomicInteger();
+  private final ExecutorService responseReaders = Executors.newCachedThreadPool();
+  private volatile boolean closed;
+
+  public PooledPythonCdkCommandRunner(final List<String> workerCommand,
+                                      final Map<String, String> workerEnvironment,
+                                      final CdkWorkerPoolConfig config,
+                                      final MetricClient metricClient) {
+    this.workerCommand = workerCommand;
+    this.workerEnvironment = workerEnvironment;
+    this.config = config;
+    this.metricClient = metricClient;
+    replenish();
+  }
+
+  /**
+   * Send the command to an idle CDK worker and return the parsed AirbyteRecordMessage returned by the
+   * CDK.
+   */
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents,
+                                         final String stateContents)
+      throws IOException {
+    final CdkWorkerProcess worker = acquire();
+    final long start = System.currentTimeMillis();
+    boolean healthy = false;
+    try {
+      final AirbyteMessage message = worker.request(configContents, catalogContents, stateContents, config.requestTimeout(), responseReaders);
+      healthy = true;
+      return toRecord(message, cdkCommand);
+    } finally {
+      metricClient.distribution(OssMetricsRegistry.CDK_WORKER_REQUEST_TIME_MS, System.currentTimeMillis() - start);
+      release(worker, healthy);
+    }
+  }
+
+  private CdkWorkerProcess acquire() {
+    if (closed) {
+      throw new CdkProcessException("The CDK worker pool is closed.");
+    }
+    replenish();
+
+    final long start = System.currentTimeMillis();
+    final CdkWorkerProcess worker;
+    try {
+      worker = idleWorkers.poll(config.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CdkProcessException("Interrupted while waiting for an idle CDK worker.");
+    }
+    metricClient.distribution(OssMetricsRegistry.CDK_WORKER_POOL_QUEUE_WAIT_TIME_MS, System.currentTimeMillis() - start);
+    if (worker == null) {
+      throw new CdkProcessException(String.format("No CDK worker became available within %s.", config.acquireTimeout()));
+    }
+
+    recordUtilization(busyWorkers.incrementAndGet());
+    if (!worker.isAlive()) {
+      // The worker died while idle; hand out a fresh one instead.
+      retire(worker, "exited");
+      return startReplacement();
+    }
+    return worker;
+  }
+
+  private CdkWorkerProcess startReplacement() {
+    try {
+      return startWorker();
+    } catch (final IOException e) {
+      recordUtilization(busyWorkers.decrementAndGet());
+      throw new CdkProcessException(String.format("Failed to start a CDK worker: %s", e.getMessage()));
+    }
+  }
+
+  private void release(final CdkWorkerProcess worker, final boolean healthy) {
+    recordUtilization(busyWorkers.decrementAndGet());
+
+    final String recycleReason = getRecycleReason(worker, healthy);
+    if (recycleReason == null && !closed) {
+      idleWorkers.offer(worker);
+      return;
+    }
+    retire(worker, recycleReason == null ? "closed" : recycleReason);
+    if (!closed) {
+      replenish();
+    }
+  }
+
+  private String getRecycleReason(final CdkWorkerProcess worker, final boolean healthy) {
+    if (!healthy || !worker.isAlive()) {
+      return "failed";
+    }
+    if (worker.getRequestsServed() >= config.maxRequestsPerWorker()) {
+      return "request_budget";
+    }
+    if (worker.residentMemoryBytes().orElse(0L) > config.maxWorkerMemoryBytes()) {
+      return "memory";
+    }
+    return null;
+  }
+
+  private void retire(final CdkWorkerProcess worker, final String reason) {
+    LOGGER.debug("Retiring CDK worker after {} requests: {}", worker.getRequestsServed(), reason);
+    liveWorkers.decrementAndGet();
+    worker.close();
+    metricClient.count(OssMetricsRegistry.CDK_WORKER_RECYCLED, 1, new MetricAttribute(MetricTags.RECYCLE_REASON, reason));
+  }
+
+  /**
+   * Start workers until the pool is back at its configured size. Failures are logged rather than
+   * thrown so that a transient failure only shrinks the pool until the next attempt.
+   */
+  private synchronized void replenish() {
+    while (!closed && liveWorkers.get() < config.size()) {
+      try {
+        idleWorkers.offer(startWorker());
+      } catch (final IOException e) {
+        LOGGER.error("Failed to start a CDK worker", e);
+        return;
+      }
+    }
+  }
+
+  private CdkWorkerProcess startWorker() throws IOException {
+    final ProcessBuilder processBuilder = new ProcessBuilder(workerCommand)
+        .redirectError(ProcessBuilder.Redirect.INHERIT);
+    processBuilder.environment().putAll(workerEnvironment);
+    final CdkWorkerProcess worker = CdkWorkerProcess.start(processBuilder);
+    liveWorkers.incrementAndGet();
+    return worker;
+  }
+
+  private void recordUtilization(final int busy) {
+    metricClient.gauge(OssMetricsRegistry.CDK_WORKER_POOL_UTILIZATION, (double) busy / config.size());
+  }
+
+  private static AirbyteRecordMessage toRecord(final AirbyteMessage message, final String cdkCommand) {
+    if (message.getType() == Type.RECORD) {
+      return message.getRecord();
+    }
+    if (message.getType() == Type.TRACE) {
+      final AirbyteTraceMessage traceMessage = message.getTrace();
+      LOGGER.debug("Error response from CDK: {}\n{}", traceMessage.getError().getMessage(), traceMessage.getError().getStackTrace());
+      throw new AirbyteCdkInvalidInputException(
+          String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
+    }
+    final String errorMessage = String.format("The CDK command `%s` completed but returned an unexpected %s message.", cdkCommand,
+        message.getType());
+    LOGGER.error(errorMessage);
+    throw new CdkUnknownException(errorMessage);
+  }
+
+  /**
+   * Stop all idle workers. Busy workers are stopped when their current request completes.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    CdkWorkerProcess worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      retire(worker, "closed");
+    }
+    responseReaders.shutdownNow();
+  }
+
+}
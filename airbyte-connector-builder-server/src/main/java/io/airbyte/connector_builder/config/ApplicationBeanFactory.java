@@ -6,19 +6,33 @@ package io.airbyte.connector_builder.config;
 
 import com.google.common.io.Resources;
 import io.airbyte.commons.envvar.EnvVar;
+import io.airbyte.commons.storage.DocumentType;
+import io.airbyte.commons.storage.StorageClient;
+import io.airbyte.commons.storage.StorageClientFactory;
+import io.airbyte.connector_builder.command_runner.CdkWorkerPoolConfig;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricEmittingApps;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -28,6 +42,10 @@ import java.util.stream.Collectors;
 @Factory
 public class ApplicationBeanFactory {
 
+  private static final String CDK_WORKER_POOL_ENABLED = "airbyte.connector-builder-server.cdk-worker-pool.enabled";
+  private static final String CDK_WORKER_SCRIPT_NAME = "cdk_worker";
+  private static final String CDK_WORKER_SCRIPT_RESOURCE = "cdk_worker/main.py";
+
   private String getPython() {
     final var cdkPython = EnvVar.CDK_PYTHON.fetch();
     if (cdkPython == null) {
@@ -44,10 +62,18 @@ public class ApplicationBeanFactory {
     return cdkEntrypoint;
   }
 
+  @Singleton
+  public MetricClient metricClient() {
+    MetricClientFactory.initialize(MetricEmittingApps.CONNECTOR_BUILDER_SERVER);
+    return MetricClientFactory.getMetricClient();
+  }
+
   /**
    * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
    */
   @Singleton
+  @Requires(property = CDK_WORKER_POOL_ENABLED,
+            notEquals = "true")
   public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
     return new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
@@ -58,6 +84,42 @@ public class ApplicationBeanFactory {
         this.getPythonPath());
   }
 
+  /**
+   * Defines the instantiation of the PooledPythonCdkCommandRunner, which keeps long-lived CDK workers
+   * around instead of starting a Python process per request.
+   */
+  @Singleton
+  @Requires(property = CDK_WORKER_POOL_ENABLED,
+            value = "true")
+  @Bean(preDestroy = "close")
+  public PooledPythonCdkCommandRunner pooledPythonCdkCommandRunner(
+                                                                   @Value("${airbyte.connector-builder-server.cdk-worker-pool.size}") final int size,
+                                                                   @Value("${airbyte.connector-builder-server.cdk-worker-pool.max-requests-per-worker}") final int maxRequestsPerWorker,
+                                                                   @Value("${airbyte.connector-builder-server.cdk-worker-pool.max-worker-memory-bytes}") final long maxWorkerMemoryBytes,
+                                                                   @Value("${airbyte.connector-builder-server.cdk-worker-pool.acquire-timeout}") final Duration acquireTimeout,
+                                                                   @Value("${airbyte.connector-builder-server.cdk-worker-pool.request-timeout}") final Duration requestTimeout,
+                                                                   final MetricClient metricClient)
+      throws IOException {
+    final String workerScript = new AirbyteFileWriterImpl().write(CDK_WORKER_SCRIPT_NAME,
+        Resources.toString(Resources.getResource(CDK_WORKER_SCRIPT_RESOURCE), StandardCharsets.UTF_8));
+    return new PooledPythonCdkCommandRunner(
+        List.of(this.getPython(), workerScript),
+        Map.of("PYTHONPATH", this.getPythonPath()),
+        new CdkWorkerPoolConfig(size, maxRequestsPerWorker, maxWorkerMemoryBytes, acquireTimeout, requestTimeout),
+        metricClient);
+  }
+
+  /**
+   * Document store used to share resolved manifests across replicas.
+   */
+  @Singleton
+  @Named("resolvedManifestDocumentStore")
+  @Requires(property = "airbyte.connector-builder-server.resolve-manifest-cache.shared",
+            value = "true")
+  public StorageClient resolvedManifestStorageClient(final StorageClientFactory factory) {
+    return factory.get(DocumentType.RESOLVED_MANIFESTS);
+  }
+
   private String getPythonPath() {
     final String pathToConnectors = getPathToConnectors();
     final List<String> subdirectories = listSubdirectories(pathToConnectors);
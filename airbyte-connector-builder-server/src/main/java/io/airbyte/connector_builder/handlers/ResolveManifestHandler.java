@@ -4,15 +4,18 @@
 
 package io.airbyte.connector_builder.handlers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.connector_builder.TracingHelper;
 import io.airbyte.connector_builder.api.model.generated.ResolveManifest;
 import io.airbyte.connector_builder.api.model.generated.ResolveManifestRequestBody;
+import io.airbyte.connector_builder.cache.ResolvedManifestCache;
 import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.requester.AirbyteCdkRequester;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,15 +28,19 @@ public class ResolveManifestHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(ResolveManifestHandler.class);
 
   private final AirbyteCdkRequester requester;
+  private final ResolvedManifestCache resolvedManifestCache;
 
   @Inject
   public ResolveManifestHandler(
-                                final AirbyteCdkRequester requester) {
+                                final AirbyteCdkRequester requester,
+                                final ResolvedManifestCache resolvedManifestCache) {
     this.requester = requester;
+    this.resolvedManifestCache = resolvedManifestCache;
   }
 
   /**
-   * Use the requester to send the resolve_manifest request to the CDK.
+   * Serve the resolved manifest from the cache if this manifest was already resolved, otherwise use
+   * the requester to send the resolve_manifest request to the CDK.
    */
   public ResolveManifest resolveManifest(
                                          final ResolveManifestRequestBody resolveManifestRequestBody)
@@ -42,7 +49,15 @@ public class ResolveManifestHandler {
       TracingHelper.addWorkspaceAndProjectIdsToTrace(resolveManifestRequestBody.getWorkspaceId(), resolveManifestRequestBody.getProjectId());
       LOGGER.info("Handling resolve_manifest request for workspace '{}' with project ID = '{}'",
           resolveManifestRequestBody.getWorkspaceId(), resolveManifestRequestBody.getProjectId());
-      return this.requester.resolveManifest(resolveManifestRequestBody.getManifest());
+      final String cacheKey = resolvedManifestCache.key(resolveManifestRequestBody.getManifest());
+      final Optional<JsonNode> cachedManifest = resolvedManifestCache.get(cacheKey);
+      if (cachedManifest.isPresent()) {
+        return new ResolveManifest().manifest(cachedManifest.get());
+      }
+
+      final ResolveManifest resolveManifest = this.requester.resolveManifest(resolveManifestRequestBody.getManifest());
+      resolvedManifestCache.put(cacheKey, resolveManifest.getManifest());
+      return resolveManifest;
     } catch (final IOException exc) {
       LOGGER.error("Error handling resolve_manifest request.", exc);
       throw new ConnectorBuilderException("Error handling resolve_manifest request.", exc);
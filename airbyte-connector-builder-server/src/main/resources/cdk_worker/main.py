@@ -0,0 +1,51 @@
+#
+# Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker serving connector builder requests.
+
+Importing the CDK dominates the latency of a connector builder request, so instead of starting a new
+interpreter per request the connector builder server keeps a pool of these workers around.
+
+Protocol: every line received on stdin is a JSON object with the `config`, `catalog` and `state`
+contents (as strings) that would otherwise be passed as files to the CDK entrypoint. For every request,
+exactly one line containing the resulting AirbyteMessage is written to stdout. Anything else the CDK
+prints is redirected to stderr.
+"""
+
+import json
+import os
+import sys
+
+
+def main() -> None:
+    responses = os.fdopen(os.dup(sys.stdout.fileno()), "w")
+    os.dup2(sys.stderr.fileno(), sys.stdout.fileno())
+    sys.stdout = sys.stderr
+
+    import orjson
+    from airbyte_cdk.connector_builder.connector_builder_handler import create_source, get_limits
+    from airbyte_cdk.connector_builder.main import handle_connector_builder_request
+    from airbyte_cdk.models import AirbyteMessageSerializer, AirbyteStateMessageSerializer, ConfiguredAirbyteCatalogSerializer
+    from airbyte_cdk.utils.traced_exception import AirbyteTracedException
+
+    for line in sys.stdin:
+        if not line.strip():
+            continue
+        try:
+            request = json.loads(line)
+            config = json.loads(request["config"])
+            catalog = ConfiguredAirbyteCatalogSerializer.load(json.loads(request["catalog"])) if request.get("catalog") else None
+            state = [AirbyteStateMessageSerializer.load(message) for message in json.loads(request["state"])] if request.get("state") else []
+            limits = get_limits(config)
+            source = create_source(config, limits)
+            message = handle_connector_builder_request(source, config["__command"], config, catalog, state, limits)
+        except Exception as exc:
+            message = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {exc}").as_airbyte_message()
+        responses.write(orjson.dumps(AirbyteMessageSerializer.dump(message)).decode() + "\n")
+        responses.flush()
+
+
+if __name__ == "__main__":
+    main()
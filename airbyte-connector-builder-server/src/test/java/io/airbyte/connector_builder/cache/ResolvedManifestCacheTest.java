@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.storage.StorageClient;
+import io.airbyte.metrics.lib.MetricClient;
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ResolvedManifestCacheTest {
+
+  private static final String CDK_VERSION = "1.2.3";
+  private static final long MAX_SIZE_BYTES = 1024 * 1024;
+  private static final JsonNode MANIFEST = Jsons.deserialize("{\"version\": \"1.0.0\", \"streams\": [{\"name\": \"a\"}]}");
+  private static final JsonNode RESOLVED_MANIFEST = Jsons.deserialize("{\"version\": \"1.0.0\", \"streams\": [{\"name\": \"a\", \"resolved\": true}]}");
+
+  private ResolvedManifestCache createCache(final boolean enabled, final Optional<StorageClient> sharedCache) {
+    return new ResolvedManifestCache(enabled, MAX_SIZE_BYTES, CDK_VERSION, sharedCache, mock(MetricClient.class));
+  }
+
+  @Test
+  void testKeyIgnoresPropertyOrder() throws IOException {
+    final ResolvedManifestCache cache = createCache(true, Optional.empty());
+    final JsonNode reordered = Jsons.deserialize("{\"streams\": [{\"name\": \"a\"}], \"version\": \"1.0.0\"}");
+
+    assertEquals(cache.key(MANIFEST), cache.key(reordered));
+    assertTrue(cache.key(MANIFEST).startsWith(CDK_VERSION + "/"));
+  }
+
+  @Test
+  void testKeyChangesWithManifest() throws IOException {
+    final ResolvedManifestCache cache = createCache(true, Optional.empty());
+
+    assertNotEquals(cache.key(MANIFEST), cache.key(RESOLVED_MANIFEST));
+  }
+
+  @Test
+  void testLocalHit() throws IOException {
+    final ResolvedManifestCache cache = createCache(true, Optional.empty());
+    final String key = cache.key(MANIFEST);
+
+    assertEquals(Optional.empty(), cache.get(key));
+    cache.put(key, RESOLVED_MANIFEST);
+    assertEquals(Optional.of(RESOLVED_MANIFEST), cache.get(key));
+  }
+
+  @Test
+  void testSharedHit() throws IOException {
+    final StorageClient storageClient = mock(StorageClient.class);
+    final ResolvedManifestCache cache = createCache(true, Optional.of(storageClient));
+    final String key = cache.key(MANIFEST);
+    when(storageClient.read(key)).thenReturn(Jsons.serialize(RESOLVED_MANIFEST));
+
+    assertEquals(Optional.of(RESOLVED_MANIFEST), cache.get(key));
+  }
+
+  @Test
+  void testPutWritesToSharedCache() throws IOException {
+    final StorageClient storageClient = mock(StorageClient.class);
+    final ResolvedManifestCache cache = createCache(true, Optional.of(storageClient));
+    final String key = cache.key(MANIFEST);
+
+    cache.put(key, RESOLVED_MANIFEST);
+
+    verify(storageClient).write(key, Jsons.serialize(RESOLVED_MANIFEST));
+  }
+
+  @Test
+  void testDisabled() throws IOException {
+    final ResolvedManifestCache cache = createCache(false, Optional.empty());
+    final String key = cache.key(MANIFEST);
+
+    cache.put(key, RESOLVED_MANIFEST);
+    assertEquals(Optional.empty(), cache.get(key));
+  }
+
+}
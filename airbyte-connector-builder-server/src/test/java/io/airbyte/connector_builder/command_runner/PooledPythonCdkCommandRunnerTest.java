@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.metrics.lib.MetricClient;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Uses a fake CDK worker written in shell that answers every request with a record containing its
+ * pid, or with a trace message if the request contains `fail`.
+ */
+class PooledPythonCdkCommandRunnerTest {
+
+  private static final String FAKE_CDK_WORKER = """
+                                                while read -r line; do
+                                                  case "$line" in
+                                                    *fail*) echo '{"type":"TRACE","trace":{"type":"ERROR","emitted_at":0,"error":{"message":"bad manifest"}}}' ;;
+                                                    *hang*) sleep 60 ;;
+                                                    *) echo "{\\"type\\":\\"RECORD\\",\\"record\\":{\\"stream\\":\\"s\\",\\"emitted_at\\":0,\\"data\\":{\\"pid\\":$$}}}" ;;
+                                                  esac
+                                                done
+                                                """;
+  private static final String COMMAND = "resolve_manifest";
+
+  private PooledPythonCdkCommandRunner runner;
+
+  @AfterEach
+  void tearDown() {
+    if (runner != null) {
+      runner.close();
+    }
+  }
+
+  private PooledPythonCdkCommandRunner createRunner(final int size, final int maxRequestsPerWorker) {
+    return new PooledPythonCdkCommandRunner(
+        List.of("/bin/sh", "-c", FAKE_CDK_WORKER),
+        Map.of(),
+        new CdkWorkerPoolConfig(size, maxRequestsPerWorker, Long.MAX_VALUE, Duration.ofSeconds(10), Duration.ofSeconds(2)),
+        mock(MetricClient.class));
+  }
+
+  private int workerPid(final String config) throws IOException {
+    return runner.runCommand(COMMAND, config, "", "").getData().get("pid").asInt();
+  }
+
+  @Test
+  void testWorkerIsReused() throws IOException {
+    runner = createRunner(1, 10);
+
+    assertEquals(workerPid("{}"), workerPid("{}"));
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterRequestBudget() throws IOException {
+    runner = createRunner(1, 2);
+
+    final int firstPid = workerPid("{}");
+    assertEquals(firstPid, workerPid("{}"));
+    assertNotEquals(firstPid, workerPid("{}"));
+  }
+
+  @Test
+  void testTraceMessageIsSurfacedAndWorkerKept() throws IOException {
+    runner = createRunner(1, 10);
+
+    final int pid = workerPid("{}");
+    assertThrows(AirbyteCdkInvalidInputException.class, () -> runner.runCommand(COMMAND, "fail", "", ""));
+    assertEquals(pid, workerPid("{}"));
+  }
+
+  @Test
+  void testUnresponsiveWorkerIsReplaced() throws IOException {
+    runner = createRunner(1, 10);
+
+    final int pid = workerPid("{}");
+    assertThrows(CdkProcessException.class, () -> runner.runCommand(COMMAND, "hang", "", ""));
+    assertNotEquals(pid, workerPid("{}"));
+  }
+
+}
@@ -16,6 +16,7 @@ import io.airbyte.connector_builder.api.model.generated.ResolveManifest;
 import io.airbyte.connector_builder.api.model.generated.ResolveManifestRequestBody;
 import io.airbyte.connector_builder.api.model.generated.StreamRead;
 import io.airbyte.connector_builder.api.model.generated.StreamReadRequestBody;
+import io.airbyte.connector_builder.cache.ResolvedManifestCache;
 import io.airbyte.connector_builder.command_runner.MockSynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
@@ -30,6 +31,7 @@ import io.airbyte.connector_builder.handlers.ResolveManifestHandler;
 import io.airbyte.connector_builder.handlers.StreamHandler;
 import io.airbyte.connector_builder.requester.AirbyteCdkRequesterImpl;
 import io.airbyte.connector_builder.templates.ContributionTemplates;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
 import java.io.ByteArrayInputStream;
@@ -39,6 +41,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -69,6 +72,7 @@ class ConnectorBuilderControllerIntegrationTest {
   private AirbyteStreamFactory streamFactory;
   private ContributionTemplates contributionTemplates;
   private AssistProxyHandler assistProxyHandler;
+  private ResolvedManifestCache resolvedManifestCache;
 
   @BeforeEach
   void setup() {
@@ -77,6 +81,7 @@ class ConnectorBuilderControllerIntegrationTest {
     this.streamFactory = VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory();
     this.contributionTemplates = new ContributionTemplates();
     this.assistProxyHandler = mock(AssistProxyHandler.class);
+    this.resolvedManifestCache = new ResolvedManifestCache(false, 0L, "0.0.0", Optional.empty(), mock(MetricClient.class));
   }
 
   @BeforeAll
@@ -103,7 +108,8 @@ class ConnectorBuilderControllerIntegrationTest {
     final SynchronousCdkCommandRunner commandRunner = new MockSynchronousPythonCdkCommandRunner(
         this.writer, this.streamFactory, shouldThrow, exitCode, inputStream, errorStream, outputStream);
     final AirbyteCdkRequesterImpl requester = new AirbyteCdkRequesterImpl(commandRunner);
-    return new ConnectorBuilderController(this.healthHandler, new ResolveManifestHandler(requester), new StreamHandler(requester),
+    return new ConnectorBuilderController(this.healthHandler, new ResolveManifestHandler(requester, resolvedManifestCache),
+        new StreamHandler(requester),
         new ConnectorContributionHandler(contributionTemplates, null), this.assistProxyHandler);
   }
 
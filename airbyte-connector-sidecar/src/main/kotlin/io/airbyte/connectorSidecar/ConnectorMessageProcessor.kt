@@ -2,7 +2,9 @@ package io.airbyte.connectorSidecar
 
 import com.fasterxml.jackson.databind.JsonNode
 import com.google.common.annotations.VisibleForTesting
+import com.google.common.hash.Hashing
 import io.airbyte.api.client.AirbyteApiClient
+import io.airbyte.api.client.model.generated.SourceDiscoverSchemaUnchangedWriteRequestBody
 import io.airbyte.api.client.model.generated.SourceDiscoverSchemaWriteRequestBody
 import io.airbyte.commons.converters.CatalogClientConverters
 import io.airbyte.commons.converters.ConnectorConfigUpdater
@@ -30,6 +32,7 @@ import io.github.oshai.kotlinlogging.KotlinLogging
 import jakarta.inject.Singleton
 import java.io.IOException
 import java.io.InputStream
+import java.nio.charset.StandardCharsets
 import java.util.Optional
 import java.util.UUID
 import java.util.stream.Collectors
@@ -173,12 +176,7 @@ class ConnectorMessageProcessor(
 
       OperationType.DISCOVER ->
         if (result.catalog != null && input.discoveryInput != null) {
-          logger.info { "Writing catalog result to API..." }
-          val apiResult =
-            airbyteApiClient.sourceApi
-              .writeDiscoverCatalogResult(buildSourceDiscoverSchemaWriteRequestBody(input.discoveryInput, result.catalog))
-          logger.info { "Finished writing catalog result to API." }
-          jobOutput.discoverCatalogId = apiResult.catalogId
+          jobOutput.discoverCatalogId = writeDiscoverCatalogResult(input.discoveryInput, result.catalog)
         } else if (failureReason.isEmpty && exitCode == 0) {
           throw WorkerException("Connector exited successfully without an output for $operationType.")
         } else if (exitCode != 0) {
@@ -208,15 +206,52 @@ class ConnectorMessageProcessor(
       .withFailureOrigin(failureOrigin)
   }
 
+  /**
+   * Writes the discovered catalog, skipping the upload of catalogs that are the same as the one of the previous discover of the
+   * source, which is the common case. Catalogs are compared by a hash of their canonical serialization, stored along with each
+   * discover.
+   */
+  private fun writeDiscoverCatalogResult(
+    discoverSchemaInput: StandardDiscoverCatalogInput,
+    catalog: AirbyteCatalog,
+  ): UUID {
+    val catalogHash = Hashing.sha256().hashString(Jsons.canonicalJsonSerialize(catalog), StandardCharsets.UTF_8).toString()
+    if (discoverSchemaInput.sourceId != null) {
+      val unchangedResult =
+        airbyteApiClient.sourceApi.writeDiscoverCatalogResultIfUnchanged(
+          SourceDiscoverSchemaUnchangedWriteRequestBody(
+            sourceId = UUID.fromString(discoverSchemaInput.sourceId),
+            catalogHash = catalogHash,
+            connectorVersion = if (discoverSchemaInput.connectorVersion == null) "" else discoverSchemaInput.connectorVersion,
+            configurationHash = discoverSchemaInput.configHash,
+          ),
+        )
+      val unchangedCatalogId = unchangedResult.catalogId
+      if (unchangedResult.unchanged && unchangedCatalogId != null) {
+        logger.info { "Discovered catalog is unchanged, skipping writing it to the API." }
+        return unchangedCatalogId
+      }
+    }
+
+    logger.info { "Writing catalog result to API..." }
+    val apiResult =
+      airbyteApiClient.sourceApi
+        .writeDiscoverCatalogResult(buildSourceDiscoverSchemaWriteRequestBody(discoverSchemaInput, catalog, catalogHash))
+    logger.info { "Finished writing catalog result to API." }
+    return apiResult.catalogId
+  }
+
   private fun buildSourceDiscoverSchemaWriteRequestBody(
     discoverSchemaInput: StandardDiscoverCatalogInput,
     catalog: AirbyteCatalog,
+    catalogHash: String,
   ): SourceDiscoverSchemaWriteRequestBody {
     return SourceDiscoverSchemaWriteRequestBody(
       catalog = CatalogClientConverters.toAirbyteCatalogClientApi(catalog),
       sourceId = if (discoverSchemaInput.sourceId == null) null else UUID.fromString(discoverSchemaInput.sourceId),
       connectorVersion = if (discoverSchemaInput.connectorVersion == null) "" else discoverSchemaInput.connectorVersion,
       configurationHash = discoverSchemaInput.configHash,
+      catalogHash = catalogHash,
     )
   }
 
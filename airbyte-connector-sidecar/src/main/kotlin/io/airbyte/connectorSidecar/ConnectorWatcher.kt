@@ -13,6 +13,10 @@ import io.airbyte.config.FailureReason
 import io.airbyte.config.StandardCheckConnectionInput
 import io.airbyte.config.StandardCheckConnectionOutput
 import io.airbyte.config.StandardDiscoverCatalogInput
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig
 import io.airbyte.workers.helper.GsonPksExtractor
 import io.airbyte.workers.internal.AirbyteStreamFactory
@@ -30,10 +34,14 @@ import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.io.InputStream
+import java.nio.file.FileSystems
 import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.StandardWatchEventKinds
+import java.nio.file.WatchService
 import java.time.Duration
 import java.util.Optional
+import java.util.concurrent.TimeUnit
 import kotlin.system.exitProcess
 
 private val logger = KotlinLogging.logger {}
@@ -52,7 +60,13 @@ class ConnectorWatcher(
   private val jobOutputDocStore: JobOutputDocStore,
   private val logContextFactory: SidecarLogContextFactory,
   private val heartbeatMonitor: HeartbeatMonitor,
+  private val metricClient: MetricClient,
 ) {
+  companion object {
+    private val POLL_INTERVAL = Duration.ofMillis(100)
+    private val WATCH_TIMEOUT = Duration.ofSeconds(1)
+  }
+
   fun run() {
     val sidecarInput = readSidecarInput()
     withLoggingContext(logContextFactory.create(sidecarInput.logPath)) {
@@ -90,23 +104,85 @@ class ConnectorWatcher(
 
   private fun waitForConnectorOutput(input: SidecarInput) {
     val stopwatch = Stopwatch.createStarted()
-    while (!areNeededFilesPresent()) {
-      Thread.sleep(100)
-      if (heartbeatMonitor.shouldAbort()) {
-        logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
-        exitInternalError()
-      }
-      val isWithinSync = input.discoverCatalogInput?.manual?.not() ?: false
-      if (hasFileTimeoutReached(stopwatch, isWithinSync)) {
-        val message = "Failed to find output files from connector within timeout of $fileTimeoutMinutes minute(s). Is the connector still running?"
-        logger.warn { message }
-        val failureReason =
-          FailureReason()
-            .withFailureOrigin(FailureReason.FailureOrigin.UNKNOWN)
-            .withExternalMessage(message)
-        failWorkload(input.workloadId, failureReason)
-        exitFileNotFound()
+    // registered before the first check, so that files written in between are not missed
+    val watchService = newWatchService()
+    var waited = false
+    try {
+      while (!areNeededFilesPresent()) {
+        waited = true
+        awaitFileEvent(watchService)
+        if (heartbeatMonitor.shouldAbort()) {
+          logger.warn { "Heartbeat indicates that the workload is in a terminal state, exiting process" }
+          exitInternalError()
+        }
+        val isWithinSync = input.discoverCatalogInput?.manual?.not() ?: false
+        if (hasFileTimeoutReached(stopwatch, isWithinSync)) {
+          val message = "Failed to find output files from connector within timeout of $fileTimeoutMinutes minute(s). Is the connector still running?"
+          logger.warn { message }
+          val failureReason =
+            FailureReason()
+              .withFailureOrigin(FailureReason.FailureOrigin.UNKNOWN)
+              .withExternalMessage(message)
+          failWorkload(input.workloadId, failureReason)
+          exitFileNotFound()
+        }
       }
+    } finally {
+      watchService?.close()
+    }
+    recordOutputDetected(stopwatch, waited, watchService != null)
+  }
+
+  /**
+   * Watch the directories of the output files, so that we are woken up as soon as the connector writes them rather than polling
+   * for them.
+   *
+   * @return null if the directories cannot be watched, in which case we poll for the files
+   */
+  private fun newWatchService(): WatchService? {
+    val directories = setOf(outputPath.toAbsolutePath().parent, Path.of(configDir).toAbsolutePath())
+    var watchService: WatchService? = null
+    return try {
+      watchService = FileSystems.getDefault().newWatchService()
+      directories.forEach { it.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY) }
+      watchService
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to watch $directories for the connector output, polling for it instead" }
+      watchService?.close()
+      null
+    }
+  }
+
+  private fun awaitFileEvent(watchService: WatchService?) {
+    if (watchService == null) {
+      Thread.sleep(POLL_INTERVAL.toMillis())
+      return
+    }
+    // Events only tell us to check the files again. The timeout keeps the heartbeat and file timeout checks going, and covers
+    // file systems which do not report every event.
+    watchService.poll(WATCH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)?.let {
+      it.pollEvents()
+      it.reset()
+    }
+  }
+
+  private fun recordOutputDetected(
+    stopwatch: Stopwatch,
+    waited: Boolean,
+    watched: Boolean,
+  ) {
+    val implementation = MetricAttribute(MetricTags.IMPLEMENTATION, if (watched) "watch" else "poll")
+    metricClient.distribution(OssMetricsRegistry.SIDECAR_OUTPUT_WAIT_MS, stopwatch.elapsed(TimeUnit.MILLISECONDS).toDouble(), implementation)
+    if (waited) {
+      // only meaningful if the connector finished while we were waiting for it
+      runCatching { Files.getLastModifiedTime(Path.of(configDir, FileConstants.EXIT_CODE_FILE)).toMillis() }
+        .onSuccess {
+          metricClient.distribution(
+            OssMetricsRegistry.SIDECAR_OUTPUT_DETECTION_LATENCY_MS,
+            (System.currentTimeMillis() - it).toDouble(),
+            implementation,
+          )
+        }
     }
   }
 
@@ -146,10 +222,10 @@ class ConnectorWatcher(
   }
 
   private fun getConnectorOutputStream(): InputStream {
-    val outputFilePath = Path.of(FileConstants.JOB_OUTPUT_FILE)
-    return if (Files.exists(outputFilePath)) {
-      logger.info { "Output file ${FileConstants.JOB_OUTPUT_FILE} found" }
-      Files.newInputStream(outputFilePath)
+    // streamed into the stream factory as it is parsed, the output can be large for discover
+    return if (Files.exists(outputPath)) {
+      logger.info { "Output file $outputPath found" }
+      Files.newInputStream(outputPath)
     } else {
       InputStream.nullInputStream()
     }
@@ -213,19 +289,25 @@ class ConnectorWatcher(
   @VisibleForTesting
   fun exitProperly() {
     logger.info { "Deliberately exiting process with code 0." }
-    exitProcess(0)
+    exit(0)
   }
 
   @VisibleForTesting
   fun exitInternalError() {
     logger.info { "Deliberately exiting process with code 1." }
-    exitProcess(1)
+    exit(1)
   }
 
   @VisibleForTesting
   fun exitFileNotFound() {
     logger.info { "Deliberately exiting process with code 2." }
-    exitProcess(2)
+    exit(2)
+  }
+
+  private fun exit(code: Int) {
+    // the process exits right away, so the metrics of the sidecar are flushed first
+    metricClient.shutdown()
+    exitProcess(code)
   }
 
   fun hasFileTimeoutReached(
@@ -4,7 +4,8 @@ import io.airbyte.commons.storage.DocumentType
 import io.airbyte.commons.storage.StorageClient
 import io.airbyte.commons.storage.StorageClientFactory
 import io.airbyte.metrics.lib.MetricClient
-import io.airbyte.metrics.lib.NotImplementedMetricClient
+import io.airbyte.metrics.lib.MetricClientFactory
+import io.airbyte.metrics.lib.MetricEmittingApps
 import io.micronaut.context.annotation.Factory
 import jakarta.inject.Named
 import jakarta.inject.Singleton
@@ -16,5 +17,9 @@ class ApplicationFactory {
   fun workloadStorageClient(factory: StorageClientFactory): StorageClient = factory.get(DocumentType.WORKLOAD_OUTPUT)
 
   @Singleton
-  fun metricClient(): MetricClient = NotImplementedMetricClient()
+  fun metricClient(): MetricClient {
+    // configured from the metric env vars passed to the sidecar container by the launcher
+    MetricClientFactory.initialize(MetricEmittingApps.SIDECAR_ORCHESTRATOR)
+    return MetricClientFactory.getMetricClient()
+  }
 }
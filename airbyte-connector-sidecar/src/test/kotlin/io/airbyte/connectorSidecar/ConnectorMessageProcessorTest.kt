@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.JsonNode
 import io.airbyte.api.client.AirbyteApiClient
 import io.airbyte.api.client.generated.SourceApi
 import io.airbyte.api.client.model.generated.DiscoverCatalogResult
+import io.airbyte.api.client.model.generated.DiscoverCatalogUnchangedResult
+import io.airbyte.api.client.model.generated.SourceDiscoverSchemaUnchangedWriteRequestBody
+import io.airbyte.api.client.model.generated.SourceDiscoverSchemaWriteRequestBody
 import io.airbyte.commons.converters.ConnectorConfigUpdater
 import io.airbyte.commons.json.Jsons
 import io.airbyte.config.ActorType
@@ -26,6 +29,7 @@ import io.airbyte.workers.models.SidecarInput
 import io.mockk.every
 import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
+import io.mockk.slot
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
@@ -483,7 +487,10 @@ class ConnectorMessageProcessorTest {
       )
 
     val discoveredCatalogId = UUID.randomUUID()
-    every { sourceApi.writeDiscoverCatalogResult(any()) } returns DiscoverCatalogResult(catalogId = discoveredCatalogId)
+    val unchangedRequest = slot<SourceDiscoverSchemaUnchangedWriteRequestBody>()
+    val writeRequest = slot<SourceDiscoverSchemaWriteRequestBody>()
+    every { sourceApi.writeDiscoverCatalogResultIfUnchanged(capture(unchangedRequest)) } returns DiscoverCatalogUnchangedResult(unchanged = false)
+    every { sourceApi.writeDiscoverCatalogResult(capture(writeRequest)) } returns DiscoverCatalogResult(catalogId = discoveredCatalogId)
 
     val output =
       connectorMessageProcessor.run(
@@ -500,6 +507,47 @@ class ConnectorMessageProcessorTest {
       )
 
     assertEquals(discoveredCatalogId, output.discoverCatalogId)
+    assertEquals(unchangedRequest.captured.catalogHash, writeRequest.captured.catalogHash)
+  }
+
+  @Test
+  fun `skip writing an unchanged discovered schema`() {
+    val catalog =
+      AirbyteMessage().withType(AirbyteMessage.Type.CATALOG)
+        .withCatalog(
+          AirbyteCatalog()
+            .withStreams(
+              listOf(
+                AirbyteStream().withName("name"),
+              ),
+            ),
+        )
+
+    every { streamFactory.create(any()) } returns
+      Stream.of(
+        catalog,
+      )
+
+    val previousCatalogId = UUID.randomUUID()
+    every { sourceApi.writeDiscoverCatalogResultIfUnchanged(any()) } returns
+      DiscoverCatalogUnchangedResult(unchanged = true, catalogId = previousCatalogId)
+
+    val output =
+      connectorMessageProcessor.run(
+        InputStream.nullInputStream(),
+        streamFactory,
+        ConnectorMessageProcessor.OperationInput(
+          discoveryInput =
+            StandardDiscoverCatalogInput()
+              .withConnectionConfiguration(Jsons.emptyObject())
+              .withSourceId(UUID.randomUUID().toString()),
+        ),
+        0,
+        SidecarInput.OperationType.DISCOVER,
+      )
+
+    assertEquals(previousCatalogId, output.discoverCatalogId)
+    verify(exactly = 0) { sourceApi.writeDiscoverCatalogResult(any()) }
   }
 
   @Test
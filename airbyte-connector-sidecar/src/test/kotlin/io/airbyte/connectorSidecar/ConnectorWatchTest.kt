@@ -7,6 +7,10 @@ import io.airbyte.config.ConnectorJobOutput
 import io.airbyte.config.StandardCheckConnectionInput
 import io.airbyte.config.StandardCheckConnectionOutput
 import io.airbyte.config.StandardDiscoverCatalogInput
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig
 import io.airbyte.protocol.models.Jsons
 import io.airbyte.workers.exception.WorkerException
@@ -32,11 +36,16 @@ import io.mockk.verifyOrder
 import io.mockk.verifySequence
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
+import org.junit.jupiter.api.io.TempDir
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.EnumSource
+import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import kotlin.concurrent.thread
 
 @ExtendWith(MockKExtension::class)
 class ConnectorWatchTest {
@@ -73,6 +82,9 @@ class ConnectorWatchTest {
   @MockK
   private lateinit var heartbeatMonitor: HeartbeatMonitor
 
+  @MockK(relaxed = true)
+  private lateinit var metricClient: MetricClient
+
   private lateinit var connectorWatcher: ConnectorWatcher
 
   val workloadId = "workloadId"
@@ -85,23 +97,7 @@ class ConnectorWatchTest {
   fun init() {
     every { workloadApiClient.workloadApi } returns workloadApi
 
-    connectorWatcher =
-      spyk(
-        ConnectorWatcher(
-          outputPath,
-          configDir,
-          fileTimeoutMinutes = 42,
-          fileTimeoutMinutesWithinSync = 43,
-          connectorMessageProcessor,
-          serDeProvider,
-          airbyteProtocolVersionedMigratorFactory,
-          gsonPksExtractor,
-          workloadApiClient,
-          jobOutputDocStore,
-          logContextFactory,
-          heartbeatMonitor,
-        ),
-      )
+    connectorWatcher = newConnectorWatcher(outputPath, configDir)
 
     every { connectorWatcher.readFile(FileConstants.EXIT_CODE_FILE) } returns "0"
 
@@ -235,6 +231,44 @@ class ConnectorWatchTest {
     assertTrue(exitCauseFileWasNotFound)
   }
 
+  @Test
+  fun `output files are detected when the connector writes them`(
+    @TempDir dir: Path,
+  ) {
+    val output =
+      ConnectorJobOutput()
+        .withCheckConnection(StandardCheckConnectionOutput().withStatus(StandardCheckConnectionOutput.Status.SUCCEEDED))
+    val outputFile = dir.resolve(FileConstants.JOB_OUTPUT_FILE)
+    connectorWatcher = newConnectorWatcher(outputFile, dir.toString())
+
+    every { connectorWatcher.readFile(FileConstants.SIDECAR_INPUT_FILE) } returns
+      Jsons.serialize(SidecarInput(checkInput, discoveryInput, workloadId, IntegrationLauncherConfig(), OperationType.CHECK, ""))
+    every { connectorWatcher.getStreamFactory(any()) } returns streamFactory
+    every { connectorWatcher.exitProperly() } returns Unit
+    every { connectorMessageProcessor.run(any(), any(), any(), any(), eq(OperationType.CHECK)) } returns output
+    every { workloadApi.workloadSuccess(WorkloadSuccessRequest(workloadId)) } returns Unit
+
+    val connector =
+      thread {
+        Thread.sleep(200)
+        Files.writeString(outputFile, "{}")
+        // moved in place so that the file is never seen empty
+        val exitCodeFile = Files.writeString(dir.resolve("${FileConstants.EXIT_CODE_FILE}.tmp"), "0")
+        Files.move(exitCodeFile, dir.resolve(FileConstants.EXIT_CODE_FILE), StandardCopyOption.ATOMIC_MOVE)
+      }
+    connectorWatcher.run()
+    connector.join()
+
+    verifyOrder {
+      connectorMessageProcessor.run(any(), any(), any(), 0, eq(OperationType.CHECK))
+      jobOutputDocStore.write(workloadId, output)
+      connectorWatcher.exitProperly()
+    }
+    verify {
+      metricClient.distribution(OssMetricsRegistry.SIDECAR_OUTPUT_WAIT_MS, any(), MetricAttribute(MetricTags.IMPLEMENTATION, "watch"))
+    }
+  }
+
   @ParameterizedTest
   @EnumSource(OperationType::class)
   fun `should start and stop heartbeat monitor correctly`(operationType: OperationType) {
@@ -291,4 +325,26 @@ class ConnectorWatchTest {
       heartbeatMonitor.stopHeartbeatThread()
     }
   }
+
+  private fun newConnectorWatcher(
+    outputPath: Path,
+    configDir: String,
+  ): ConnectorWatcher =
+    spyk(
+      ConnectorWatcher(
+        outputPath,
+        configDir,
+        fileTimeoutMinutes = 42,
+        fileTimeoutMinutesWithinSync = 43,
+        connectorMessageProcessor,
+        serDeProvider,
+        airbyteProtocolVersionedMigratorFactory,
+        gsonPksExtractor,
+        workloadApiClient,
+        jobOutputDocStore,
+        logContextFactory,
+        heartbeatMonitor,
+        metricClient,
+      ),
+    )
 }
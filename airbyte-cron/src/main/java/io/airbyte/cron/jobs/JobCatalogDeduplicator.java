@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs;
+
+import static io.airbyte.cron.MicronautCronRunner.SCHEDULED_TRACE_OPERATION_NAME;
+
+import datadog.trace.api.Trace;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.persistence.job.JobPersistence;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves the catalogs embedded in the configs of jobs created before catalogs were stored apart to
+ * the job catalogs table, a batch at a time so that large job histories are not migrated in a
+ * single transaction. Once every job has been processed, each run only checks that there is nothing
+ * left to do.
+ */
+@Singleton
+@Requires(property = "airbyte.cron.job-catalog-deduplication.enabled",
+          value = "true")
+@Requires(beans = JobPersistence.class)
+public class JobCatalogDeduplicator {
+
+  private static final Logger log = LoggerFactory.getLogger(JobCatalogDeduplicator.class);
+
+  private final JobPersistence jobPersistence;
+  private final MetricClient metricClient;
+  private final int batchSize;
+
+  public JobCatalogDeduplicator(final JobPersistence jobPersistence,
+                                final MetricClient metricClient,
+                                @Value("${airbyte.cron.job-catalog-deduplication.batch-size}") final int batchSize) {
+    this.jobPersistence = jobPersistence;
+    this.metricClient = metricClient;
+    this.batchSize = batchSize;
+  }
+
+  @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
+  @Scheduled(fixedDelay = "10m",
+             initialDelay = "1m")
+  void deduplicateJobCatalogs() throws IOException {
+    metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "job_catalog_deduplicator"));
+    int total = 0;
+    int processed;
+    do {
+      processed = jobPersistence.deduplicateJobCatalogs(batchSize);
+      total += processed;
+    } while (processed == batchSize);
+    if (total > 0) {
+      log.info("Moved the catalogs of {} jobs to the job catalogs table", total);
+    }
+  }
+
+}
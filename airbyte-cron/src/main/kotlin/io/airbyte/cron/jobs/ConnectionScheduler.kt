@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs
+
+import datadog.trace.api.Trace
+import io.airbyte.commons.temporal.TemporalClient
+import io.airbyte.cron.MicronautCronRunner.SCHEDULED_TRACE_OPERATION_NAME
+import io.airbyte.cron.scheduling.HierarchicalTimerWheel
+import io.airbyte.data.services.ConnectionService
+import io.airbyte.data.services.shared.ConnectionNextRun
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.Instant
+import java.time.OffsetDateTime
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.Optional
+import java.util.UUID
+import kotlin.jvm.optionals.getOrElse
+
+private val logger = KotlinLogging.logger { }
+
+/**
+ * Triggers the scheduled syncs of the connections handed over to it by their workflows, see the UseConnectionScheduler flag.
+ *
+ * The next runs of these connections are stored in the connection_next_run table. The runs due within [horizon] are kept in a
+ * timer wheel, which is refreshed every [refreshInterval] with the runs that entered the horizon or were set since the previous
+ * refresh, using the indexes of the table rather than reading all of it. Every tick, the runs that became due are claimed in
+ * batches of [batchSize], so that a run is triggered once even with several cron instances, and the workflows of the claimed
+ * connections are signalled. A claimed run whose signal fails is put back in the table to be retried. Workflows only wait for
+ * the signal, with a long backstop timer after which they check their schedule again, so a run lost here is still picked up.
+ */
+@Singleton
+@Requires(
+  property = "airbyte.connection-scheduler.enabled",
+  value = "true",
+)
+open class ConnectionScheduler(
+  private val connectionService: ConnectionService,
+  private val temporalClient: TemporalClient,
+  private val metricClient: MetricClient,
+  @Property(name = "airbyte.connection-scheduler.horizon") private val horizon: Duration,
+  @Property(name = "airbyte.connection-scheduler.refresh-interval") private val refreshInterval: Duration,
+  @Property(name = "airbyte.connection-scheduler.batch-size") private val batchSize: Int,
+  private val timeProvider: Optional<(ZoneId) -> OffsetDateTime>,
+) {
+  companion object {
+    const val TICK_MILLIS = 1000L
+    private const val CRON_TYPE = "connection_scheduler"
+    private val DEFAULT_TIME_PROVIDER: (ZoneId) -> OffsetDateTime = OffsetDateTime::now
+    private val BEGINNING_OF_TIME: OffsetDateTime = Instant.EPOCH.atOffset(ZoneOffset.UTC)
+  }
+
+  private val wheel = HierarchicalTimerWheel<UUID>(TICK_MILLIS, now().toInstant().toEpochMilli())
+  private var loadedUntil: OffsetDateTime? = null
+  private var lastRefresh: OffsetDateTime? = null
+
+  @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
+  @Scheduled(fixedDelay = "1s")
+  open fun tick() {
+    val now = now()
+    val previousRefresh = lastRefresh
+    if (previousRefresh == null || Duration.between(previousRefresh, now) >= refreshInterval) {
+      metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, MetricAttribute(MetricTags.CRON_TYPE, CRON_TYPE))
+      refresh(now, previousRefresh)
+    }
+
+    val due = wheel.advance(now.toInstant().toEpochMilli())
+    if (due.isNotEmpty()) {
+      trigger(due, now)
+    }
+    metricClient.gauge(OssMetricsRegistry.CONNECTION_SCHEDULER_PENDING_RUNS, wheel.size().toDouble())
+  }
+
+  private fun refresh(
+    now: OffsetDateTime,
+    previousRefresh: OffsetDateTime?,
+  ) {
+    val horizonEnd = now.plus(horizon)
+    val nextRuns: List<ConnectionNextRun> =
+      if (previousRefresh == null) {
+        connectionService.listConnectionNextRunsBetween(BEGINNING_OF_TIME, horizonEnd)
+      } else {
+        // The runs set since the previous refresh may have moved, in either direction. The previous refresh time is moved back by a
+        // refresh interval to cover runs set by a server with a clock slightly behind ours; reloading a run twice is harmless.
+        connectionService.listConnectionNextRunsBetween(loadedUntil!!, horizonEnd) +
+          connectionService.listConnectionNextRunsUpdatedSince(previousRefresh.minus(refreshInterval), horizonEnd)
+      }
+    nextRuns.forEach { wheel.schedule(it.connectionId, it.nextRunAt.toInstant().toEpochMilli()) }
+    loadedUntil = horizonEnd
+    lastRefresh = now
+    logger.debug { "Loaded ${nextRuns.size} connection runs due before $horizonEnd" }
+  }
+
+  private fun trigger(
+    due: List<UUID>,
+    now: OffsetDateTime,
+  ) {
+    due.chunked(batchSize).forEach { batch ->
+      // Runs that moved later since they were loaded, or that another instance already triggered, are not claimed.
+      val claimed = connectionService.claimDueConnectionNextRuns(batch, now)
+      claimed.forEach { nextRun ->
+        runCatching { temporalClient.signalScheduledSync(nextRun.connectionId) }
+          .onFailure {
+            logger.error(it) { "Failed to trigger the scheduled sync of connection ${nextRun.connectionId}, it will be retried" }
+            metricClient.count(OssMetricsRegistry.CONNECTION_SCHEDULER_TRIGGER_FAILED, 1)
+            // The run was claimed before the signal, put it back so that the next refresh loads it again.
+            runCatching { connectionService.restoreConnectionNextRun(nextRun) }
+              .onFailure { e -> logger.error(e) { "Failed to restore the next run of connection ${nextRun.connectionId}" } }
+          }
+      }
+      metricClient.count(OssMetricsRegistry.CONNECTION_SCHEDULER_SYNCS_TRIGGERED, claimed.size.toLong())
+    }
+    logger.info { "Triggered the scheduled syncs of ${due.size} connections" }
+  }
+
+  private fun now(): OffsetDateTime = timeProvider.getOrElse { DEFAULT_TIME_PROVIDER }.invoke(ZoneOffset.UTC)
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.scheduling
+
+/**
+ * Hierarchical timer wheel keeping a deadline per key.
+ *
+ * Time is split in ticks of [tickMillis]. The first level has one slot per tick, and each following level has one slot per full turn
+ * of the level below it, so that [levels] levels of [SLOTS] slots cover `SLOTS^levels` ticks. A key is stored in the lowest level
+ * where its deadline falls in the current turn, and moves down a level each time the wheel reaches its slot, until it is due.
+ * Scheduling, rescheduling and cancelling a key are constant time, and advancing the wheel costs one slot per tick plus the keys
+ * that move or become due, whatever the number of keys in the wheel. Deadlines past the last level are kept aside until the wheel
+ * gets close enough to them.
+ *
+ * Keys become due on the first tick at or after their deadline, never before. Not thread-safe.
+ */
+class HierarchicalTimerWheel<K>(
+  private val tickMillis: Long,
+  startMillis: Long,
+  private val levels: Int = DEFAULT_LEVELS,
+) {
+  companion object {
+    const val DEFAULT_LEVELS = 4
+    private const val SLOT_BITS = 6
+    private const val SLOTS = 1 shl SLOT_BITS
+    private const val SLOT_MASK = SLOTS - 1L
+    private const val EXPIRED = -1
+  }
+
+  private class Entry(val level: Int, val slot: Int, val deadlineTick: Long)
+
+  init {
+    require(tickMillis > 0) { "tickMillis must be positive" }
+    require(levels in 1..(Long.SIZE_BITS - 1) / SLOT_BITS) { "levels must be between 1 and ${(Long.SIZE_BITS - 1) / SLOT_BITS}" }
+  }
+
+  private val wheels: Array<Array<MutableSet<K>>> = Array(levels) { Array(SLOTS) { LinkedHashSet() } }
+  private val overflow = LinkedHashSet<K>()
+  private val expired = LinkedHashSet<K>()
+  private val entries = HashMap<K, Entry>()
+  private var currentTick = startMillis / tickMillis
+
+  /**
+   * Number of keys in the wheel.
+   */
+  fun size(): Int = entries.size
+
+  operator fun contains(key: K): Boolean = key in entries
+
+  /**
+   * Schedule [key] to become due at [deadlineMillis], replacing its previous deadline if it already had one.
+   */
+  fun schedule(
+    key: K,
+    deadlineMillis: Long,
+  ) {
+    cancel(key)
+    // round up, so that keys never become due before their deadline
+    val deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis)
+    if (deadlineTick <= currentTick) {
+      // the slot of the current tick was already processed, the key is returned by the next advance
+      val entry = Entry(level = EXPIRED, slot = -1, deadlineTick = deadlineTick)
+      entries[key] = entry
+      expired.add(key)
+    } else {
+      insert(key, deadlineTick)
+    }
+  }
+
+  /**
+   * Remove [key] from the wheel.
+   *
+   * @return true if the key was in the wheel
+   */
+  fun cancel(key: K): Boolean {
+    val entry = entries.remove(key) ?: return false
+    bucket(entry).remove(key)
+    return true
+  }
+
+  /**
+   * Move the wheel forward to [nowMillis].
+   *
+   * @return the keys that became due, which are removed from the wheel
+   */
+  fun advance(nowMillis: Long): List<K> {
+    val due = ArrayList<K>(expired)
+    expired.forEach { entries.remove(it) }
+    expired.clear()
+
+    val targetTick = Math.floorDiv(nowMillis, tickMillis)
+    while (currentTick < targetTick) {
+      currentTick++
+      cascade()
+      val slot = wheels[0][(currentTick and SLOT_MASK).toInt()]
+      if (slot.isNotEmpty()) {
+        slot.forEach { entries.remove(it) }
+        due.addAll(slot)
+        slot.clear()
+      }
+    }
+    return due
+  }
+
+  /**
+   * Move the keys of the slots the wheel just entered on the upper levels down, from the highest level so that keys can go down
+   * several levels on the same tick.
+   */
+  private fun cascade() {
+    if (currentTick and ((1L shl (SLOT_BITS * levels)) - 1) == 0L) {
+      reinsert(overflow)
+    }
+    for (level in levels - 1 downTo 1) {
+      if (currentTick and ((1L shl (SLOT_BITS * level)) - 1) == 0L) {
+        reinsert(wheels[level][((currentTick shr (SLOT_BITS * level)) and SLOT_MASK).toInt()])
+      }
+    }
+  }
+
+  private fun reinsert(bucket: MutableSet<K>) {
+    if (bucket.isEmpty()) {
+      return
+    }
+    val keys = bucket.toList()
+    bucket.clear()
+    keys.forEach { insert(it, entries.getValue(it).deadlineTick) }
+  }
+
+  private fun insert(
+    key: K,
+    deadlineTick: Long,
+  ) {
+    // lowest level whose current turn contains the deadline. Keys moved down on the tick of their deadline land in the slot of the
+    // current tick, which is processed right after the cascade.
+    val level = (0 until levels).firstOrNull { (deadlineTick shr (SLOT_BITS * (it + 1))) == (currentTick shr (SLOT_BITS * (it + 1))) }
+    val entry =
+      if (level == null) {
+        Entry(level = levels, slot = -1, deadlineTick = deadlineTick)
+      } else {
+        Entry(level = level, slot = ((deadlineTick shr (SLOT_BITS * level)) and SLOT_MASK).toInt(), deadlineTick = deadlineTick)
+      }
+    entries[key] = entry
+    bucket(entry).add(key)
+  }
+
+  private fun bucket(entry: Entry): MutableSet<K> =
+    when (entry.level) {
+      EXPIRED -> expired
+      levels -> overflow
+      else -> wheels[entry.level][entry.slot]
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs
+
+import io.airbyte.commons.temporal.TemporalClient
+import io.airbyte.data.services.ConnectionService
+import io.airbyte.data.services.shared.ConnectionNextRun
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.time.OffsetDateTime
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.util.Optional
+import java.util.UUID
+
+class ConnectionSchedulerTest {
+  private val horizon = Duration.ofHours(1)
+  private val refreshInterval = Duration.ofSeconds(30)
+
+  lateinit var currentTime: OffsetDateTime
+  lateinit var connectionService: ConnectionService
+  lateinit var temporalClient: TemporalClient
+  lateinit var metricClient: MetricClient
+  lateinit var connectionScheduler: ConnectionScheduler
+
+  @BeforeEach
+  fun beforeEach() {
+    currentTime = OffsetDateTime.of(2024, 7, 1, 12, 0, 0, 0, ZoneOffset.UTC)
+    connectionService = mockk()
+    every { connectionService.listConnectionNextRunsBetween(any(), any()) } returns listOf()
+    every { connectionService.listConnectionNextRunsUpdatedSince(any(), any()) } returns listOf()
+    temporalClient = mockk()
+    every { temporalClient.signalScheduledSync(any()) } returns true
+    metricClient = mockk(relaxed = true)
+    connectionScheduler =
+      ConnectionScheduler(
+        connectionService = connectionService,
+        temporalClient = temporalClient,
+        metricClient = metricClient,
+        horizon = horizon,
+        refreshInterval = refreshInterval,
+        batchSize = 2,
+        timeProvider = Optional.of({ _: ZoneId -> currentTime }),
+      )
+  }
+
+  @Test
+  fun `test due runs are claimed and triggered`() {
+    val overdue = UUID.randomUUID()
+    val due = UUID.randomUUID()
+    val later = UUID.randomUUID()
+    every { connectionService.listConnectionNextRunsBetween(any(), currentTime.plus(horizon)) } returns
+      listOf(
+        ConnectionNextRun(overdue, currentTime.minusMinutes(5)),
+        ConnectionNextRun(due, currentTime.plusSeconds(10)),
+        ConnectionNextRun(later, currentTime.plusMinutes(10)),
+      )
+    every { connectionService.claimDueConnectionNextRuns(any(), any()) } answers {
+      firstArg<List<UUID>>().map { ConnectionNextRun(it, currentTime) }
+    }
+
+    connectionScheduler.tick()
+    verify(exactly = 1) { temporalClient.signalScheduledSync(overdue) }
+
+    currentTime = currentTime.plusSeconds(10)
+    connectionScheduler.tick()
+    verify(exactly = 1) { connectionService.claimDueConnectionNextRuns(listOf(due), currentTime) }
+    verify(exactly = 1) { temporalClient.signalScheduledSync(due) }
+    verify(exactly = 0) { temporalClient.signalScheduledSync(later) }
+  }
+
+  @Test
+  fun `test unclaimed runs are not triggered`() {
+    val moved = UUID.randomUUID()
+    val claimed = UUID.randomUUID()
+    every { connectionService.listConnectionNextRunsBetween(any(), any()) } returns
+      listOf(ConnectionNextRun(moved, currentTime.minusSeconds(1)), ConnectionNextRun(claimed, currentTime.minusSeconds(1)))
+    every { connectionService.claimDueConnectionNextRuns(any(), any()) } returns listOf(ConnectionNextRun(claimed, currentTime.minusSeconds(1)))
+
+    connectionScheduler.tick()
+
+    verify(exactly = 0) { temporalClient.signalScheduledSync(moved) }
+    verify(exactly = 1) { temporalClient.signalScheduledSync(claimed) }
+    verify { metricClient.count(OssMetricsRegistry.CONNECTION_SCHEDULER_SYNCS_TRIGGERED, 1) }
+  }
+
+  @Test
+  fun `test runs set since the previous refresh are loaded`() {
+    connectionScheduler.tick()
+
+    val rescheduled = UUID.randomUUID()
+    val previousRefresh = currentTime
+    currentTime = currentTime.plus(refreshInterval)
+    every { connectionService.listConnectionNextRunsUpdatedSince(previousRefresh.minus(refreshInterval), currentTime.plus(horizon)) } returns
+      listOf(ConnectionNextRun(rescheduled, currentTime))
+    every { connectionService.claimDueConnectionNextRuns(listOf(rescheduled), currentTime) } returns
+      listOf(ConnectionNextRun(rescheduled, currentTime))
+
+    connectionScheduler.tick()
+
+    verify(exactly = 1) { connectionService.listConnectionNextRunsBetween(previousRefresh.plus(horizon), currentTime.plus(horizon)) }
+    verify(exactly = 1) { temporalClient.signalScheduledSync(rescheduled) }
+  }
+
+  @Test
+  fun `test failed triggers are counted and restored`() {
+    val connectionId = UUID.randomUUID()
+    val nextRun = ConnectionNextRun(connectionId, currentTime)
+    every { connectionService.listConnectionNextRunsBetween(any(), any()) } returns listOf(nextRun)
+    every { connectionService.claimDueConnectionNextRuns(any(), any()) } returns listOf(nextRun)
+    every { connectionService.restoreConnectionNextRun(nextRun) } returns Unit
+    every { temporalClient.signalScheduledSync(connectionId) } throws RuntimeException("temporal is down")
+
+    connectionScheduler.tick()
+
+    verify { metricClient.count(OssMetricsRegistry.CONNECTION_SCHEDULER_TRIGGER_FAILED, 1) }
+    verify(exactly = 1) { connectionService.restoreConnectionNextRun(nextRun) }
+  }
+
+  @Test
+  fun `test runs of deleted workflows are not restored`() {
+    val connectionId = UUID.randomUUID()
+    val nextRun = ConnectionNextRun(connectionId, currentTime)
+    every { connectionService.listConnectionNextRunsBetween(any(), any()) } returns listOf(nextRun)
+    every { connectionService.claimDueConnectionNextRuns(any(), any()) } returns listOf(nextRun)
+    every { temporalClient.signalScheduledSync(connectionId) } returns false
+
+    connectionScheduler.tick()
+
+    verify(exactly = 0) { connectionService.restoreConnectionNextRun(any()) }
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.scheduling
+
+import java.time.Duration
+import java.util.PriorityQueue
+import kotlin.random.Random
+
+/**
+ * Benchmark of the connection scheduler, simulating a large number of connections with basic schedules.
+ *
+ * Compares, over a simulated period with one tick per second:
+ * - timers: the current behavior, where the workflow of each connection fires a Temporal timer of its own at its next run;
+ * - wheel: the connection scheduler, which keeps the runs due within the horizon in a timer wheel, refreshed from the
+ *   connection_next_run table every refresh interval, and claims the due runs in batches;
+ * - polling: a scheduler polling the next_run_at index every tick, modelled by a priority queue.
+ *
+ * For each it reports the time spent scheduling per tick, the number of runs triggered, their lateness, the number of Temporal
+ * timers fired and the number of queries sent to the db. Every triggered run is rescheduled at its next time, as the workflow
+ * would after its sync: the workflow reads its schedule, and with the connection scheduler also records its next run. With the
+ * connection scheduler, workflows only wait for the signal, and fire a timer if the backstop expires first.
+ *
+ * Not run as part of the test suite. Run the main function, optionally passing the number of connections (100k by default) and
+ * the number of simulated hours (48 by default).
+ */
+object ConnectionSchedulingBenchmark {
+  private const val TICK_MILLIS = 1000L
+  private const val BATCH_SIZE = 200
+  private val HORIZON = Duration.ofHours(1).toMillis()
+  private val REFRESH_INTERVAL = Duration.ofSeconds(30).toMillis()
+  private val BACKSTOP = Duration.ofDays(1).toMillis()
+  private val INTERVALS =
+    listOf(Duration.ofMinutes(15), Duration.ofHours(1), Duration.ofHours(2), Duration.ofHours(6), Duration.ofHours(24), Duration.ofDays(7))
+
+  // queries of the activity reading the schedule of a connection: its schedule and its last job
+  private const val SCHEDULE_QUERIES = 2
+
+  private class Result(
+    val name: String,
+    val nanos: Long,
+    val ticks: Long,
+    val triggered: Long,
+    val maxLatenessMillis: Long,
+    val queries: Long,
+    val timersFired: Long,
+  )
+
+  @JvmStatic
+  fun main(args: Array<String>) {
+    val connections = args.getOrNull(0)?.toInt() ?: 100_000
+    val hours = args.getOrNull(1)?.toLong() ?: 48
+    val random = Random(42)
+    val intervals = LongArray(connections) { INTERVALS[random.nextInt(INTERVALS.size)].toMillis() }
+    val firstRuns = LongArray(connections) { random.nextLong(intervals[it]) }
+    val end = Duration.ofHours(hours).toMillis()
+
+    println("$connections connections, $hours simulated hours")
+    // warm up, then measure
+    repeat(2) {
+      val results = listOf(timers(intervals, firstRuns, end), wheel(intervals, firstRuns, end), polling(intervals, firstRuns, end))
+      if (it == 1) {
+        results.forEach(::report)
+      }
+    }
+  }
+
+  private fun timers(
+    intervals: LongArray,
+    firstRuns: LongArray,
+    end: Long,
+  ): Result {
+    // the timers of the workflows, each firing at the next run of its connection
+    val timers = PriorityQueue<Run>(compareBy { it.at })
+    firstRuns.forEachIndexed { id, at -> timers.add(Run(id, at)) }
+    var queries = 0L
+    var triggered = 0L
+    var timersFired = 0L
+    var maxLateness = 0L
+
+    val start = System.nanoTime()
+    var now = 0L
+    while (now < end) {
+      while (timers.isNotEmpty() && timers.peek().at <= now) {
+        val run = timers.poll()
+        timersFired++
+        maxLateness = maxOf(maxLateness, now - run.at)
+        triggered++
+        queries += SCHEDULE_QUERIES
+        timers.add(Run(run.id, run.at + intervals[run.id]))
+      }
+      now += TICK_MILLIS
+    }
+    return Result("timers", System.nanoTime() - start, end / TICK_MILLIS, triggered, maxLateness, queries, timersFired)
+  }
+
+  private fun wheel(
+    intervals: LongArray,
+    firstRuns: LongArray,
+    end: Long,
+  ): Result {
+    // the table, indexed by next run
+    val table = PriorityQueue<Run>(compareBy { it.at })
+    firstRuns.forEachIndexed { id, at -> table.add(Run(id, at)) }
+    val nextRuns = LongArray(intervals.size) { firstRuns[it] }
+    val waitingSince = LongArray(intervals.size)
+    val wheel = HierarchicalTimerWheel<Int>(TICK_MILLIS, 0)
+    var loadedUntil = -1L
+    var queries = 0L
+    var triggered = 0L
+    var timersFired = 0L
+    var maxLateness = 0L
+
+    val start = System.nanoTime()
+    var now = 0L
+    while (now < end) {
+      if (now % REFRESH_INTERVAL == 0L) {
+        // runs entering the horizon; runs set since the previous refresh are already in the wheel in this simulation, as the
+        // scheduler is the one setting them
+        queries++
+        while (table.isNotEmpty() && table.peek().at < now + HORIZON) {
+          val run = table.poll()
+          wheel.schedule(run.id, run.at)
+        }
+        loadedUntil = now + HORIZON
+      }
+      wheel.advance(now).chunked(BATCH_SIZE).forEach { batch ->
+        queries++
+        batch.forEach { id ->
+          maxLateness = maxOf(maxLateness, now - nextRuns[id])
+          triggered++
+          val backstops = backstopsFired(waitingSince[id], now)
+          timersFired += backstops
+          queries += (backstops + 1) * (SCHEDULE_QUERIES + 1)
+          waitingSince[id] = now
+          val next = nextRuns[id] + intervals[id]
+          nextRuns[id] = next
+          if (next < loadedUntil) {
+            wheel.schedule(id, next)
+          } else {
+            table.add(Run(id, next))
+          }
+        }
+      }
+      now += TICK_MILLIS
+    }
+    // the backstops of the workflows still waiting at the end
+    waitingSince.forEach {
+      val backstops = backstopsFired(it, end)
+      timersFired += backstops
+      queries += backstops * (SCHEDULE_QUERIES + 1)
+    }
+    return Result("wheel", System.nanoTime() - start, end / TICK_MILLIS, triggered, maxLateness, queries, timersFired)
+  }
+
+  private fun polling(
+    intervals: LongArray,
+    firstRuns: LongArray,
+    end: Long,
+  ): Result {
+    val index = PriorityQueue<Run>(compareBy { it.at })
+    firstRuns.forEachIndexed { id, at -> index.add(Run(id, at)) }
+    val waitingSince = LongArray(intervals.size)
+    var queries = 0L
+    var triggered = 0L
+    var timersFired = 0L
+    var maxLateness = 0L
+
+    val start = System.nanoTime()
+    var now = 0L
+    while (now < end) {
+      queries++
+      val due = ArrayList<Run>()
+      while (index.isNotEmpty() && index.peek().at <= now) {
+        due.add(index.poll())
+      }
+      due.chunked(BATCH_SIZE).forEach { batch ->
+        queries++
+        batch.forEach { run ->
+          maxLateness = maxOf(maxLateness, now - run.at)
+          triggered++
+          val backstops = backstopsFired(waitingSince[run.id], now)
+          timersFired += backstops
+          queries += (backstops + 1) * (SCHEDULE_QUERIES + 1)
+          waitingSince[run.id] = now
+          index.add(Run(run.id, run.at + intervals[run.id]))
+        }
+      }
+      now += TICK_MILLIS
+    }
+    // the backstops of the workflows still waiting at the end
+    waitingSince.forEach {
+      val backstops = backstopsFired(it, end)
+      timersFired += backstops
+      queries += backstops * (SCHEDULE_QUERIES + 1)
+    }
+    return Result("polling", System.nanoTime() - start, end / TICK_MILLIS, triggered, maxLateness, queries, timersFired)
+  }
+
+  /**
+   * Number of times the backstop timer of a workflow waiting for the signal of the scheduler since [waitingSince] expired, each
+   * time checking the schedule again and recording the next run.
+   */
+  private fun backstopsFired(
+    waitingSince: Long,
+    now: Long,
+  ): Long = maxOf(0L, (now - waitingSince - 1) / BACKSTOP)
+
+  private fun report(result: Result) {
+    println(
+      String.format(
+        "%-8s %8.2f us/tick %10d runs triggered %6d ms max lateness %10d timers fired %10d db queries",
+        result.name,
+        result.nanos / 1000.0 / result.ticks,
+        result.triggered,
+        result.maxLatenessMillis,
+        result.timersFired,
+        result.queries,
+      ),
+    )
+  }
+
+  private data class Run(val id: Int, val at: Long)
+}
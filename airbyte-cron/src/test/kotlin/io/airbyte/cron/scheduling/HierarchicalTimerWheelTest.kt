@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.scheduling
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import kotlin.random.Random
+
+class HierarchicalTimerWheelTest {
+  private val tick = 1000L
+  private val start = 1_700_000_000_000L
+
+  @Test
+  fun testKeysBecomeDueAtTheirDeadline() {
+    val wheel = HierarchicalTimerWheel<String>(tick, start)
+    wheel.schedule("a", start + 5 * tick)
+    wheel.schedule("b", start + 3 * tick)
+
+    assertEquals(listOf<String>(), wheel.advance(start + 2 * tick))
+    assertEquals(listOf("b"), wheel.advance(start + 3 * tick))
+    assertEquals(listOf<String>(), wheel.advance(start + 4 * tick))
+    assertEquals(listOf("a"), wheel.advance(start + 10 * tick))
+    assertEquals(0, wheel.size())
+  }
+
+  @Test
+  fun testKeysNeverBecomeDueBeforeTheirDeadline() {
+    val wheel = HierarchicalTimerWheel<String>(tick, start)
+    wheel.schedule("a", start + 2 * tick + 1)
+
+    assertEquals(listOf<String>(), wheel.advance(start + 2 * tick))
+    assertEquals(listOf<String>(), wheel.advance(start + 3 * tick - 1))
+    assertEquals(listOf("a"), wheel.advance(start + 3 * tick))
+  }
+
+  @Test
+  fun testPastDeadlinesAreReturnedByTheNextAdvance() {
+    val wheel = HierarchicalTimerWheel<String>(tick, start)
+    wheel.advance(start + 10 * tick)
+    wheel.schedule("a", start)
+
+    assertTrue("a" in wheel)
+    assertEquals(listOf("a"), wheel.advance(start + 10 * tick))
+    assertFalse("a" in wheel)
+  }
+
+  @Test
+  fun testRescheduleAndCancel() {
+    val wheel = HierarchicalTimerWheel<String>(tick, start)
+    wheel.schedule("a", start + 5 * tick)
+    wheel.schedule("b", start + 5 * tick)
+    wheel.schedule("a", start + 100_000 * tick)
+
+    assertTrue(wheel.cancel("b"))
+    assertFalse(wheel.cancel("b"))
+    assertEquals(1, wheel.size())
+    assertEquals(listOf<String>(), wheel.advance(start + 99_999 * tick))
+    assertEquals(listOf("a"), wheel.advance(start + 100_000 * tick))
+  }
+
+  @Test
+  fun testDeadlinesAcrossLevelsAndOverflow() {
+    val wheel = HierarchicalTimerWheel<Int>(tick, start, levels = 2)
+    val random = Random(42)
+    // 2 levels of 64 slots cover 4096 ticks, the last deadlines are kept in the overflow
+    val deadlines = (0 until 2_000).associateWith { start + random.nextLong(1, 20_000) * tick + random.nextLong(0, tick) }
+    deadlines.forEach { (key, deadline) -> wheel.schedule(key, deadline) }
+
+    var now = start
+    while (wheel.size() > 0) {
+      now += random.nextLong(1, 50) * tick
+      wheel.advance(now).forEach { key ->
+        val deadline = deadlines.getValue(key)
+        assertTrue(deadline <= now, "key $key was due at $deadline but returned at $now")
+        assertTrue(now - deadline < 50 * tick, "key $key was due at $deadline but returned late at $now")
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import javax.annotation.Nullable;
 
 /**
  * This service is responsible for Catalogs.
@@ -32,6 +33,16 @@ public interface CatalogService {
 
   UUID writeActorCatalogFetchEvent(AirbyteCatalog catalog, UUID actorId, String connectorVersion, String configurationHash) throws IOException;
 
+  UUID writeActorCatalogFetchEvent(AirbyteCatalog catalog,
+                                   UUID actorId,
+                                   String connectorVersion,
+                                   String configurationHash,
+                                   @Nullable String discoveredCatalogHash)
+      throws IOException;
+
+  Optional<UUID> writeActorCatalogFetchEventIfUnchanged(UUID actorId, String connectorVersion, String configurationHash, String discoveredCatalogHash)
+      throws IOException;
+
   Map<UUID, ActorCatalogFetchEvent> getMostRecentActorCatalogFetchEventForSources(final List<UUID> sourceIds) throws IOException;
 
 }
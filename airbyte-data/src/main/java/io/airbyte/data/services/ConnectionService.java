@@ -9,14 +9,18 @@ import io.airbyte.config.Geography;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StreamDescriptor;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ConnectionNextRun;
+import io.airbyte.data.services.shared.ConnectionScheduleInfo;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import javax.annotation.Nullable;
 
 /**
  * This service is used to manage connections.
@@ -63,4 +67,18 @@ public interface ConnectionService {
 
   List<UUID> listConnectionIdsForWorkspace(UUID workspaceId) throws IOException;
 
+  List<ConnectionScheduleInfo> listConnectionScheduleInfos(List<UUID> connectionIds) throws IOException;
+
+  void setConnectionNextRun(UUID connectionId, @Nullable OffsetDateTime nextRunAt) throws IOException;
+
+  List<ConnectionNextRun> listConnectionNextRuns(List<UUID> connectionIds) throws IOException;
+
+  List<ConnectionNextRun> listConnectionNextRunsBetween(OffsetDateTime from, OffsetDateTime to) throws IOException;
+
+  List<ConnectionNextRun> listConnectionNextRunsUpdatedSince(OffsetDateTime updatedAfter, OffsetDateTime nextRunBefore) throws IOException;
+
+  List<ConnectionNextRun> claimDueConnectionNextRuns(List<UUID> connectionIds, OffsetDateTime now) throws IOException;
+
+  void restoreConnectionNextRun(ConnectionNextRun nextRun) throws IOException;
+
 }
@@ -44,6 +44,8 @@ public interface DestinationService {
   void updateStandardDestinationDefinition(StandardDestinationDefinition destinationDefinition)
       throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  void updateStandardDestinationDefinitions(List<StandardDestinationDefinition> destinationDefinitions) throws IOException;
+
   DestinationConnection getDestinationConnection(UUID destinationId) throws JsonValidationException, IOException, ConfigNotFoundException;
 
   void writeDestinationConnectionNoSecrets(DestinationConnection partialDestination) throws IOException;
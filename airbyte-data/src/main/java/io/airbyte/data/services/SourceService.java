@@ -39,6 +39,8 @@ public interface SourceService {
 
   void updateStandardSourceDefinition(StandardSourceDefinition sourceDefinition) throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  void updateStandardSourceDefinitions(List<StandardSourceDefinition> sourceDefinitions) throws IOException;
+
   SourceConnection getSourceConnection(UUID sourceId) throws JsonValidationException, ConfigNotFoundException, IOException;
 
   List<SourceConnection> listSourceConnection() throws IOException;
@@ -32,6 +32,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
 import org.jooq.Record;
@@ -176,22 +177,89 @@ public class CatalogServiceJooqImpl implements CatalogService {
                                           String connectorVersion,
                                           String configurationHash)
       throws IOException {
+    return writeActorCatalogFetchEvent(catalog, actorId, connectorVersion, configurationHash, null);
+  }
+
+  /**
+   * Stores source catalog information, see
+   * {@link #writeActorCatalogFetchEvent(AirbyteCatalog, UUID, String, String)}.
+   *
+   * @param discoveredCatalogHash - hash of the catalog as discovered by the connector, before it was
+   *        converted to be stored, used by {@link #writeActorCatalogFetchEventIfUnchanged}
+   * @return The identifier (UUID) of the actor catalog
+   * @throws IOException - error while interacting with db
+   */
+  @Override
+  public UUID writeActorCatalogFetchEvent(final AirbyteCatalog catalog,
+                                          final UUID actorId,
+                                          final String connectorVersion,
+                                          final String configurationHash,
+                                          @Nullable final String discoveredCatalogHash)
+      throws IOException {
     final OffsetDateTime timestamp = OffsetDateTime.now();
-    final UUID fetchEventID = UUID.randomUUID();
     return database.transaction(ctx -> {
       final UUID catalogId = getOrInsertActorCatalog(catalog, ctx, timestamp);
-      ctx.insertInto(ACTOR_CATALOG_FETCH_EVENT)
-          .set(ACTOR_CATALOG_FETCH_EVENT.ID, fetchEventID)
-          .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID, actorId)
-          .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_CATALOG_ID, catalogId)
-          .set(ACTOR_CATALOG_FETCH_EVENT.CONFIG_HASH, configurationHash)
-          .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_VERSION, connectorVersion)
-          .set(ACTOR_CATALOG_FETCH_EVENT.MODIFIED_AT, timestamp)
-          .set(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT, timestamp).execute();
+      insertActorCatalogFetchEvent(ctx, catalogId, actorId, connectorVersion, configurationHash, discoveredCatalogHash, timestamp);
       return catalogId;
     });
   }
 
+  /**
+   * Records a new fetch of the catalog of an actor if the connector discovered the same catalog as on
+   * the most recent fetch, as told by the hash of the discovered catalog. This lets workers skip
+   * uploading, storing and de-duplicating a catalog that did not change.
+   *
+   * @param actorId - actor the catalog was fetched by
+   * @param connectorVersion - version of the connector when catalog was fetched
+   * @param configurationHash - hash of the config of the connector when catalog was fetched
+   * @param discoveredCatalogHash - hash of the catalog as discovered by the connector
+   * @return the identifier of the unchanged actor catalog, or empty if the catalog changed, in which
+   *         case nothing was written and the catalog must be written with
+   *         {@link #writeActorCatalogFetchEvent(AirbyteCatalog, UUID, String, String, String)}
+   * @throws IOException - error while interacting with db
+   */
+  @Override
+  public Optional<UUID> writeActorCatalogFetchEventIfUnchanged(final UUID actorId,
+                                                               final String connectorVersion,
+                                                               final String configurationHash,
+                                                               final String discoveredCatalogHash)
+      throws IOException {
+    final OffsetDateTime timestamp = OffsetDateTime.now();
+    return database.transaction(ctx -> {
+      final Record2<UUID, String> mostRecentFetchEvent =
+          ctx.select(ACTOR_CATALOG_FETCH_EVENT.ACTOR_CATALOG_ID, ACTOR_CATALOG_FETCH_EVENT.DISCOVERED_CATALOG_HASH)
+              .from(ACTOR_CATALOG_FETCH_EVENT)
+              .where(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID.eq(actorId))
+              .orderBy(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT.desc())
+              .limit(1)
+              .fetchOne();
+      if (mostRecentFetchEvent == null || !discoveredCatalogHash.equals(mostRecentFetchEvent.value2())) {
+        return Optional.empty();
+      }
+      final UUID catalogId = mostRecentFetchEvent.value1();
+      insertActorCatalogFetchEvent(ctx, catalogId, actorId, connectorVersion, configurationHash, discoveredCatalogHash, timestamp);
+      return Optional.of(catalogId);
+    });
+  }
+
+  private void insertActorCatalogFetchEvent(final DSLContext ctx,
+                                            final UUID catalogId,
+                                            final UUID actorId,
+                                            final String connectorVersion,
+                                            final String configurationHash,
+                                            @Nullable final String discoveredCatalogHash,
+                                            final OffsetDateTime timestamp) {
+    ctx.insertInto(ACTOR_CATALOG_FETCH_EVENT)
+        .set(ACTOR_CATALOG_FETCH_EVENT.ID, UUID.randomUUID())
+        .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID, actorId)
+        .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_CATALOG_ID, catalogId)
+        .set(ACTOR_CATALOG_FETCH_EVENT.CONFIG_HASH, configurationHash)
+        .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_VERSION, connectorVersion)
+        .set(ACTOR_CATALOG_FETCH_EVENT.DISCOVERED_CATALOG_HASH, discoveredCatalogHash)
+        .set(ACTOR_CATALOG_FETCH_EVENT.MODIFIED_AT, timestamp)
+        .set(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT, timestamp).execute();
+  }
+
   /**
    * Get most recent actor catalog fetch event for sources.
    *
@@ -8,6 +8,7 @@ import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_DEFINITION;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_DEFINITION_VERSION;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION_NEXT_RUN;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION_OPERATION;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.NOTIFICATION_CONFIGURATION;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.SCHEMA_MANAGEMENT;
@@ -30,6 +31,8 @@ import io.airbyte.config.helpers.CatalogHelpers;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
+import io.airbyte.data.services.shared.ConnectionNextRun;
+import io.airbyte.data.services.shared.ConnectionScheduleInfo;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.db.Database;
@@ -58,6 +61,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
@@ -478,6 +482,166 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
         .fetchInto(UUID.class));
   }
 
+  /**
+   * List the schedules of connections. Only the columns needed to compute when a connection should
+   * run are read, in particular not its catalog, so that this stays cheap for callers polling it for
+   * many connections. Connections that do not exist are left out.
+   *
+   * @param connectionIds ids of the connections
+   * @return schedule of each existing connection
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<ConnectionScheduleInfo> listConnectionScheduleInfos(final List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return List.of();
+    }
+    return database.query(ctx -> ctx.select(
+        CONNECTION.ID,
+        CONNECTION.STATUS,
+        CONNECTION.MANUAL,
+        CONNECTION.SCHEDULE,
+        CONNECTION.SCHEDULE_TYPE,
+        CONNECTION.SCHEDULE_DATA,
+        ACTOR.WORKSPACE_ID)
+        .from(CONNECTION)
+        .join(ACTOR).on(ACTOR.ID.eq(CONNECTION.SOURCE_ID))
+        .where(CONNECTION.ID.in(connectionIds))
+        .fetch())
+        .stream()
+        .map(record -> new ConnectionScheduleInfo(record.get(ACTOR.WORKSPACE_ID), DbConverter.buildConnectionSchedule(record)))
+        .toList();
+  }
+
+  /**
+   * Set the time of the next scheduled run of a connection, for the connection scheduler to trigger
+   * it.
+   *
+   * @param connectionId id of the connection
+   * @param nextRunAt time of the next run, null if the connection has no scheduled run
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public void setConnectionNextRun(final UUID connectionId, @Nullable final OffsetDateTime nextRunAt) throws IOException {
+    database.transaction(ctx -> {
+      if (nextRunAt == null) {
+        ctx.deleteFrom(CONNECTION_NEXT_RUN)
+            .where(CONNECTION_NEXT_RUN.CONNECTION_ID.eq(connectionId))
+            .execute();
+      } else {
+        final OffsetDateTime now = OffsetDateTime.now();
+        ctx.insertInto(CONNECTION_NEXT_RUN)
+            .set(CONNECTION_NEXT_RUN.CONNECTION_ID, connectionId)
+            .set(CONNECTION_NEXT_RUN.NEXT_RUN_AT, nextRunAt)
+            .set(CONNECTION_NEXT_RUN.UPDATED_AT, now)
+            .onConflict(CONNECTION_NEXT_RUN.CONNECTION_ID)
+            .doUpdate()
+            .set(CONNECTION_NEXT_RUN.NEXT_RUN_AT, nextRunAt)
+            .set(CONNECTION_NEXT_RUN.UPDATED_AT, now)
+            .execute();
+      }
+      return null;
+    });
+  }
+
+  /**
+   * List the next runs of active connections.
+   *
+   * @param connectionIds ids of the connections
+   * @return next runs of the connections that have one
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<ConnectionNextRun> listConnectionNextRuns(final List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return List.of();
+    }
+    return listConnectionNextRuns(CONNECTION_NEXT_RUN.CONNECTION_ID.in(connectionIds));
+  }
+
+  /**
+   * List the next runs of active connections due in a time range.
+   *
+   * @param from start of the range, inclusive
+   * @param to end of the range, exclusive
+   * @return next runs in the range
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<ConnectionNextRun> listConnectionNextRunsBetween(final OffsetDateTime from, final OffsetDateTime to) throws IOException {
+    return listConnectionNextRuns(CONNECTION_NEXT_RUN.NEXT_RUN_AT.ge(from).and(CONNECTION_NEXT_RUN.NEXT_RUN_AT.lt(to)));
+  }
+
+  /**
+   * List the next runs of active connections that were set after a given time.
+   *
+   * @param updatedAfter time after which the next runs were set, exclusive
+   * @param nextRunBefore only list next runs due before this time
+   * @return next runs set after the given time
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<ConnectionNextRun> listConnectionNextRunsUpdatedSince(final OffsetDateTime updatedAfter, final OffsetDateTime nextRunBefore)
+      throws IOException {
+    return listConnectionNextRuns(CONNECTION_NEXT_RUN.UPDATED_AT.gt(updatedAfter).and(CONNECTION_NEXT_RUN.NEXT_RUN_AT.lt(nextRunBefore)));
+  }
+
+  private List<ConnectionNextRun> listConnectionNextRuns(final Condition condition) throws IOException {
+    return database.query(ctx -> ctx.select(CONNECTION_NEXT_RUN.CONNECTION_ID, CONNECTION_NEXT_RUN.NEXT_RUN_AT)
+        .from(CONNECTION_NEXT_RUN)
+        .join(CONNECTION).on(CONNECTION.ID.eq(CONNECTION_NEXT_RUN.CONNECTION_ID))
+        .where(condition)
+        .and(CONNECTION.STATUS.eq(StatusType.active))
+        .fetch())
+        .stream()
+        .map(record -> new ConnectionNextRun(record.get(CONNECTION_NEXT_RUN.CONNECTION_ID), record.get(CONNECTION_NEXT_RUN.NEXT_RUN_AT)))
+        .toList();
+  }
+
+  /**
+   * Remove the next runs of connections that are due, so that each due run is triggered once even if
+   * several schedulers try to trigger it. Next runs that were moved later since they were listed are
+   * left in place.
+   *
+   * @param connectionIds ids of the connections to claim the next run of
+   * @param now current time
+   * @return due next runs that were claimed
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<ConnectionNextRun> claimDueConnectionNextRuns(final List<UUID> connectionIds, final OffsetDateTime now) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return List.of();
+    }
+    return database.transaction(ctx -> ctx.deleteFrom(CONNECTION_NEXT_RUN)
+        .where(CONNECTION_NEXT_RUN.CONNECTION_ID.in(connectionIds))
+        .and(CONNECTION_NEXT_RUN.NEXT_RUN_AT.le(now))
+        .returningResult(CONNECTION_NEXT_RUN.CONNECTION_ID, CONNECTION_NEXT_RUN.NEXT_RUN_AT)
+        .fetch())
+        .stream()
+        .map(record -> new ConnectionNextRun(record.get(CONNECTION_NEXT_RUN.CONNECTION_ID), record.get(CONNECTION_NEXT_RUN.NEXT_RUN_AT)))
+        .toList();
+  }
+
+  /**
+   * Put back a claimed next run that could not be triggered, so that the scheduler tries again. A
+   * next run set for the connection since it was claimed is kept instead.
+   *
+   * @param nextRun claimed next run
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public void restoreConnectionNextRun(final ConnectionNextRun nextRun) throws IOException {
+    database.transaction(ctx -> ctx.insertInto(CONNECTION_NEXT_RUN)
+        .set(CONNECTION_NEXT_RUN.CONNECTION_ID, nextRun.connectionId())
+        .set(CONNECTION_NEXT_RUN.NEXT_RUN_AT, nextRun.nextRunAt())
+        // picked up by the next refresh of the scheduler, as an update
+        .set(CONNECTION_NEXT_RUN.UPDATED_AT, OffsetDateTime.now())
+        .onConflict(CONNECTION_NEXT_RUN.CONNECTION_ID)
+        .doNothing()
+        .execute());
+  }
+
   private Set<Long> getEarlySyncJobsFromResult(final Result<Record> result) {
     // Transform the result to a list of early sync job ids
     // the rest of the fields are not used, we aim to keep the set small
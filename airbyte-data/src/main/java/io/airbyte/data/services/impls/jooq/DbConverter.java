@@ -151,6 +151,28 @@ public class DbConverter {
                 StandardSync.BackfillPreference.class).orElseThrow());
   }
 
+  /**
+   * Build a connection with only its id, status and schedule fields from a db record.
+   *
+   * @param record db record
+   * @return connection schedule
+   */
+  public static StandardSync buildConnectionSchedule(final Record record) {
+    return new StandardSync()
+        .withConnectionId(record.get(CONNECTION.ID))
+        .withStatus(
+            record.get(CONNECTION.STATUS) == null ? null
+                : Enums.toEnum(record.get(CONNECTION.STATUS, String.class), Status.class).orElseThrow())
+        .withSchedule(record.get(CONNECTION.SCHEDULE) == null ? null
+            : Jsons.deserialize(record.get(CONNECTION.SCHEDULE).data(), Schedule.class))
+        .withManual(record.get(CONNECTION.MANUAL))
+        .withScheduleType(record.get(CONNECTION.SCHEDULE_TYPE) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.SCHEDULE_TYPE, String.class), ScheduleType.class).orElseThrow())
+        .withScheduleData(
+            record.get(CONNECTION.SCHEDULE_DATA) == null ? null
+                : Jsons.deserialize(record.get(CONNECTION.SCHEDULE_DATA).data(), ScheduleData.class));
+  }
+
   private static ConfiguredAirbyteCatalog parseConfiguredAirbyteCatalog(final String configuredAirbyteCatalogString) {
     return Jsons.deserialize(configuredAirbyteCatalogString, ConfiguredAirbyteCatalog.class);
   }
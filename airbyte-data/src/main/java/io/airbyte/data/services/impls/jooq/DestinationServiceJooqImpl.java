@@ -67,6 +67,7 @@ import org.jooq.Field;
 import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
 import org.jooq.JoinType;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
@@ -264,6 +265,30 @@ public class DestinationServiceJooqImpl implements DestinationService {
     });
   }
 
+  /**
+   * Update existing destination definitions with a single batch of statements. Unlike
+   * {@link #updateStandardDestinationDefinition(StandardDestinationDefinition)}, the existence of the
+   * definitions is not checked: definitions that do not exist are not written.
+   *
+   * @param destinationDefinitions destination definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void updateStandardDestinationDefinitions(final List<StandardDestinationDefinition> destinationDefinitions) throws IOException {
+    if (destinationDefinitions.isEmpty()) {
+      return;
+    }
+
+    database.transaction(ctx -> {
+      final OffsetDateTime timestamp = OffsetDateTime.now();
+      ctx.batch(destinationDefinitions.stream()
+          .map(destinationDefinition -> updateStandardDestinationDefinitionQuery(destinationDefinition, timestamp, ctx))
+          .toList())
+          .execute();
+      return null;
+    });
+  }
+
   /**
    * Returns destination with a given id. Does not contain secrets.
    *
@@ -639,24 +664,7 @@ public class DestinationServiceJooqImpl implements DestinationService {
           .where(Tables.ACTOR_DEFINITION.ID.eq(standardDestinationDefinition.getDestinationDefinitionId())));
 
       if (isExistingConfig) {
-        ctx.update(Tables.ACTOR_DEFINITION)
-            .set(Tables.ACTOR_DEFINITION.ID, standardDestinationDefinition.getDestinationDefinitionId())
-            .set(Tables.ACTOR_DEFINITION.NAME, standardDestinationDefinition.getName())
-            .set(Tables.ACTOR_DEFINITION.ICON, standardDestinationDefinition.getIcon())
-            .set(Tables.ACTOR_DEFINITION.ICON_URL, standardDestinationDefinition.getIconUrl())
-            .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.destination)
-            .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardDestinationDefinition.getTombstone())
-            .set(Tables.ACTOR_DEFINITION.PUBLIC, standardDestinationDefinition.getPublic())
-            .set(Tables.ACTOR_DEFINITION.CUSTOM, standardDestinationDefinition.getCustom())
-            .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
-                standardDestinationDefinition.getResourceRequirements() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getResourceRequirements())))
-            .set(ACTOR_DEFINITION.METRICS,
-                standardDestinationDefinition.getMetrics() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getMetrics())))
-            .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
-            .where(Tables.ACTOR_DEFINITION.ID.eq(standardDestinationDefinition.getDestinationDefinitionId()))
-            .execute();
+        updateStandardDestinationDefinitionQuery(standardDestinationDefinition, timestamp, ctx).execute();
 
       } else {
         ctx.insertInto(Tables.ACTOR_DEFINITION)
@@ -682,6 +690,28 @@ public class DestinationServiceJooqImpl implements DestinationService {
     });
   }
 
+  private static Query updateStandardDestinationDefinitionQuery(final StandardDestinationDefinition standardDestinationDefinition,
+                                                                final OffsetDateTime timestamp,
+                                                                final DSLContext ctx) {
+    return ctx.update(Tables.ACTOR_DEFINITION)
+        .set(Tables.ACTOR_DEFINITION.ID, standardDestinationDefinition.getDestinationDefinitionId())
+        .set(Tables.ACTOR_DEFINITION.NAME, standardDestinationDefinition.getName())
+        .set(Tables.ACTOR_DEFINITION.ICON, standardDestinationDefinition.getIcon())
+        .set(Tables.ACTOR_DEFINITION.ICON_URL, standardDestinationDefinition.getIconUrl())
+        .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.destination)
+        .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardDestinationDefinition.getTombstone())
+        .set(Tables.ACTOR_DEFINITION.PUBLIC, standardDestinationDefinition.getPublic())
+        .set(Tables.ACTOR_DEFINITION.CUSTOM, standardDestinationDefinition.getCustom())
+        .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
+            standardDestinationDefinition.getResourceRequirements() == null ? null
+                : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getResourceRequirements())))
+        .set(ACTOR_DEFINITION.METRICS,
+            standardDestinationDefinition.getMetrics() == null ? null
+                : JSONB.valueOf(Jsons.serialize(standardDestinationDefinition.getMetrics())))
+        .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
+        .where(Tables.ACTOR_DEFINITION.ID.eq(standardDestinationDefinition.getDestinationDefinitionId()));
+  }
+
   /**
    * Get Destination with secrets.
    *
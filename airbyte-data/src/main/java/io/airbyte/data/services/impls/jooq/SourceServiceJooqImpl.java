@@ -71,6 +71,7 @@ import org.jooq.Field;
 import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
 import org.jooq.JoinType;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
@@ -249,6 +250,28 @@ public class SourceServiceJooqImpl implements SourceService {
     });
   }
 
+  /**
+   * Update existing source definitions with a single batch of statements. Unlike
+   * {@link #updateStandardSourceDefinition(StandardSourceDefinition)}, the existence of the
+   * definitions is not checked: definitions that do not exist are not written.
+   *
+   * @param sourceDefinitions source definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void updateStandardSourceDefinitions(final List<StandardSourceDefinition> sourceDefinitions) throws IOException {
+    if (sourceDefinitions.isEmpty()) {
+      return;
+    }
+
+    database.transaction(ctx -> {
+      final OffsetDateTime timestamp = OffsetDateTime.now();
+      ctx.batch(sourceDefinitions.stream().map(sourceDefinition -> updateStandardSourceDefinitionQuery(sourceDefinition, timestamp, ctx)).toList())
+          .execute();
+      return null;
+    });
+  }
+
   /**
    * Returns source with a given id. Does not contain secrets. To hydrate with secrets see { @link
    * SecretsRepositoryReader#getSourceConnectionWithSecrets(final UUID sourceId) }.
@@ -577,31 +600,7 @@ public class SourceServiceJooqImpl implements SourceService {
           .where(Tables.ACTOR_DEFINITION.ID.eq(standardSourceDefinition.getSourceDefinitionId())));
 
       if (isExistingConfig) {
-        ctx.update(Tables.ACTOR_DEFINITION)
-            .set(Tables.ACTOR_DEFINITION.ID, standardSourceDefinition.getSourceDefinitionId())
-            .set(Tables.ACTOR_DEFINITION.NAME, standardSourceDefinition.getName())
-            .set(Tables.ACTOR_DEFINITION.ICON, standardSourceDefinition.getIcon())
-            .set(Tables.ACTOR_DEFINITION.ICON_URL, standardSourceDefinition.getIconUrl())
-            .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.source)
-            .set(Tables.ACTOR_DEFINITION.SOURCE_TYPE,
-                standardSourceDefinition.getSourceType() == null ? null
-                    : Enums.toEnum(standardSourceDefinition.getSourceType().value(),
-                        SourceType.class).orElseThrow())
-            .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardSourceDefinition.getTombstone())
-            .set(Tables.ACTOR_DEFINITION.PUBLIC, standardSourceDefinition.getPublic())
-            .set(Tables.ACTOR_DEFINITION.CUSTOM, standardSourceDefinition.getCustom())
-            .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
-                standardSourceDefinition.getResourceRequirements() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getResourceRequirements())))
-            .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
-            .set(Tables.ACTOR_DEFINITION.MAX_SECONDS_BETWEEN_MESSAGES,
-                standardSourceDefinition.getMaxSecondsBetweenMessages() == null ? null
-                    : standardSourceDefinition.getMaxSecondsBetweenMessages().intValue())
-            .set(ACTOR_DEFINITION.METRICS,
-                standardSourceDefinition.getMetrics() == null ? null
-                    : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getMetrics())))
-            .where(Tables.ACTOR_DEFINITION.ID.eq(standardSourceDefinition.getSourceDefinitionId()))
-            .execute();
+        updateStandardSourceDefinitionQuery(standardSourceDefinition, timestamp, ctx).execute();
 
       } else {
         ctx.insertInto(Tables.ACTOR_DEFINITION)
@@ -633,6 +632,35 @@ public class SourceServiceJooqImpl implements SourceService {
     });
   }
 
+  private static Query updateStandardSourceDefinitionQuery(final StandardSourceDefinition standardSourceDefinition,
+                                                           final OffsetDateTime timestamp,
+                                                           final DSLContext ctx) {
+    return ctx.update(Tables.ACTOR_DEFINITION)
+        .set(Tables.ACTOR_DEFINITION.ID, standardSourceDefinition.getSourceDefinitionId())
+        .set(Tables.ACTOR_DEFINITION.NAME, standardSourceDefinition.getName())
+        .set(Tables.ACTOR_DEFINITION.ICON, standardSourceDefinition.getIcon())
+        .set(Tables.ACTOR_DEFINITION.ICON_URL, standardSourceDefinition.getIconUrl())
+        .set(Tables.ACTOR_DEFINITION.ACTOR_TYPE, ActorType.source)
+        .set(Tables.ACTOR_DEFINITION.SOURCE_TYPE,
+            standardSourceDefinition.getSourceType() == null ? null
+                : Enums.toEnum(standardSourceDefinition.getSourceType().value(),
+                    SourceType.class).orElseThrow())
+        .set(Tables.ACTOR_DEFINITION.TOMBSTONE, standardSourceDefinition.getTombstone())
+        .set(Tables.ACTOR_DEFINITION.PUBLIC, standardSourceDefinition.getPublic())
+        .set(Tables.ACTOR_DEFINITION.CUSTOM, standardSourceDefinition.getCustom())
+        .set(Tables.ACTOR_DEFINITION.RESOURCE_REQUIREMENTS,
+            standardSourceDefinition.getResourceRequirements() == null ? null
+                : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getResourceRequirements())))
+        .set(Tables.ACTOR_DEFINITION.UPDATED_AT, timestamp)
+        .set(Tables.ACTOR_DEFINITION.MAX_SECONDS_BETWEEN_MESSAGES,
+            standardSourceDefinition.getMaxSecondsBetweenMessages() == null ? null
+                : standardSourceDefinition.getMaxSecondsBetweenMessages().intValue())
+        .set(ACTOR_DEFINITION.METRICS,
+            standardSourceDefinition.getMetrics() == null ? null
+                : JSONB.valueOf(Jsons.serialize(standardSourceDefinition.getMetrics())))
+        .where(Tables.ACTOR_DEFINITION.ID.eq(standardSourceDefinition.getSourceDefinitionId()));
+  }
+
   private void writeSourceConnection(final List<SourceConnection> configs, final DSLContext ctx) {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     configs.forEach((sourceConnection) -> {
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Time of the next scheduled run of a connection scheduled by the connection scheduler.
+ *
+ * @param connectionId id of the connection
+ * @param nextRunAt time at which the next sync of the connection is due
+ */
+public record ConnectionNextRun(UUID connectionId, OffsetDateTime nextRunAt) {
+
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.StandardSync;
+import java.util.UUID;
+
+/**
+ * Schedule of a connection, for callers that only need to know when the connection should run.
+ *
+ * @param workspaceId workspace of the connection
+ * @param connection connection with only its id, status, manual flag and schedule fields populated
+ */
+public record ConnectionScheduleInfo(UUID workspaceId, StandardSync connection) {
+
+}
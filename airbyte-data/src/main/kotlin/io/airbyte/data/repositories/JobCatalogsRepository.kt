@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.repositories
+
+import io.airbyte.data.repositories.entities.JobCatalog
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.PageableRepository
+
+@JdbcRepository(dialect = Dialect.POSTGRES, dataSource = "config")
+interface JobCatalogsRepository : PageableRepository<JobCatalog, String> {
+  fun findByHashIn(hashes: Collection<String>): List<JobCatalog>
+}
@@ -48,6 +48,7 @@ open class Job(
   var createdAt: java.time.OffsetDateTime? = null,
   @DateUpdated
   var updatedAt: java.time.OffsetDateTime? = null,
+  var catalogHash: String? = null,
 )
 
 @MappedEntity("jobs")
@@ -60,6 +61,7 @@ class JobWithAttempts(
   startedAt: java.time.OffsetDateTime? = null,
   createdAt: java.time.OffsetDateTime? = null,
   updatedAt: java.time.OffsetDateTime? = null,
+  catalogHash: String? = null,
   @Relation(
     value = Relation.Kind.ONE_TO_MANY,
     mappedBy = "job",
@@ -74,4 +76,5 @@ class JobWithAttempts(
     startedAt = startedAt,
     createdAt = createdAt,
     updatedAt = updatedAt,
+    catalogHash = catalogHash,
   )
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.repositories.entities
+
+import com.fasterxml.jackson.databind.JsonNode
+import io.micronaut.data.annotation.DateCreated
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.TypeDef
+import io.micronaut.data.model.DataType
+
+/**
+ * Configured catalog shared by the jobs referencing its hash.
+ */
+@MappedEntity("job_catalogs")
+data class JobCatalog(
+  @field:Id
+  var hash: String,
+  @field:TypeDef(type = DataType.JSON)
+  var catalog: JsonNode,
+  var referenceCount: Int = 0,
+  @DateCreated
+  var createdAt: java.time.OffsetDateTime? = null,
+)
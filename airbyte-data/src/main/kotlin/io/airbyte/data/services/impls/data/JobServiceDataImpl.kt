@@ -6,8 +6,11 @@ package io.airbyte.data.services.impls.data
 
 import io.airbyte.config.Job
 import io.airbyte.config.JobConfig
+import io.airbyte.config.helpers.JobConfigCatalogs
+import io.airbyte.data.repositories.JobCatalogsRepository
 import io.airbyte.data.repositories.JobsWithAttemptsRepository
 import io.airbyte.data.repositories.Specifications
+import io.airbyte.data.repositories.entities.JobWithAttempts
 import io.airbyte.data.services.JobService
 import io.airbyte.data.services.impls.data.mappers.toConfigModel
 import io.airbyte.data.services.impls.data.mappers.toEntity
@@ -22,6 +25,7 @@ const val DEFAULT_SORT_FIELD = "createdAt"
 @Singleton
 class JobServiceDataImpl(
   private val jobsWithAttemptsRepository: JobsWithAttemptsRepository,
+  private val jobCatalogsRepository: JobCatalogsRepository,
 ) : JobService {
   override fun listJobs(
     configTypes: Set<JobConfig.ConfigType>,
@@ -49,7 +53,26 @@ class JobServiceDataImpl(
       ),
       pageable,
     )
-      .toList().map { it.toConfigModel() }.toList()
+      .toList().let { attachCatalogs(it) }.map { it.toConfigModel() }.toList()
+  }
+
+  /**
+   * Put the catalogs stored apart from the job configs back into them, fetching each distinct catalog of the page once.
+   */
+  private fun attachCatalogs(jobs: List<JobWithAttempts>): List<JobWithAttempts> {
+    val hashes = jobs.mapNotNull { it.catalogHash }.toSet()
+    if (hashes.isEmpty()) {
+      return jobs
+    }
+    val catalogs = jobCatalogsRepository.findByHashIn(hashes).associate { it.hash to it.catalog }
+    jobs.forEach { job ->
+      val catalog = job.catalogHash?.let { catalogs[it] }
+      val config = job.config
+      if (catalog != null && config != null) {
+        job.config = JobConfigCatalogs.attach(config, catalog.deepCopy())
+      }
+    }
+    return jobs
   }
 
   private fun buildPageable(
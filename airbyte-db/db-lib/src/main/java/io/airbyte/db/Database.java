@@ -10,19 +10,38 @@ import org.jooq.impl.DSL;
 
 /**
  * Database object for interacting with a Jooq connection.
+ *
+ * <p>
+ * Queries and transactions run on the primary database. A database can also have a read replica,
+ * which is only used by the queries explicitly sent to it through {@link #replicaQuery}.
  */
 public class Database {
 
   private final DSLContext dslContext;
+  private final ReadReplica readReplica;
 
   public Database(final DSLContext dslContext) {
+    this(dslContext, null);
+  }
+
+  public Database(final DSLContext dslContext, final ReadReplica readReplica) {
     this.dslContext = dslContext;
+    this.readReplica = readReplica;
   }
 
   public <T> T query(final ContextQueryFunction<T> transform) throws SQLException {
     return transform.query(dslContext);
   }
 
+  /**
+   * Run a read only query on the read replica if there is one and it is up to date, or on the
+   * primary otherwise. The query may not see the latest writes, so reads that must see what was just
+   * written should use {@link #query} instead.
+   */
+  public <T> T replicaQuery(final ContextQueryFunction<T> transform) throws SQLException {
+    return transform.query(readReplica != null ? readReplica.get().orElse(dslContext) : dslContext);
+  }
+
   public <T> T transaction(final ContextQueryFunction<T> transform) throws SQLException {
     return dslContext.transactionResult(configuration -> transform.query(DSL.using(configuration)));
   }
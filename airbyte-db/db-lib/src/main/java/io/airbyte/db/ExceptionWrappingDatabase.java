@@ -34,6 +34,23 @@ public class ExceptionWrappingDatabase {
     }
   }
 
+  /**
+   * Run a read only query on the read replica, if there is one and it is up to date.
+   *
+   * @param transform query to run
+   * @param <T> type of return value
+   * @return value of query
+   * @throws IOException exception when accessing db
+   * @see Database#replicaQuery(ContextQueryFunction)
+   */
+  public <T> T replicaQuery(final ContextQueryFunction<T> transform) throws IOException {
+    try {
+      return database.replicaQuery(transform);
+    } catch (final SQLException e) {
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Execute query in a transaction.
    *
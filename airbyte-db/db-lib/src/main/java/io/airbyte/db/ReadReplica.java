@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read replica of a database, to which the reads that can tolerate some lag are sent.
+ *
+ * <p>
+ * The replication lag of the replica is checked at most once per check interval, by the first read
+ * due for a check. The replica is only read while its lag is under the maximum lag. Otherwise, or if
+ * the lag cannot be checked, reads go to the primary until the next check.
+ */
+public class ReadReplica {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReadReplica.class);
+
+  // A replica that replayed all it received is up to date, however old its last replayed
+  // transaction, as long as its WAL receiver is running. A replica whose WAL receiver stopped
+  // receives nothing while the primary moves on, so its lag is unknown. A database that is not
+  // replicating from another has no lag.
+  static final String LAG_QUERY = """
+                                  SELECT CASE
+                                    WHEN NOT pg_is_in_recovery() THEN 0
+                                    WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver) THEN NULL
+                                    WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                                    ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS bigint)
+                                  END
+                                  """;
+
+  private final DSLContext dslContext;
+  private final Duration maxLag;
+  private final Duration lagCheckInterval;
+  private final Consumer<Duration> lagListener;
+  private final Clock clock;
+  private final AtomicLong nextLagCheckMillis = new AtomicLong(0);
+  private volatile boolean upToDate;
+
+  /**
+   * Read replica.
+   *
+   * @param dslContext context connected to the replica, preferably read only
+   * @param maxLag maximum replication lag for the replica to be read
+   * @param lagCheckInterval how often to check the replication lag
+   * @param lagListener notified of the replication lag every time it is checked, e.g. to record it
+   */
+  public ReadReplica(final DSLContext dslContext, final Duration maxLag, final Duration lagCheckInterval, final Consumer<Duration> lagListener) {
+    this(dslContext, maxLag, lagCheckInterval, lagListener, Clock.systemUTC());
+  }
+
+  ReadReplica(final DSLContext dslContext,
+              final Duration maxLag,
+              final Duration lagCheckInterval,
+              final Consumer<Duration> lagListener,
+              final Clock clock) {
+    this.dslContext = dslContext;
+    this.maxLag = maxLag;
+    this.lagCheckInterval = lagCheckInterval;
+    this.lagListener = lagListener;
+    this.clock = clock;
+  }
+
+  /**
+   * Get the context of the replica if its lag is under the maximum lag.
+   *
+   * @return the context of the replica, or empty if the primary should be read instead
+   */
+  Optional<DSLContext> get() {
+    final long now = clock.millis();
+    final long nextLagCheck = nextLagCheckMillis.get();
+    // a single read checks the lag, the others use the result of the previous check meanwhile
+    if (now >= nextLagCheck && nextLagCheckMillis.compareAndSet(nextLagCheck, now + lagCheckInterval.toMillis())) {
+      upToDate = checkLag();
+    }
+    return upToDate ? Optional.of(dslContext) : Optional.empty();
+  }
+
+  private boolean checkLag() {
+    try {
+      final Long lagMs = dslContext.fetchValue(LAG_QUERY, Long.class);
+      if (lagMs == null) {
+        LOGGER.warn("The replication lag of the read replica is unknown or its WAL receiver is not running, reads go to the primary");
+        return false;
+      }
+      final Duration lag = Duration.ofMillis(lagMs);
+      lagListener.accept(lag);
+      if (lag.compareTo(maxLag) > 0) {
+        LOGGER.warn("The read replica lags {} ms behind the primary, reads go to the primary", lagMs);
+        return false;
+      }
+      return true;
+    } catch (final DataAccessException e) {
+      LOGGER.warn("Failed to check the replication lag of the read replica, reads go to the primary", e);
+      return false;
+    }
+  }
+
+}
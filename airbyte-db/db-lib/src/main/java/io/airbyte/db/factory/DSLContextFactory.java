@@ -66,4 +66,26 @@ public class DSLContextFactory {
     return DSL.using(DataSourceFactory.create(username, password, driverClassName, jdbcConnectionString, connectionProperties), dialect);
   }
 
+  /**
+   * Constructs a {@link DSLContext} instance on a read only {@link DataSource}, e.g. to query a read
+   * replica.
+   *
+   * @param username The username of the database user.
+   * @param password The password of the database user.
+   * @param driverClassName The fully qualified name of the JDBC driver class.
+   * @param jdbcConnectionString The JDBC connection string.
+   * @param dialect The SQL dialect to use with objects created from this context.
+   * @param connectionProperties Additional configuration properties for the underlying driver.
+   * @return The configured {@link DSLContext}.
+   * @see DataSourceFactory#createReadOnly(String, String, String, String, Map)
+   */
+  public static DSLContext createReadOnly(final String username,
+                                          final String password,
+                                          final String driverClassName,
+                                          final String jdbcConnectionString,
+                                          final SQLDialect dialect,
+                                          final Map<String, String> connectionProperties) {
+    return DSL.using(DataSourceFactory.createReadOnly(username, password, driverClassName, jdbcConnectionString, connectionProperties), dialect);
+  }
+
 }
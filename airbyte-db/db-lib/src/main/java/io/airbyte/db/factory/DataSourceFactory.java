@@ -5,12 +5,14 @@
 package io.airbyte.db.factory;
 
 import static org.postgresql.PGProperty.CONNECT_TIMEOUT;
+import static org.postgresql.PGProperty.READ_ONLY_MODE;
 
 import com.google.common.base.Preconditions;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import java.io.Closeable;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import javax.sql.DataSource;
@@ -68,6 +70,39 @@ public class DataSourceFactory {
         .build();
   }
 
+  /**
+   * Constructs a new read only {@link DataSource} using the provided configuration, e.g. to connect
+   * to a read replica. The connections of the pool are read only, and Postgres connections also
+   * reject writes outside of transactions, so that a write sent to the data source fails rather than
+   * reaching a replica.
+   *
+   * @param username The username of the database user.
+   * @param password The password of the database user.
+   * @param driverClassName The fully qualified name of the JDBC driver class.
+   * @param jdbcConnectionString The JDBC connection string.
+   * @param connectionProperties Additional configuration properties for the underlying driver.
+   * @return The configured {@link DataSource}.
+   */
+  public static DataSource createReadOnly(final String username,
+                                          final String password,
+                                          final String driverClassName,
+                                          final String jdbcConnectionString,
+                                          final Map<String, String> connectionProperties) {
+    final Map<String, String> readOnlyConnectionProperties = new HashMap<>(connectionProperties);
+    if (DatabaseDriver.POSTGRESQL.getDriverClassName().equals(driverClassName)) {
+      readOnlyConnectionProperties.put(READ_ONLY_MODE.getName(), "always");
+    }
+    return new DataSourceBuilder()
+        .withConnectionProperties(readOnlyConnectionProperties)
+        .withDriverClassName(driverClassName)
+        .withJdbcUrl(jdbcConnectionString)
+        .withPassword(password)
+        .withUsername(username)
+        .withConnectionTimeoutMs(DataSourceBuilder.getConnectionTimeoutMs(readOnlyConnectionProperties, driverClassName))
+        .withReadOnly(true)
+        .build();
+  }
+
   /**
    * Constructs a new {@link DataSource} using the provided configuration.
    *
@@ -181,6 +216,7 @@ public class DataSourceFactory {
     private long connectionTimeoutMs;
     private String password;
     private int port = 5432;
+    private boolean readOnly;
     private String username;
     private static final String CONNECT_TIMEOUT_KEY = "connectTimeout";
     private static final Duration CONNECT_TIMEOUT_DEFAULT = Duration.ofSeconds(60);
@@ -286,6 +322,11 @@ public class DataSourceFactory {
       return this;
     }
 
+    public DataSourceBuilder withReadOnly(final boolean readOnly) {
+      this.readOnly = readOnly;
+      return this;
+    }
+
     public DataSourceBuilder withUsername(final String username) {
       this.username = username;
       return this;
@@ -305,6 +346,7 @@ public class DataSourceFactory {
       config.setConnectionTimeout(connectionTimeoutMs);
       config.setPassword(password);
       config.setUsername(username);
+      config.setReadOnly(readOnly);
       // Expose stats via JMX
       // (https://github.com/brettwooldridge/HikariCP/wiki/MBean-(JMX)-Monitoring-and-Management)
       config.setRegisterMbeans(true);
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+import static org.jooq.impl.DSL.foreignKey;
+import static org.jooq.impl.DSL.primaryKey;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add a table holding the time of the next scheduled run of connections, for the connections
+ * scheduled by the connection scheduler rather than by a timer of their own workflow. It is indexed
+ * on the next run time, which the scheduler pages through, and on the update time, which it uses to
+ * pick up changes.
+ */
+public class V0_64_7_001__AddConnectionNextRun extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_64_7_001__AddConnectionNextRun.class);
+  private static final String CONNECTION_NEXT_RUN_TABLE = "connection_next_run";
+
+  private static final Field<UUID> connectionId = DSL.field("connection_id", SQLDataType.UUID.nullable(false));
+  private static final Field<OffsetDateTime> nextRunAt = DSL.field("next_run_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false));
+  private static final Field<OffsetDateTime> updatedAt =
+      DSL.field("updated_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false).defaultValue(currentOffsetDateTime()));
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    createConnectionNextRunTable(ctx);
+  }
+
+  static void createConnectionNextRunTable(final DSLContext ctx) {
+    ctx.createTableIfNotExists(CONNECTION_NEXT_RUN_TABLE)
+        .columns(connectionId, nextRunAt, updatedAt)
+        .constraints(
+            primaryKey(connectionId),
+            foreignKey(connectionId).references("connection", "id").onDeleteCascade())
+        .execute();
+    ctx.createIndexIfNotExists("connection_next_run_next_run_at_idx").on(CONNECTION_NEXT_RUN_TABLE, nextRunAt.getName()).execute();
+    ctx.createIndexIfNotExists("connection_next_run_updated_at_idx").on(CONNECTION_NEXT_RUN_TABLE, updatedAt.getName()).execute();
+  }
+
+}
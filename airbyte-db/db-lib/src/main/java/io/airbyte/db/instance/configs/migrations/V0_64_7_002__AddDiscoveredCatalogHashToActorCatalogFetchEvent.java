@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add the hash of the catalog as discovered by the connector to the catalog fetch events, so that
+ * workers can tell that a discover returned the current catalog of a source without uploading it.
+ */
+public class V0_64_7_002__AddDiscoveredCatalogHashToActorCatalogFetchEvent extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_64_7_002__AddDiscoveredCatalogHashToActorCatalogFetchEvent.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+
+    final Field<String> discoveredCatalogHash = DSL.field("discovered_catalog_hash", SQLDataType.VARCHAR(64).nullable(true));
+    ctx.alterTable("actor_catalog_fetch_event")
+        .addColumnIfNotExists(discoveredCatalogHash)
+        .execute();
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+import static org.jooq.impl.DSL.primaryKey;
+
+import java.time.OffsetDateTime;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add a table storing the configured catalogs of jobs once per distinct catalog, and a column on the
+ * jobs table pointing to it. Job configs used to embed a full copy of the catalog of the connection.
+ * Existing jobs are moved to the new table progressively after the migration, see
+ * JobPersistence#deduplicateJobCatalogs.
+ */
+public class V0_64_7_003__AddJobCatalogs extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_64_7_003__AddJobCatalogs.class);
+  private static final String JOB_CATALOGS_TABLE_NAME = "job_catalogs";
+  private static final String JOBS_TABLE_NAME = "jobs";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+
+    final Field<String> hash = DSL.field("hash", SQLDataType.VARCHAR(64).nullable(false));
+    final Field<JSONB> catalog = DSL.field("catalog", SQLDataType.JSONB.nullable(false));
+    final Field<Integer> referenceCount = DSL.field("reference_count", SQLDataType.INTEGER.nullable(false).defaultValue(0));
+    final Field<OffsetDateTime> createdAt =
+        DSL.field("created_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false).defaultValue(currentOffsetDateTime()));
+
+    ctx.createTableIfNotExists(JOB_CATALOGS_TABLE_NAME)
+        .columns(hash, catalog, referenceCount, createdAt)
+        .constraints(primaryKey(hash))
+        .execute();
+
+    ctx.alterTable(JOBS_TABLE_NAME)
+        .addColumnIfNotExists(DSL.field("catalog_hash", SQLDataType.VARCHAR(64).nullable(true)))
+        .execute();
+  }
+
+}
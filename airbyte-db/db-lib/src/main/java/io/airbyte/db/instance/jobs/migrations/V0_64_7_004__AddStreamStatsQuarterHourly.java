@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import static org.jooq.impl.DSL.currentOffsetDateTime;
+import static org.jooq.impl.DSL.primaryKey;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Add a table rolling up the stream stats of the attempts of the succeeded sync jobs of a connection
+ * per quarter of an hour in which the attempts ended, so that the history of a connection can be read
+ * without loading its attempts. The offsets of the time zones in use are all whole quarters of an
+ * hour, so the rollups can be summed into the days of any of them. The stream namespace is stored
+ * as an empty string when the stream has none, which lets it be part of the primary key. The table
+ * is backfilled with the attempts that ended in the last 31 days, which covers the history shown for
+ * a connection.
+ */
+public class V0_64_7_004__AddStreamStatsQuarterHourly extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_64_7_004__AddStreamStatsQuarterHourly.class);
+  private static final String STREAM_STATS_QUARTER_HOURLY_TABLE_NAME = "stream_stats_quarter_hourly";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+
+    final Field<UUID> connectionId = DSL.field("connection_id", SQLDataType.UUID.nullable(false));
+    final Field<String> streamNamespace = DSL.field("stream_namespace", SQLDataType.VARCHAR.nullable(false).defaultValue(""));
+    final Field<String> streamName = DSL.field("stream_name", SQLDataType.VARCHAR.nullable(false));
+    final Field<OffsetDateTime> bucketStart = DSL.field("bucket_start", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false));
+    final Field<Long> recordsCommitted = DSL.field("records_committed", SQLDataType.BIGINT.nullable(false).defaultValue(0L));
+    final Field<Long> bytesCommitted = DSL.field("bytes_committed", SQLDataType.BIGINT.nullable(false).defaultValue(0L));
+    final Field<Long> recordsEmitted = DSL.field("records_emitted", SQLDataType.BIGINT.nullable(false).defaultValue(0L));
+    final Field<Long> bytesEmitted = DSL.field("bytes_emitted", SQLDataType.BIGINT.nullable(false).defaultValue(0L));
+    final Field<OffsetDateTime> updatedAt =
+        DSL.field("updated_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false).defaultValue(currentOffsetDateTime()));
+
+    ctx.createTableIfNotExists(STREAM_STATS_QUARTER_HOURLY_TABLE_NAME)
+        .columns(connectionId, streamNamespace, streamName, bucketStart, recordsCommitted, bytesCommitted, recordsEmitted, bytesEmitted, updatedAt)
+        .constraints(primaryKey(connectionId, bucketStart, streamNamespace, streamName))
+        .execute();
+
+    ctx.execute("""
+                INSERT INTO stream_stats_quarter_hourly (connection_id, stream_namespace, stream_name, bucket_start,
+                  records_committed, bytes_committed, records_emitted, bytes_emitted)
+                SELECT CAST(jobs.scope AS uuid),
+                  COALESCE(stream_stats.stream_namespace, ''),
+                  stream_stats.stream_name,
+                  to_timestamp(floor(EXTRACT(EPOCH FROM attempts.ended_at) / 900) * 900),
+                  COALESCE(SUM(stream_stats.records_committed), 0),
+                  COALESCE(SUM(stream_stats.bytes_committed), 0),
+                  COALESCE(SUM(stream_stats.records_emitted), 0),
+                  COALESCE(SUM(stream_stats.bytes_emitted), 0)
+                FROM jobs
+                JOIN attempts ON attempts.job_id = jobs.id
+                JOIN stream_stats ON stream_stats.attempt_id = attempts.id
+                WHERE jobs.config_type = 'sync'
+                  AND jobs.status = 'succeeded'
+                  AND jobs.updated_at >= now() - interval '31 days'
+                  AND attempts.ended_at >= now() - interval '31 days'
+                GROUP BY 1, 2, 3, 4
+                ON CONFLICT DO NOTHING
+                """);
+  }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.instance.DatabaseConstants;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Test suite for the {@link ReadReplica} routing of {@link Database}, with two databases standing in
+ * for the primary and the replica.
+ */
+class ReadReplicaTest {
+
+  private static final Duration MAX_LAG = Duration.ofSeconds(1);
+  private static final Duration LAG_CHECK_INTERVAL = Duration.ofSeconds(5);
+  private static final String SELECT_NAME = "SELECT name FROM instance";
+
+  private static PostgreSQLContainer<?> primaryContainer;
+  private static PostgreSQLContainer<?> replicaContainer;
+
+  private DataSource primaryDataSource;
+  private DataSource replicaDataSource;
+  private DSLContext primary;
+  private DSLContext replica;
+  private List<Duration> lags;
+
+  @BeforeAll
+  static void dbSetup() {
+    primaryContainer = new PostgreSQLContainer<>(DatabaseConstants.DEFAULT_DATABASE_VERSION);
+    replicaContainer = new PostgreSQLContainer<>(DatabaseConstants.DEFAULT_DATABASE_VERSION);
+    primaryContainer.start();
+    replicaContainer.start();
+  }
+
+  @AfterAll
+  static void dbDown() {
+    primaryContainer.close();
+    replicaContainer.close();
+  }
+
+  @BeforeEach
+  void setup() throws Exception {
+    primaryDataSource = DataSourceFactory.create(primaryContainer.getUsername(), primaryContainer.getPassword(),
+        primaryContainer.getDriverClassName(), primaryContainer.getJdbcUrl());
+    replicaDataSource = DataSourceFactory.createReadOnly(replicaContainer.getUsername(), replicaContainer.getPassword(),
+        replicaContainer.getDriverClassName(), replicaContainer.getJdbcUrl(), Map.of());
+    primary = DSLContextFactory.create(primaryDataSource, SQLDialect.POSTGRES);
+    replica = DSLContextFactory.create(replicaDataSource, SQLDialect.POSTGRES);
+    primary.execute("CREATE TABLE IF NOT EXISTS instance AS SELECT 'primary' AS name");
+    // the replica data source is read only, so the table of the replica is created through another one
+    final DataSource replicaWriteDataSource = DataSourceFactory.create(replicaContainer.getUsername(), replicaContainer.getPassword(),
+        replicaContainer.getDriverClassName(), replicaContainer.getJdbcUrl());
+    DSLContextFactory.create(replicaWriteDataSource, SQLDialect.POSTGRES).execute("CREATE TABLE IF NOT EXISTS instance AS SELECT 'replica' AS name");
+    DataSourceFactory.close(replicaWriteDataSource);
+    lags = new ArrayList<>();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    DataSourceFactory.close(primaryDataSource);
+    DataSourceFactory.close(replicaDataSource);
+  }
+
+  @Test
+  void testReplicaQueriesReadTheReplica() throws SQLException {
+    final Database database = new Database(primary, new ReadReplica(replica, MAX_LAG, LAG_CHECK_INTERVAL, lags::add));
+
+    assertEquals("replica", database.replicaQuery(ctx -> ctx.fetchValue(SELECT_NAME)));
+    assertEquals(List.of(Duration.ZERO), lags);
+  }
+
+  @Test
+  void testQueriesAndTransactionsUseThePrimary() throws SQLException {
+    final Database database = new Database(primary, new ReadReplica(replica, MAX_LAG, LAG_CHECK_INTERVAL, lags::add));
+
+    assertEquals("primary", database.query(ctx -> ctx.fetchValue(SELECT_NAME)));
+    assertEquals("primary", database.transaction(ctx -> ctx.fetchValue(SELECT_NAME)));
+  }
+
+  @Test
+  void testReplicaQueriesUseThePrimaryWithoutReplica() throws SQLException {
+    assertEquals("primary", new Database(primary).replicaQuery(ctx -> ctx.fetchValue(SELECT_NAME)));
+  }
+
+  @Test
+  void testReplicaRejectsWrites() {
+    final Database database = new Database(primary, new ReadReplica(replica, MAX_LAG, LAG_CHECK_INTERVAL, lags::add));
+
+    assertThrows(DataAccessException.class, () -> database.replicaQuery(ctx -> ctx.execute("UPDATE instance SET name = 'written'")));
+  }
+
+  @Test
+  void testLaggingReplicaIsNotRead() throws SQLException {
+    // a negative maximum lag, as the databases do not replicate and the replica never lags
+    final Database database = new Database(primary, new ReadReplica(replica, Duration.ofMillis(-1), LAG_CHECK_INTERVAL, lags::add));
+
+    assertEquals("primary", database.replicaQuery(ctx -> ctx.fetchValue(SELECT_NAME)));
+    assertEquals(List.of(Duration.ZERO), lags);
+  }
+
+  @Test
+  void testUnreachableReplicaIsNotRead() throws Exception {
+    DataSourceFactory.close(replicaDataSource);
+    final Database database = new Database(primary, new ReadReplica(replica, MAX_LAG, LAG_CHECK_INTERVAL, lags::add));
+
+    assertEquals("primary", database.replicaQuery(ctx -> ctx.fetchValue(SELECT_NAME)));
+    assertEquals(List.of(), lags);
+  }
+
+  @Test
+  void testLagIsCheckedOncePerInterval() throws SQLException {
+    final Clock clock = mock(Clock.class);
+    when(clock.millis()).thenReturn(0L, 1_000L, LAG_CHECK_INTERVAL.toMillis());
+    final Database database = new Database(primary, new ReadReplica(replica, MAX_LAG, LAG_CHECK_INTERVAL, lags::add, clock));
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals("replica", database.replicaQuery(ctx -> ctx.fetchValue(SELECT_NAME)));
+    }
+    assertEquals(List.of(Duration.ZERO, Duration.ZERO), lags);
+  }
+
+}
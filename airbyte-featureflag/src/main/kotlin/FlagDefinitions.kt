@@ -183,3 +183,13 @@ object UseAsyncReplicate : Temporary<Boolean>(key = "platform.use-async-replicat
 object UseRouteToTaskRouting : Temporary<Boolean>(key = "platform.use-route-to-task-routing", default = true)
 
 object UseFileTransferMode : Temporary<Boolean>(key = "platform.use-file-transfer-mode", default = false)
+
+object UseConnectionScheduler : Temporary<Boolean>(key = "platform.use-connection-scheduler", default = false)
+
+object SourceOutputChannels : Temporary<Int>(key = "platform.source-output-channels", default = 1)
+
+object ReplicationBufferMegabytes : Temporary<Int>(key = "platform.replication-buffer-megabytes", default = 0)
+
+object ReplicationSpillMegabytes : Temporary<Int>(key = "platform.replication-spill-megabytes", default = 0)
+
+object UseBatchedDestinationWriter : Temporary<Boolean>(key = "platform.use-batched-destination-writer", default = false)
@@ -7,10 +7,11 @@ import io.airbyte.config.MapperSpecification
 import io.airbyte.config.MapperSpecificationFieldEnum
 import io.airbyte.config.MapperSpecificationFieldString
 import io.airbyte.config.adapters.AirbyteRecord
+import io.airbyte.config.adapters.Utf8Bytes
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import java.security.MessageDigest
-import java.util.HexFormat
+import java.util.IdentityHashMap
 
 @Singleton
 @Named("HashingMapper")
@@ -31,8 +32,13 @@ class HashingMapper : Mapper {
     const val SHA512 = "SHA-512"
 
     val supportedMethods = listOf(MD2, MD5, SHA1, SHA224, SHA256, SHA384, SHA512)
+
+    private const val MAX_CACHED_CONFIGS = 1024
+    private val HEX_DIGITS = "0123456789abcdef".toCharArray()
   }
 
+  private val buffers = ThreadLocal.withInitial { HashingBuffers() }
+
   override val name: String
     get() = MapperOperationName.HASHING
 
@@ -81,14 +87,16 @@ class HashingMapper : Mapper {
     config: ConfiguredMapper,
     record: AirbyteRecord,
   ) {
-    val (targetField, method, fieldNameSuffix) = getConfigValues(config.config)
-    val outputFieldName = "$targetField$fieldNameSuffix"
+    val buffers = this.buffers.get()
+    val hashingConfig = buffers.configs.getOrPut(config) { getConfigValues(config.config) }
+    val targetField = hashingConfig.targetField
+    val outputFieldName = hashingConfig.outputFieldName
 
     if (record.has(targetField)) {
       try {
-        val data = record.get(targetField).asString().toByteArray()
+        val data = record.getUtf8Bytes(targetField, buffers.input)
 
-        val hashedAndEncodeValue: String = hashAndEncodeData(method, data)
+        val hashedAndEncodeValue: String = hashAndEncodeData(hashingConfig.method, data.bytes, data.length, buffers)
         record.set(outputFieldName, hashedAndEncodeValue)
       } catch (e: Exception) {
         // TODO We should use a more precise Reason once available in the protocol
@@ -102,21 +110,67 @@ class HashingMapper : Mapper {
   internal fun hashAndEncodeData(
     method: String,
     data: ByteArray,
+  ): String = hashAndEncodeData(method, data, data.size, buffers.get())
+
+  /**
+   * Hashes the data with a digest and output buffers reused by the thread, so that the hashed value is the only allocation.
+   */
+  private fun hashAndEncodeData(
+    method: String,
+    data: ByteArray,
+    length: Int,
+    buffers: HashingBuffers,
   ): String {
     if (supportedMethods.contains(method).not()) {
       throw IllegalArgumentException("Unsupported hashing method: $method")
     }
 
-    val hashedValue = MessageDigest.getInstance(method).digest(data)
+    val digest = buffers.digests.getOrPut(method) { MessageDigest.getInstance(method) }
+    digest.update(data, 0, length)
+    val hashLength = digest.digest(buffers.hash, 0, buffers.hash.size)
 
-    return HexFormat.of().formatHex(hashedValue)
+    val hex = buffers.hex
+    for (i in 0 until hashLength) {
+      val b = buffers.hash[i].toInt()
+      hex[2 * i] = HEX_DIGITS[(b shr 4) and 0xF]
+      hex[2 * i + 1] = HEX_DIGITS[b and 0xF]
+    }
+    return String(hex, 0, 2 * hashLength)
   }
 
   data class HashingConfig(
     val targetField: String,
     val method: String,
     val fieldNameSuffix: String,
-  )
+  ) {
+    val outputFieldName = "$targetField$fieldNameSuffix"
+  }
+
+  /**
+   * Buffers reused across the records hashed by a thread.
+   */
+  private class HashingBuffers {
+    val input = Utf8Bytes()
+    val digests = HashMap<String, MessageDigest>()
+
+    // the largest digest of the supported methods is the 64 bytes of SHA-512
+    val hash = ByteArray(64)
+    val hex = CharArray(128)
+
+    // the configs of the mappers of a sync, cleared in case mappers are created for each record
+    val configs =
+      object : IdentityHashMap<ConfiguredMapper, HashingConfig>() {
+        override fun put(
+          key: ConfiguredMapper,
+          value: HashingConfig,
+        ): HashingConfig? {
+          if (size >= MAX_CACHED_CONFIGS) {
+            clear()
+          }
+          return super.put(key, value)
+        }
+      }
+  }
 
   private fun getConfigValues(config: Map<String, String>): HashingConfig {
     return HashingConfig(
@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.ValueSource
+import java.security.MessageDigest
 import java.security.Security
+import java.util.HexFormat
 
 class HashingMapperTest {
   private val hashingMapper = spyk(HashingMapper())
@@ -102,6 +104,28 @@ class HashingMapperTest {
     assertEquals("value2", record.get("field2").asString())
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = [HashingMapper.MD5, HashingMapper.SHA256, HashingMapper.SHA512])
+  fun mapHashesTheUtf8BytesOfTheValue(hashingMethod: String) {
+    val config =
+      ConfiguredMapper(
+        "test",
+        mapOf(
+          HashingMapper.TARGET_FIELD_CONFIG_KEY to "field1",
+          HashingMapper.METHOD_CONFIG_KEY to hashingMethod,
+        ),
+      )
+
+    // the digest and buffers are reused from a record to the next
+    listOf("value1", "a much longer value with non ascii characters: é日本語😀", "").forEach { value ->
+      val record = TestRecordAdapter(StreamDescriptor().withName("stream"), mapOf("field1" to value))
+      hashingMapper.map(config, record)
+
+      val expected = HexFormat.of().formatHex(MessageDigest.getInstance(hashingMethod).digest(value.toByteArray()))
+      assertEquals(expected, record.get("field1_hashed").asString())
+    }
+  }
+
   @Test
   fun mapHandlesUnsupportedHashingMethod() {
     val config =
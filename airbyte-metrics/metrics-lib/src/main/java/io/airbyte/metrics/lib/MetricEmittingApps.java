@@ -26,6 +26,7 @@ public enum MetricEmittingApps implements MetricEmittingApp {
 
   BILLING("billing"),
   BOOTLOADER("bootloader"),
+  CONNECTOR_BUILDER_SERVER("connector-builder-server"),
   CRON("cron"),
   METRICS_REPORTER("metrics-reporter"),
   ORCHESTRATOR("orchestrator"),
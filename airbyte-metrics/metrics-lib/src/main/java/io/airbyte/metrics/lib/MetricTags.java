@@ -21,6 +21,8 @@ public class MetricTags {
   public static final String AUTHENTICATION_RESPONSE = "authentication_response";
   public static final String AUTHENTICATION_RESPONSE_FAILURE_REASON = "authentication_response_failure_reason";
   public static final String AUTHENTICATION_REQUEST_URI_ATTRIBUTE_KEY = "request_uri";
+  public static final String BUFFER = "buffer"; // source|destination
+  public static final String CACHE_TIER = "cache_tier";
   public static final String CANCELLATION_SOURCE = "cancellation_source";
   public static final String CONFIG_TYPES = "config_types";
   public static final String CONNECTION_ID = "connection_id";
@@ -50,6 +52,10 @@ public class MetricTags {
   public static final String MIN_CONNECTOR_RELEASE_STATE = "min_connector_release_stage";
   public static final String NOTIFICATION_TRIGGER = "notification_trigger";
   public static final String NOTIFICATION_CLIENT = "notification_client";
+  public static final String PHASE = "phase";
+  // the class and method of the airbyte code that sent a database query
+  public static final String QUERY_METHOD = "query_method";
+  public static final String QUERY_SERVICE = "query_service";
   public static final String RELEASE_STAGE = "release_stage";
   public static final String SOURCE_ID = "source_id";
   public static final String SOURCE_DEFINITION_ID = "source_definition_id";
@@ -64,6 +70,7 @@ public class MetricTags {
   public static final String USER_TYPE = "user_type"; // real user, service account, data plane user, etc
   public static final String LOG_CLIENT_TYPE = "log_client_type";
   public static final String MALFORMED_LOG_LINE_LENGTH = "malformed_log_line_length";
+  public static final String RECYCLE_REASON = "recycle_reason";
 
   // payload metric tags
   public static final String URI_NULL = "uri_null";
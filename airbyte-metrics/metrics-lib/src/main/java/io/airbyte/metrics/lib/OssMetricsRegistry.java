@@ -114,10 +114,23 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   CRON_JOB_RUN_BY_CRON_TYPE(MetricEmittingApps.CRON,
       "cron_jobs_run",
       "number of cron runs by cron type"),
+  CONNECTION_SCHEDULER_PENDING_RUNS(MetricEmittingApps.CRON,
+      "connection_scheduler_pending_runs",
+      "number of connection runs due within the horizon of the connection scheduler"),
+  CONNECTION_SCHEDULER_SYNCS_TRIGGERED(MetricEmittingApps.CRON,
+      "connection_scheduler_syncs_triggered",
+      "number of scheduled syncs triggered by the connection scheduler"),
+  CONNECTION_SCHEDULER_TRIGGER_FAILED(MetricEmittingApps.CRON,
+      "connection_scheduler_trigger_failed",
+      "number of scheduled syncs the connection scheduler failed to trigger"),
   CONNECTOR_REGISTRY_DEFINITION_PROCESSED(
       MetricEmittingApps.CRON, // Actually `cron` or `bootloader` based on which metric client calls the code
       "connector_registry_definition_processed",
       "increments when a connector registry definition is processed by the ApplyDefinitionsHelper"),
+  CONNECTOR_REGISTRY_APPLY_PHASE_DURATION_MS(
+      MetricEmittingApps.CRON, // Actually `cron` or `bootloader` based on which metric client calls the code
+      "connector_registry_apply_phase_duration_ms",
+      "duration of a phase of the application of the connector registry definitions by the ApplyDefinitionsHelper"),
   EST_NUM_METRICS_EMITTED_BY_REPORTER(
       MetricEmittingApps.METRICS_REPORTER,
       "est_num_metrics_emitted_by_reporter",
@@ -382,6 +395,15 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   NOTIFICATIONS_SENT(MetricEmittingApps.WORKER,
       "notifications_sent",
       "number of notifications sent"),
+  NOTIFICATIONS_DROPPED(MetricEmittingApps.WORKER,
+      "notifications_dropped",
+      "number of notifications dropped because the notification queue was full"),
+  NOTIFICATION_QUEUE_DEPTH(MetricEmittingApps.WORKER,
+      "notification_queue_depth",
+      "number of notifications queued or in flight in the notification dispatcher"),
+  NOTIFICATION_DELIVERY_LATENCY_MS(MetricEmittingApps.WORKER,
+      "notification_delivery_latency_ms",
+      "time from queuing a notification to its delivery or final failure"),
   NON_AIRBYTE_MESSAGE_LOG_LINE(MetricEmittingApps.WORKER,
       "non_airbyte_message_log_line",
       "non airbyte message log"),
@@ -431,6 +453,14 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "spec",
       "Result of the spec operation"),
 
+  SIDECAR_OUTPUT_WAIT_MS(MetricEmittingApps.SIDECAR_ORCHESTRATOR,
+      "sidecar_output_wait_ms",
+      "Time the connector sidecar waited for the output of the connector"),
+
+  SIDECAR_OUTPUT_DETECTION_LATENCY_MS(MetricEmittingApps.SIDECAR_ORCHESTRATOR,
+      "sidecar_output_detection_latency_ms",
+      "Time between the connector writing its exit code and the connector sidecar noticing it"),
+
   ACTIVITY_PAYLOAD_READ_FROM_DOC_STORE(MetricEmittingApps.WORKER,
       "activity_payload_read_from_doc_store",
       "An activity payload was read from the doc store."),
@@ -439,6 +469,18 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "activity_payload_written_to_doc_store",
       "An activity payload was written to the doc store."),
 
+  WORKLOAD_INPUT_WRITTEN_TO_DOC_STORE(MetricEmittingApps.WORKER,
+      "workload_input_written_to_doc_store",
+      "A workload input over the inline size threshold was written to the doc store."),
+
+  WORKLOAD_INPUT_STORED_BYTES(MetricEmittingApps.WORKER,
+      "workload_input_stored_bytes",
+      "Size of a workload input written to the doc store, after compression."),
+
+  WORKLOAD_INPUT_READ_FROM_DOC_STORE(MetricEmittingApps.WORKER,
+      "workload_input_read_from_doc_store",
+      "A workload input was read from the doc store."),
+
   PAYLOAD_SIZE_EXCEEDED(MetricEmittingApps.WORKER,
       "payload_size_exceeded",
       "Detected payload size was over 4mb Temporal limit"),
@@ -473,6 +515,14 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "excessive_catalog_size",
       "Distribution of input catalog field counts that exceed the configured limit."),
 
+  DISCOVER_CATALOG_UNCHANGED_LOOKUP(MetricEmittingApps.SERVER,
+      "discover_catalog_unchanged_lookup",
+      "A discovered catalog was looked up by hash before being written. Tagged by whether it matched the previous one."),
+
+  DISCOVER_CATALOG_DIFF_SKIPPED(MetricEmittingApps.SERVER,
+      "discover_catalog_diff_skipped",
+      "The diff of a discovered catalog was skipped because the connection already uses this catalog."),
+
   REPLICATION_CONTEXT_NOT_INITIALIZED_ERROR(MetricEmittingApps.ORCHESTRATOR,
       "replication_context_not_initialized_error",
       "The replication context was not initialized when it was expected to be."),
@@ -495,7 +545,63 @@ public enum OssMetricsRegistry implements MetricsRegistry {
 
   CONNECTOR_FAILURE_EXIT_VALUE(MetricEmittingApps.ORCHESTRATOR,
       "connector_failure_exit_value",
-      "Count of failure exit codes produced by a connector.");
+      "Count of failure exit codes produced by a connector."),
+
+  CDK_WORKER_POOL_QUEUE_WAIT_TIME_MS(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_worker_pool_queue_wait_time_ms",
+      "Time a connector builder request waited for an idle CDK worker in milliseconds."),
+
+  CDK_WORKER_POOL_UTILIZATION(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_worker_pool_utilization",
+      "Ratio of busy CDK workers to the size of the CDK worker pool."),
+
+  CDK_WORKER_REQUEST_TIME_MS(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_worker_request_time_ms",
+      "Time a CDK worker took to serve a connector builder request in milliseconds."),
+
+  CDK_WORKER_RECYCLED(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "cdk_worker_recycled",
+      "Count of CDK workers that were replaced by a new process, tagged by reason."),
+
+  RESOLVE_MANIFEST_CACHE_HIT(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "resolve_manifest_cache_hit",
+      "Count of resolve manifest requests served from the resolved manifest cache, tagged by cache tier."),
+
+  RESOLVE_MANIFEST_CACHE_MISS(MetricEmittingApps.CONNECTOR_BUILDER_SERVER,
+      "resolve_manifest_cache_miss",
+      "Count of resolve manifest requests not found in the resolved manifest cache, tagged by cache tier."),
+
+  JOB_CATALOG_BYTES_STORED(MetricEmittingApps.SERVER,
+      "job_catalog_bytes_stored",
+      "Size of the configured catalogs of jobs written to the job catalog store because no identical catalog was stored yet."),
+
+  JOB_CATALOG_BYTES_DEDUPLICATED(MetricEmittingApps.SERVER,
+      "job_catalog_bytes_deduplicated",
+      "Size of the configured catalogs of jobs not written to the jobs database because an identical catalog was already stored."),
+
+  DATABASE_QUERY_TIME_MS(MetricEmittingApps.SERVER,
+      "database_query_time_ms",
+      "Time a database query took to execute and fetch its results in milliseconds, tagged by the calling service and method."),
+
+  DATABASE_QUERY_ROWS(MetricEmittingApps.SERVER,
+      "database_query_rows",
+      "Number of rows fetched or affected by a database query, tagged by the calling service and method."),
+
+  DATABASE_SLOW_QUERY(MetricEmittingApps.SERVER,
+      "database_slow_query",
+      "Count of database queries slower than the slow query threshold, tagged by the calling service and method."),
+
+  DATABASE_REPLICA_LAG_MS(MetricEmittingApps.SERVER,
+      "database_replica_lag_ms",
+      "Replication lag of the database read replica in milliseconds, measured when reads are routed to the replica."),
+
+  REPLICATION_BUFFERED_BYTES(MetricEmittingApps.ORCHESTRATOR,
+      "replication_buffered_bytes",
+      "Estimated bytes of the messages held in memory by a replication buffer. Tagged by buffer."),
+
+  REPLICATION_SPILLED_BYTES(MetricEmittingApps.ORCHESTRATOR,
+      "replication_spilled_bytes",
+      "Bytes of the messages a replication buffer spilled to local disk and not yet read back. Tagged by buffer.");
 
   private final MetricEmittingApp application;
   private final String metricName;
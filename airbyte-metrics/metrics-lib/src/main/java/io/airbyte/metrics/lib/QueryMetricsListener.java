@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+/**
+ * jOOQ listener recording the time taken and the rows fetched or affected by every query sent
+ * through a {@link org.jooq.DSLContext}, tagged with the class and method of the airbyte code that
+ * sent the query. Slow queries are also sampled into a {@link SlowQueryLog}.
+ *
+ * <p>
+ * The calling class and method are the first frame of the stack that is not part of jOOQ, of the db
+ * helpers wrapping it or of the jdk. Queries sent from lambdas are tagged with the method that
+ * declares the lambda, e.g. the queries of a {@code database.query(ctx -> ...)} call are tagged with
+ * the method making that call.
+ *
+ * <p>
+ * A single listener is shared by the queries of a {@link org.jooq.Configuration}, so the state of a
+ * query is kept in its {@link ExecuteContext}.
+ */
+public class QueryMetricsListener implements ExecuteListener {
+
+  private static final String METRICS_KEY = QueryMetricsListener.class.getName();
+  private static final List<String> SKIPPED_CLASS_PREFIXES = List.of(
+      QueryMetricsListener.class.getName(),
+      "io.airbyte.db.",
+      "org.jooq.",
+      "java.",
+      "javax.",
+      "jdk.",
+      "sun.",
+      "kotlin.",
+      "io.micronaut.",
+      "com.zaxxer.hikari.",
+      "org.postgresql.");
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  private final MetricClient metricClient;
+  private final SlowQueryLog slowQueryLog;
+
+  public QueryMetricsListener(final MetricClient metricClient, final SlowQueryLog slowQueryLog) {
+    this.metricClient = metricClient;
+    this.slowQueryLog = slowQueryLog;
+  }
+
+  @Override
+  public void start(final ExecuteContext ctx) {
+    ctx.data(METRICS_KEY, new QueryMetrics(System.nanoTime()));
+  }
+
+  @Override
+  public void recordEnd(final ExecuteContext ctx) {
+    if (ctx.data(METRICS_KEY) instanceof final QueryMetrics metrics) {
+      metrics.fetchedRows++;
+    }
+  }
+
+  @Override
+  public void end(final ExecuteContext ctx) {
+    if (!(ctx.data(METRICS_KEY) instanceof final QueryMetrics metrics)) {
+      return;
+    }
+    final long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - metrics.startNanos);
+    // affected rows are only known for dml, and fetched rows for queries returning results
+    final long rows = Math.max(metrics.fetchedRows, ctx.rows());
+    final CallSite callSite = callSite();
+    final MetricAttribute[] attributes = {
+      new MetricAttribute(MetricTags.QUERY_SERVICE, callSite.service()),
+      new MetricAttribute(MetricTags.QUERY_METHOD, callSite.method()),
+      new MetricAttribute(MetricTags.SUCCESS, String.valueOf(ctx.exception() == null))
+    };
+
+    metricClient.distribution(OssMetricsRegistry.DATABASE_QUERY_TIME_MS, durationMs, attributes);
+    metricClient.distribution(OssMetricsRegistry.DATABASE_QUERY_ROWS, rows, attributes);
+    if (slowQueryLog.record(callSite.service(), callSite.method(), sql(ctx), durationMs, rows)) {
+      metricClient.count(OssMetricsRegistry.DATABASE_SLOW_QUERY, 1, attributes);
+    }
+  }
+
+  private static String sql(final ExecuteContext ctx) {
+    if (ctx.sql() != null) {
+      return ctx.sql();
+    }
+    final String[] batchSql = ctx.batchSQL();
+    return batchSql.length > 0 ? String.join(";\n", batchSql) : null;
+  }
+
+  /**
+   * Find the class and method that sent the current query.
+   */
+  static CallSite callSite() {
+    final Optional<StackWalker.StackFrame> caller = STACK_WALKER.walk(frames -> frames
+        .filter(frame -> SKIPPED_CLASS_PREFIXES.stream().noneMatch(frame.getClassName()::startsWith))
+        .findFirst());
+    return caller
+        .map(frame -> new CallSite(serviceName(frame.getClassName()), methodName(frame.getMethodName())))
+        .orElse(CallSite.UNKNOWN);
+  }
+
+  /**
+   * Simple name of a class, without the suffix of nested, anonymous or generated classes, e.g.
+   * {@code DefaultJobPersistence} for {@code io.airbyte.persistence.job.DefaultJobPersistence$1}.
+   */
+  static String serviceName(final String className) {
+    final String simpleName = className.substring(className.lastIndexOf('.') + 1);
+    final int nested = simpleName.indexOf('$');
+    return nested > 0 ? simpleName.substring(0, nested) : simpleName;
+  }
+
+  /**
+   * Name of a method, or of the method declaring it for a lambda, e.g. {@code getJob} for
+   * {@code lambda$getJob$12} (java) or {@code getJob$lambda$0} (kotlin).
+   */
+  static String methodName(final String methodName) {
+    final String name = methodName.startsWith("lambda$") ? methodName.substring("lambda$".length()) : methodName;
+    final int suffix = name.indexOf('$');
+    return suffix > 0 ? name.substring(0, suffix) : name;
+  }
+
+  /**
+   * Class and method that sent a query.
+   */
+  record CallSite(String service, String method) {
+
+    static final CallSite UNKNOWN = new CallSite(MetricTags.UNKNOWN, MetricTags.UNKNOWN);
+
+  }
+
+  private static final class QueryMetrics {
+
+    private final long startNanos;
+    private long fetchedRows;
+
+    private QueryMetrics(final long startNanos) {
+      this.startNanos = startNanos;
+    }
+
+  }
+
+}
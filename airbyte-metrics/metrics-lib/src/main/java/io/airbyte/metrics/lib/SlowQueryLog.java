@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a sample of the slow database queries of an application, to report the call sites that
+ * send the slowest queries.
+ *
+ * <p>
+ * A single sample is kept per call site, the slowest query it sent, along with the number of slow
+ * queries it sent. The log therefore holds at most one entry per call site, however many slow
+ * queries are recorded. The samples are kept since the application started or since the log was
+ * last cleared.
+ */
+public class SlowQueryLog {
+
+  // queries generated for large batches can be huge, the start is enough to recognize them
+  static final int MAX_SQL_LENGTH = 4000;
+
+  private final long thresholdMs;
+  private final Map<String, SlowQuery> slowestByCallSite = new ConcurrentHashMap<>();
+
+  public SlowQueryLog(final long thresholdMs) {
+    this.thresholdMs = thresholdMs;
+  }
+
+  /**
+   * Record a query if it is slow.
+   *
+   * @param service class that sent the query
+   * @param method method that sent the query
+   * @param sql sql of the query, without its bind values
+   * @param durationMs time the query took in milliseconds
+   * @param rows rows fetched or affected by the query
+   * @return whether the query is slow
+   */
+  public boolean record(final String service, final String method, final String sql, final long durationMs, final long rows) {
+    if (durationMs < thresholdMs) {
+      return false;
+    }
+    final String truncatedSql = sql != null && sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) : sql;
+    final SlowQuery query = new SlowQuery(service, method, truncatedSql, durationMs, rows, 1, Instant.now());
+    slowestByCallSite.merge(service + "." + method, query, SlowQueryLog::merge);
+    return true;
+  }
+
+  /**
+   * Report the call sites that sent the slowest queries.
+   *
+   * @param limit maximum number of call sites to report
+   * @return the slowest query of each call site, slowest first
+   */
+  public List<SlowQuery> report(final int limit) {
+    return slowestByCallSite.values().stream()
+        .sorted(Comparator.comparingLong(SlowQuery::durationMs).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * Drop the recorded queries, to only report the queries recorded from now on.
+   */
+  public void clear() {
+    slowestByCallSite.clear();
+  }
+
+  private static SlowQuery merge(final SlowQuery recorded, final SlowQuery query) {
+    final SlowQuery slowest = query.durationMs() > recorded.durationMs() ? query : recorded;
+    return new SlowQuery(slowest.service(), slowest.method(), slowest.sql(), slowest.durationMs(), slowest.rows(),
+        recorded.count() + query.count(), slowest.recordedAt());
+  }
+
+  /**
+   * The slowest query of a call site.
+   *
+   * @param service class that sent the query
+   * @param method method that sent the query
+   * @param sql sql of the query, without its bind values
+   * @param durationMs time the query took in milliseconds
+   * @param rows rows fetched or affected by the query
+   * @param count number of slow queries sent by the call site
+   * @param recordedAt when the query was recorded
+   */
+  public record SlowQuery(String service, String method, String sql, long durationMs, long rows, long count, Instant recordedAt) {}
+
+}
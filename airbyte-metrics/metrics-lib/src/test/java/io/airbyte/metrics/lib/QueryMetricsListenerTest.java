@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.airbyte.metrics.lib.SlowQueryLog.SlowQuery;
+import java.util.List;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsListenerTest {
+
+  private static final Field<Long> ID = DSL.field("id", Long.class);
+  private static final MetricAttribute SERVICE_ATTRIBUTE = new MetricAttribute(MetricTags.QUERY_SERVICE, "QueryMetricsListenerTest");
+  private static final MetricAttribute SUCCESS_ATTRIBUTE = new MetricAttribute(MetricTags.SUCCESS, "true");
+
+  private MetricClient metricClient;
+  private DSLContext dslContext;
+
+  @BeforeEach
+  void setUp() {
+    metricClient = mock(MetricClient.class);
+    final Result<Record1<Long>> jobs = DSL.using(SQLDialect.POSTGRES).newResult(ID);
+    for (long i = 0; i < 3; i++) {
+      jobs.add(DSL.using(SQLDialect.POSTGRES).newRecord(ID).values(i));
+    }
+    final MockConnection connection = new MockConnection(ctx -> new MockResult[] {
+      ctx.sql().startsWith("select") ? new MockResult(jobs.size(), jobs) : new MockResult(2)
+    });
+    dslContext = DSL.using(connection, SQLDialect.POSTGRES);
+  }
+
+  @Test
+  void testQueriesAreTaggedWithTheirCaller() {
+    listen(new SlowQueryLog(Long.MAX_VALUE)).select(ID).from("jobs").fetch();
+
+    final MetricAttribute methodAttribute = new MetricAttribute(MetricTags.QUERY_METHOD, "testQueriesAreTaggedWithTheirCaller");
+    verify(metricClient).distribution(eq(OssMetricsRegistry.DATABASE_QUERY_TIME_MS), anyDouble(),
+        eq(SERVICE_ATTRIBUTE), eq(methodAttribute), eq(SUCCESS_ATTRIBUTE));
+    verify(metricClient).distribution(OssMetricsRegistry.DATABASE_QUERY_ROWS, 3, SERVICE_ATTRIBUTE, methodAttribute, SUCCESS_ATTRIBUTE);
+    verify(metricClient, never()).count(eq(OssMetricsRegistry.DATABASE_SLOW_QUERY), eq(1L), any(MetricAttribute[].class));
+  }
+
+  @Test
+  void testAffectedRowsAreRecorded() {
+    listen(new SlowQueryLog(Long.MAX_VALUE)).execute("delete from jobs");
+
+    final MetricAttribute methodAttribute = new MetricAttribute(MetricTags.QUERY_METHOD, "testAffectedRowsAreRecorded");
+    verify(metricClient).distribution(OssMetricsRegistry.DATABASE_QUERY_ROWS, 2, SERVICE_ATTRIBUTE, methodAttribute, SUCCESS_ATTRIBUTE);
+  }
+
+  @Test
+  void testSlowQueriesAreSampled() {
+    final SlowQueryLog slowQueryLog = new SlowQueryLog(0);
+    final DSLContext instrumented = listen(slowQueryLog);
+    for (int i = 0; i < 2; i++) {
+      instrumented.select(ID).from("jobs").fetch();
+    }
+
+    final MetricAttribute methodAttribute = new MetricAttribute(MetricTags.QUERY_METHOD, "testSlowQueriesAreSampled");
+    verify(metricClient, times(2)).count(OssMetricsRegistry.DATABASE_SLOW_QUERY, 1, SERVICE_ATTRIBUTE, methodAttribute, SUCCESS_ATTRIBUTE);
+    final List<SlowQuery> report = slowQueryLog.report(10);
+    assertEquals(1, report.size());
+    assertEquals("QueryMetricsListenerTest", report.get(0).service());
+    assertEquals("testSlowQueriesAreSampled", report.get(0).method());
+    assertEquals("select id from jobs", report.get(0).sql());
+    assertEquals(3, report.get(0).rows());
+    assertEquals(2, report.get(0).count());
+  }
+
+  @Test
+  void testServiceName() {
+    assertEquals("DefaultJobPersistence", QueryMetricsListener.serviceName("io.airbyte.persistence.job.DefaultJobPersistence"));
+    assertEquals("DefaultJobPersistence", QueryMetricsListener.serviceName("io.airbyte.persistence.job.DefaultJobPersistence$1"));
+    assertEquals("ConnectionServiceJooqImpl", QueryMetricsListener.serviceName("ConnectionServiceJooqImpl$Intercepted"));
+  }
+
+  @Test
+  void testMethodName() {
+    assertEquals("getJob", QueryMetricsListener.methodName("getJob"));
+    assertEquals("getJob", QueryMetricsListener.methodName("lambda$getJob$12"));
+    assertEquals("getJob", QueryMetricsListener.methodName("getJob$lambda$0"));
+  }
+
+  private DSLContext listen(final SlowQueryLog slowQueryLog) {
+    return dslContext.configuration().derive(new DefaultExecuteListenerProvider(new QueryMetricsListener(metricClient, slowQueryLog))).dsl();
+  }
+
+}
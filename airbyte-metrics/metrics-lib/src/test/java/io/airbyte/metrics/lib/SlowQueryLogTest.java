@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.lib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.metrics.lib.SlowQueryLog.SlowQuery;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SlowQueryLogTest {
+
+  private static final String SERVICE = "DefaultJobPersistence";
+  private static final String SQL = "select * from jobs where id = ?";
+
+  private SlowQueryLog slowQueryLog;
+
+  @BeforeEach
+  void setUp() {
+    slowQueryLog = new SlowQueryLog(100);
+  }
+
+  @Test
+  void testQueriesUnderThresholdAreNotRecorded() {
+    assertFalse(slowQueryLog.record(SERVICE, "getJob", SQL, 99, 1));
+    assertTrue(slowQueryLog.report(10).isEmpty());
+  }
+
+  @Test
+  void testSlowestQueryIsKeptPerCallSite() {
+    assertTrue(slowQueryLog.record(SERVICE, "getJob", SQL, 200, 1));
+    assertTrue(slowQueryLog.record(SERVICE, "getJob", "slowest", 500, 2));
+    assertTrue(slowQueryLog.record(SERVICE, "getJob", SQL, 300, 3));
+
+    final List<SlowQuery> report = slowQueryLog.report(10);
+    assertEquals(1, report.size());
+    assertEquals(SERVICE, report.get(0).service());
+    assertEquals("getJob", report.get(0).method());
+    assertEquals("slowest", report.get(0).sql());
+    assertEquals(500, report.get(0).durationMs());
+    assertEquals(2, report.get(0).rows());
+    assertEquals(3, report.get(0).count());
+  }
+
+  @Test
+  void testReportListsSlowestCallSitesFirst() {
+    slowQueryLog.record(SERVICE, "getJob", SQL, 200, 1);
+    slowQueryLog.record(SERVICE, "listJobs", SQL, 1000, 1);
+    slowQueryLog.record("StatePersistence", "getCurrentState", SQL, 500, 1);
+
+    assertEquals(List.of("listJobs", "getCurrentState", "getJob"), slowQueryLog.report(10).stream().map(SlowQuery::method).toList());
+    assertEquals(List.of("listJobs", "getCurrentState"), slowQueryLog.report(2).stream().map(SlowQuery::method).toList());
+  }
+
+  @Test
+  void testLongSqlIsTruncated() {
+    slowQueryLog.record(SERVICE, "getJob", "x".repeat(SlowQueryLog.MAX_SQL_LENGTH + 1), 200, 1);
+
+    assertEquals(SlowQueryLog.MAX_SQL_LENGTH, slowQueryLog.report(1).get(0).sql().length());
+  }
+
+  @Test
+  void testClear() {
+    slowQueryLog.record(SERVICE, "getJob", SQL, 200, 1);
+    slowQueryLog.clear();
+
+    assertTrue(slowQueryLog.report(10).isEmpty());
+  }
+
+}
@@ -39,6 +39,7 @@ import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,6 +83,8 @@ public class CustomerioNotificationClient extends NotificationClient {
   private final String baseUrl;
   private final OkHttpClient okHttpClient;
   private final String apiToken;
+  @Nullable
+  private final NotificationDispatcher notificationDispatcher;
 
   static {
     final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm:ss");
@@ -91,11 +94,20 @@ public class CustomerioNotificationClient extends NotificationClient {
   }
 
   public CustomerioNotificationClient() {
+    this(null);
+  }
+
+  /**
+   * With a notification dispatcher, notifications are queued and sent in the background, and the
+   * notify methods return whether the notification was queued.
+   */
+  public CustomerioNotificationClient(@Nullable final NotificationDispatcher notificationDispatcher) {
     this.apiToken = System.getenv(EnvVar.CUSTOMERIO_API_KEY.name());
     this.baseUrl = CUSTOMERIO_BASE_URL;
     this.okHttpClient = new OkHttpClient.Builder()
         .addInterceptor(new CampaignsRateLimitInterceptor())
         .build();
+    this.notificationDispatcher = notificationDispatcher;
   }
 
   @VisibleForTesting
@@ -106,6 +118,7 @@ public class CustomerioNotificationClient extends NotificationClient {
     this.okHttpClient = new OkHttpClient.Builder()
         .addInterceptor(new CampaignsRateLimitInterceptor())
         .build();
+    this.notificationDispatcher = null;
   }
 
   /**
@@ -349,7 +362,13 @@ public class CustomerioNotificationClient extends NotificationClient {
       LOGGER.info("Customer.io API token is empty. Skipping email notification.");
       return false;
     }
+    if (notificationDispatcher != null) {
+      return notificationDispatcher.dispatch(NotificationDispatcher.webhookEndpoint(baseUrl), CUSTOMERIO_TYPE, () -> post(urlEndpoint, payload));
+    }
+    return post(urlEndpoint, payload);
+  }
 
+  private boolean post(final String urlEndpoint, final String payload) throws IOException {
     final String url = baseUrl + urlEndpoint;
     final RequestBody requestBody = RequestBody.create(payload, JSON);
 
@@ -30,7 +30,10 @@ import java.net.http.HttpResponse;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,9 +55,21 @@ public class SlackNotificationClient extends NotificationClient {
   private static final String MRKDOWN_TYPE_LABEL = "mrkdwn";
 
   private final SlackNotificationConfiguration config;
+  @Nullable
+  private final NotificationDispatcher notificationDispatcher;
 
   public SlackNotificationClient(final SlackNotificationConfiguration slackNotificationConfiguration) {
+    this(slackNotificationConfiguration, null);
+  }
+
+  /**
+   * With a notification dispatcher, notifications are queued and posted in the background, and the
+   * notify methods return whether the notification was queued.
+   */
+  public SlackNotificationClient(final SlackNotificationConfiguration slackNotificationConfiguration,
+                                 @Nullable final NotificationDispatcher notificationDispatcher) {
     this.config = slackNotificationConfiguration;
+    this.notificationDispatcher = notificationDispatcher;
   }
 
   @Override
@@ -330,13 +345,41 @@ public class SlackNotificationClient extends NotificationClient {
     final ObjectMapper mapper = new ObjectMapper();
     final ObjectNode node = mapper.createObjectNode();
     node.put("text", message);
-    return notifyJson(node);
+    if (notificationDispatcher == null || StringUtils.isEmpty(config.getWebhook())) {
+      return notifyJson(node);
+    }
+
+    // the outcome of a test is shown to the user, so it is posted once and waited for
+    final CompletableFuture<Void> delivery =
+        notificationDispatcher.submit(NotificationDispatcher.webhookEndpoint(config.getWebhook()), SLACK_CLIENT, 1, () -> post(node));
+    if (delivery == null) {
+      return false;
+    }
+    try {
+      delivery.get();
+      return true;
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof final IOException ioException) {
+        throw ioException;
+      }
+      if (e.getCause() instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException(e.getCause());
+    }
   }
 
   private boolean notifyJson(final JsonNode node) throws IOException, InterruptedException {
     if (StringUtils.isEmpty(config.getWebhook())) {
       return false;
     }
+    if (notificationDispatcher != null) {
+      return notificationDispatcher.dispatch(NotificationDispatcher.webhookEndpoint(config.getWebhook()), SLACK_CLIENT, () -> post(node));
+    }
+    return post(node);
+  }
+
+  private boolean post(final JsonNode node) throws IOException, InterruptedException {
     final ObjectMapper mapper = new ObjectMapper();
     final HttpClient httpClient = HttpClient.newBuilder()
         .version(HttpClient.Version.HTTP_2)
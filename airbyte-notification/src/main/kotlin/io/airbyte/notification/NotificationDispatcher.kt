@@ -0,0 +1,231 @@
+package io.airbyte.notification
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.MetricTags
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import org.slf4j.LoggerFactory
+import java.net.URI
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * A notification delivery. Throwing fails the attempt, which is retried by the [NotificationDispatcher].
+ */
+fun interface NotificationDelivery {
+  @Throws(Exception::class)
+  fun send()
+}
+
+/**
+ * Sends notifications in the background so that a slow or failing endpoint does not hold the thread that triggered the notification.
+ *
+ * Deliveries are queued up to [queueCapacity]; once the queue is full new deliveries are dropped. Each endpoint gets at most
+ * [maxConcurrencyPerEndpoint] deliveries in flight and at most one delivery started per [minIntervalPerEndpoint]. Failed deliveries are
+ * retried with an exponential backoff, starting at [initialBackoff] and capped at [maxBackoff], up to [maxAttempts] attempts.
+ */
+@Singleton
+@Requires(property = "airbyte.notification.dispatcher.enabled", value = "true", defaultValue = "false")
+class NotificationDispatcher(
+  private val metricClient: MetricClient,
+  @Value("\${airbyte.notification.dispatcher.queue-capacity:1000}") private val queueCapacity: Int,
+  @Value("\${airbyte.notification.dispatcher.threads:4}") threads: Int,
+  @Value("\${airbyte.notification.dispatcher.max-concurrency-per-endpoint:2}") private val maxConcurrencyPerEndpoint: Int,
+  @Value("\${airbyte.notification.dispatcher.min-interval-per-endpoint:200ms}") private val minIntervalPerEndpoint: Duration,
+  @Value("\${airbyte.notification.dispatcher.max-attempts:4}") private val maxAttempts: Int,
+  @Value("\${airbyte.notification.dispatcher.initial-backoff:1s}") private val initialBackoff: Duration,
+  @Value("\${airbyte.notification.dispatcher.max-backoff:1m}") private val maxBackoff: Duration,
+) {
+  companion object {
+    private val log = LoggerFactory.getLogger(NotificationDispatcher::class.java)
+    private const val SHUTDOWN_TIMEOUT_SECONDS = 10L
+
+    /**
+     * Endpoint of a delivery to [url]. Webhooks are rate limited per host, as this is what the receiving service usually limits on.
+     */
+    @JvmStatic
+    fun webhookEndpoint(url: String): String = runCatching { URI.create(url).host }.getOrNull() ?: url
+  }
+
+  private val executor: ScheduledExecutorService =
+    Executors.newScheduledThreadPool(
+      threads,
+      ThreadFactoryBuilder().setNameFormat("notification-dispatcher-%d").setDaemon(true).build(),
+    )
+  private val pending = AtomicInteger()
+  private val endpoints = ConcurrentHashMap<String, Endpoint>()
+
+  /**
+   * Queue a delivery to [endpoint], identifying the endpoints that share concurrency and rate limits, e.g. the host of a webhook.
+   * [client] names the kind of notification for the metrics.
+   *
+   * @return false if the queue is full and the delivery was dropped
+   */
+  fun dispatch(
+    endpoint: String,
+    client: String,
+    send: NotificationDelivery,
+  ): Boolean = submit(endpoint, client, maxAttempts, send) != null
+
+  /**
+   * Queue a delivery like [dispatch], attempting it at most [attempts] times, for callers that need to know its outcome.
+   *
+   * @return a future completed once the delivery is sent, or completed exceptionally with the last failure once it is abandoned. Null if
+   * the queue is full and the delivery was dropped.
+   */
+  fun submit(
+    endpoint: String,
+    client: String,
+    attempts: Int,
+    send: NotificationDelivery,
+  ): CompletableFuture<Void?>? {
+    if (pending.incrementAndGet() > queueCapacity) {
+      pending.decrementAndGet()
+      log.warn("Notification queue is full, dropping {} notification to {}", client, endpoint)
+      metricClient.count(OssMetricsRegistry.NOTIFICATIONS_DROPPED, 1, MetricAttribute(MetricTags.NOTIFICATION_CLIENT, client))
+      return null
+    }
+    reportQueueDepth()
+
+    val delivery = Delivery(endpoints.computeIfAbsent(endpoint) { Endpoint() }, endpoint, client, send, attempts, System.nanoTime())
+    executor.execute { attempt(delivery) }
+    return delivery.result
+  }
+
+  /**
+   * Number of deliveries that are queued or in flight.
+   */
+  fun queueDepth(): Int = pending.get()
+
+  @PreDestroy
+  fun close() {
+    executor.shutdown()
+    if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      log.warn("Dropping {} notifications still queued on shutdown", pending.get())
+      executor.shutdownNow()
+    }
+  }
+
+  private fun attempt(delivery: Delivery) {
+    val endpoint = delivery.target
+    if (!endpoint.permits.tryAcquire()) {
+      schedule(delivery, minIntervalPerEndpoint.toMillis().coerceAtLeast(1))
+      return
+    }
+
+    try {
+      val waitMillis = endpoint.reserveSlot()
+      if (waitMillis > 0) {
+        schedule(delivery, waitMillis)
+        return
+      }
+
+      delivery.attempts++
+      try {
+        delivery.send.send()
+        complete(delivery, null)
+      } catch (e: Exception) {
+        if (delivery.attempts < delivery.maxAttempts) {
+          val backoffMillis = backoffMillis(delivery.attempts)
+          log.info("Failed to send {} notification to {}, retrying in {} ms", delivery.client, delivery.endpoint, backoffMillis, e)
+          schedule(delivery, backoffMillis)
+        } else {
+          log.error("Failed to send {} notification to {} after {} attempts", delivery.client, delivery.endpoint, delivery.attempts, e)
+          complete(delivery, e)
+        }
+      }
+    } finally {
+      endpoint.permits.release()
+    }
+  }
+
+  private fun schedule(
+    delivery: Delivery,
+    delayMillis: Long,
+  ) {
+    if (executor.isShutdown) {
+      complete(delivery, RejectedExecutionException("The notification dispatcher is shut down"))
+      return
+    }
+    executor.schedule({ attempt(delivery) }, delayMillis, TimeUnit.MILLISECONDS)
+  }
+
+  private fun complete(
+    delivery: Delivery,
+    failure: Exception?,
+  ) {
+    val success = failure == null
+    pending.decrementAndGet()
+    reportQueueDepth()
+    metricClient.distribution(
+      OssMetricsRegistry.NOTIFICATION_DELIVERY_LATENCY_MS,
+      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - delivery.enqueuedAtNanos).toDouble(),
+      MetricAttribute(MetricTags.NOTIFICATION_CLIENT, delivery.client),
+      MetricAttribute(MetricTags.SUCCESS, success.toString()),
+    )
+    if (failure == null) {
+      delivery.result.complete(null)
+    } else {
+      delivery.result.completeExceptionally(failure)
+    }
+  }
+
+  private fun backoffMillis(attempts: Int): Long {
+    val exponent = (attempts - 1).coerceIn(0, 30)
+    return (initialBackoff.toMillis() shl exponent).coerceAtMost(maxBackoff.toMillis())
+  }
+
+  private fun reportQueueDepth() {
+    metricClient.gauge(OssMetricsRegistry.NOTIFICATION_QUEUE_DEPTH, pending.get().toDouble())
+  }
+
+  private inner class Endpoint {
+    val permits = Semaphore(maxConcurrencyPerEndpoint)
+    private val nextSlotNanos = AtomicLong(Long.MIN_VALUE)
+
+    /**
+     * Reserve the next send slot of the endpoint.
+     *
+     * @return 0 if the slot was reserved, otherwise the number of milliseconds to wait before the next slot
+     */
+    fun reserveSlot(): Long {
+      while (true) {
+        val now = System.nanoTime()
+        val next = nextSlotNanos.get()
+        if (next != Long.MIN_VALUE && next - now > 0) {
+          return TimeUnit.NANOSECONDS.toMillis(next - now).coerceAtLeast(1)
+        }
+        if (nextSlotNanos.compareAndSet(next, now + minIntervalPerEndpoint.toNanos())) {
+          return 0
+        }
+      }
+    }
+  }
+
+  private class Delivery(
+    val target: Endpoint,
+    val endpoint: String,
+    val client: String,
+    val send: NotificationDelivery,
+    val maxAttempts: Int,
+    val enqueuedAtNanos: Long,
+  ) {
+    val result = CompletableFuture<Void?>()
+
+    @Volatile
+    var attempts = 0
+  }
+}
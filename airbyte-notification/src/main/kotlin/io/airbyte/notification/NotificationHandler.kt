@@ -19,9 +19,11 @@ open class NotificationHandler(
   private val maybeCustomerIoConfigFetcher: CustomerIoEmailConfigFetcher?,
   private val maybeWebhookNotificationSender: WebhookNotificationSender?,
   private val maybeCustomerIoNotificationSender: CustomerIoEmailNotificationSender?,
+  private val maybeNotificationDispatcher: NotificationDispatcher?,
 ) {
   /**
-   * Send a notification with a subject and a message if a configuration is present
+   * Send a notification with a subject and a message if a configuration is present. If the notification dispatcher is enabled, the
+   * notifications are queued and sent in the background.
    */
   open fun sendNotification(
     connectionId: UUID,
@@ -33,16 +35,32 @@ open class NotificationHandler(
       runCatching {
         if (maybeWebhookConfigFetcher != null && maybeWebhookNotificationSender != null && notificationType == NotificationType.WEBHOOK) {
           maybeWebhookConfigFetcher.fetchConfig(connectionId)?.let {
-            maybeWebhookNotificationSender.sendNotification(it, title, message)
+            send(NotificationDispatcher.webhookEndpoint(it.webhookUrl), NotificationType.WEBHOOK) {
+              maybeWebhookNotificationSender.sendNotification(it, title, message)
+            }
           }
         }
 
         if (maybeCustomerIoConfigFetcher != null && maybeCustomerIoNotificationSender != null && notificationType == NotificationType.CUSTOMERIO) {
           maybeCustomerIoConfigFetcher.fetchConfig(connectionId)?.let {
-            maybeCustomerIoNotificationSender.sendNotification(it, title, message)
+            send(NotificationType.CUSTOMERIO.name, NotificationType.CUSTOMERIO) {
+              maybeCustomerIoNotificationSender.sendNotification(it, title, message)
+            }
           }
         }
       }
     }
   }
+
+  private fun send(
+    endpoint: String,
+    notificationType: NotificationType,
+    send: NotificationDelivery,
+  ) {
+    if (maybeNotificationDispatcher != null) {
+      maybeNotificationDispatcher.dispatch(endpoint, notificationType.name.lowercase(), send)
+    } else {
+      send.send()
+    }
+  }
 }
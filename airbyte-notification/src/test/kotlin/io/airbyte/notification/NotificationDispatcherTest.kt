@@ -0,0 +1,159 @@
+package io.airbyte.notification
+
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.mockk.mockk
+import io.mockk.verify
+import okhttp3.OkHttpClient
+import okhttp3.mockwebserver.MockResponse
+import okhttp3.mockwebserver.MockWebServer
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class NotificationDispatcherTest {
+  private val metricClient: MetricClient = mockk(relaxed = true)
+  private val webhookNotificationSender = WebhookNotificationSender(OkHttpClient())
+  private lateinit var server: MockWebServer
+  private lateinit var dispatcher: NotificationDispatcher
+
+  @BeforeEach
+  fun setup() {
+    server = MockWebServer()
+    server.start()
+  }
+
+  @AfterEach
+  fun tearDown() {
+    dispatcher.close()
+    server.shutdown()
+  }
+
+  @Test
+  fun testNotificationIsDelivered() {
+    dispatcher = dispatcher()
+    server.enqueue(MockResponse().setResponseCode(200))
+
+    assertTrue(dispatchWebhook())
+
+    val request = server.takeRequest(5, TimeUnit.SECONDS)!!
+    assertEquals("""{"text": "message"}""", request.body.readUtf8())
+    awaitEmptyQueue()
+    verify { metricClient.distribution(OssMetricsRegistry.NOTIFICATION_DELIVERY_LATENCY_MS, any(), *anyVararg()) }
+  }
+
+  @Test
+  fun testFailedNotificationIsRetried() {
+    dispatcher = dispatcher()
+    server.enqueue(MockResponse().setResponseCode(500))
+    server.enqueue(MockResponse().setResponseCode(503))
+    server.enqueue(MockResponse().setResponseCode(200))
+
+    dispatchWebhook()
+
+    awaitEmptyQueue()
+    assertEquals(3, server.requestCount)
+  }
+
+  @Test
+  fun testNotificationIsAbandonedAfterMaxAttempts() {
+    dispatcher = dispatcher(maxAttempts = 2)
+    repeat(3) { server.enqueue(MockResponse().setResponseCode(500)) }
+
+    dispatchWebhook()
+
+    awaitEmptyQueue()
+    assertEquals(2, server.requestCount)
+  }
+
+  @Test
+  fun testSubmittedNotificationReportsItsOutcome() {
+    dispatcher = dispatcher()
+    server.enqueue(MockResponse().setResponseCode(500))
+    server.enqueue(MockResponse().setResponseCode(200))
+
+    assertThrows<ExecutionException> { submitWebhook().get(5, TimeUnit.SECONDS) }
+    assertEquals(1, server.requestCount)
+
+    submitWebhook().get(5, TimeUnit.SECONDS)
+    assertEquals(2, server.requestCount)
+  }
+
+  @Test
+  fun testNotificationIsDroppedWhenQueueIsFull() {
+    dispatcher = dispatcher(queueCapacity = 1)
+    val release = CountDownLatch(1)
+
+    assertTrue(dispatcher.dispatch(ENDPOINT, CLIENT) { release.await() })
+    assertFalse(dispatcher.dispatch(ENDPOINT, CLIENT) {})
+
+    release.countDown()
+    awaitEmptyQueue()
+    verify { metricClient.count(OssMetricsRegistry.NOTIFICATIONS_DROPPED, 1, *anyVararg()) }
+  }
+
+  @Test
+  fun testConcurrencyIsLimitedPerEndpoint() {
+    dispatcher = dispatcher(maxConcurrencyPerEndpoint = 1)
+    val inFlight = AtomicInteger()
+    val maxInFlight = AtomicInteger()
+
+    repeat(5) {
+      dispatcher.dispatch(ENDPOINT, CLIENT) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), ::maxOf)
+        Thread.sleep(20)
+        inFlight.decrementAndGet()
+      }
+    }
+
+    awaitEmptyQueue()
+    assertEquals(1, maxInFlight.get())
+  }
+
+  private fun dispatcher(
+    queueCapacity: Int = 10,
+    maxConcurrencyPerEndpoint: Int = 2,
+    maxAttempts: Int = 4,
+  ) = NotificationDispatcher(
+    metricClient = metricClient,
+    queueCapacity = queueCapacity,
+    threads = 4,
+    maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint,
+    minIntervalPerEndpoint = Duration.ofMillis(1),
+    maxAttempts = maxAttempts,
+    initialBackoff = Duration.ofMillis(10),
+    maxBackoff = Duration.ofMillis(50),
+  )
+
+  private fun dispatchWebhook(): Boolean =
+    dispatcher.dispatch(ENDPOINT, CLIENT) {
+      webhookNotificationSender.sendNotification(WebhookConfig(server.url("/webhook").toString()), "subject", "message")
+    }
+
+  private fun submitWebhook() =
+    dispatcher.submit(ENDPOINT, CLIENT, 1) {
+      webhookNotificationSender.sendNotification(WebhookConfig(server.url("/webhook").toString()), "subject", "message")
+    }!!
+
+  private fun awaitEmptyQueue() {
+    val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+    while (dispatcher.queueDepth() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10)
+    }
+    assertEquals(0, dispatcher.queueDepth())
+  }
+
+  companion object {
+    private const val ENDPOINT = "localhost"
+    private const val CLIENT = "webhook"
+  }
+}
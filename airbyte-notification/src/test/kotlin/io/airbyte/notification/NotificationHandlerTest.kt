@@ -28,6 +28,7 @@ class NotificationHandlerTest {
         maybeCustomerIoConfigFetcher = null,
         maybeWebhookNotificationSender = null,
         maybeCustomerIoNotificationSender = null,
+        maybeNotificationDispatcher = null,
       )
 
     notificationHandler.sendNotification(connectionId, subject, message, listOf(NotificationType.WEBHOOK))
@@ -46,6 +47,7 @@ class NotificationHandlerTest {
         customerIoConfigFetcher,
         webhookNotificationSender,
         customerIoNotificationSender,
+        null,
       )
 
     every {
@@ -81,6 +83,7 @@ class NotificationHandlerTest {
         customerIoConfigFetcher,
         webhookNotificationSender,
         customerIoNotificationSender,
+        null,
       )
 
     notificationHandler.sendNotification(connectionId, subject, message, listOf())
@@ -92,4 +95,35 @@ class NotificationHandlerTest {
       customerIoNotificationSender wasNot called
     }
   }
+
+  @Test
+  fun testNotificationsAreDispatched() {
+    val notificationDispatcher: NotificationDispatcher = mockk()
+    val notificationHandler =
+      NotificationHandler(
+        webhookConfigFetcher,
+        customerIoConfigFetcher,
+        webhookNotificationSender,
+        customerIoNotificationSender,
+        notificationDispatcher,
+      )
+
+    every { webhookConfigFetcher.fetchConfig(connectionId) } returns webhookConfig
+    every { customerIoConfigFetcher.fetchConfig(connectionId) } returns customerIoConfig
+    every { notificationDispatcher.dispatch(any(), any(), any()) } answers {
+      thirdArg<NotificationDelivery>().send()
+      true
+    }
+    justRun { webhookNotificationSender.sendNotification(any(), any(), any()) }
+    justRun { customerIoNotificationSender.sendNotification(any(), any(), any()) }
+
+    notificationHandler.sendNotification(connectionId, subject, message, listOf(NotificationType.WEBHOOK, NotificationType.CUSTOMERIO))
+
+    verify {
+      notificationDispatcher.dispatch("webhook.com", "webhook", any())
+      notificationDispatcher.dispatch("CUSTOMERIO", "customerio", any())
+      webhookNotificationSender.sendNotification(webhookConfig, subject, message)
+      customerIoNotificationSender.sendNotification(customerIoConfig, subject, message)
+    }
+  }
 }
@@ -58,4 +58,5 @@ dependencies {
   testImplementation(libs.assertj.core)
 
   testImplementation(libs.junit.pioneer)
+  testImplementation(libs.mockwebserver)
 }
@@ -39,14 +39,19 @@ import io.airbyte.config.JobWithStatusAndTimestamp;
 import io.airbyte.config.JobsRecordsCommitted;
 import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
+import io.airbyte.config.helpers.JobConfigCatalogs;
+import io.airbyte.config.helpers.JobConfigCatalogs.DetachedCatalog;
 import io.airbyte.config.persistence.PersistenceHelpers;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.db.instance.configs.jooq.generated.Tables;
 import io.airbyte.db.instance.jobs.jooq.generated.tables.records.JobsRecord;
 import io.airbyte.metrics.lib.ApmTraceUtils;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.protocol.models.v0.StreamDescriptor;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -77,11 +82,14 @@ import org.jooq.Field;
 import org.jooq.JSONB;
 import org.jooq.Query;
 import org.jooq.Record;
+import org.jooq.Record2;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
 import org.jooq.SortField;
 import org.jooq.TableField;
-import org.jooq.conf.ParamType;
+import org.jooq.conf.SettingsTools;
 import org.jooq.impl.DSL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,6 +121,14 @@ public class DefaultJobPersistence implements JobPersistence {
           .map(DefaultJobPersistence::toSqlName)
           .map(Names::singleQuote)
           .collect(Collectors.joining(",")));
+  private static final String JOB_CATALOG_FIELD =
+      "(SELECT job_catalogs.catalog FROM job_catalogs WHERE job_catalogs.hash = jobs.catalog_hash) AS job_catalog,\n";
+  private static final String JOB_CATALOG_FIELD_NAME = "job_catalog";
+  private static final String JOB_CATALOGS_BACKFILL_KEY = "job_catalogs_backfill_last_job_id";
+  // the history of a connection covers the last 30 days, in any time zone
+  private static final int STREAM_STATS_QUARTER_HOURLY_RETENTION_DAYS = 31;
+  // the offsets of the time zones in use are all whole quarters of an hour
+  private static final long STREAM_STATS_BUCKET_SECONDS = 15 * 60;
   private static final String ATTEMPT_FIELDS = """
                                                  attempts.attempt_number AS attempt_number,
                                                  attempts.attempt_sync_config AS attempt_sync_config,
@@ -127,8 +143,51 @@ public class DefaultJobPersistence implements JobPersistence {
                                                """;
   @VisibleForTesting
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
+  private static final List<SelectFieldOrAsterisk> FULL_JOB_FIELDS = List.of(JOBS.asterisk());
+  // the light projection reads every column of the jobs table but the config
+  private static final List<SelectFieldOrAsterisk> LIGHT_JOB_FIELDS = List.of(JOBS.ID, JOBS.CONFIG_TYPE, JOBS.SCOPE, JOBS.STATUS,
+      JOBS.STARTED_AT, JOBS.CREATED_AT, JOBS.UPDATED_AT);
   private static final String ATTEMPT_SELECT =
       "SELECT job_id," + ATTEMPT_FIELDS + "FROM attempts WHERE job_id = ? AND attempt_number = ?";
+  // Recomputes the rollups of the quarters of an hour in which the attempts of a succeeded sync job
+  // ended, from the stream stats of all the attempts of the succeeded sync jobs of its connection that
+  // ended in them. Jobs with such attempts were updated at the end of the attempt or later, which
+  // bounds the jobs of the connection to look at.
+  private static final String STREAM_STATS_QUARTER_HOURLY_REFRESH = """
+                                                                    WITH bucket AS (
+                                                                      SELECT DISTINCT jobs.id AS job_id, jobs.scope AS scope,
+                                                                        to_timestamp(floor(EXTRACT(EPOCH FROM attempts.ended_at) / 900) * 900) AS bucket_start
+                                                                      FROM attempts JOIN jobs ON jobs.id = attempts.job_id
+                                                                      WHERE attempts.job_id = ? AND attempts.ended_at IS NOT NULL
+                                                                        AND jobs.config_type = 'sync' AND jobs.status = 'succeeded'
+                                                                    )
+                                                                    INSERT INTO stream_stats_quarter_hourly (connection_id, stream_namespace, stream_name,
+                                                                      bucket_start, records_committed, bytes_committed, records_emitted, bytes_emitted, updated_at)
+                                                                    SELECT CAST(bucket.scope AS uuid),
+                                                                      COALESCE(stream_stats.stream_namespace, ''),
+                                                                      stream_stats.stream_name,
+                                                                      bucket.bucket_start,
+                                                                      COALESCE(SUM(stream_stats.records_committed), 0),
+                                                                      COALESCE(SUM(stream_stats.bytes_committed), 0),
+                                                                      COALESCE(SUM(stream_stats.records_emitted), 0),
+                                                                      COALESCE(SUM(stream_stats.bytes_emitted), 0),
+                                                                      ?
+                                                                    FROM bucket
+                                                                    JOIN jobs ON jobs.scope = bucket.scope
+                                                                      AND jobs.config_type = 'sync' AND jobs.status = 'succeeded'
+                                                                      AND (jobs.updated_at >= bucket.bucket_start OR jobs.id = bucket.job_id)
+                                                                    JOIN attempts ON attempts.job_id = jobs.id
+                                                                      AND attempts.ended_at >= bucket.bucket_start
+                                                                      AND attempts.ended_at < bucket.bucket_start + interval '15 minutes'
+                                                                    JOIN stream_stats ON stream_stats.attempt_id = attempts.id
+                                                                    GROUP BY 1, 2, 3, 4
+                                                                    ON CONFLICT (connection_id, bucket_start, stream_namespace, stream_name) DO UPDATE SET
+                                                                      records_committed = EXCLUDED.records_committed,
+                                                                      bytes_committed = EXCLUDED.bytes_committed,
+                                                                      records_emitted = EXCLUDED.records_emitted,
+                                                                      bytes_emitted = EXCLUDED.bytes_emitted,
+                                                                      updated_at = EXCLUDED.updated_at
+                                                                    """;
   // not static because job history test case manipulates these.
   private final int jobHistoryMinimumAgeInDays;
   private final int jobHistoryMinimumRecency;
@@ -154,11 +213,16 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static String jobSelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(jobsSubquery, JobProjection.FULL);
+  }
+
+  private static String jobSelectAndJoin(final String jobsSubquery, final JobProjection projection) {
     return "SELECT\n"
         + "jobs.id AS job_id,\n"
         + "jobs.config_type AS config_type,\n"
         + "jobs.scope AS scope,\n"
-        + "jobs.config AS config,\n"
+        + (projection == JobProjection.FULL ? "jobs.config AS config,\n" : "NULL AS config,\n")
+        + (projection == JobProjection.FULL ? JOB_CATALOG_FIELD : "NULL AS job_catalog,\n")
         + "jobs.status AS job_status,\n"
         + "jobs.started_at AS job_started_at,\n"
         + "jobs.created_at AS job_created_at,\n"
@@ -167,6 +231,19 @@ public class DefaultJobPersistence implements JobPersistence {
         + "FROM " + jobsSubquery + " LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
   }
 
+  /**
+   * Fetch the jobs selected by a subquery along with their attempts. The subquery is embedded as a
+   * query part rather than inlined, so its values are sent as bind values and the statement text only
+   * depends on the shape of the filters. IN lists are padded for the same reason. This lets the driver
+   * reuse server-side prepared statements and the db reuse plans across calls.
+   */
+  private static Result<Record> fetchJobs(final DSLContext ctx, final Select<?> jobsSubquery, final JobProjection projection, final String orderBy) {
+    final DSLContext paddedCtx = DSL.using(ctx.configuration().derive(SettingsTools.clone(ctx.settings()).withInListPadding(true)));
+    final String query = jobSelectAndJoin("({0}) AS jobs", projection) + orderBy;
+    LOGGER.debug("jobs query: {}", query);
+    return paddedCtx.fetch(query, jobsSubquery);
+  }
+
   private static void saveToSyncStatsTable(final OffsetDateTime now, final SyncStats syncStats, final Long attemptId, final DSLContext ctx) {
     // Although JOOQ supports upsert using the onConflict statement, we cannot use it as the table
     // currently has duplicate records and also doesn't contain the unique constraint on the attempt_id
@@ -272,6 +349,15 @@ public class DefaultJobPersistence implements JobPersistence {
     ctx.batch(queries).execute();
   }
 
+  /**
+   * Refresh the quarter-hourly rollups of the stream stats of the connection of a sync job, for the
+   * quarters of an hour in which its attempts ended. Does nothing unless the job succeeded. The
+   * rollups are recomputed rather than incremented, so this can be called any number of times.
+   */
+  private static void refreshStreamStatsQuarterHourly(final DSLContext ctx, final long jobId, final OffsetDateTime now) {
+    ctx.execute(STREAM_STATS_QUARTER_HOURLY_REFRESH, jobId, now);
+  }
+
   private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final String jobIdsStr, final DSLContext ctx) {
     final var attemptStats = new HashMap<JobAttemptPair, AttemptStats>();
     final var syncResults = ctx.fetch(
@@ -420,7 +506,8 @@ public class DefaultJobPersistence implements JobPersistence {
     return new Job(record.get(JOB_ID, Long.class),
         Enums.toEnum(record.get("config_type", String.class), ConfigType.class).orElseThrow(),
         record.get("scope", String.class),
-        parseJobConfigFromString(record.get("config", String.class)),
+        parseJobConfigFromString(record.get("config", String.class),
+            record.field(JOB_CATALOG_FIELD_NAME) == null ? null : record.get(JOB_CATALOG_FIELD_NAME, String.class)),
         new ArrayList<Attempt>(),
         JobStatus.valueOf(record.get("job_status", String.class).toUpperCase()),
         Optional.ofNullable(record.get("job_started_at")).map(value -> getEpoch(record, "started_at")).orElse(null),
@@ -428,8 +515,16 @@ public class DefaultJobPersistence implements JobPersistence {
         getEpoch(record, "job_updated_at"));
   }
 
-  private static JobConfig parseJobConfigFromString(final String jobConfigString) {
-    return Jsons.deserialize(jobConfigString, JobConfig.class);
+  private static JobConfig parseJobConfigFromString(final String jobConfigString, final String jobCatalogString) {
+    // the config is not selected by the light projection
+    if (jobConfigString == null) {
+      return null;
+    }
+    // jobs created before catalogs were stored separately still embed their catalog
+    if (jobCatalogString == null) {
+      return Jsons.deserialize(jobConfigString, JobConfig.class);
+    }
+    return Jsons.object(JobConfigCatalogs.attach(Jsons.deserialize(jobConfigString), Jsons.deserialize(jobCatalogString)), JobConfig.class);
   }
 
   private static Attempt getAttemptFromRecord(final Record record) {
@@ -591,21 +686,56 @@ public class DefaultJobPersistence implements JobPersistence {
             TERMINAL_STATUSES.stream().map(DefaultJobPersistence::toSqlName).map(Names::singleQuote).collect(Collectors.joining(",")))
         : "";
 
-    return jobDatabase.query(
-        ctx -> ctx.fetch(
-            "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config) "
-                + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, ?, ?, CAST(? AS JOB_STATUS), CAST(? as JSONB) "
-                + queueingRequest
-                + "RETURNING id ",
-            toSqlName(jobConfig.getConfigType()),
-            scope,
-            now,
-            now,
-            toSqlName(JobStatus.PENDING),
-            Jsons.serialize(jobConfig)))
-        .stream()
-        .findFirst()
-        .map(r -> r.getValue("id", Long.class));
+    final Optional<DetachedCatalog> catalog = JobConfigCatalogs.detach(Jsons.jsonNode(jobConfig));
+    return jobDatabase.transaction(ctx -> {
+      final Optional<Long> jobId = ctx.fetch(
+          "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config, catalog_hash) "
+              + "SELECT CAST(? AS JOB_CONFIG_TYPE), ?, ?, ?, CAST(? AS JOB_STATUS), CAST(? as JSONB), ? "
+              + queueingRequest
+              + "RETURNING id ",
+          toSqlName(jobConfig.getConfigType()),
+          scope,
+          now,
+          now,
+          toSqlName(JobStatus.PENDING),
+          catalog.map(c -> Jsons.serialize(c.config())).orElseGet(() -> Jsons.serialize(jobConfig)),
+          catalog.map(DetachedCatalog::hash).orElse(null))
+          .stream()
+          .findFirst()
+          .map(r -> r.getValue("id", Long.class));
+      // only reference the catalog if the job was actually queued
+      if (jobId.isPresent() && catalog.isPresent()) {
+        acquireJobCatalog(ctx, catalog.get());
+      }
+      return jobId;
+    });
+  }
+
+  /**
+   * Add a reference to a catalog in the job catalog store, storing the catalog if it is not stored
+   * yet. The catalog is part of the upsert even when it is already stored so that a catalog whose
+   * last reference is being released concurrently is stored again rather than lost.
+   */
+  private static void acquireJobCatalog(final DSLContext ctx, final DetachedCatalog catalog) {
+    final boolean inserted = ctx.fetchOne(
+        "INSERT INTO job_catalogs(hash, catalog, reference_count) VALUES (?, CAST(? AS JSONB), 1) "
+            + "ON CONFLICT (hash) DO UPDATE SET reference_count = job_catalogs.reference_count + 1 "
+            // xmax is only set on rows that already existed
+            + "RETURNING (xmax = 0) AS inserted",
+        catalog.hash(),
+        catalog.catalog())
+        .get("inserted", Boolean.class);
+    final long catalogSize = catalog.catalog().getBytes(StandardCharsets.UTF_8).length;
+    MetricClientFactory.getMetricClient().count(
+        inserted ? OssMetricsRegistry.JOB_CATALOG_BYTES_STORED : OssMetricsRegistry.JOB_CATALOG_BYTES_DEDUPLICATED, catalogSize);
+  }
+
+  /**
+   * Remove a reference to a catalog from the job catalog store. Catalogs that are not referenced
+   * anymore are deleted when the job history is purged.
+   */
+  private static void releaseJobCatalog(final DSLContext ctx, final String hash) {
+    ctx.execute("UPDATE job_catalogs SET reference_count = reference_count - 1 WHERE hash = ?", hash);
   }
 
   @Override
@@ -730,6 +860,8 @@ public class DefaultJobPersistence implements JobPersistence {
           now,
           jobId,
           attemptNumber);
+      // the stats of the job are final once it succeeded
+      refreshStreamStatsQuarterHourly(ctx, jobId, OffsetDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC));
       return null;
     });
   }
@@ -924,15 +1056,14 @@ public class DefaultJobPersistence implements JobPersistence {
   public Result<Record> listJobsQuery(final Set<ConfigType> configTypes, final String configId, final int pagesize, String orderByString)
       throws IOException {
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+      final Select<?> jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
           .and(configId == null ? DSL.noCondition()
               : JOBS.SCOPE.eq(configId))
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
-          .limit(pagesize)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .limit(pagesize);
 
-      return ctx.fetch(jobSelectAndJoin(jobsSubquery) + orderByString);
+      return fetchJobs(ctx, jobsSubquery, JobProjection.FULL, orderByString);
     });
   }
 
@@ -950,7 +1081,7 @@ public class DefaultJobPersistence implements JobPersistence {
       throws IOException {
     final SortField<OffsetDateTime> orderBy = getJobOrderBy(orderByField, orderByMethod);
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+      final Select<?> jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
           .and(configId == null ? DSL.noCondition()
               : JOBS.SCOPE.eq(configId))
@@ -964,12 +1095,9 @@ public class DefaultJobPersistence implements JobPersistence {
           .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
           .orderBy(orderBy)
           .limit(limit)
-          .offset(offset)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .offset(offset);
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
-      LOGGER.debug("jobs query: {}", fullQuery);
-      return ctx.fetch(fullQuery);
+      return fetchJobs(ctx, jobsSubquery, JobProjection.FULL, getJobOrderBySql(orderBy));
     });
   }
 
@@ -987,7 +1115,7 @@ public class DefaultJobPersistence implements JobPersistence {
       throws IOException {
     final SortField<OffsetDateTime> orderBy = getJobOrderBy(orderByField, orderByMethod);
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(JOBS.asterisk()).from(JOBS)
+      final Select<?> jobsSubquery = ctx.select(JOBS.asterisk()).from(JOBS)
           .join(Tables.CONNECTION)
           .on(Tables.CONNECTION.ID.cast(String.class).eq(JOBS.SCOPE))
           .join(Tables.ACTOR)
@@ -1004,12 +1132,9 @@ public class DefaultJobPersistence implements JobPersistence {
           .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
           .orderBy(getJobOrderBy(orderByField, orderByMethod))
           .limit(limit)
-          .offset(offset)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .offset(offset);
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
-      LOGGER.debug("jobs query: {}", fullQuery);
-      return ctx.fetch(fullQuery);
+      return fetchJobs(ctx, jobsSubquery, JobProjection.FULL, getJobOrderBySql(orderBy));
     });
   }
 
@@ -1022,7 +1147,7 @@ public class DefaultJobPersistence implements JobPersistence {
   public List<Job> listJobs(final Set<ConfigType> configTypes, final Set<JobStatus> jobStatuses, final String configId, final int pagesize)
       throws IOException {
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+      final Select<?> jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
           .and(configId == null ? DSL.noCondition()
               : JOBS.SCOPE.eq(configId))
@@ -1031,10 +1156,9 @@ public class DefaultJobPersistence implements JobPersistence {
                   .map(status -> io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(toSqlName(status)))
                   .collect(Collectors.toList())))
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
-          .limit(pagesize)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .limit(pagesize);
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+      return getJobsFromResult(fetchJobs(ctx, jobsSubquery, JobProjection.FULL, ORDER_BY_JOB_TIME_ATTEMPT_TIME));
     });
   }
 
@@ -1054,7 +1178,7 @@ public class DefaultJobPersistence implements JobPersistence {
       throws IOException {
     final SortField<OffsetDateTime> orderBy = getJobOrderBy(orderByField, orderByMethod);
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+      final Select<?> jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
           .and(configId == null ? DSL.noCondition()
               : JOBS.SCOPE.eq(configId))
@@ -1068,12 +1192,9 @@ public class DefaultJobPersistence implements JobPersistence {
           .and(updatedAtEnd == null ? DSL.noCondition() : JOBS.UPDATED_AT.le(updatedAtEnd))
           .orderBy(orderBy)
           .limit(limit)
-          .offset(offset)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .offset(offset);
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery) + getJobOrderBySql(orderBy);
-      LOGGER.debug("jobs query: {}", fullQuery);
-      return getJobsFromResult(ctx.fetch(fullQuery));
+      return getJobsFromResult(fetchJobs(ctx, jobsSubquery, JobProjection.FULL, getJobOrderBySql(orderBy)));
     });
   }
 
@@ -1113,19 +1234,16 @@ public class DefaultJobPersistence implements JobPersistence {
                                                  OffsetDateTime createdAtEnd)
       throws IOException {
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+      final Select<?> jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
           .and(jobStatuses == null ? DSL.noCondition()
               : JOBS.STATUS.in(jobStatuses.stream()
                   .map(status -> io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.lookupLiteral(toSqlName(status)))
                   .collect(Collectors.toList())))
           .and(createdAtStart == null ? DSL.noCondition() : JOBS.CREATED_AT.ge(createdAtStart))
-          .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd))
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .and(createdAtEnd == null ? DSL.noCondition() : JOBS.CREATED_AT.le(createdAtEnd));
 
-      final String fullQuery = jobSelectAndJoin(jobsSubquery);
-      LOGGER.debug("jobs query: {}", fullQuery);
-      return getJobsFromResult(ctx.fetch(fullQuery));
+      return getJobsFromResult(fetchJobs(ctx, jobsSubquery, JobProjection.FULL, ""));
     });
 
   }
@@ -1133,12 +1251,38 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<Job> listJobsLight(final Set<Long> jobIds) throws IOException {
     return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
+      final Select<?> jobsSubquery = ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.ID.in(jobIds))
+          .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc());
+
+      return getJobsFromResultLight(fetchJobs(ctx, jobsSubquery, JobProjection.FULL, ""));
+    });
+  }
+
+  @Override
+  public JobPage listJobsPage(final Set<ConfigType> configTypes,
+                              final String configId,
+                              final JobProjection projection,
+                              final JobListCursor after,
+                              final int pageSize)
+      throws IOException {
+    return jobDatabase.query(ctx -> {
+      final Select<?> jobsSubquery = ctx.select(projection == JobProjection.FULL ? FULL_JOB_FIELDS : LIGHT_JOB_FIELDS)
+          .from(JOBS)
+          .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
+          .and(configId == null ? DSL.noCondition() : JOBS.SCOPE.eq(configId))
+          .and(after == null ? DSL.noCondition() : DSL.row(JOBS.CREATED_AT, JOBS.ID).lt(after.createdAt(), after.id()))
           .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+          .limit(pageSize);
 
-      return getJobsFromResultLight(ctx.fetch(jobSelectAndJoin(jobsSubquery)));
+      final Result<Record> result = fetchJobs(ctx, jobsSubquery, projection, ORDER_BY_JOB_TIME_ATTEMPT_TIME);
+      final List<Job> jobs = projection == JobProjection.FULL ? getJobsFromResult(result) : getJobsFromResultLight(result);
+      if (jobs.size() < pageSize) {
+        return new JobPage(jobs, null);
+      }
+      // rows are ordered by job first, so the last row belongs to the last job of the page
+      final Record last = result.get(result.size() - 1);
+      return new JobPage(jobs, new JobListCursor(last.get("job_created_at", OffsetDateTime.class), last.get(JOB_ID, Long.class)));
     });
   }
 
@@ -1299,6 +1443,43 @@ public class DefaultJobPersistence implements JobPersistence {
         .toList();
   }
 
+  @Override
+  public List<StreamDailyStats> listStreamDailyStats(final UUID connectionId, final Instant startTime, final ZoneId timeZone)
+      throws IOException {
+    // the quarter-hourly buckets are grouped into the days of the time zone, in the db. The history is
+    // only displayed, so it can be read from the replica.
+    return jobDatabase.replicaQuery(ctx -> ctx.fetch(
+        "SELECT "
+            + "CAST(EXTRACT(EPOCH FROM date_trunc('day', bucket_start AT TIME ZONE ?) AT TIME ZONE ?) AS bigint) AS day_start, "
+            + "NULLIF(stream_namespace, '') AS stream_namespace, "
+            + "stream_name, "
+            + "SUM(records_committed) AS records_committed, "
+            + "SUM(bytes_committed) AS bytes_committed, "
+            + "SUM(records_emitted) AS records_emitted, "
+            + "SUM(bytes_emitted) AS bytes_emitted "
+            + "FROM stream_stats_quarter_hourly "
+            + WHERE
+            + "connection_id = ? AND "
+            + "bucket_start >= ? "
+            + "GROUP BY 1, 2, 3 "
+            + "ORDER BY 1, 2, 3",
+        timeZone.getId(),
+        timeZone.getId(),
+        connectionId,
+        OffsetDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(startTime.getEpochSecond(), STREAM_STATS_BUCKET_SECONDS)
+            * STREAM_STATS_BUCKET_SECONDS), ZoneOffset.UTC)))
+        .stream()
+        .map(r -> new StreamDailyStats(
+            r.get("day_start", long.class),
+            r.get("stream_namespace", String.class),
+            r.get("stream_name", String.class),
+            r.get("records_committed", long.class),
+            r.get("bytes_committed", long.class),
+            r.get("records_emitted", long.class),
+            r.get("bytes_emitted", long.class)))
+        .toList();
+  }
+
   @Override
   public List<JobWithStatusAndTimestamp> listJobStatusAndTimestampWithConnection(final UUID connectionId,
                                                                                  final Set<ConfigType> configTypes,
@@ -1394,6 +1575,63 @@ public class DefaultJobPersistence implements JobPersistence {
         .collect(Collectors.toList()));
   }
 
+  /**
+   * Summarize the most recent jobs of each connection in one pass over the jobs table. The jobs of
+   * each connection are ranked with a window function to keep the lookback, then aggregated per
+   * connection. The attempts are only read for the last completed job of each connection.
+   */
+  @Override
+  public List<ConnectionJobStatus> getConnectionJobStatuses(final List<UUID> connectionIds,
+                                                            final Set<ConfigType> configTypes,
+                                                            final int jobLookback)
+      throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final String completedStatuses = toSqlInFragment(List.of(JobStatus.SUCCEEDED, JobStatus.FAILED));
+    final String query = "WITH recent_jobs AS ("
+        + " SELECT id, scope, status, created_at, updated_at FROM ("
+        + "  SELECT id, scope, status, created_at, updated_at,"
+        + "   ROW_NUMBER() OVER (PARTITION BY scope ORDER BY created_at DESC, id DESC) AS job_rank"
+        + "  FROM jobs "
+        + WHERE + "CAST(jobs.config_type AS VARCHAR) in " + toSqlInFragment(configTypes)
+        + AND + scopeInList(connectionIds)
+        + " ) AS ranked_jobs WHERE job_rank <= ?"
+        + "), connection_jobs AS ("
+        + " SELECT scope,"
+        + "  bool_or(" + JOB_STATUS_IS_NON_TERMINAL + ") AS is_running,"
+        + "  (array_agg(id ORDER BY created_at DESC, id DESC) FILTER (WHERE status IN " + completedStatuses + "))[1] AS last_completed_job_id,"
+        + "  (array_agg(updated_at ORDER BY created_at DESC, id DESC) FILTER (WHERE status = 'succeeded'))[1] AS last_succeeded_at"
+        + " FROM recent_jobs GROUP BY scope"
+        + ") "
+        + "SELECT connection_jobs.scope, connection_jobs.is_running, connection_jobs.last_succeeded_at,"
+        + " jobs.id AS job_id, jobs.status AS job_status, jobs.config_type AS config_type,"
+        + " last_attempt.attempt_number AS attempt_number, last_failed_attempt.failure_summary AS attempt_failure_summary "
+        + "FROM connection_jobs "
+        + "LEFT JOIN jobs ON jobs.id = connection_jobs.last_completed_job_id "
+        + "LEFT JOIN LATERAL (SELECT attempt_number FROM attempts WHERE attempts.job_id = jobs.id"
+        + " ORDER BY created_at DESC, id DESC LIMIT 1) AS last_attempt ON TRUE "
+        + "LEFT JOIN LATERAL (SELECT failure_summary FROM attempts WHERE attempts.job_id = jobs.id AND attempts.status = 'failed'"
+        + " ORDER BY created_at DESC, id DESC LIMIT 1) AS last_failed_attempt ON TRUE";
+
+    // the statuses are only displayed, so they can be read from the replica
+    return jobDatabase.replicaQuery(ctx -> ctx.fetch(query, jobLookback)
+        .stream()
+        .map(r -> new ConnectionJobStatus(
+            UUID.fromString(r.get("scope", String.class)),
+            Boolean.TRUE.equals(r.get("is_running", Boolean.class)),
+            r.get(JOB_ID, Long.class),
+            Optional.ofNullable(r.get("job_status", String.class)).map(status -> JobStatus.valueOf(status.toUpperCase())).orElse(null),
+            Optional.ofNullable(r.get("config_type", String.class)).flatMap(type -> Enums.toEnum(type, ConfigType.class)).orElse(null),
+            r.get(ATTEMPT_NUMBER_FIELD, Integer.class),
+            Optional.ofNullable(r.get(ATTEMPT_FAILURE_SUMMARY_FIELD, String.class))
+                .map(summary -> Jsons.deserialize(summary, AttemptFailureSummary.class))
+                .orElse(null),
+            Optional.ofNullable(r.get("last_succeeded_at")).map(value -> getEpoch(r, "last_succeeded_at")).orElse(null)))
+        .collect(Collectors.toList()));
+  }
+
   /**
    * For the connection ID in the input, find that connection's most recent non-terminal
    * clear/reset/sync/refresh job and return it if one exists.
@@ -1466,17 +1704,76 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public void updateJobConfig(Long jobId, JobConfig config) throws IOException {
-    jobDatabase.query(ctx -> {
+    final Optional<DetachedCatalog> catalog = JobConfigCatalogs.detach(Jsons.jsonNode(config));
+    jobDatabase.transaction(ctx -> {
+      final Optional<String> previousCatalogHash = ctx.select(JOBS.CATALOG_HASH)
+          .from(JOBS)
+          .where(JOBS.ID.eq(jobId))
+          .forUpdate()
+          .fetchOptional(JOBS.CATALOG_HASH);
+      catalog.ifPresent(c -> acquireJobCatalog(ctx, c));
 
       ctx.update(JOBS)
-          .set(JOBS.CONFIG, JSONB.valueOf(Jsons.serialize(config)))
+          .set(JOBS.CONFIG, JSONB.valueOf(catalog.map(c -> Jsons.serialize(c.config())).orElseGet(() -> Jsons.serialize(config))))
+          .set(JOBS.CATALOG_HASH, catalog.map(DetachedCatalog::hash).orElse(null))
           .set(JOBS.UPDATED_AT, OffsetDateTime.now())
           .where(JOBS.ID.eq(jobId))
           .execute();
+
+      previousCatalogHash.ifPresent(hash -> releaseJobCatalog(ctx, hash));
       return null;
     });
   }
 
+  @Override
+  public int deduplicateJobCatalogs(final int batchSize) throws IOException {
+    return jobDatabase.transaction(ctx -> {
+      final long lastJobId = ctx.select(DSL.field(METADATA_VAL_COL, String.class))
+          .from(AIRBYTE_METADATA_TABLE)
+          .where(DSL.field(METADATA_KEY_COL).eq(JOB_CATALOGS_BACKFILL_KEY))
+          .fetchOptional(DSL.field(METADATA_VAL_COL, String.class))
+          .map(Long::parseLong)
+          .orElse(0L);
+
+      final Result<Record2<Long, JSONB>> jobs = ctx.select(JOBS.ID, JOBS.CONFIG)
+          .from(JOBS)
+          .where(JOBS.ID.gt(lastJobId))
+          .and(JOBS.CATALOG_HASH.isNull())
+          .orderBy(JOBS.ID.asc())
+          .limit(batchSize)
+          .forUpdate()
+          .fetch();
+      if (jobs.isEmpty()) {
+        return 0;
+      }
+
+      for (final Record2<Long, JSONB> job : jobs) {
+        if (job.value2() == null) {
+          continue;
+        }
+        final Optional<DetachedCatalog> catalog = JobConfigCatalogs.detach(Jsons.deserialize(job.value2().data()));
+        if (catalog.isPresent()) {
+          acquireJobCatalog(ctx, catalog.get());
+          ctx.update(JOBS)
+              .set(JOBS.CONFIG, JSONB.valueOf(Jsons.serialize(catalog.get().config())))
+              .set(JOBS.CATALOG_HASH, catalog.get().hash())
+              .where(JOBS.ID.eq(job.value1()))
+              .execute();
+        }
+      }
+
+      final String newLastJobId = String.valueOf(jobs.get(jobs.size() - 1).value1());
+      ctx.insertInto(DSL.table(AIRBYTE_METADATA_TABLE))
+          .columns(DSL.field(METADATA_KEY_COL), DSL.field(METADATA_VAL_COL))
+          .values(JOB_CATALOGS_BACKFILL_KEY, newLastJobId)
+          .onConflict(DSL.field(METADATA_KEY_COL))
+          .doUpdate()
+          .set(DSL.field(METADATA_VAL_COL), newLastJobId)
+          .execute();
+      return jobs.size();
+    });
+  }
+
   @Override
   public Optional<String> getVersion() throws IOException {
     return getMetadata(AirbyteVersion.AIRBYTE_VERSION_KEY_NAME).findFirst();
@@ -1615,10 +1912,16 @@ public class DefaultJobPersistence implements JobPersistence {
       final String jobHistoryPurgeSql = MoreResources.readResource("job_history_purge.sql");
       // interval '?' days cannot use a ? bind, so we're using %d instead.
       final String sql = String.format(jobHistoryPurgeSql, (jobHistoryMinimumAgeInDays - 1));
-      jobDatabase.query(ctx -> ctx.execute(sql,
-          asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")),
-          jobHistoryExcessiveNumberOfJobs,
-          jobHistoryMinimumRecency));
+      jobDatabase.transaction(ctx -> {
+        // the purge releases the catalogs of the jobs it deletes
+        ctx.execute(sql,
+            asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")),
+            jobHistoryExcessiveNumberOfJobs,
+            jobHistoryMinimumRecency);
+        ctx.execute("DELETE FROM stream_stats_quarter_hourly WHERE bucket_start < ?",
+            OffsetDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC).minusDays(STREAM_STATS_QUARTER_HOURLY_RETENTION_DAYS));
+        return ctx.execute("DELETE FROM job_catalogs WHERE reference_count <= 0");
+      });
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
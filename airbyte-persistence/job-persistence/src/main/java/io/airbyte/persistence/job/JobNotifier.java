@@ -33,6 +33,7 @@ import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.notification.CustomerioNotificationClient;
 import io.airbyte.notification.NotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.notification.SlackNotificationClient;
 import io.airbyte.notification.messages.ConnectionInfo;
 import io.airbyte.notification.messages.DestinationInfo;
@@ -41,6 +42,7 @@ import io.airbyte.notification.messages.SyncSummary;
 import io.airbyte.notification.messages.WorkspaceInfo;
 import io.airbyte.persistence.job.tracker.TrackingMetadata;
 import io.micronaut.core.util.functional.ThrowingFunction;
+import jakarta.annotation.Nullable;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -67,17 +69,25 @@ public class JobNotifier {
   private final WebUrlHelper webUrlHelper;
   private final WorkspaceHelper workspaceHelper;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
+  @Nullable
+  private final NotificationDispatcher notificationDispatcher;
 
+  /**
+   * With a notification dispatcher, notifications are sent in the background, so that a slow
+   * notification endpoint does not hold the job status update that triggered the notification.
+   */
   public JobNotifier(final WebUrlHelper webUrlHelper,
                      final ConfigRepository configRepository,
                      final WorkspaceHelper workspaceHelper,
                      final TrackingClient trackingClient,
-                     final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+                     final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                     @Nullable final NotificationDispatcher notificationDispatcher) {
     this.webUrlHelper = webUrlHelper;
     this.workspaceHelper = workspaceHelper;
     this.configRepository = configRepository;
     this.trackingClient = trackingClient;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
+    this.notificationDispatcher = notificationDispatcher;
   }
 
   private void notifyJob(final String action, final Job job, List<JobPersistence.AttemptStats> attemptStats) {
@@ -152,9 +162,9 @@ public class JobNotifier {
   List<NotificationClient> getNotificationClientsFromNotificationItem(final NotificationItem item) {
     return item.getNotificationType().stream().map(notificationType -> {
       if (NotificationType.SLACK.equals(notificationType)) {
-        return new SlackNotificationClient(item.getSlackConfiguration());
+        return new SlackNotificationClient(item.getSlackConfiguration(), notificationDispatcher);
       } else if (NotificationType.CUSTOMERIO.equals(notificationType)) {
-        return new CustomerioNotificationClient();
+        return new CustomerioNotificationClient(notificationDispatcher);
       } else {
         throw new IllegalArgumentException("Notification type not supported: " + notificationType);
       }
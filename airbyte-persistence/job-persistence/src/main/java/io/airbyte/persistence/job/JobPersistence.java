@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -329,6 +330,21 @@ public interface JobPersistence {
                           String orderByMethod)
       throws IOException;
 
+  /**
+   * List a page of jobs of a connection, most recent first, using keyset pagination on (created_at,
+   * id). Unlike offset pagination the cost of a page does not depend on how deep it is.
+   *
+   * @param configTypes types of jobs to list
+   * @param configId scope of the jobs, null to list jobs of all scopes
+   * @param projection columns of the jobs to load
+   * @param after cursor returned with the previous page, null for the first page
+   * @param pageSize max number of jobs in the page
+   * @return page of jobs and the cursor of the next page
+   * @throws IOException while interacting with the db
+   */
+  JobPage listJobsPage(Set<ConfigType> configTypes, String configId, JobProjection projection, JobListCursor after, int pageSize)
+      throws IOException;
+
   /**
    * List jobs with id.
    *
@@ -361,6 +377,20 @@ public interface JobPersistence {
                                                                              Instant attemptEndedAtTimestamp)
       throws IOException;
 
+  /**
+   * List the stats of the streams of a connection per day, from the quarter-hourly rollups of the
+   * stream stats of the attempts of its succeeded sync jobs. An attempt counts towards the day in which
+   * it ended.
+   *
+   * @param connectionId connection id
+   * @param startTime the stats of the attempts that ended in the quarter of an hour of this time or
+   *        later are listed
+   * @param timeZone time zone in which the days start
+   * @return stream stats per day, ordered by day then stream namespace then stream name
+   * @throws IOException exception due to interaction with persistence
+   */
+  List<StreamDailyStats> listStreamDailyStats(UUID connectionId, Instant startTime, ZoneId timeZone) throws IOException;
+
   /**
    * List job statuses and timestamps for connection id.
    *
@@ -384,6 +414,18 @@ public interface JobPersistence {
 
   List<Job> getRunningSyncJobForConnections(final List<UUID> connectionIds) throws IOException;
 
+  /**
+   * Summarize the most recent jobs of many connections in a single query, rather than listing the
+   * jobs of each connection.
+   *
+   * @param connectionIds connections to summarize
+   * @param configTypes types of jobs to consider
+   * @param jobLookback number of most recent jobs of each connection to consider
+   * @return the summary of each connection that has jobs within the lookback
+   * @throws IOException while interacting with the db
+   */
+  List<ConnectionJobStatus> getConnectionJobStatuses(List<UUID> connectionIds, Set<ConfigType> configTypes, int jobLookback) throws IOException;
+
   List<Job> getRunningJobForConnection(final UUID connectionId) throws IOException;
 
   Optional<Job> getFirstReplicationJob(UUID connectionId) throws IOException;
@@ -456,6 +498,17 @@ public interface JobPersistence {
 
   void updateJobConfig(Long jobId, JobConfig config) throws IOException;
 
+  /**
+   * Move the configured catalogs embedded in the configs of jobs created before catalogs were stored
+   * separately to the job catalog store. Jobs are processed in id order, starting after the last job
+   * processed by the previous call.
+   *
+   * @param batchSize max number of jobs to process
+   * @return number of jobs processed, 0 once every job has been processed
+   * @throws IOException while interacting with the db
+   */
+  int deduplicateJobCatalogs(int batchSize) throws IOException;
+
   /**
    * Convenience POJO for various stats data structures.
    *
@@ -476,4 +529,84 @@ public interface JobPersistence {
 
   }
 
+  /**
+   * Columns of the jobs table loaded by job listings.
+   */
+  enum JobProjection {
+    /**
+     * All the columns, including the job config.
+     */
+    FULL,
+    /**
+     * All the columns except the job config, which can be several MBs for connections with large
+     * catalogs. Jobs are returned with a null config and attempts without sync config and output.
+     */
+    LIGHT
+  }
+
+  /**
+   * Position of a job in a listing ordered by (created_at, id).
+   *
+   * @param createdAt exact creation time of the job, jobs only expose it at the second precision
+   * @param id job id
+   */
+  record JobListCursor(OffsetDateTime createdAt, long id) {
+
+  }
+
+  /**
+   * Page of a job listing.
+   *
+   * @param jobs jobs of the page
+   * @param next cursor of the next page, null if this is the last page
+   */
+  record JobPage(List<Job> jobs, JobListCursor next) {
+
+  }
+
+  /**
+   * Summary of the most recent jobs of a connection.
+   *
+   * @param connectionId connection id, the scope of its jobs
+   * @param isRunning whether one of the jobs is not terminal
+   * @param lastCompletedJobId id of the most recent succeeded or failed job, null if there is none
+   * @param lastCompletedJobStatus status of the last completed job
+   * @param lastCompletedJobConfigType type of the last completed job
+   * @param lastCompletedJobAttemptNumber number of the last attempt of the last completed job
+   * @param lastCompletedJobFailureSummary failure summary of the last failed attempt of the last
+   *        completed job
+   * @param lastSucceededJobUpdatedAt update time, in seconds, of the most recent succeeded job
+   */
+  record ConnectionJobStatus(UUID connectionId,
+                             boolean isRunning,
+                             Long lastCompletedJobId,
+                             JobStatus lastCompletedJobStatus,
+                             ConfigType lastCompletedJobConfigType,
+                             Integer lastCompletedJobAttemptNumber,
+                             AttemptFailureSummary lastCompletedJobFailureSummary,
+                             Long lastSucceededJobUpdatedAt) {
+
+  }
+
+  /**
+   * Stats of a stream of a connection over a day.
+   *
+   * @param dayStart start of the day, in seconds
+   * @param streamNamespace stream namespace, null if the stream has none
+   * @param streamName stream name
+   * @param recordsCommitted records committed
+   * @param bytesCommitted bytes committed
+   * @param recordsEmitted records emitted
+   * @param bytesEmitted bytes emitted
+   */
+  record StreamDailyStats(long dayStart,
+                          String streamNamespace,
+                          String streamName,
+                          long recordsCommitted,
+                          long bytesCommitted,
+                          long recordsEmitted,
+                          long bytesEmitted) {
+
+  }
+
 }
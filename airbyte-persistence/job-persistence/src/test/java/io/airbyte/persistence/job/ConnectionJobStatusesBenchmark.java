@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job;
+
+import io.airbyte.config.Job;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobStatus;
+import io.airbyte.db.Database;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.instance.DatabaseConstants;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.persistence.job.JobPersistence.JobProjection;
+import io.airbyte.test.utils.Databases;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Benchmark of the job queries behind the connection statuses of a page of the connection list.
+ *
+ * <p>
+ * Compares, for pages of random connections:
+ * <ul>
+ * <li>per connection: the previous behaviour, the most recent jobs of each connection are listed
+ * and summarized in memory;</li>
+ * <li>batched: {@link JobPersistence#getConnectionJobStatuses}, a single query for the page.</li>
+ * </ul>
+ *
+ * <p>
+ * For each variant it reports the latency of a page and the number of queries sent to the db.
+ *
+ * <p>
+ * Not run as part of the test suite. Run the main method, optionally passing the number of jobs to
+ * seed (2M by default) and the number of connections of a page (200 by default).
+ */
+class ConnectionJobStatusesBenchmark {
+
+  private static final Set<ConfigType> CONFIG_TYPES = Set.of(ConfigType.SYNC, ConfigType.RESET_CONNECTION);
+  private static final int CONNECTIONS = 2_000;
+  private static final int JOB_LOOKBACK = 10;
+  private static final int WARMUP_ITERATIONS = 20;
+  private static final int ITERATIONS = 100;
+
+  private final Random random = new Random(42);
+  private final List<UUID> connectionIds = new ArrayList<>(CONNECTIONS);
+  private final AtomicInteger queries = new AtomicInteger();
+
+  public static void main(final String[] args) throws Exception {
+    final int jobs = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+    final int pageSize = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+    try (final PostgreSQLContainer<?> container = new PostgreSQLContainer<>(DatabaseConstants.DEFAULT_DATABASE_VERSION)
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker")) {
+      container.start();
+      new ConnectionJobStatusesBenchmark().run(container, jobs, pageSize);
+    }
+  }
+
+  private void run(final PostgreSQLContainer<?> container, final int jobs, final int pageSize) throws Exception {
+    final DataSource dataSource = Databases.createDataSource(container);
+    try {
+      final DSLContext dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES);
+      final Database jobDatabase = new TestDatabaseProviders(dataSource, dslContext).createNewJobsDatabase();
+      for (int i = 0; i < CONNECTIONS; i++) {
+        connectionIds.add(UUID.randomUUID());
+      }
+      seed(jobDatabase, jobs);
+
+      final DefaultExecuteListenerProvider counter = new DefaultExecuteListenerProvider(new ExecuteListener() {
+
+        @Override
+        public void executeStart(final ExecuteContext ctx) {
+          queries.incrementAndGet();
+        }
+
+      });
+      final JobPersistence jobPersistence = new DefaultJobPersistence(new Database(
+          DSLContextFactory.create(dataSource, SQLDialect.POSTGRES).configuration().derive(counter).dsl()));
+
+      System.out.printf("%-16s %10s %10s %10s %12s%n", "variant", "mean (ms)", "p50 (ms)", "p99 (ms)", "queries/page");
+      measure("per connection", pageSize, page -> {
+        for (final UUID connectionId : page) {
+          final List<Job> connectionJobs =
+              jobPersistence.listJobsPage(CONFIG_TYPES, connectionId.toString(), JobProjection.LIGHT, null, JOB_LOOKBACK).jobs();
+          connectionJobs.stream().anyMatch(job -> JobStatus.NON_TERMINAL_STATUSES.contains(job.getStatus()));
+          connectionJobs.stream().filter(job -> job.getStatus() == JobStatus.SUCCEEDED || job.getStatus() == JobStatus.FAILED).findFirst();
+        }
+      });
+      measure("batched", pageSize, page -> jobPersistence.getConnectionJobStatuses(page, CONFIG_TYPES, JOB_LOOKBACK));
+    } finally {
+      DataSourceFactory.close(dataSource);
+    }
+  }
+
+  /**
+   * Seed the jobs table with jobs spread evenly across connections, mostly succeeded with some
+   * failures, each with a single attempt. The most recent job of some connections is left running.
+   */
+  private void seed(final Database jobDatabase, final int jobs) throws Exception {
+    final String[] scopes = connectionIds.stream().map(UUID::toString).toArray(String[]::new);
+    final long start = System.currentTimeMillis();
+    jobDatabase.query(ctx -> ctx.execute(
+        "INSERT INTO jobs (config_type, scope, config, status, started_at, created_at, updated_at) "
+            + "SELECT 'sync', (CAST(? AS varchar[]))[g % " + CONNECTIONS + " + 1], '{}', "
+            + "CAST(CASE WHEN g <= " + CONNECTIONS / 10 + " THEN 'running' WHEN g % 7 = 0 THEN 'failed' ELSE 'succeeded' END AS job_status), "
+            + "now() - g * interval '1 second', now() - g * interval '1 second', now() - g * interval '1 second' "
+            + "FROM generate_series(1, ?) g",
+        scopes, jobs));
+    jobDatabase.query(ctx -> ctx.execute(
+        "INSERT INTO attempts (job_id, attempt_number, log_path, status, failure_summary, created_at, updated_at, ended_at) "
+            + "SELECT id, 0, '/tmp/logs/' || id, "
+            + "CAST(CASE WHEN status = 'succeeded' THEN 'succeeded' WHEN status = 'failed' THEN 'failed' ELSE 'running' END AS attempt_status), "
+            + "CASE WHEN status = 'failed' THEN CAST('{\"failures\": [{\"failureOrigin\": \"source\"}]}' AS jsonb) END, "
+            + "created_at, updated_at, updated_at FROM jobs"));
+    jobDatabase.query(ctx -> ctx.execute("VACUUM ANALYZE jobs"));
+    jobDatabase.query(ctx -> ctx.execute("VACUUM ANALYZE attempts"));
+    System.out.printf("seeded %d jobs in %d s%n", jobs, (System.currentTimeMillis() - start) / 1000);
+  }
+
+  private void measure(final String variant, final int pageSize, final PageStatuses pageStatuses) throws Exception {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      pageStatuses.get(randomPage(pageSize));
+    }
+    queries.set(0);
+
+    final List<Long> latencies = new ArrayList<>(ITERATIONS);
+    for (int i = 0; i < ITERATIONS; i++) {
+      final List<UUID> page = randomPage(pageSize);
+      final long start = System.nanoTime();
+      pageStatuses.get(page);
+      latencies.add(System.nanoTime() - start);
+    }
+
+    Collections.sort(latencies);
+    final Function<Long, Double> toMillis = nanos -> nanos / 1_000_000.0;
+    System.out.printf("%-16s %10.2f %10.2f %10.2f %12d%n",
+        variant,
+        toMillis.apply(latencies.stream().reduce(0L, Long::sum) / ITERATIONS),
+        toMillis.apply(latencies.get(ITERATIONS / 2)),
+        toMillis.apply(latencies.get(ITERATIONS * 99 / 100)),
+        queries.get() / ITERATIONS);
+  }
+
+  private List<UUID> randomPage(final int pageSize) {
+    final List<UUID> shuffled = new ArrayList<>(connectionIds);
+    Collections.shuffle(shuffled, random);
+    return shuffled.subList(0, Math.min(pageSize, shuffled.size()));
+  }
+
+  @FunctionalInterface
+  private interface PageStatuses {
+
+    void get(List<UUID> connectionIds) throws Exception;
+
+  }
+
+}
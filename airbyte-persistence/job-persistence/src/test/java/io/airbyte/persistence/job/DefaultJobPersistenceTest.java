@@ -6,9 +6,11 @@ package io.airbyte.persistence.job;
 
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.AIRBYTE_METADATA;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOB_CATALOGS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_ATTEMPT_METADATA;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_STATS;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_STATS_QUARTER_HOURLY;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.SYNC_STATS;
 import static io.airbyte.persistence.job.DefaultJobPersistence.toSqlName;
 import static org.junit.Assert.assertFalse;
@@ -29,11 +31,15 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.commons.version.Version;
+import io.airbyte.config.AirbyteStream;
 import io.airbyte.config.Attempt;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptStatus;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.AttemptWithJobInfo;
+import io.airbyte.config.ConfiguredAirbyteCatalog;
+import io.airbyte.config.ConfiguredAirbyteStream;
+import io.airbyte.config.DestinationSyncMode;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.FailureReason.FailureOrigin;
 import io.airbyte.config.Job;
@@ -50,22 +56,32 @@ import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
 import io.airbyte.config.State;
 import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncMode;
 import io.airbyte.config.SyncStats;
+import io.airbyte.config.helpers.JobConfigCatalogs;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
 import io.airbyte.db.factory.DataSourceFactory;
 import io.airbyte.db.instance.DatabaseConstants;
 import io.airbyte.db.instance.test.TestDatabaseProviders;
 import io.airbyte.persistence.job.JobPersistence.AttemptStats;
+import io.airbyte.persistence.job.JobPersistence.ConnectionJobStatus;
 import io.airbyte.persistence.job.JobPersistence.JobAttemptPair;
+import io.airbyte.persistence.job.JobPersistence.JobPage;
+import io.airbyte.persistence.job.JobPersistence.JobProjection;
+import io.airbyte.persistence.job.JobPersistence.StreamDailyStats;
 import io.airbyte.test.utils.Databases;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -78,6 +94,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.jooq.DSLContext;
+import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
@@ -91,6 +108,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.testcontainers.containers.PostgreSQLContainer;
 
 @SuppressWarnings({"PMD.JUnitTestsShouldIncludeAssert", "PMD.AvoidDuplicateLiterals"})
@@ -234,6 +252,8 @@ class DefaultJobPersistenceTest {
     jobDatabase.query(ctx -> ctx.truncateTable(AIRBYTE_METADATA).cascade().execute());
     jobDatabase.query(ctx -> ctx.truncateTable(SYNC_STATS));
     jobDatabase.query(ctx -> ctx.truncateTable(STREAM_ATTEMPT_METADATA));
+    jobDatabase.query(ctx -> ctx.truncateTable(JOB_CATALOGS).execute());
+    jobDatabase.query(ctx -> ctx.truncateTable(STREAM_STATS_QUARTER_HOURLY).execute());
   }
 
   private Result<Record> getJobRecord(final long jobId) throws SQLException {
@@ -1260,6 +1280,70 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("List the daily stream stats of a connection")
+  class ListStreamDailyStats {
+
+    private static StreamSyncStats streamStats(final String namespace, final String name, final long recordsCommitted) {
+      return new StreamSyncStats().withStreamNamespace(namespace).withStreamName(name)
+          .withStats(new SyncStats().withRecordsCommitted(recordsCommitted).withBytesCommitted(recordsCommitted * 10)
+              .withRecordsEmitted(recordsCommitted).withBytesEmitted(recordsCommitted * 10));
+    }
+
+    @Test
+    @DisplayName("Sums the stats of all the attempts of the succeeded sync jobs")
+    void testListStreamDailyStats() throws IOException {
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber1 = jobPersistence.createAttempt(jobId1, LOG_PATH);
+      jobPersistence.writeStats(jobId1, attemptNumber1, 0L, 0L, 0L, 0L, 0L, 0L, CONNECTION_ID,
+          List.of(streamStats("ns", "name1", 10L), streamStats(null, "name2", 5L)));
+      jobPersistence.failAttempt(jobId1, attemptNumber1);
+      final int attemptNumber2 = jobPersistence.createAttempt(jobId1, LOG_PATH);
+      jobPersistence.writeStats(jobId1, attemptNumber2, 0L, 0L, 0L, 0L, 0L, 0L, CONNECTION_ID, List.of(streamStats("ns", "name1", 20L)));
+      jobPersistence.succeedAttempt(jobId1, attemptNumber2);
+
+      // the stats of failed jobs are not rolled up
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber3 = jobPersistence.createAttempt(jobId2, LOG_PATH);
+      jobPersistence.writeStats(jobId2, attemptNumber3, 0L, 0L, 0L, 0L, 0L, 0L, CONNECTION_ID, List.of(streamStats("ns", "name1", 50L)));
+      jobPersistence.failAttempt(jobId2, attemptNumber3);
+      jobPersistence.failJob(jobId2);
+
+      // nor the stats of running jobs
+      final long jobId3 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber4 = jobPersistence.createAttempt(jobId3, LOG_PATH);
+      jobPersistence.writeStats(jobId3, attemptNumber4, 0L, 0L, 0L, 0L, 0L, 0L, CONNECTION_ID, List.of(streamStats("ns", "name1", 100L)));
+
+      final ZoneId utc = ZoneId.of("UTC");
+      final long dayStart = NOW.atZone(utc).toLocalDate().atStartOfDay(utc).toEpochSecond();
+      final List<StreamDailyStats> expected = List.of(
+          new StreamDailyStats(dayStart, "ns", "name1", 30L, 300L, 30L, 300L),
+          new StreamDailyStats(dayStart, null, "name2", 5L, 50L, 5L, 50L));
+      assertEquals(expected, jobPersistence.listStreamDailyStats(CONNECTION_ID, NOW.minus(1, ChronoUnit.DAYS), utc));
+      assertEquals(List.of(), jobPersistence.listStreamDailyStats(CONNECTION_ID2, NOW.minus(1, ChronoUnit.DAYS), utc));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Asia/Kolkata", "Asia/Kathmandu", "Australia/Darwin"})
+    @DisplayName("Counts the attempts towards the day they ended in, in time zones with offsets that are not whole hours")
+    void testListStreamDailyStatsInTimeZone(final String timeZoneId) throws IOException {
+      final ZoneId timeZone = ZoneId.of(timeZoneId);
+      // five minutes into a day of the time zone, which is still the previous day at the start of the UTC hour
+      final ZonedDateTime dayStart = LocalDate.of(2024, 5, 2).atStartOfDay(timeZone);
+      final Instant endedAt = dayStart.plusMinutes(5).toInstant();
+      when(timeSupplier.get()).thenReturn(endedAt);
+
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.writeStats(jobId, attemptNumber, 0L, 0L, 0L, 0L, 0L, 0L, CONNECTION_ID, List.of(streamStats("ns", "name1", 10L)));
+      jobPersistence.succeedAttempt(jobId, attemptNumber);
+
+      assertEquals(List.of(new StreamDailyStats(dayStart.toEpochSecond(), "ns", "name1", 10L, 100L, 10L, 100L)),
+          jobPersistence.listStreamDailyStats(CONNECTION_ID, endedAt.minus(1, ChronoUnit.DAYS), timeZone));
+    }
+
+  }
+
   @Nested
   @DisplayName("List records committed after a given timestamp for a given connection")
   class ListRecordsCommittedByConnectionByTimestamp {
@@ -1605,6 +1689,67 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When getting the job statuses of multiple connections")
+  class GetConnectionJobStatuses {
+
+    private static final UUID CONNECTION_ID_1 = UUID.randomUUID();
+    private static final UUID CONNECTION_ID_2 = UUID.randomUUID();
+    private static final UUID CONNECTION_ID_3 = UUID.randomUUID();
+    private static final String SCOPE_1 = CONNECTION_ID_1.toString();
+    private static final String SCOPE_2 = CONNECTION_ID_2.toString();
+    private static final List<UUID> CONNECTION_IDS = List.of(CONNECTION_ID_1, CONNECTION_ID_2, CONNECTION_ID_3);
+
+    @Test
+    @DisplayName("Should summarize the recent jobs of each connection that has jobs")
+    void testGetConnectionJobStatuses() throws IOException {
+      final long scope1Job1 = jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(scope1Job1, jobPersistence.createAttempt(scope1Job1, LOG_PATH));
+
+      final long scope2Job1 = jobPersistence.enqueueJob(SCOPE_2, RESET_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(scope2Job1, jobPersistence.createAttempt(scope2Job1, LOG_PATH));
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+
+      final long scope1Job2 = jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failAttempt(scope1Job2, jobPersistence.createAttempt(scope1Job2, LOG_PATH));
+      final int scope1Job2AttemptNumber = jobPersistence.createAttempt(scope1Job2, LOG_PATH);
+      final AttemptFailureSummary failureSummary = new AttemptFailureSummary()
+          .withFailures(List.of(new FailureReason().withFailureOrigin(FailureOrigin.SOURCE)));
+      jobPersistence.failAttempt(scope1Job2, scope1Job2AttemptNumber);
+      jobPersistence.writeAttemptFailureSummary(scope1Job2, scope1Job2AttemptNumber, failureSummary);
+      jobPersistence.failJob(scope1Job2);
+
+      // left pending
+      jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+
+      final List<ConnectionJobStatus> actual = jobPersistence.getConnectionJobStatuses(CONNECTION_IDS, Job.REPLICATION_TYPES, 10);
+
+      final List<ConnectionJobStatus> expected = List.of(
+          new ConnectionJobStatus(CONNECTION_ID_1, true, scope1Job2, JobStatus.FAILED, ConfigType.SYNC, scope1Job2AttemptNumber, failureSummary,
+              NOW.getEpochSecond()),
+          new ConnectionJobStatus(CONNECTION_ID_2, false, scope2Job1, JobStatus.SUCCEEDED, ConfigType.RESET_CONNECTION, 0, null,
+              NOW.getEpochSecond()));
+      assertTrue(expected.size() == actual.size() && expected.containsAll(actual) && actual.containsAll(expected));
+    }
+
+    @Test
+    @DisplayName("Should only consider the most recent jobs within the lookback")
+    void testGetConnectionJobStatusesWithinLookback() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(1000));
+      jobPersistence.enqueueJob(SCOPE_1, SYNC_JOB_CONFIG).orElseThrow();
+
+      final List<ConnectionJobStatus> actual = jobPersistence.getConnectionJobStatuses(CONNECTION_IDS, Job.REPLICATION_TYPES, 1);
+
+      assertEquals(List.of(new ConnectionJobStatus(CONNECTION_ID_1, true, null, null, null, null, null, null)), actual);
+    }
+
+  }
+
   @Nested
   @DisplayName("When getting a running job for a single")
   class GetRunningJobForConnection {
@@ -2350,6 +2495,57 @@ class DefaultJobPersistenceTest {
       assertEquals(List.of(), actualList);
     }
 
+    @Test
+    @DisplayName("Should walk through all the jobs of a connection page by page")
+    void testListJobsPage() throws IOException {
+      final List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        // all the jobs share the same created_at, so the id is what keeps pages apart
+        final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+        ids.add(jobId);
+        final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+        jobPersistence.failAttempt(jobId, attemptNumber);
+        jobPersistence.createAttempt(jobId, LOG_PATH);
+        jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SPEC_JOB_CONFIG).orElseThrow();
+      }
+      Collections.reverse(ids);
+
+      final List<Long> listedIds = new ArrayList<>();
+      JobPage page = jobPersistence.listJobsPage(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), JobProjection.FULL, null, 10);
+      listedIds.addAll(page.jobs().stream().map(Job::getId).toList());
+      while (page.next() != null) {
+        page = jobPersistence.listJobsPage(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), JobProjection.FULL, page.next(), 10);
+        listedIds.addAll(page.jobs().stream().map(Job::getId).toList());
+        page.jobs().forEach(job -> assertEquals(2, job.getAttempts().size()));
+      }
+
+      assertEquals(ids, listedIds);
+    }
+
+    @Test
+    @DisplayName("Should not load the job config with the light projection")
+    void testListJobsPageLight() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.failAttempt(jobId, attemptNumber);
+
+      final JobPage fullPage =
+          jobPersistence.listJobsPage(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), JobProjection.FULL, null, 10);
+      final JobPage lightPage =
+          jobPersistence.listJobsPage(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), JobProjection.LIGHT, null, 10);
+
+      assertNull(fullPage.next());
+      assertNull(lightPage.next());
+      assertEquals(SPEC_JOB_CONFIG, fullPage.jobs().get(0).getConfig());
+      final Job lightJob = lightPage.jobs().get(0);
+      assertNull(lightJob.getConfig());
+      assertEquals(jobId, lightJob.getId());
+      assertEquals(SPEC_JOB_CONFIG.getConfigType(), lightJob.getConfigType());
+      assertEquals(JobStatus.INCOMPLETE, lightJob.getStatus());
+      assertEquals(1, lightJob.getAttempts().size());
+      assertEquals(AttemptStatus.FAILED, lightJob.getAttempts().get(0).getStatus());
+    }
+
   }
 
   @Nested
@@ -2498,6 +2694,100 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When storing job catalogs")
+  class JobCatalogs {
+
+    private static final ConfiguredAirbyteCatalog CATALOG = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream(new AirbyteStream("users", Jsons.emptyObject(), List.of(SyncMode.FULL_REFRESH)), SyncMode.FULL_REFRESH,
+            DestinationSyncMode.APPEND)));
+    private static final ConfiguredAirbyteCatalog OTHER_CATALOG = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream(new AirbyteStream("orders", Jsons.emptyObject(), List.of(SyncMode.FULL_REFRESH)), SyncMode.FULL_REFRESH,
+            DestinationSyncMode.APPEND)));
+
+    private JobConfig syncConfig(final ConfiguredAirbyteCatalog catalog) {
+      return new JobConfig()
+          .withConfigType(ConfigType.SYNC)
+          .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(catalog));
+    }
+
+    private Map<String, Integer> getReferenceCounts() throws SQLException {
+      return jobDatabase.query(ctx -> ctx.select(JOB_CATALOGS.HASH, JOB_CATALOGS.REFERENCE_COUNT).from(JOB_CATALOGS)
+          .fetchMap(JOB_CATALOGS.HASH, JOB_CATALOGS.REFERENCE_COUNT));
+    }
+
+    private String getStoredConfig(final long jobId) throws SQLException {
+      return jobDatabase.query(ctx -> ctx.select(JOBS.CONFIG).from(JOBS).where(JOBS.ID.eq(jobId)).fetchOne(JOBS.CONFIG).data());
+    }
+
+    @Test
+    @DisplayName("Should store identical catalogs once and hydrate them when reading jobs")
+    void testEnqueueDeduplicatesCatalogs() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, syncConfig(CATALOG)).orElseThrow();
+      jobPersistence.succeedAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, syncConfig(CATALOG)).orElseThrow();
+
+      assertEquals(Map.of(JobConfigCatalogs.hash(Jsons.serialize(CATALOG)), 2), getReferenceCounts());
+      assertFalse(getStoredConfig(jobId2).contains("users"));
+      assertEquals(syncConfig(CATALOG), jobPersistence.getJob(jobId).getConfig());
+      assertEquals(syncConfig(CATALOG), jobPersistence.getJob(jobId2).getConfig());
+      assertEquals(List.of(syncConfig(CATALOG), syncConfig(CATALOG)),
+          jobPersistence.listJobs(Set.of(ConfigType.SYNC), SCOPE, 10).stream().map(Job::getConfig).toList());
+    }
+
+    @Test
+    @DisplayName("Should not reference the catalog of a job that was not queued")
+    void testEnqueueNotQueued() throws IOException, SQLException {
+      jobPersistence.enqueueJob(SCOPE, syncConfig(CATALOG)).orElseThrow();
+
+      // a replication job is already running for this connection
+      assertTrue(jobPersistence.enqueueJob(SCOPE, syncConfig(CATALOG)).isEmpty());
+      assertEquals(Map.of(JobConfigCatalogs.hash(Jsons.serialize(CATALOG)), 1), getReferenceCounts());
+    }
+
+    @Test
+    @DisplayName("Should move the references of a job when its config is updated")
+    void testUpdateConfigMovesReference() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, syncConfig(CATALOG)).orElseThrow();
+
+      jobPersistence.updateJobConfig(jobId, syncConfig(OTHER_CATALOG));
+
+      assertEquals(Map.of(
+          JobConfigCatalogs.hash(Jsons.serialize(CATALOG)), 0,
+          JobConfigCatalogs.hash(Jsons.serialize(OTHER_CATALOG)), 1), getReferenceCounts());
+      assertEquals(syncConfig(OTHER_CATALOG), jobPersistence.getJob(jobId).getConfig());
+    }
+
+    @Test
+    @DisplayName("Should move the catalogs of existing jobs to the catalog store")
+    void testDeduplicateJobCatalogs() throws IOException, SQLException {
+      final List<Long> jobIds = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        // jobs created before catalogs were stored separately
+        jobIds.add(jobDatabase.query(ctx -> ctx.insertInto(JOBS)
+            .set(JOBS.CONFIG_TYPE, io.airbyte.db.instance.jobs.jooq.generated.enums.JobConfigType.sync)
+            .set(JOBS.SCOPE, SCOPE)
+            .set(JOBS.STATUS, io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus.succeeded)
+            .set(JOBS.CONFIG, JSONB.valueOf(Jsons.serialize(syncConfig(CATALOG))))
+            .returning(JOBS.ID)
+            .fetchOne(JOBS.ID)));
+      }
+      final long specJobId = jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+
+      assertEquals(2, jobPersistence.deduplicateJobCatalogs(2));
+      assertEquals(2, jobPersistence.deduplicateJobCatalogs(2));
+      assertEquals(0, jobPersistence.deduplicateJobCatalogs(2));
+
+      assertEquals(Map.of(JobConfigCatalogs.hash(Jsons.serialize(CATALOG)), 3), getReferenceCounts());
+      for (final long jobId : jobIds) {
+        assertFalse(getStoredConfig(jobId).contains("users"));
+        assertEquals(syncConfig(CATALOG), jobPersistence.getJob(jobId).getConfig());
+      }
+      assertEquals(SPEC_JOB_CONFIG, jobPersistence.getJob(specJobId).getConfig());
+    }
+
+  }
+
   @Nested
   @DisplayName("When purging job history")
   class PurgeJobHistory {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.Job;
+import io.airbyte.config.JobConfig;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobSyncConfig;
+import io.airbyte.db.Database;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.instance.DatabaseConstants;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.persistence.job.JobPersistence.JobPage;
+import io.airbyte.persistence.job.JobPersistence.JobProjection;
+import io.airbyte.test.utils.Databases;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.conf.StatementType;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Benchmark of the job listing queries against a large jobs table.
+ *
+ * <p>
+ * Compares, for the listing of the most recent jobs of random connections:
+ * <ul>
+ * <li>inlined: the previous behaviour, every value is rendered in the statement text;</li>
+ * <li>bound: the values are sent as bind values;</li>
+ * <li>bound light: bind values and the light projection, which leaves the config out;</li>
+ * </ul>
+ * and, for deep pages, offset pagination against keyset pagination.
+ *
+ * <p>
+ * For each variant it reports the latency, the number of distinct statement texts sent to the db
+ * and the size of the fetched values. The JDBC driver only switches to a server-side prepared
+ * statement, and the db only reuses a plan, once the same statement text has been executed several
+ * times on a connection, so the number of distinct texts is what drives plan-cache reuse.
+ *
+ * <p>
+ * Not run as part of the test suite. Run the main method, optionally passing the number of jobs to
+ * seed (2M by default).
+ */
+class JobListingBenchmark {
+
+  private static final Set<ConfigType> CONFIG_TYPES = Set.of(ConfigType.SYNC, ConfigType.RESET_CONNECTION);
+  private static final int CONNECTIONS = 2_000;
+  private static final int CONFIG_STREAMS = 300;
+  private static final int PAGE_SIZE = 20;
+  private static final int DEEP_PAGE_OFFSET = 800;
+  private static final int WARMUP_ITERATIONS = 200;
+  private static final int ITERATIONS = 1_000;
+
+  private final Random random = new Random(42);
+  private final Set<String> statements = ConcurrentHashMap.newKeySet();
+
+  public static void main(final String[] args) throws Exception {
+    final int jobs = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+    try (final PostgreSQLContainer<?> container = new PostgreSQLContainer<>(DatabaseConstants.DEFAULT_DATABASE_VERSION)
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker")) {
+      container.start();
+      new JobListingBenchmark().run(container, jobs);
+    }
+  }
+
+  private void run(final PostgreSQLContainer<?> container, final int jobs) throws Exception {
+    final DataSource dataSource = Databases.createDataSource(container);
+    try {
+      final DSLContext dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES);
+      final Database jobDatabase = new TestDatabaseProviders(dataSource, dslContext).createNewJobsDatabase();
+      seed(jobDatabase, jobs);
+
+      final DefaultExecuteListenerProvider recorder = new DefaultExecuteListenerProvider(new ExecuteListener() {
+
+        @Override
+        public void executeStart(final ExecuteContext ctx) {
+          statements.add(ctx.sql());
+        }
+
+      });
+      final JobPersistence bound = new DefaultJobPersistence(new Database(
+          DSLContextFactory.create(dataSource, SQLDialect.POSTGRES).configuration().derive(recorder).dsl()));
+      final JobPersistence inlined = new DefaultJobPersistence(new Database(
+          DSLContextFactory.create(dataSource, SQLDialect.POSTGRES).configuration()
+              .derive(recorder)
+              .derive(new Settings().withStatementType(StatementType.STATIC_STATEMENT)).dsl()));
+
+      System.out.printf("%-22s %10s %10s %10s %12s %14s%n", "variant", "mean (ms)", "p50 (ms)", "p99 (ms)", "statements", "bytes/call");
+      measure("inlined", scope -> inlined.listJobs(CONFIG_TYPES, scope, PAGE_SIZE));
+      measure("bound", scope -> bound.listJobsPage(CONFIG_TYPES, scope, JobProjection.FULL, null, PAGE_SIZE).jobs());
+      measure("bound light", scope -> bound.listJobsPage(CONFIG_TYPES, scope, JobProjection.LIGHT, null, PAGE_SIZE).jobs());
+      measure("deep page offset", scope -> bound.listJobs(CONFIG_TYPES, scope, PAGE_SIZE, DEEP_PAGE_OFFSET, null, null, null, null, null,
+          null, null));
+      measure("deep page keyset", scope -> {
+        // skip to the cursor of the deep page with the light projection, as a client walking pages would
+        final JobPage page = bound.listJobsPage(CONFIG_TYPES, scope, JobProjection.LIGHT, null, DEEP_PAGE_OFFSET);
+        return page.next() == null ? List.of() : bound.listJobsPage(CONFIG_TYPES, scope, JobProjection.FULL, page.next(), PAGE_SIZE).jobs();
+      });
+    } finally {
+      DataSourceFactory.close(dataSource);
+    }
+  }
+
+  /**
+   * Seed the jobs table with jobs spread evenly across connections, each with a config of a size
+   * comparable to a sync of a few hundred streams and a single attempt.
+   */
+  private static void seed(final Database jobDatabase, final int jobs) throws Exception {
+    final ArrayNode streams = Jsons.arrayNode();
+    for (int i = 0; i < CONFIG_STREAMS; i++) {
+      streams.add(Jsons.jsonNode(Map.of("name", "stream_" + i, "namespace", "public", "syncMode", "incremental",
+          "cursorField", List.of("updated_at"), "primaryKey", List.of(List.of("id")))));
+    }
+    final JobConfig config = new JobConfig()
+        .withConfigType(ConfigType.SYNC)
+        .withSync(new JobSyncConfig().withWebhookOperationConfigs(streams));
+
+    final long start = System.currentTimeMillis();
+    jobDatabase.query(ctx -> ctx.execute(
+        "INSERT INTO jobs (config_type, scope, config, status, started_at, created_at, updated_at) "
+            + "SELECT 'sync', 'connection_' || (g % " + CONNECTIONS + "), CAST(? AS jsonb), 'succeeded', "
+            + "now() - g * interval '1 second', now() - g * interval '1 second', now() - g * interval '1 second' "
+            + "FROM generate_series(1, ?) g",
+        Jsons.serialize(config), jobs));
+    jobDatabase.query(ctx -> ctx.execute(
+        "INSERT INTO attempts (job_id, attempt_number, log_path, status, created_at, updated_at, ended_at) "
+            + "SELECT id, 0, '/tmp/logs/' || id, 'succeeded', created_at, updated_at, updated_at FROM jobs"));
+    jobDatabase.query(ctx -> ctx.execute("VACUUM ANALYZE jobs"));
+    jobDatabase.query(ctx -> ctx.execute("VACUUM ANALYZE attempts"));
+    System.out.printf("seeded %d jobs in %d s%n", jobs, (System.currentTimeMillis() - start) / 1000);
+  }
+
+  private void measure(final String variant, final Listing listing) throws IOException {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      listing.list(randomScope());
+    }
+    statements.clear();
+
+    final List<Long> latencies = new ArrayList<>(ITERATIONS);
+    long bytes = 0;
+    for (int i = 0; i < ITERATIONS; i++) {
+      final long start = System.nanoTime();
+      final List<Job> jobs = listing.list(randomScope());
+      latencies.add(System.nanoTime() - start);
+      bytes += jobs.stream().map(job -> Jsons.serialize(job).length()).reduce(0, Integer::sum);
+    }
+
+    Collections.sort(latencies);
+    final Function<Long, Double> toMillis = nanos -> nanos / 1_000_000.0;
+    System.out.printf("%-22s %10.2f %10.2f %10.2f %12d %14d%n",
+        variant,
+        toMillis.apply(latencies.stream().reduce(0L, Long::sum) / ITERATIONS),
+        toMillis.apply(latencies.get(ITERATIONS / 2)),
+        toMillis.apply(latencies.get(ITERATIONS * 99 / 100)),
+        statements.size(),
+        bytes / ITERATIONS);
+  }
+
+  private String randomScope() {
+    return "connection_" + random.nextInt(CONNECTIONS);
+  }
+
+  @FunctionalInterface
+  private interface Listing {
+
+    List<Job> list(String scope) throws IOException;
+
+  }
+
+}
@@ -4,6 +4,9 @@
 
 package io.airbyte.persistence.job;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -32,14 +35,23 @@ import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.notification.NotificationClient;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
@@ -67,6 +79,8 @@ class JobNotifierTest {
   private NotificationClient notificationClient;
   private NotificationClient customerIoNotificationClient;
   private TrackingClient trackingClient;
+  private WorkspaceHelper workspaceHelper;
+  private ActorDefinitionVersionHelper actorDefinitionVersionHelper;
 
   private Job job;
   private StandardSourceDefinition sourceDefinition;
@@ -78,9 +92,9 @@ class JobNotifierTest {
     configRepository = mock(ConfigRepository.class);
     trackingClient = mock(TrackingClient.class);
 
-    ActorDefinitionVersionHelper actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
-    WorkspaceHelper workspaceHelper = mock(WorkspaceHelper.class);
-    jobNotifier = Mockito.spy(new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper));
+    actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
+    workspaceHelper = mock(WorkspaceHelper.class);
+    jobNotifier = Mockito.spy(new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, null));
     notificationClient = mock(NotificationClient.class);
     customerIoNotificationClient = mock(NotificationClient.class);
     when(jobNotifier.getNotificationClientsFromNotificationItem(slackNotificationItem())).thenReturn(List.of(notificationClient));
@@ -161,6 +175,42 @@ class JobNotifierTest {
     verify(notificationClient).notifyJobSuccess(any(), any());
   }
 
+  @Test
+  void testNotificationIsSentInTheBackground() throws Exception {
+    final CountDownLatch answer = new CountDownLatch(1);
+    final MockWebServer server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+
+      @Override
+      public MockResponse dispatch(final RecordedRequest request) throws InterruptedException {
+        answer.await();
+        return new MockResponse().setResponseCode(200);
+      }
+
+    });
+    server.start();
+    final NotificationDispatcher notificationDispatcher = new NotificationDispatcher(mock(MetricClient.class), 10, 1, 1, Duration.ofMillis(1), 1,
+        Duration.ofMillis(1), Duration.ofMillis(1));
+    try {
+      final StandardWorkspace workspace = getWorkspace();
+      workspace.getNotificationSettings().setSendOnFailure(new NotificationItem()
+          .withNotificationType(List.of(NotificationType.SLACK))
+          .withSlackConfiguration(new SlackNotificationConfiguration().withWebhook(server.url("/webhook").toString())));
+      when(configRepository.getStandardWorkspaceNoSecrets(WORKSPACE_ID, true)).thenReturn(workspace);
+      final JobNotifier backgroundJobNotifier =
+          new JobNotifier(webUrlHelper, configRepository, workspaceHelper, trackingClient, actorDefinitionVersionHelper, notificationDispatcher);
+
+      // the server holds the notification until the end of the test, so the notifier must not wait for it
+      assertTimeoutPreemptively(Duration.ofSeconds(10), () -> backgroundJobNotifier.failJob(job, List.of()));
+      assertNotNull(server.takeRequest(10, TimeUnit.SECONDS));
+      assertEquals(1, notificationDispatcher.queueDepth());
+    } finally {
+      answer.countDown();
+      notificationDispatcher.close();
+      server.shutdown();
+    }
+  }
+
   @Test
   void testSendOnSyncDisabledWarning()
       throws IOException, InterruptedException {
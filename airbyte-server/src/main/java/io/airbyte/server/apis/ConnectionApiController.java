@@ -26,8 +26,11 @@ import io.airbyte.api.model.generated.ConnectionEventsRequestBody;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.model.generated.ConnectionLastJobPerStreamReadItem;
 import io.airbyte.api.model.generated.ConnectionLastJobPerStreamRequestBody;
+import io.airbyte.api.model.generated.ConnectionNextRunSetRequestBody;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.ConnectionReadList;
+import io.airbyte.api.model.generated.ConnectionScheduleInfoReadList;
+import io.airbyte.api.model.generated.ConnectionScheduleInfoRequestBody;
 import io.airbyte.api.model.generated.ConnectionSearch;
 import io.airbyte.api.model.generated.ConnectionStatusRead;
 import io.airbyte.api.model.generated.ConnectionStatusesRequestBody;
@@ -61,10 +64,12 @@ import io.airbyte.commons.temporal.scheduling.RouterService;
 import io.airbyte.server.handlers.StreamStatusesHandler;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.Status;
+import io.micronaut.http.sse.Event;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.security.annotation.Secured;
 import io.micronaut.security.rules.SecurityRule;
@@ -73,6 +78,7 @@ import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 
 @Controller("/api/v1/connections")
 @Context
@@ -259,6 +265,26 @@ public class ConnectionApiController implements ConnectionApi {
     return ApiHelper.execute(() -> connectionsHandler.getConnectionStatuses(connectionStatusesRequestBody));
   }
 
+  @Override
+  @Post(uri = "/schedule_info/list")
+  @Secured({ADMIN})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  public ConnectionScheduleInfoReadList listConnectionScheduleInfos(@Body final ConnectionScheduleInfoRequestBody connectionScheduleInfoRequestBody) {
+    return ApiHelper.execute(() -> connectionsHandler.listConnectionScheduleInfos(connectionScheduleInfoRequestBody));
+  }
+
+  @Override
+  @Post(uri = "/next_run/set")
+  @Status(HttpStatus.NO_CONTENT)
+  @Secured({ADMIN})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  public void setConnectionNextRun(@Body final ConnectionNextRunSetRequestBody connectionNextRunSetRequestBody) {
+    ApiHelper.execute(() -> {
+      connectionsHandler.setConnectionNextRun(connectionNextRunSetRequestBody);
+      return null;
+    });
+  }
+
   @SuppressWarnings("LineLength")
   @Override
   @Post(uri = "/stream_history")
@@ -277,6 +303,18 @@ public class ConnectionApiController implements ConnectionApi {
     return ApiHelper.execute(() -> jobHistoryHandler.getConnectionSyncProgress(connectionIdRequestBody));
   }
 
+  /**
+   * Server-sent events variant of {@link #getConnectionSyncProgress}, for clients to subscribe to the
+   * progress of a sync rather than poll it. Not part of the generated api as the generated clients do
+   * not support event streams.
+   */
+  @Post(uri = "/sync_progress/stream",
+        produces = MediaType.TEXT_EVENT_STREAM)
+  @Secured({WORKSPACE_READER, ORGANIZATION_READER})
+  public Publisher<Event<ConnectionSyncProgressRead>> streamConnectionSyncProgress(@Body final ConnectionIdRequestBody connectionIdRequestBody) {
+    return jobHistoryHandler.streamConnectionSyncProgress(connectionIdRequestBody).map(Event::of);
+  }
+
   @SuppressWarnings("LineLength")
   @Override
   @Post(uri = "/history/uptime")
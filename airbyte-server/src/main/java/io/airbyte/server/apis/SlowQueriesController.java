@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.server.apis;
+
+import static io.airbyte.commons.auth.AuthRoleConstants.ADMIN;
+
+import io.airbyte.metrics.lib.SlowQueryLog;
+import io.airbyte.metrics.lib.SlowQueryLog.SlowQuery;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.annotation.Status;
+import io.micronaut.security.annotation.Secured;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reports the call sites that sent the slowest database queries to this server instance, for
+ * operators to find the queries to optimize. Not part of the generated api as it is not meant for
+ * the api clients.
+ */
+@Controller("/api/v1/database/slow_queries")
+@Secured(ADMIN)
+public class SlowQueriesController {
+
+  private final SlowQueryLog slowQueryLog;
+  private final int defaultReportSize;
+
+  public SlowQueriesController(final SlowQueryLog slowQueryLog,
+                               @Value("${airbyte.server.slow-queries.report-size}") final int defaultReportSize) {
+    this.slowQueryLog = slowQueryLog;
+    this.defaultReportSize = defaultReportSize;
+  }
+
+  @Get
+  public List<SlowQuery> listSlowQueries(@QueryValue final Optional<Integer> limit) {
+    return slowQueryLog.report(limit.orElse(defaultReportSize));
+  }
+
+  @Post(uri = "/reset")
+  @Status(HttpStatus.NO_CONTENT)
+  public void resetSlowQueries() {
+    slowQueryLog.clear();
+  }
+
+}
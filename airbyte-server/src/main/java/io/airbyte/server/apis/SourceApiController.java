@@ -14,6 +14,7 @@ import io.airbyte.api.generated.SourceApi;
 import io.airbyte.api.model.generated.ActorCatalogWithUpdatedAt;
 import io.airbyte.api.model.generated.CheckConnectionRead;
 import io.airbyte.api.model.generated.DiscoverCatalogResult;
+import io.airbyte.api.model.generated.DiscoverCatalogUnchangedResult;
 import io.airbyte.api.model.generated.ListResourcesForWorkspacesRequestBody;
 import io.airbyte.api.model.generated.PartialSourceUpdate;
 import io.airbyte.api.model.generated.SourceAutoPropagateChange;
@@ -21,6 +22,7 @@ import io.airbyte.api.model.generated.SourceCloneRequestBody;
 import io.airbyte.api.model.generated.SourceCreate;
 import io.airbyte.api.model.generated.SourceDiscoverSchemaRead;
 import io.airbyte.api.model.generated.SourceDiscoverSchemaRequestBody;
+import io.airbyte.api.model.generated.SourceDiscoverSchemaUnchangedWriteRequestBody;
 import io.airbyte.api.model.generated.SourceDiscoverSchemaWriteRequestBody;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
 import io.airbyte.api.model.generated.SourceRead;
@@ -188,4 +190,12 @@ public class SourceApiController implements SourceApi {
     return ApiHelper.execute(() -> sourceHandler.writeDiscoverCatalogResult(request));
   }
 
+  @Post("/write_discover_catalog_result_if_unchanged")
+  @Secured({AUTHENTICATED_USER})
+  @ExecuteOn(AirbyteTaskExecutors.IO)
+  @Override
+  public DiscoverCatalogUnchangedResult writeDiscoverCatalogResultIfUnchanged(@Body final SourceDiscoverSchemaUnchangedWriteRequestBody request) {
+    return ApiHelper.execute(() -> sourceHandler.writeDiscoverCatalogResultIfUnchanged(request));
+  }
+
 }
@@ -26,6 +26,7 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.MetricEmittingApps;
+import io.airbyte.notification.NotificationDispatcher;
 import io.airbyte.persistence.job.DefaultJobCreator;
 import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
@@ -50,6 +51,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -88,13 +90,15 @@ public class ApplicationBeanFactory {
                                  final TrackingClient trackingClient,
                                  final WebUrlHelper webUrlHelper,
                                  final WorkspaceHelper workspaceHelper,
-                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper) {
+                                 final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
+                                 final Optional<NotificationDispatcher> notificationDispatcher) {
     return new JobNotifier(
         webUrlHelper,
         configRepository,
         workspaceHelper,
         trackingClient,
-        actorDefinitionVersionHelper);
+        actorDefinitionVersionHelper,
+        notificationDispatcher.orElse(null));
   }
 
   @Singleton
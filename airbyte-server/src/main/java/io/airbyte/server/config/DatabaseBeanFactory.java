@@ -18,29 +18,40 @@ import io.airbyte.data.services.OperationService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
 import io.airbyte.db.Database;
+import io.airbyte.db.ReadReplica;
 import io.airbyte.db.check.DatabaseMigrationCheck;
 import io.airbyte.db.check.impl.JobsDatabaseAvailabilityCheck;
 import io.airbyte.db.factory.DSLContextFactory;
 import io.airbyte.db.factory.DatabaseCheckFactory;
+import io.airbyte.db.factory.DatabaseDriver;
 import io.airbyte.db.instance.DatabaseConstants;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.metrics.lib.QueryMetricsListener;
+import io.airbyte.metrics.lib.SlowQueryLog;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import io.airbyte.persistence.job.DefaultMetadataPersistence;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.MetadataPersistence;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
 import io.micronaut.flyway.FlywayConfigurationProperties;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DataSourceConnectionProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 
 /**
  * Micronaut bean factory for database-related singletons.
@@ -57,8 +68,42 @@ public class DatabaseBeanFactory {
 
   @Singleton
   @Named("configDatabase")
-  public Database configDatabase(@Named("config") final DSLContext dslContext) throws IOException {
-    return new Database(unwrapContext(dslContext));
+  public Database configDatabase(@Named("config") final DSLContext dslContext,
+                                 final QueryMetricsListener queryMetricsListener,
+                                 @Named("configReadReplica") final Optional<ReadReplica> readReplica)
+      throws IOException {
+    // the listener is added to the database rather than to the context, so that the checks and
+    // migrations are not instrumented
+    return new Database(instrument(unwrapContext(dslContext), queryMetricsListener), readReplica.orElse(null));
+  }
+
+  @Singleton
+  @Named("configReadReplica")
+  @Requires(property = "airbyte.server.read-replica.url",
+            pattern = ".+")
+  public ReadReplica configReadReplica(@Value("${airbyte.server.read-replica.url}") final String url,
+                                       @Value("${airbyte.server.read-replica.max-lag-ms}") final long maxLagMs,
+                                       @Value("${airbyte.server.read-replica.lag-check-interval-ms}") final long lagCheckIntervalMs,
+                                       @Value("${datasources.config.username}") final String username,
+                                       @Value("${datasources.config.password}") final String password,
+                                       final QueryMetricsListener queryMetricsListener,
+                                       final MetricClient metricClient) {
+    final DSLContext replicaDslContext =
+        DSLContextFactory.createReadOnly(username, password, DatabaseDriver.POSTGRESQL.getDriverClassName(), url, SQLDialect.POSTGRES, Map.of());
+    return new ReadReplica(instrument(replicaDslContext, queryMetricsListener),
+        Duration.ofMillis(maxLagMs),
+        Duration.ofMillis(lagCheckIntervalMs),
+        lag -> metricClient.gauge(OssMetricsRegistry.DATABASE_REPLICA_LAG_MS, lag.toMillis()));
+  }
+
+  @Singleton
+  public SlowQueryLog slowQueryLog(@Value("${airbyte.server.slow-queries.threshold-ms}") final long slowQueryThresholdMs) {
+    return new SlowQueryLog(slowQueryThresholdMs);
+  }
+
+  @Singleton
+  public QueryMetricsListener queryMetricsListener(final MetricClient metricClient, final SlowQueryLog slowQueryLog) {
+    return new QueryMetricsListener(metricClient, slowQueryLog);
   }
 
   @Singleton
@@ -184,6 +229,10 @@ public class DatabaseBeanFactory {
     return unwrapContext(dslContext);
   }
 
+  private static DSLContext instrument(final DSLContext dslContext, final QueryMetricsListener queryMetricsListener) {
+    return dslContext.configuration().derive(new DefaultExecuteListenerProvider(queryMetricsListener)).dsl();
+  }
+
   // Micronaut-data wraps the injected data sources with transactional semantics, which don't respect
   // our jooq operations and error out. If we inject an unwrapped one, it will be re-wrapped. So we
   // manually unwrap them.
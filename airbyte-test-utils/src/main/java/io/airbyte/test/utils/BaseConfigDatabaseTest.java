@@ -131,6 +131,7 @@ public class BaseConfigDatabaseTest {
               actor_oauth_parameter,
               auth_user,
               connection,
+              connection_next_run,
               connection_operation,
               connection_timeline_event,
               connector_builder_project,
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.helpers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import java.text.ParseException;
+import org.joda.time.DateTimeZone;
+import org.quartz.CronExpression;
+
+/**
+ * Cache of compiled cron expressions. Every connection manager workflow loop computes the next run
+ * of its connection from the cron expression of its schedule, which rarely changes, so the
+ * expressions are compiled once per expression and time zone rather than on every loop.
+ *
+ * <p>
+ * Cached expressions are shared between callers and must not be modified.
+ */
+@Singleton
+public class CronExpressionCache {
+
+  private record CronKey(String expression, String timeZone) {}
+
+  private final Cache<CronKey, CronExpression> cache;
+
+  public CronExpressionCache(@Value("${airbyte.worker.connection.cron-expression-cache-size:10000}") final long maxSize) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Get the compiled cron expression for an expression and a time zone.
+   *
+   * @param expression quartz cron expression
+   * @param timeZone time zone id the expression is evaluated in
+   * @return compiled cron expression
+   * @throws ParseException if the expression is invalid
+   */
+  public CronExpression get(final String expression, final String timeZone) throws ParseException {
+    final CronKey key = new CronKey(expression, timeZone);
+    final CronExpression cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    final CronExpression cronExpression = new CronExpression(expression);
+    cronExpression.setTimeZone(DateTimeZone.forID(timeZone).toTimeZone());
+    // racing callers compile the same expression, which is harmless
+    cache.put(key, cronExpression);
+    return cronExpression;
+  }
+
+}
@@ -29,6 +29,7 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.workers.exception.WorkerException;
 import io.airbyte.workers.models.CheckConnectionInput;
 import io.airbyte.workers.pod.Metadata;
+import io.airbyte.workers.serde.WorkloadInputStore;
 import io.airbyte.workers.sync.WorkloadClient;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest;
@@ -64,6 +65,7 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
   private final MetricClient metricClient;
   private final ActivityOptions activityOptions;
   private final LogClientManager logClientManager;
+  private final WorkloadInputStore workloadInputStore;
 
   public CheckConnectionActivityImpl(
                                      @Named("workspaceRoot") final Path workspaceRoot,
@@ -73,7 +75,8 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
                                      final WorkloadIdGenerator workloadIdGenerator,
                                      final MetricClient metricClient,
                                      @Named("checkActivityOptions") final ActivityOptions activityOptions,
-                                     final LogClientManager logClientManager) {
+                                     final LogClientManager logClientManager,
+                                     final WorkloadInputStore workloadInputStore) {
     this.workspaceRoot = workspaceRoot;
     this.airbyteApiClient = airbyteApiClient;
     this.workloadClient = workloadClient;
@@ -82,6 +85,7 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
     this.metricClient = metricClient;
     this.activityOptions = activityOptions;
     this.logClientManager = logClientManager;
+    this.workloadInputStore = workloadInputStore;
   }
 
   @Override
@@ -97,7 +101,7 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
     final String workloadId =
         workloadIdGenerator.generateCheckWorkloadId(input.getCheckConnectionInput().getActorContext().getActorDefinitionId(), jobId,
             attemptNumber);
-    final String serializedInput = Jsons.serialize(input);
+    final String serializedInput = workloadInputStore.store(Jsons.serialize(input));
 
     final UUID workspaceId = input.getCheckConnectionInput().getActorContext().getWorkspaceId();
     final Geography geo = getGeography(Optional.ofNullable(input.getLauncherConfig().getConnectionId()),
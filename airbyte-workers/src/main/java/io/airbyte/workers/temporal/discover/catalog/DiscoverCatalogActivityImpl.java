@@ -24,6 +24,7 @@ import io.airbyte.featureflag.Workspace;
 import io.airbyte.workers.exception.WorkerException;
 import io.airbyte.workers.models.DiscoverCatalogInput;
 import io.airbyte.workers.pod.Metadata;
+import io.airbyte.workers.serde.WorkloadInputStore;
 import io.airbyte.workers.sync.WorkloadClient;
 import io.airbyte.workers.workload.WorkloadIdGenerator;
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest;
@@ -59,6 +60,7 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
   private final WorkloadClient workloadClient;
   private final WorkloadIdGenerator workloadIdGenerator;
   private final LogClientManager logClientManager;
+  private final WorkloadInputStore workloadInputStore;
 
   public DiscoverCatalogActivityImpl(
                                      @Named("workspaceRoot") final Path workspaceRoot,
@@ -66,13 +68,15 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
                                      final FeatureFlagClient featureFlagClient,
                                      final WorkloadClient workloadClient,
                                      final WorkloadIdGenerator workloadIdGenerator,
-                                     final LogClientManager logClientManager) {
+                                     final LogClientManager logClientManager,
+                                     final WorkloadInputStore workloadInputStore) {
     this.workspaceRoot = workspaceRoot;
     this.airbyteApiClient = airbyteApiClient;
     this.featureFlagClient = featureFlagClient;
     this.workloadClient = workloadClient;
     this.workloadIdGenerator = workloadIdGenerator;
     this.logClientManager = logClientManager;
+    this.workloadInputStore = workloadInputStore;
   }
 
   @Trace(operationName = ACTIVITY_TRACE_OPERATION_NAME)
@@ -88,7 +92,7 @@ public class DiscoverCatalogActivityImpl implements DiscoverCatalogActivity {
             System.currentTimeMillis(),
             DISCOVER_CATALOG_SNAP_DURATION);
 
-    final String serializedInput = Jsons.serialize(input);
+    final String serializedInput = workloadInputStore.store(Jsons.serialize(input));
 
     final UUID workspaceId = input.getDiscoverCatalogInput().getActorContext().getWorkspaceId();
     final Geography geo = getGeography(Optional.ofNullable(input.getLauncherConfig().getConnectionId()),
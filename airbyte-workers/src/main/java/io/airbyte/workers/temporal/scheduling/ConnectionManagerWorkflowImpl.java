@@ -124,6 +124,9 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private static final String GET_FEATURE_FLAGS_TAG = "get_feature_flags";
   private static final int GET_FEATURE_FLAGS_CURRENT_VERSION = 1;
 
+  private static final String CONNECTION_SCHEDULER_BACKSTOP_TAG = "connection_scheduler_backstop";
+  private static final int CONNECTION_SCHEDULER_BACKSTOP_CURRENT_VERSION = 1;
+
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private GenerateInputActivity getSyncInputActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
@@ -255,18 +258,16 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
         runAppendToAttemptLogActivity(String.format("Retry State: %s", retryManager), LogLevel.INFO);
       }
 
-      final Duration timeTilScheduledRun = getTimeTilScheduledRun(connectionUpdaterInput.getConnectionId());
+      final ScheduleRetrieverOutput scheduledRun = getScheduledRun(connectionUpdaterInput.getConnectionId());
 
-      final Duration timeToWait;
       if (connectionUpdaterInput.isFromFailure()) {
         // note this can fail the job if the backoff is longer than scheduled time to wait
-        timeToWait = resolveBackoff();
+        final Duration timeToWait = resolveBackoff();
+        if (!timeToWait.isZero()) {
+          Workflow.await(timeToWait, this::shouldInterruptWaiting);
+        }
       } else {
-        timeToWait = timeTilScheduledRun;
-      }
-
-      if (!timeToWait.isZero()) {
-        Workflow.await(timeToWait, this::shouldInterruptWaiting);
+        waitForScheduledRun(scheduledRun, connectionUpdaterInput.getConnectionId());
       }
 
       workflowState.setDoneWaiting(true);
@@ -807,14 +808,29 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
    * <p>
    * Wait time is infinite If the workflow is manual or disabled since we never want to schedule this.
    */
-  private Duration getTimeTilScheduledRun(final UUID connectionId) {
+  private ScheduleRetrieverOutput getScheduledRun(final UUID connectionId) {
     // Scheduling
     final ScheduleRetrieverInput scheduleRetrieverInput = new ScheduleRetrieverInput(connectionId);
 
-    final ScheduleRetrieverOutput scheduleRetrieverOutput = runMandatoryActivityWithOutput(configFetchActivity::getTimeToWait,
-        scheduleRetrieverInput);
+    return runMandatoryActivityWithOutput(configFetchActivity::getTimeToWait, scheduleRetrieverInput);
+  }
 
-    return scheduleRetrieverOutput.getTimeToWait();
+  /**
+   * Wait for the next scheduled run. The runs of a connection handed over to the connection scheduler
+   * are triggered by its signal: the time to wait is then only a backstop, after which the schedule is
+   * checked again rather than a sync started.
+   */
+  private void waitForScheduledRun(final ScheduleRetrieverOutput scheduledRun, final UUID connectionId) {
+    ScheduleRetrieverOutput currentRun = scheduledRun;
+    while (!currentRun.getTimeToWait().isZero()) {
+      final boolean interrupted = Workflow.await(currentRun.getTimeToWait(), this::shouldInterruptWaiting);
+      if (interrupted || !currentRun.isScheduledByConnectionScheduler()
+          || Workflow.getVersion(CONNECTION_SCHEDULER_BACKSTOP_TAG, Workflow.DEFAULT_VERSION,
+              CONNECTION_SCHEDULER_BACKSTOP_CURRENT_VERSION) == Workflow.DEFAULT_VERSION) {
+        return;
+      }
+      currentRun = getScheduledRun(connectionId);
+    }
   }
 
   private void ensureCleanJobState(final ConnectionUpdaterInput connectionUpdaterInput) {
@@ -51,6 +51,15 @@ public interface ConfigFetchActivity {
   class ScheduleRetrieverOutput {
 
     private Duration timeToWait;
+    /**
+     * Whether the next run is triggered by the connection scheduler, in which case the time to wait is
+     * only a backstop and the workflow checks the schedule again once it expires.
+     */
+    private boolean scheduledByConnectionScheduler;
+
+    public ScheduleRetrieverOutput(final Duration timeToWait) {
+      this(timeToWait, false);
+    }
 
   }
 
@@ -12,11 +12,14 @@ import com.google.common.annotations.VisibleForTesting;
 import datadog.trace.api.Trace;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody;
+import io.airbyte.api.client.model.generated.ConnectionNextRunSetRequestBody;
 import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule.TimeUnit;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataCron;
+import io.airbyte.api.client.model.generated.ConnectionScheduleInfoRead;
+import io.airbyte.api.client.model.generated.ConnectionScheduleInfoRequestBody;
 import io.airbyte.api.client.model.generated.ConnectionScheduleType;
 import io.airbyte.api.client.model.generated.ConnectionStatus;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
@@ -28,9 +31,11 @@ import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.FieldSelectionWorkspaces.AddSchedulingJitter;
 import io.airbyte.featureflag.Multi;
+import io.airbyte.featureflag.UseConnectionScheduler;
 import io.airbyte.featureflag.UseNewCronScheduleCalculation;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.ApmTraceUtils;
+import io.airbyte.workers.helpers.CronExpressionCache;
 import io.airbyte.workers.helpers.CronSchedulingHelper;
 import io.airbyte.workers.helpers.ScheduleJitterHelper;
 import io.micronaut.context.annotation.Value;
@@ -46,11 +51,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TimeZone;
 import java.util.UUID;
 import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
-import org.joda.time.DateTimeZone;
 import org.openapitools.client.infrastructure.ClientException;
 import org.quartz.CronExpression;
 import org.slf4j.Logger;
@@ -73,24 +76,34 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
       // Prod
       UUID.fromString("226edbc1-4a9c-4401-95a9-90435d667d9d"));
   private static final long SCHEDULING_NOISE_CONSTANT = 15;
+  private static final Duration NO_SCHEDULED_RUN = Duration.ofDays(100 * 365);
+  /**
+   * Time the workflow of a connection handed over to the connection scheduler waits for its signal,
+   * whatever its schedule, before checking its schedule again in case the scheduler missed a run.
+   */
+  @VisibleForTesting
+  static final Duration CONNECTION_SCHEDULER_BACKSTOP = Duration.ofDays(1);
 
   private final AirbyteApiClient airbyteApiClient;
   private final Integer syncJobMaxAttempts;
   private final Supplier<Long> currentSecondsSupplier;
   private final FeatureFlagClient featureFlagClient;
   private final ScheduleJitterHelper scheduleJitterHelper;
+  private final CronExpressionCache cronExpressionCache;
 
   @VisibleForTesting
   protected ConfigFetchActivityImpl(final AirbyteApiClient airbyteApiClient,
                                     @Value("${airbyte.worker.sync.max-attempts}") final Integer syncJobMaxAttempts,
                                     @Named("currentSecondsSupplier") final Supplier<Long> currentSecondsSupplier,
                                     final FeatureFlagClient featureFlagClient,
-                                    final ScheduleJitterHelper scheduleJitterHelper) {
+                                    final ScheduleJitterHelper scheduleJitterHelper,
+                                    final CronExpressionCache cronExpressionCache) {
     this.airbyteApiClient = airbyteApiClient;
     this.syncJobMaxAttempts = syncJobMaxAttempts;
     this.currentSecondsSupplier = currentSecondsSupplier;
     this.featureFlagClient = featureFlagClient;
     this.scheduleJitterHelper = scheduleJitterHelper;
+    this.cronExpressionCache = cronExpressionCache;
   }
 
   @Trace(operationName = ACTIVITY_TRACE_OPERATION_NAME)
@@ -98,15 +111,14 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   public ScheduleRetrieverOutput getTimeToWait(final ScheduleRetrieverInput input) {
     try {
       ApmTraceUtils.addTagsToTrace(Map.of(CONNECTION_ID_KEY, input.getConnectionId()));
-      final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody(input.getConnectionId());
-      final ConnectionRead connectionRead = airbyteApiClient.getConnectionApi().getConnection(connectionIdRequestBody);
-      final UUID workspaceId = airbyteApiClient.getWorkspaceApi().getWorkspaceByConnectionId(connectionIdRequestBody).getWorkspaceId();
-      final Duration timeToWait = connectionRead.getScheduleType() != null
-          ? getTimeToWaitFromScheduleType(connectionRead, input.getConnectionId(), workspaceId)
-          : getTimeToWaitFromLegacy(connectionRead, input.getConnectionId());
+      final ConnectionScheduleInfoRead scheduleInfo = getScheduleInfo(input.getConnectionId());
+      final UUID workspaceId = scheduleInfo.getWorkspaceId();
+      final Duration timeToWait = scheduleInfo.getScheduleType() != null
+          ? getTimeToWaitFromScheduleType(scheduleInfo, input.getConnectionId(), workspaceId)
+          : getTimeToWaitFromLegacy(scheduleInfo, input.getConnectionId());
       final Duration timeToWaitWithSchedulingJitter =
-          applyJitterRules(timeToWait, input.getConnectionId(), connectionRead.getScheduleType(), workspaceId);
-      return new ScheduleRetrieverOutput(timeToWaitWithSchedulingJitter);
+          applyJitterRules(timeToWait, input.getConnectionId(), scheduleInfo.getScheduleType(), workspaceId);
+      return handOverToConnectionScheduler(timeToWaitWithSchedulingJitter, input.getConnectionId(), workspaceId);
     } catch (final ClientException e) {
       if (e.getStatusCode() == HttpStatus.NOT_FOUND.getCode()) {
         throw e;
@@ -117,6 +129,55 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
     }
   }
 
+  /**
+   * Get the schedule of a connection. Only the schedule is fetched, rather than the whole connection
+   * with its catalog, since this runs on every loop of every connection manager workflow.
+   *
+   * @param connectionId connection id
+   * @return schedule of the connection
+   * @throws IOException exception while interacting with the server
+   */
+  private ConnectionScheduleInfoRead getScheduleInfo(final UUID connectionId) throws IOException {
+    return airbyteApiClient.getConnectionApi()
+        .listConnectionScheduleInfos(new ConnectionScheduleInfoRequestBody(List.of(connectionId)))
+        .getScheduleInfos()
+        .stream()
+        .filter(scheduleInfo -> connectionId.equals(scheduleInfo.getConnectionId()))
+        .findFirst()
+        // keep the behavior of the connection read, which fails with a not found error for unknown connections
+        .orElseThrow(() -> new ClientException("Connection " + connectionId + " not found.", HttpStatus.NOT_FOUND.getCode(), null));
+  }
+
+  /**
+   * Record the next run of the connection for the connection scheduler if it is enabled for the
+   * connection. The scheduler signals the workflow when the run is due, so the workflow does not fire
+   * a timer at the time of the run: it only waits for the signal, up to a long backstop.
+   *
+   * @param timeToWait time until the next run of the connection
+   * @param connectionId connection id
+   * @param workspaceId workspace of the connection
+   * @return time for the workflow to wait
+   * @throws IOException exception while interacting with the server
+   */
+  private ScheduleRetrieverOutput handOverToConnectionScheduler(final Duration timeToWait, final UUID connectionId, final UUID workspaceId)
+      throws IOException {
+    if (!featureFlagClient.boolVariation(UseConnectionScheduler.INSTANCE, new Multi(List.of(
+        new Workspace(workspaceId),
+        new Connection(connectionId))))) {
+      return new ScheduleRetrieverOutput(timeToWait);
+    }
+
+    if (timeToWait.isZero() || timeToWait.compareTo(NO_SCHEDULED_RUN) >= 0) {
+      // the connection runs right away or has no scheduled run, there is nothing for the scheduler to trigger
+      airbyteApiClient.getConnectionApi().setConnectionNextRun(new ConnectionNextRunSetRequestBody(connectionId, null));
+      return new ScheduleRetrieverOutput(timeToWait);
+    }
+
+    airbyteApiClient.getConnectionApi().setConnectionNextRun(
+        new ConnectionNextRunSetRequestBody(connectionId, currentSecondsSupplier.get() + timeToWait.getSeconds()));
+    return new ScheduleRetrieverOutput(CONNECTION_SCHEDULER_BACKSTOP, true);
+  }
+
   private Duration applyJitterRules(final Duration timeToWait,
                                     final UUID connectionId,
                                     final ConnectionScheduleType scheduleType,
@@ -134,38 +195,36 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
    * Get time to wait from new schedule. This method consumes the `scheduleType` and `scheduleData`
    * fields.
    *
-   * @param connectionRead connection read
+   * @param scheduleInfo connection schedule
    * @param connectionId connection id
    * @return time to wait
    * @throws IOException exception while interacting with db
    */
-  private Duration getTimeToWaitFromScheduleType(final ConnectionRead connectionRead, final UUID connectionId, final UUID workspaceId)
+  private Duration getTimeToWaitFromScheduleType(final ConnectionScheduleInfoRead scheduleInfo, final UUID connectionId, final UUID workspaceId)
       throws IOException {
-    if (connectionRead.getScheduleType() == ConnectionScheduleType.MANUAL || connectionRead.getStatus() != ConnectionStatus.ACTIVE) {
+    if (scheduleInfo.getScheduleType() == ConnectionScheduleType.MANUAL || scheduleInfo.getStatus() != ConnectionStatus.ACTIVE) {
       // Manual syncs wait for their first run
-      return Duration.ofDays(100 * 365);
+      return NO_SCHEDULED_RUN;
     }
 
     final JobOptionalRead previousJobOptional =
         airbyteApiClient.getJobsApi().getLastReplicationJob(new ConnectionIdRequestBody(connectionId));
 
-    if (connectionRead.getScheduleType() == ConnectionScheduleType.BASIC) {
+    if (scheduleInfo.getScheduleType() == ConnectionScheduleType.BASIC) {
       if (previousJobOptional.getJob() == null) {
         // Basic schedules don't wait for their first run.
         return Duration.ZERO;
       }
       final long prevRunStart = previousJobOptional.getJob().getStartedAt() != null ? previousJobOptional.getJob().getStartedAt()
           : previousJobOptional.getJob().getCreatedAt();
-      final long nextRunStart = prevRunStart + getIntervalInSecond(connectionRead.getScheduleData().getBasicSchedule());
+      final long nextRunStart = prevRunStart + getIntervalInSecond(scheduleInfo.getScheduleData().getBasicSchedule());
       final Duration timeToWait = Duration.ofSeconds(
           Math.max(0, nextRunStart - currentSecondsSupplier.get()));
       return timeToWait;
-    } else { // connectionRead.getScheduleType() == ConnectionScheduleType.CRON
-      final ConnectionScheduleDataCron scheduleCron = connectionRead.getScheduleData().getCron();
-      final TimeZone timeZone = DateTimeZone.forID(scheduleCron.getCronTimeZone()).toTimeZone();
+    } else { // scheduleInfo.getScheduleType() == ConnectionScheduleType.CRON
+      final ConnectionScheduleDataCron scheduleCron = scheduleInfo.getScheduleData().getCron();
       try {
-        final CronExpression cronExpression = new CronExpression(scheduleCron.getCronExpression());
-        cronExpression.setTimeZone(timeZone);
+        final CronExpression cronExpression = cronExpressionCache.get(scheduleCron.getCronExpression(), scheduleCron.getCronTimeZone());
         if (featureFlagClient.boolVariation(UseNewCronScheduleCalculation.INSTANCE, new Multi(List.of(
             new Workspace(workspaceId),
             new Connection(connectionId))))) {
@@ -213,22 +272,22 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
   /**
    * Get wait time from legacy schedule. This method consumes the `schedule` field.
    *
-   * @param connectionRead connection read
+   * @param scheduleInfo connection schedule
    * @param connectionId connection id
    * @return time to wait
    * @throws IOException exception when interacting with the db
    */
-  private Duration getTimeToWaitFromLegacy(final ConnectionRead connectionRead, final UUID connectionId)
+  private Duration getTimeToWaitFromLegacy(final ConnectionScheduleInfoRead scheduleInfo, final UUID connectionId)
       throws IOException {
-    if (connectionRead.getSchedule() == null || connectionRead.getStatus() != ConnectionStatus.ACTIVE) {
+    if (scheduleInfo.getSchedule() == null || scheduleInfo.getStatus() != ConnectionStatus.ACTIVE) {
       // Manual syncs wait for their first run
-      return Duration.ofDays(100 * 365);
+      return NO_SCHEDULED_RUN;
     }
 
     final JobOptionalRead previousJobOptional =
         airbyteApiClient.getJobsApi().getLastReplicationJob(new ConnectionIdRequestBody(connectionId));
 
-    if (previousJobOptional.getJob() == null && connectionRead.getSchedule() != null) {
+    if (previousJobOptional.getJob() == null && scheduleInfo.getSchedule() != null) {
       // Non-manual syncs don't wait for their first run
       return Duration.ZERO;
     }
@@ -236,7 +295,7 @@ public class ConfigFetchActivityImpl implements ConfigFetchActivity {
     final JobRead previousJob = previousJobOptional.getJob();
     final long prevRunStart = previousJob.getStartedAt() != null ? previousJob.getStartedAt() : previousJob.getCreatedAt();
 
-    final long nextRunStart = prevRunStart + getIntervalInSecond(connectionRead.getSchedule());
+    final long nextRunStart = prevRunStart + getIntervalInSecond(scheduleInfo.getSchedule());
 
     return Duration.ofSeconds(
         Math.max(0, nextRunStart - currentSecondsSupplier.get()));
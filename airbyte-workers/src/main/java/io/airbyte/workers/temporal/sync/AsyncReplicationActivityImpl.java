@@ -40,6 +40,7 @@ import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.workers.ReplicationInputHydrator;
 import io.airbyte.workers.helper.ResumableFullRefreshStatsHelper;
 import io.airbyte.workers.models.ReplicationActivityInput;
+import io.airbyte.workers.serde.WorkloadInputStore;
 import io.airbyte.workers.storage.activities.OutputStorageClient;
 import io.airbyte.workers.sync.WorkloadApiWorker;
 import io.airbyte.workers.sync.WorkloadClient;
@@ -82,6 +83,7 @@ public class AsyncReplicationActivityImpl implements AsyncReplicationActivity {
   private final OutputStorageClient<State> stateStorageClient;
   private final OutputStorageClient<ConfiguredAirbyteCatalog> catalogStorageClient;
   private final LogClientManager logClientManager;
+  private final WorkloadInputStore workloadInputStore;
 
   public AsyncReplicationActivityImpl(final SecretsRepositoryReader secretsRepositoryReader,
                                       @Named("workspaceRoot") final Path workspaceRoot,
@@ -97,7 +99,8 @@ public class AsyncReplicationActivityImpl implements AsyncReplicationActivity {
                                       @Named("outputStateClient") final OutputStorageClient<State> stateStorageClient,
                                       @Named("outputCatalogClient") final OutputStorageClient<ConfiguredAirbyteCatalog> catalogStorageClient,
                                       final ResumableFullRefreshStatsHelper resumableFullRefreshStatsHelper,
-                                      final LogClientManager logClientManager) {
+                                      final LogClientManager logClientManager,
+                                      final WorkloadInputStore workloadInputStore) {
     this.replicationInputHydrator = new ReplicationInputHydrator(airbyteApiClient, resumableFullRefreshStatsHelper, secretsRepositoryReader,
         featureFlagClient);
     this.workspaceRoot = workspaceRoot;
@@ -113,6 +116,7 @@ public class AsyncReplicationActivityImpl implements AsyncReplicationActivity {
     this.stateStorageClient = stateStorageClient;
     this.catalogStorageClient = catalogStorageClient;
     this.logClientManager = logClientManager;
+    this.workloadInputStore = workloadInputStore;
   }
 
   @VisibleForTesting
@@ -129,7 +133,8 @@ public class AsyncReplicationActivityImpl implements AsyncReplicationActivity {
                                final PayloadChecker payloadChecker,
                                @Named("outputStateClient") final OutputStorageClient<State> stateStorageClient,
                                @Named("outputCatalogClient") final OutputStorageClient<ConfiguredAirbyteCatalog> catalogStorageClient,
-                               final LogClientManager logClientManager) {
+                               final LogClientManager logClientManager,
+                               final WorkloadInputStore workloadInputStore) {
     this.replicationInputHydrator = replicationInputHydrator;
     this.workspaceRoot = workspaceRoot;
     this.airbyteVersion = airbyteVersion;
@@ -144,6 +149,7 @@ public class AsyncReplicationActivityImpl implements AsyncReplicationActivity {
     this.stateStorageClient = stateStorageClient;
     this.catalogStorageClient = catalogStorageClient;
     this.logClientManager = logClientManager;
+    this.workloadInputStore = workloadInputStore;
   }
 
   record TracingContext(UUID connectionId, String jobId, Long attemptNumber, Map<String, Object> traceAttributes) {}
@@ -278,7 +284,8 @@ public class AsyncReplicationActivityImpl implements AsyncReplicationActivity {
 
     replicationInput = replicationInputHydrator.mapActivityInputToReplInput(replicationActivityInput);
     worker = new WorkloadApiWorker(jobOutputDocStore, airbyteApiClient,
-        workloadApiClient, workloadClient, workloadIdGenerator, replicationActivityInput, featureFlagClient, logClientManager);
+        workloadApiClient, workloadClient, workloadIdGenerator, replicationActivityInput, featureFlagClient, logClientManager,
+        workloadInputStore);
 
     return new WorkerAndReplicationInput(worker, replicationInput);
   }
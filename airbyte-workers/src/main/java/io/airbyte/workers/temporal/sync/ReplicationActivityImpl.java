@@ -39,6 +39,7 @@ import io.airbyte.workers.ReplicationInputHydrator;
 import io.airbyte.workers.general.ReplicationWorker;
 import io.airbyte.workers.helper.ResumableFullRefreshStatsHelper;
 import io.airbyte.workers.models.ReplicationActivityInput;
+import io.airbyte.workers.serde.WorkloadInputStore;
 import io.airbyte.workers.storage.activities.OutputStorageClient;
 import io.airbyte.workers.sync.WorkloadApiWorker;
 import io.airbyte.workers.sync.WorkloadClient;
@@ -84,6 +85,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
   private final OutputStorageClient<State> stateStorageClient;
   private final OutputStorageClient<ConfiguredAirbyteCatalog> catalogStorageClient;
   private final LogClientManager logClientManager;
+  private final WorkloadInputStore workloadInputStore;
 
   public ReplicationActivityImpl(final SecretsRepositoryReader secretsRepositoryReader,
                                  @Named("workspaceRoot") final Path workspaceRoot,
@@ -99,7 +101,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                                  @Named("outputStateClient") final OutputStorageClient<State> stateStorageClient,
                                  @Named("outputCatalogClient") final OutputStorageClient<ConfiguredAirbyteCatalog> catalogStorageClient,
                                  final ResumableFullRefreshStatsHelper resumableFullRefreshStatsHelper,
-                                 final LogClientManager logClientManager) {
+                                 final LogClientManager logClientManager,
+                                 final WorkloadInputStore workloadInputStore) {
     this.replicationInputHydrator = new ReplicationInputHydrator(airbyteApiClient, resumableFullRefreshStatsHelper, secretsRepositoryReader,
         featureFlagClient);
     this.workspaceRoot = workspaceRoot;
@@ -115,6 +118,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     this.stateStorageClient = stateStorageClient;
     this.catalogStorageClient = catalogStorageClient;
     this.logClientManager = logClientManager;
+    this.workloadInputStore = workloadInputStore;
   }
 
   @VisibleForTesting
@@ -131,7 +135,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                           final PayloadChecker payloadChecker,
                           @Named("outputStateClient") final OutputStorageClient<State> stateStorageClient,
                           @Named("outputCatalogClient") final OutputStorageClient<ConfiguredAirbyteCatalog> catalogStorageClient,
-                          final LogClientManager logClientManager) {
+                          final LogClientManager logClientManager,
+                          final WorkloadInputStore workloadInputStore) {
     this.replicationInputHydrator = replicationInputHydrator;
     this.workspaceRoot = workspaceRoot;
     this.airbyteVersion = airbyteVersion;
@@ -146,6 +151,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     this.stateStorageClient = stateStorageClient;
     this.catalogStorageClient = catalogStorageClient;
     this.logClientManager = logClientManager;
+    this.workloadInputStore = workloadInputStore;
   }
 
   record TracingContext(UUID connectionId, String jobId, Long attemptNumber, Map<String, Object> traceAttributes) {}
@@ -246,7 +252,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
 
     replicationInput = replicationInputHydrator.mapActivityInputToReplInput(replicationActivityInput);
     worker = new WorkloadApiWorker(jobOutputDocStore, airbyteApiClient,
-        workloadApiClient, workloadClient, workloadIdGenerator, replicationActivityInput, featureFlagClient, logClientManager);
+        workloadApiClient, workloadClient, workloadIdGenerator, replicationActivityInput, featureFlagClient, logClientManager,
+        workloadInputStore);
 
     return new WorkerAndReplicationInput(worker, replicationInput);
   }
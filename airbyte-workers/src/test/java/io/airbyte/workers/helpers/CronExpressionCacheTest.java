@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.helpers;
+
+import java.text.ParseException;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronExpression;
+
+class CronExpressionCacheTest {
+
+  private static final String EVERY_DAY_AT_NOON = "0 0 12 * * ?";
+
+  private final CronExpressionCache cronExpressionCache = new CronExpressionCache(10);
+
+  @Test
+  void testCompilesWithTimeZone() throws ParseException {
+    final CronExpression cronExpression = cronExpressionCache.get(EVERY_DAY_AT_NOON, "America/Los_Angeles");
+
+    Assertions.assertEquals(EVERY_DAY_AT_NOON, cronExpression.getCronExpression());
+    Assertions.assertEquals(TimeZone.getTimeZone("America/Los_Angeles"), cronExpression.getTimeZone());
+  }
+
+  @Test
+  void testReusesCompiledExpression() throws ParseException {
+    final CronExpression cronExpression = cronExpressionCache.get(EVERY_DAY_AT_NOON, "UTC");
+
+    Assertions.assertSame(cronExpression, cronExpressionCache.get(EVERY_DAY_AT_NOON, "UTC"));
+    Assertions.assertNotSame(cronExpression, cronExpressionCache.get(EVERY_DAY_AT_NOON, "Europe/Paris"));
+  }
+
+  @Test
+  void testInvalidExpression() {
+    Assertions.assertThrows(ParseException.class, () -> cronExpressionCache.get("not a cron", "UTC"));
+  }
+
+}
@@ -1646,6 +1646,46 @@ class ConnectionManagerWorkflowTest {
           .hasSizeGreaterThan(0);
     }
 
+    @Test
+    @Timeout(value = 10,
+             unit = TimeUnit.SECONDS)
+    @DisplayName("Checks the schedule again rather than running when the connection scheduler backstop expires.")
+    void checksScheduleAgainAfterConnectionSchedulerBackstop() throws Exception {
+      final var backstop = Duration.ofHours(1);
+      when(mConfigFetchActivity.getTimeToWait(Mockito.any()))
+          .thenReturn(new ScheduleRetrieverOutput(backstop, true))
+          .thenReturn(new ScheduleRetrieverOutput(backstop, true))
+          .thenReturn(new ScheduleRetrieverOutput(Duration.ZERO));
+
+      when(mRetryStatePersistenceActivity.hydrateRetryState(Mockito.any()))
+          .thenReturn(new HydrateOutput(null));
+
+      final TestStateListener testStateListener = new TestStateListener();
+      final var testId = UUID.randomUUID();
+      final WorkflowState workflowState = new WorkflowState(testId, testStateListener);
+
+      final var input = testInputBuilder()
+          .workflowState(workflowState)
+          .build();
+
+      setupSuccessfulWorkflow(input);
+
+      testEnv.sleep(backstop.plus(Duration.ofSeconds(5)));
+
+      final Queue<ChangedStateEvent> events = testStateListener.events(testId);
+
+      Assertions.assertThat(events)
+          .filteredOn(changedStateEvent -> changedStateEvent.getField() == StateField.DONE_WAITING && changedStateEvent.isValue())
+          .hasSize(0);
+      Mockito.verify(mConfigFetchActivity, Mockito.times(2)).getTimeToWait(Mockito.any());
+
+      testEnv.sleep(backstop);
+
+      Assertions.assertThat(events)
+          .filteredOn(changedStateEvent -> changedStateEvent.getField() == StateField.DONE_WAITING && changedStateEvent.isValue())
+          .hasSizeGreaterThan(0);
+    }
+
     @ParameterizedTest
     @Timeout(value = 10,
              unit = TimeUnit.SECONDS)
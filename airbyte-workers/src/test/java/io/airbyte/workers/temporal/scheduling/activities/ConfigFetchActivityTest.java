@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.temporal.scheduling.activities;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -11,24 +12,26 @@ import static org.mockito.Mockito.when;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.generated.ConnectionApi;
 import io.airbyte.api.client.generated.JobsApi;
-import io.airbyte.api.client.generated.WorkspaceApi;
-import io.airbyte.api.client.model.generated.AirbyteCatalog;
-import io.airbyte.api.client.model.generated.ConnectionRead;
+import io.airbyte.api.client.model.generated.ConnectionNextRunSetRequestBody;
 import io.airbyte.api.client.model.generated.ConnectionSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleData;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataBasicSchedule;
 import io.airbyte.api.client.model.generated.ConnectionScheduleDataCron;
+import io.airbyte.api.client.model.generated.ConnectionScheduleInfoRead;
+import io.airbyte.api.client.model.generated.ConnectionScheduleInfoReadList;
 import io.airbyte.api.client.model.generated.ConnectionScheduleType;
 import io.airbyte.api.client.model.generated.ConnectionStatus;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
 import io.airbyte.api.client.model.generated.JobRead;
-import io.airbyte.api.client.model.generated.WorkspaceRead;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
+import io.airbyte.featureflag.UseConnectionScheduler;
 import io.airbyte.featureflag.UseNewCronScheduleCalculation;
+import io.airbyte.workers.helpers.CronExpressionCache;
 import io.airbyte.workers.helpers.ScheduleJitterHelper;
 import io.airbyte.workers.temporal.scheduling.activities.ConfigFetchActivity.ScheduleRetrieverInput;
 import io.airbyte.workers.temporal.scheduling.activities.ConfigFetchActivity.ScheduleRetrieverOutput;
+import io.micronaut.http.HttpStatus;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
@@ -46,14 +49,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.client.infrastructure.ClientException;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigFetchActivityTest {
 
   private static final UUID CONNECTION_ID = UUID.randomUUID();
-  private static final String CONNECTION_NAME = "connection-name";
-  private static final UUID SOURCE_ID = UUID.randomUUID();
-  private static final UUID DESTINATION_ID = UUID.randomUUID();
+  private static final UUID WORKSPACE_ID = UUID.randomUUID();
 
   private static final Integer SYNC_JOB_MAX_ATTEMPTS = 3;
 
@@ -63,9 +65,6 @@ class ConfigFetchActivityTest {
   @Mock
   private JobsApi mJobsApi;
 
-  @Mock
-  private WorkspaceApi mWorkspaceApi;
-
   @Mock
   private JobRead mJobRead;
 
@@ -77,41 +76,39 @@ class ConfigFetchActivityTest {
 
   private FeatureFlagClient mFeatureFlagClient;
 
+  private final CronExpressionCache cronExpressionCache = new CronExpressionCache(100);
+
   private ConfigFetchActivityImpl configFetchActivity;
 
   private final Supplier<Long> currentSecondsSupplier = () -> Instant.now().getEpochSecond();
 
-  private static final ConnectionRead connectionReadWithLegacySchedule = new ConnectionRead(
-      CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, new AirbyteCatalog(List.of()), ConnectionStatus.ACTIVE, false, null, null, null,
-      null, new ConnectionSchedule(5L, ConnectionSchedule.TimeUnit.MINUTES), null, null, null, null, null, null, null, null, null, null, null);
+  private static final ConnectionScheduleInfoRead scheduleInfoWithLegacySchedule = new ConnectionScheduleInfoRead(
+      CONNECTION_ID, WORKSPACE_ID, ConnectionStatus.ACTIVE, new ConnectionSchedule(5L, ConnectionSchedule.TimeUnit.MINUTES), null, null);
 
-  private static final ConnectionRead connectionReadWithManualScheduleType = new ConnectionRead(
-      CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, new AirbyteCatalog(List.of()), ConnectionStatus.ACTIVE, false, null, null, null,
-      null, null, ConnectionScheduleType.MANUAL, null, null, null, null, null, null, null, null, null, null);
+  private static final ConnectionScheduleInfoRead scheduleInfoWithManualScheduleType = new ConnectionScheduleInfoRead(
+      CONNECTION_ID, WORKSPACE_ID, ConnectionStatus.ACTIVE, null, ConnectionScheduleType.MANUAL, null);
 
-  private static final ConnectionRead connectionReadWithBasicScheduleType = new ConnectionRead(
-      CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, new AirbyteCatalog(List.of()), ConnectionStatus.ACTIVE, false, null, null, null,
-      null, null, ConnectionScheduleType.BASIC,
-      new ConnectionScheduleData(new ConnectionScheduleDataBasicSchedule(ConnectionScheduleDataBasicSchedule.TimeUnit.MINUTES, 5L), null), null, null,
-      null, null, null, null, null, null, null);
+  private static final ConnectionScheduleInfoRead scheduleInfoWithBasicScheduleType = new ConnectionScheduleInfoRead(
+      CONNECTION_ID, WORKSPACE_ID, ConnectionStatus.ACTIVE, null, ConnectionScheduleType.BASIC,
+      new ConnectionScheduleData(new ConnectionScheduleDataBasicSchedule(ConnectionScheduleDataBasicSchedule.TimeUnit.MINUTES, 5L), null));
 
   public static final String UTC = "UTC";
-  private static final ConnectionRead connectionReadWithCronScheduleType = new ConnectionRead(
-      CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, new AirbyteCatalog(List.of()), ConnectionStatus.ACTIVE, false, null, null, null,
-      null, null, ConnectionScheduleType.CRON, new ConnectionScheduleData(null, new ConnectionScheduleDataCron("0 0 12 * * ?", UTC)), null, null,
-      null, null, null, null, null, null, null);
+  private static final ConnectionScheduleData cronScheduleData = new ConnectionScheduleData(null, new ConnectionScheduleDataCron("0 0 12 * * ?", UTC));
+  private static final ConnectionScheduleInfoRead scheduleInfoWithCronScheduleType = new ConnectionScheduleInfoRead(
+      CONNECTION_ID, WORKSPACE_ID, ConnectionStatus.ACTIVE, null, ConnectionScheduleType.CRON, cronScheduleData);
 
-  private static final ConnectionRead connectionReadWithScheduleDisable = new ConnectionRead(
-      CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, new AirbyteCatalog(List.of()), ConnectionStatus.INACTIVE, false, null, null, null,
-      null, new ConnectionSchedule(5L, ConnectionSchedule.TimeUnit.MINUTES), null, null, null, null, null, null, null, null, null, null, null);
+  private static final ConnectionScheduleInfoRead scheduleInfoWithScheduleDisable = new ConnectionScheduleInfoRead(
+      CONNECTION_ID, WORKSPACE_ID, ConnectionStatus.INACTIVE, new ConnectionSchedule(5L, ConnectionSchedule.TimeUnit.MINUTES), null, null);
 
-  private static final ConnectionRead connectionReadWithScheduleDeleted = new ConnectionRead(
-      CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, new AirbyteCatalog(List.of()), ConnectionStatus.DEPRECATED, false, null, null, null,
-      null, new ConnectionSchedule(5L, ConnectionSchedule.TimeUnit.MINUTES), null, null, null, null, null, null, null, null, null, null, null);
+  private static final ConnectionScheduleInfoRead scheduleInfoWithScheduleDeleted = new ConnectionScheduleInfoRead(
+      CONNECTION_ID, WORKSPACE_ID, ConnectionStatus.DEPRECATED, new ConnectionSchedule(5L, ConnectionSchedule.TimeUnit.MINUTES), null, null);
 
-  private static final ConnectionRead connectionReadWithoutSchedule = new ConnectionRead(
-      CONNECTION_ID, CONNECTION_NAME, SOURCE_ID, DESTINATION_ID, new AirbyteCatalog(List.of()), ConnectionStatus.DEPRECATED, false, null, null, null,
-      null, null, null, null, null, null, null, null, null, null, null, null, null);
+  private static final ConnectionScheduleInfoRead scheduleInfoWithoutSchedule = new ConnectionScheduleInfoRead(
+      CONNECTION_ID, WORKSPACE_ID, ConnectionStatus.DEPRECATED, null, null, null);
+
+  private static ConnectionScheduleInfoReadList scheduleInfos(final ConnectionScheduleInfoRead... scheduleInfos) {
+    return new ConnectionScheduleInfoReadList(List.of(scheduleInfos));
+  }
 
   @BeforeEach
   void setup() {
@@ -121,21 +118,14 @@ class ConfigFetchActivityTest {
   @Nested
   class TimeToWaitTest {
 
-    @BeforeEach
-    void setup() throws IOException {
-      when(mWorkspaceApi.getWorkspaceByConnectionId(any())).thenReturn(new WorkspaceRead(UUID.randomUUID(), UUID.randomUUID(), "name", "slug", false,
-          UUID.randomUUID(), null, null, null, null, null, null, null, null, null, null, null, null));
-    }
-
     @Nested
     class TestNotCron {
 
       @BeforeEach
       void setup() {
         when(mAirbyteApiClient.getConnectionApi()).thenReturn(mConnectionApi);
-        when(mAirbyteApiClient.getWorkspaceApi()).thenReturn(mWorkspaceApi);
         configFetchActivity = new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS, currentSecondsSupplier,
-            mFeatureFlagClient, mScheduleJitterHelper);
+            mFeatureFlagClient, mScheduleJitterHelper, cronExpressionCache);
       }
 
       @Test
@@ -145,8 +135,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead());
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithLegacySchedule);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithLegacySchedule));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -159,8 +149,8 @@ class ConfigFetchActivityTest {
       @Test
       @DisplayName("Test that the job will wait for a long time if it is manual in the legacy schedule schema")
       void testManual() throws IOException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithoutSchedule);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithoutSchedule));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -173,8 +163,8 @@ class ConfigFetchActivityTest {
       @Test
       @DisplayName("Test that the job will wait for a long time if it is disabled")
       void testDisable() throws IOException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithScheduleDisable);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithScheduleDisable));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -187,8 +177,8 @@ class ConfigFetchActivityTest {
       @Test
       @DisplayName("Test that the connection will wait for a long time if it is deleted")
       void testDeleted() throws IOException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithScheduleDeleted);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithScheduleDeleted));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -204,7 +194,7 @@ class ConfigFetchActivityTest {
         when(mAirbyteApiClient.getJobsApi()).thenReturn(mJobsApi);
         configFetchActivity =
             new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3, mFeatureFlagClient,
-                mScheduleJitterHelper);
+                mScheduleJitterHelper, cronExpressionCache);
 
         when(mJobRead.getStartedAt()).thenReturn(null);
         when(mJobRead.getCreatedAt())
@@ -213,8 +203,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithLegacySchedule);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithLegacySchedule));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -230,7 +220,7 @@ class ConfigFetchActivityTest {
         when(mAirbyteApiClient.getJobsApi()).thenReturn(mJobsApi);
         configFetchActivity =
             new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 10, mFeatureFlagClient,
-                mScheduleJitterHelper);
+                mScheduleJitterHelper, cronExpressionCache);
 
         when(mJobRead.getStartedAt()).thenReturn(null);
         when(mJobRead.getCreatedAt())
@@ -239,8 +229,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithLegacySchedule);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithLegacySchedule));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -250,11 +240,66 @@ class ConfigFetchActivityTest {
             .isZero();
       }
 
+      @Test
+      @DisplayName("Test that the next run is handed over to the connection scheduler when it is enabled")
+      void testWaitWithConnectionScheduler() throws IOException {
+        when(mAirbyteApiClient.getJobsApi()).thenReturn(mJobsApi);
+        when(mFeatureFlagClient.boolVariation(Mockito.eq(UseConnectionScheduler.INSTANCE), any())).thenReturn(true);
+        configFetchActivity =
+            new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3, mFeatureFlagClient,
+                mScheduleJitterHelper, cronExpressionCache);
+
+        when(mJobRead.getStartedAt()).thenReturn(null);
+        when(mJobRead.getCreatedAt())
+            .thenReturn(60L);
+
+        when(mJobsApi.getLastReplicationJob(any()))
+            .thenReturn(new JobOptionalRead(mJobRead));
+
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithLegacySchedule));
+
+        final ScheduleRetrieverOutput output = configFetchActivity.getTimeToWait(new ScheduleRetrieverInput(CONNECTION_ID));
+
+        // the workflow waits for the signal of the scheduler, not for the next run
+        Assertions.assertThat(output.getTimeToWait())
+            .isEqualTo(ConfigFetchActivityImpl.CONNECTION_SCHEDULER_BACKSTOP);
+        Assertions.assertThat(output.isScheduledByConnectionScheduler()).isTrue();
+        Mockito.verify(mConnectionApi).setConnectionNextRun(new ConnectionNextRunSetRequestBody(CONNECTION_ID, 60L * 6));
+      }
+
+      @Test
+      @DisplayName("Test that the next run is cleared from the connection scheduler when the connection is disabled")
+      void testDisableWithConnectionScheduler() throws IOException {
+        when(mFeatureFlagClient.boolVariation(Mockito.eq(UseConnectionScheduler.INSTANCE), any())).thenReturn(true);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithScheduleDisable));
+
+        final ScheduleRetrieverOutput output = configFetchActivity.getTimeToWait(new ScheduleRetrieverInput(CONNECTION_ID));
+
+        Assertions.assertThat(output.getTimeToWait())
+            .hasDays(100 * 365);
+        Assertions.assertThat(output.isScheduledByConnectionScheduler()).isFalse();
+        Mockito.verify(mConnectionApi).setConnectionNextRun(new ConnectionNextRunSetRequestBody(CONNECTION_ID, null));
+      }
+
+      @Test
+      @DisplayName("Test that an unknown connection fails with a not found error")
+      void testConnectionNotFound() throws IOException {
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos());
+
+        final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
+
+        final ClientException exception = assertThrows(ClientException.class, () -> configFetchActivity.getTimeToWait(input));
+        Assertions.assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND.getCode());
+      }
+
       @Test
       @DisplayName("Test that the job will wait a long time if it is MANUAL scheduleType")
       void testManualScheduleType() throws IOException {
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithManualScheduleType);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithManualScheduleType));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -271,8 +316,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead());
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithBasicScheduleType);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithBasicScheduleType));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -287,7 +332,7 @@ class ConfigFetchActivityTest {
       void testBasicScheduleSubsequentRun() throws IOException {
         when(mAirbyteApiClient.getJobsApi()).thenReturn(mJobsApi);
         configFetchActivity = new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS, () -> 60L * 3,
-            mFeatureFlagClient, mScheduleJitterHelper);
+            mFeatureFlagClient, mScheduleJitterHelper, cronExpressionCache);
 
         when(mJobRead.getStartedAt()).thenReturn(null);
         when(mJobRead.getCreatedAt())
@@ -296,8 +341,8 @@ class ConfigFetchActivityTest {
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithBasicScheduleType);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithBasicScheduleType));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -316,7 +361,6 @@ class ConfigFetchActivityTest {
       void setup() {
         when(mAirbyteApiClient.getConnectionApi()).thenReturn(mConnectionApi);
         when(mAirbyteApiClient.getJobsApi()).thenReturn(mJobsApi);
-        when(mAirbyteApiClient.getWorkspaceApi()).thenReturn(mWorkspaceApi);
       }
 
       @Test
@@ -331,7 +375,7 @@ class ConfigFetchActivityTest {
 
         configFetchActivity =
             new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS,
-                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper);
+                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper, cronExpressionCache);
 
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead(mJobRead));
@@ -342,8 +386,8 @@ class ConfigFetchActivityTest {
         when(mJobRead.getStartedAt()).thenReturn(null);
         when(mJobRead.getCreatedAt()).thenReturn(threeHoursAgoSeconds);
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithCronScheduleType));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -365,7 +409,7 @@ class ConfigFetchActivityTest {
 
         configFetchActivity =
             new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS,
-                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper);
+                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper, cronExpressionCache);
 
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead(mJobRead));
@@ -377,8 +421,8 @@ class ConfigFetchActivityTest {
         final long twentyFiveHoursAgoSeconds = currentSecondsSupplier.get() - Duration.ofHours(25).toSeconds();
         when(mJobRead.getCreatedAt()).thenReturn(twentyFiveHoursAgoSeconds);
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithCronScheduleType));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -399,15 +443,15 @@ class ConfigFetchActivityTest {
 
         configFetchActivity =
             new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS,
-                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper);
+                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper, cronExpressionCache);
 
         when(mJobRead.getStartedAt()).thenReturn(null);
         when(mJobRead.getCreatedAt()).thenReturn(mockRightNow.getTimeInMillis() / 1000L);
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(scheduleInfoWithCronScheduleType));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -427,21 +471,18 @@ class ConfigFetchActivityTest {
         mockRightNow.set(Calendar.MILLISECOND, 0);
         final Supplier<Long> currentSecondsSupplier = () -> mockRightNow.getTimeInMillis() / 1000L;
 
-        when(mWorkspaceApi.getWorkspaceByConnectionId(any()))
-            .thenReturn(new WorkspaceRead(UUID.fromString("226edbc1-4a9c-4401-95a9-90435d667d9d"), UUID.randomUUID(), "name", "slug", false,
-                UUID.randomUUID(), null, null, null, null, null, null, null, null, null, null, null, null));
-
         configFetchActivity =
             new ConfigFetchActivityImpl(mAirbyteApiClient, SYNC_JOB_MAX_ATTEMPTS,
-                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper);
+                currentSecondsSupplier, mFeatureFlagClient, mScheduleJitterHelper, cronExpressionCache);
 
         when(mJobRead.getStartedAt()).thenReturn(null);
         when(mJobRead.getCreatedAt()).thenReturn(mockRightNow.getTimeInMillis() / 1000L);
         when(mJobsApi.getLastReplicationJob(any()))
             .thenReturn(new JobOptionalRead(mJobRead));
 
-        when(mConnectionApi.getConnection(any()))
-            .thenReturn(connectionReadWithCronScheduleType);
+        when(mConnectionApi.listConnectionScheduleInfos(any()))
+            .thenReturn(scheduleInfos(new ConnectionScheduleInfoRead(CONNECTION_ID, UUID.fromString("226edbc1-4a9c-4401-95a9-90435d667d9d"),
+                ConnectionStatus.ACTIVE, null, ConnectionScheduleType.CRON, cronScheduleData)));
 
         final ScheduleRetrieverInput input = new ScheduleRetrieverInput(CONNECTION_ID);
 
@@ -464,7 +505,7 @@ class ConfigFetchActivityTest {
       final int maxAttempt = 15031990;
       configFetchActivity =
           new ConfigFetchActivityImpl(mAirbyteApiClient, maxAttempt, () -> Instant.now().getEpochSecond(), mFeatureFlagClient,
-              mScheduleJitterHelper);
+              mScheduleJitterHelper, cronExpressionCache);
       Assertions.assertThat(configFetchActivity.getMaxAttempt().getMaxAttempt())
           .isEqualTo(maxAttempt);
     }
@@ -18,6 +18,7 @@ import io.airbyte.featureflag.WorkloadCheckFrequencyInSeconds
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig
 import io.airbyte.persistence.job.models.JobRunConfig
 import io.airbyte.workers.models.CheckConnectionInput
+import io.airbyte.workers.serde.WorkloadInputStore
 import io.airbyte.workers.sync.WorkloadClient
 import io.airbyte.workers.workload.WorkloadIdGenerator
 import io.airbyte.workload.api.client.model.generated.WorkloadCreateRequest
@@ -65,6 +66,7 @@ class CheckConnectionActivityTest {
           mockk(relaxed = true),
           mockk(),
           logClientManager,
+          WorkloadInputStore(mockk(), mockk(relaxed = true), false, 0),
         ),
       )
 
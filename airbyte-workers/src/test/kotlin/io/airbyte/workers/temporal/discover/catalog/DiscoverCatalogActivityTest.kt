@@ -18,6 +18,7 @@ import io.airbyte.featureflag.WorkloadCheckFrequencyInSeconds
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig
 import io.airbyte.persistence.job.models.JobRunConfig
 import io.airbyte.workers.models.DiscoverCatalogInput
+import io.airbyte.workers.serde.WorkloadInputStore
 import io.airbyte.workers.sync.WorkloadClient
 import io.airbyte.workers.temporal.discover.catalog.DiscoverCatalogActivityImpl.DISCOVER_CATALOG_SNAP_DURATION
 import io.airbyte.workers.workload.WorkloadIdGenerator
@@ -65,6 +66,7 @@ class DiscoverCatalogActivityTest {
           workloadClient,
           workloadIdGenerator,
           logClientManager,
+          WorkloadInputStore(mockk(), mockk(relaxed = true), false, 0),
         ),
       )
     every { discoverCatalogActivity.activityContext } returns executionContext
@@ -53,6 +53,7 @@ class ReplicationActivityTest {
         stateStorageClient,
         catalogStorageClient,
         logClientManager,
+        mockk(),
       ),
     )
 
@@ -11,6 +11,7 @@ import io.airbyte.workload.api.domain.ExpiredDeadlineWorkloadListRequest
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.LongRunningWorkloadRequest
 import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadAwaitRequest
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
@@ -20,8 +21,11 @@ import io.airbyte.workload.api.domain.WorkloadLaunchedRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadListResponse
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
+import io.airbyte.workload.api.domain.WorkloadStatusListRequest
+import io.airbyte.workload.api.domain.WorkloadStatusListResponse
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.handler.DefaultDeadlineValues
+import io.airbyte.workload.handler.WorkloadAwaiter
 import io.airbyte.workload.handler.WorkloadHandler
 import io.airbyte.workload.metrics.WorkloadApiMetricMetadata.Companion.DATA_PLANE_ID_TAG
 import io.airbyte.workload.metrics.WorkloadApiMetricMetadata.Companion.GEOGRAPHY_TAG
@@ -52,7 +56,9 @@ import jakarta.ws.rs.PUT
 import jakarta.ws.rs.Path
 import jakarta.ws.rs.PathParam
 import jakarta.ws.rs.Produces
+import java.time.Duration
 import java.util.UUID
+import java.util.concurrent.CompletableFuture
 
 @Controller("/api/v1/workload")
 @Secured(SecurityRule.IS_AUTHENTICATED)
@@ -61,6 +67,7 @@ open class WorkloadApi(
   private val workloadHandler: WorkloadHandler,
   private val workloadService: WorkloadService,
   private val defaultDeadlineValues: DefaultDeadlineValues,
+  private val workloadAwaiter: WorkloadAwaiter,
 ) {
   @POST
   @Path("/create")
@@ -158,6 +165,7 @@ open class WorkloadApi(
   ) {
     ApmTraceUtils.addTagsToTrace(mutableMapOf(WORKLOAD_ID_TAG to workloadFailureRequest.workloadId) as Map<String, Any>?)
     workloadHandler.failWorkload(workloadFailureRequest.workloadId, workloadFailureRequest.source, workloadFailureRequest.reason)
+    workloadAwaiter.notifyTerminal(workloadFailureRequest.workloadId)
   }
 
   @PUT
@@ -191,6 +199,7 @@ open class WorkloadApi(
   ) {
     ApmTraceUtils.addTagsToTrace(mutableMapOf(WORKLOAD_ID_TAG to workloadSuccessRequest.workloadId) as Map<String, Any>?)
     workloadHandler.succeedWorkload(workloadSuccessRequest.workloadId)
+    workloadAwaiter.notifyTerminal(workloadSuccessRequest.workloadId)
   }
 
   @PUT
@@ -266,6 +275,7 @@ open class WorkloadApi(
       ) as Map<String, Any>?,
     )
     workloadHandler.cancelWorkload(workloadCancelRequest.workloadId, workloadCancelRequest.source, workloadCancelRequest.reason)
+    workloadAwaiter.notifyTerminal(workloadCancelRequest.workloadId)
   }
 
   @PUT
@@ -375,6 +385,66 @@ open class WorkloadApi(
     return workloadHandler.getWorkload(workloadId)
   }
 
+  @POST
+  @Path("/await_terminal")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Wait for a workload to reach a terminal status", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the workload once it reached a terminal status or once the timeout expired. " +
+            "The status must be checked as the workload may still be active.",
+        content = [Content(schema = Schema(implementation = Workload::class))],
+      ),
+      ApiResponse(
+        responseCode = "404",
+        description = "Workload with given id was not found.",
+        content = [Content(schema = Schema(implementation = KnownExceptionInfo::class))],
+      ),
+      ApiResponse(
+        responseCode = "429",
+        description = "Too many requests are already waiting, the workload should be polled instead.",
+        content = [Content(schema = Schema(implementation = KnownExceptionInfo::class))],
+      ),
+    ],
+  )
+  open fun workloadAwaitTerminal(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadAwaitRequest::class))],
+    ) @Body workloadAwaitRequest: WorkloadAwaitRequest,
+  ): CompletableFuture<Workload> {
+    ApmTraceUtils.addTagsToTrace(mutableMapOf(WORKLOAD_ID_TAG to workloadAwaitRequest.workloadId) as Map<String, Any>?)
+    return workloadAwaiter.awaitTerminal(
+      workloadAwaitRequest.workloadId,
+      workloadAwaitRequest.timeoutSeconds?.let { Duration.ofSeconds(it) },
+    )
+  }
+
+  @POST
+  @Path("/status_list")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Get the status of the given workloads.", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "Success. Unknown workload ids are omitted from the response.",
+        content = [Content(schema = Schema(implementation = WorkloadStatusListResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadStatusList(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadStatusListRequest::class))],
+    ) @Body workloadStatusListRequest: WorkloadStatusListRequest,
+  ): WorkloadStatusListResponse {
+    return WorkloadStatusListResponse(workloadHandler.getWorkloadStatuses(workloadStatusListRequest.workloadIds))
+  }
+
   @PUT
   @Path("/heartbeat")
   @Status(HttpStatus.NO_CONTENT)
@@ -0,0 +1,9 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadAwaitRequest(
+  @Schema(required = true)
+  var workloadId: String = "",
+  var timeoutSeconds: Long? = null,
+)
@@ -0,0 +1,5 @@
+package io.airbyte.workload.api.domain
+
+data class WorkloadStatusListResponse(
+  var workloads: List<WorkloadStatusSummary> = ArrayList(),
+)
@@ -0,0 +1,12 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadStatusSummary(
+  @Schema(required = true)
+  var id: String = "",
+  @Schema(required = true)
+  var status: WorkloadStatus = WorkloadStatus.PENDING,
+  var terminationSource: String? = null,
+  var terminationReason: String? = null,
+)
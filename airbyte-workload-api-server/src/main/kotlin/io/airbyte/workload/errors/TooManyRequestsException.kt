@@ -0,0 +1,9 @@
+package io.airbyte.workload.errors
+
+import io.micronaut.http.HttpStatus
+
+class TooManyRequestsException(message: String?) : KnownException(message) {
+  override fun getHttpCode(): HttpStatus {
+    return HttpStatus.TOO_MANY_REQUESTS
+  }
+}
@@ -0,0 +1,130 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.errors.NotFoundException
+import io.airbyte.workload.errors.TooManyRequestsException
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.scheduling.TaskExecutors
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.inject.Named
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Holds long-poll requests waiting for a workload to reach a terminal status.
+ *
+ * Waits don't hold a thread: a waiter is a future completed when the workload reaches a terminal status or when its timeout expires, and the
+ * workload is only read in full once the wait is over. Waiters are woken up as soon as a terminal transition goes through this instance of the
+ * API. Transitions handled by another instance are picked up by reading the status of all the awaited workloads with a single query every
+ * [recheckInterval].
+ *
+ * The number of waiters is bounded by [maxWaiters]; requests over it are rejected right away rather than queued, and clients fall back to
+ * polling.
+ */
+@Singleton
+class WorkloadAwaiter(
+  private val workloadHandler: WorkloadHandler,
+  @Value("\${airbyte.workload-api.await.max-timeout:60s}") private val maxTimeout: Duration,
+  @Value("\${airbyte.workload-api.await.max-waiters:1000}") private val maxWaiters: Int,
+  @Named(TaskExecutors.IO) private val executorService: ExecutorService,
+) {
+  companion object {
+    val TERMINAL_STATUSES = setOf(ApiWorkloadStatus.SUCCESS, ApiWorkloadStatus.FAILURE, ApiWorkloadStatus.CANCELLED)
+
+    // Keeps the recheck query well under the bind parameter limit of Postgres.
+    const val RECHECK_BATCH_SIZE = 1000
+  }
+
+  private val waiters = ConcurrentHashMap<String, MutableSet<CompletableFuture<Unit>>>()
+  private val waiterCount = AtomicInteger()
+
+  /**
+   * Waits until the workload reaches a terminal status or until the timeout expires, whichever comes first.
+   *
+   * @return the workload as of the end of the wait. Callers must check the status as the workload may still be active.
+   * @throws TooManyRequestsException if [maxWaiters] requests are already waiting
+   */
+  fun awaitTerminal(
+    workloadId: String,
+    @Nullable timeout: Duration?,
+  ): CompletableFuture<Workload> {
+    if (waiterCount.incrementAndGet() > maxWaiters) {
+      waiterCount.decrementAndGet()
+      throw TooManyRequestsException("Already waiting on $maxWaiters workloads, poll the workload instead.")
+    }
+    val effectiveTimeout = if (timeout == null || timeout > maxTimeout || timeout.isNegative) maxTimeout else timeout
+
+    // Register before reading so that a transition happening between the read and the wait is not missed.
+    val signal = register(workloadId)
+    signal.whenComplete { _, _ ->
+      unregister(workloadId, signal)
+      waiterCount.decrementAndGet()
+    }
+    try {
+      val summary =
+        workloadHandler.getWorkloadStatuses(listOf(workloadId)).firstOrNull()
+          ?: throw NotFoundException("Could not find workload with id: $workloadId")
+      if (summary.status in TERMINAL_STATUSES) {
+        signal.complete(Unit)
+      }
+    } catch (e: Exception) {
+      signal.completeExceptionally(e)
+      throw e
+    }
+
+    return signal
+      .completeOnTimeout(Unit, effectiveTimeout.toNanos(), TimeUnit.NANOSECONDS)
+      .thenApplyAsync({ workloadHandler.getWorkload(workloadId) }, executorService)
+  }
+
+  /**
+   * Wakes up the requests waiting on the given workload. Must be called once the terminal transition is committed.
+   */
+  fun notifyTerminal(workloadId: String) {
+    waiters.remove(workloadId)?.forEach { it.complete(Unit) }
+  }
+
+  /**
+   * Wakes up the requests waiting on workloads that reached a terminal status through another instance.
+   */
+  @Scheduled(fixedDelay = "\${airbyte.workload-api.await.recheck-interval:2s}")
+  fun recheck() {
+    if (waiters.isEmpty()) {
+      return
+    }
+    try {
+      waiters.keys.toList().chunked(RECHECK_BATCH_SIZE).forEach { workloadIds ->
+        workloadHandler.getWorkloadStatuses(workloadIds)
+          .filter { it.status in TERMINAL_STATUSES }
+          .forEach { notifyTerminal(it.id) }
+      }
+    } catch (e: Exception) {
+      logger.warn(e) { "Failed to recheck the status of the awaited workloads, they will be rechecked on the next run." }
+    }
+  }
+
+  private fun register(workloadId: String): CompletableFuture<Unit> {
+    val signal = CompletableFuture<Unit>()
+    waiters.compute(workloadId) { _, signals -> (signals ?: ConcurrentHashMap.newKeySet()).apply { add(signal) } }
+    return signal
+  }
+
+  private fun unregister(
+    workloadId: String,
+    signal: CompletableFuture<Unit>,
+  ) {
+    waiters.computeIfPresent(workloadId) { _, signals ->
+      signals.remove(signal)
+      if (signals.isEmpty()) null else signals
+    }
+  }
+}
@@ -3,6 +3,7 @@ package io.airbyte.workload.handler
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadStatusSummary
 import jakarta.transaction.Transactional
 import java.time.OffsetDateTime
 import java.util.UUID
@@ -15,6 +16,8 @@ import java.util.UUID
 interface WorkloadHandler {
   fun getWorkload(workloadId: String): ApiWorkload
 
+  fun getWorkloadStatuses(workloadIds: List<String>): List<WorkloadStatusSummary>
+
   fun getWorkloads(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
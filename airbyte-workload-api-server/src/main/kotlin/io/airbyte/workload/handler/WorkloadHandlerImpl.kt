@@ -9,6 +9,7 @@ import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadStatusSummary
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -30,6 +31,7 @@ class WorkloadHandlerImpl(
   private val workloadRepository: WorkloadRepository,
   private val airbyteApi: AirbyteApiClient,
   private val metricClient: CustomMetricPublisher,
+  private val heartbeatCoalescer: WorkloadHeartbeatCoalescer,
 ) : WorkloadHandler {
   companion object {
     val ACTIVE_STATUSES: List<WorkloadStatus> =
@@ -45,6 +47,13 @@ class WorkloadHandlerImpl(
       .orElseThrow { NotFoundException("Could not find workload with id: $workloadId") }
   }
 
+  override fun getWorkloadStatuses(workloadIds: List<String>): List<WorkloadStatusSummary> {
+    if (workloadIds.isEmpty()) {
+      return listOf()
+    }
+    return workloadRepository.findStatusesByIds(workloadIds).map { it.toApi() }
+  }
+
   override fun getWorkloads(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
@@ -272,17 +281,30 @@ class WorkloadHandlerImpl(
     workloadId: String,
     deadline: OffsetDateTime,
   ) {
+    if (heartbeatCoalescer.enabled) {
+      // Only the status is read here, the write is batched with the heartbeats of other workloads.
+      val status =
+        workloadRepository.findStatusesByIds(listOf(workloadId)).firstOrNull()?.status
+          ?: throw NotFoundException("Could not find workload with id: $workloadId")
+      validateHeartbeat(status)
+      heartbeatCoalescer.submit(workloadId, offsetDateTime(), deadline)
+      return
+    }
+
+    if (workloadRepository.heartbeatIfActive(workloadId, offsetDateTime(), deadline) > 0) {
+      return
+    }
+
+    // The conditional update didn't match, read the workload to report why.
     val workload: DomainWorkload = getDomainWorkload(workloadId)
+    validateHeartbeat(workload.status)
+    // The workload became active after the update was attempted.
+    workloadRepository.heartbeatIfActive(workloadId, offsetDateTime(), deadline)
+  }
 
-    when (workload.status) {
-      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING -> {
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.RUNNING,
-          offsetDateTime(),
-          deadline,
-        )
-      }
+  private fun validateHeartbeat(status: WorkloadStatus) {
+    when (status) {
+      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING -> {}
       WorkloadStatus.CANCELLED, WorkloadStatus.FAILURE, WorkloadStatus.SUCCESS -> throw InvalidStatusTransitionException(
         "Heartbeat a workload in a terminal state",
       )
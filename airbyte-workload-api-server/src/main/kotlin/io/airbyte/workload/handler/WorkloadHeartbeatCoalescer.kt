@@ -0,0 +1,117 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.metrics.CustomMetricPublisher
+import io.airbyte.workload.metrics.WorkloadApiMetricMetadata
+import io.airbyte.workload.repository.WorkloadRepository
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import io.micronaut.scheduling.annotation.Scheduled
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.OffsetDateTime
+import java.util.concurrent.ConcurrentHashMap
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Buffers workload heartbeats and persists them in batches.
+ *
+ * Heartbeats are by far the most frequent write to the workload table. Only the latest heartbeat of a workload matters, so heartbeats received
+ * between two flushes are collapsed into a single row update and the buffered workloads are written with one statement per [maxBatchSize]
+ * workloads, which keeps each statement under the bind parameter limit of Postgres.
+ *
+ * A heartbeat whose batch fails to be written is retried on the next flushes, up to [maxFlushAttempts] times, unless a newer heartbeat of the
+ * workload replaces it. It is dropped afterwards so that the buffer doesn't grow while the database is failing.
+ */
+@Singleton
+class WorkloadHeartbeatCoalescer(
+  private val workloadRepository: WorkloadRepository,
+  private val metricClient: CustomMetricPublisher,
+  @Value("\${airbyte.workload-api.heartbeat.coalescing.enabled:false}") val enabled: Boolean,
+  @Value("\${airbyte.workload-api.heartbeat.coalescing.max-batch-size:5000}") private val maxBatchSize: Int,
+  @Value("\${airbyte.workload-api.heartbeat.coalescing.max-flush-attempts:3}") private val maxFlushAttempts: Int,
+) {
+  data class PendingHeartbeat(
+    val heartbeatAt: OffsetDateTime,
+    val deadline: OffsetDateTime,
+    val failedFlushes: Int = 0,
+  )
+
+  private val pending = ConcurrentHashMap<String, PendingHeartbeat>()
+
+  /**
+   * Buffers a heartbeat. The status of the workload is expected to have been validated by the caller; the flush only applies heartbeats to
+   * workloads that are still active.
+   */
+  fun submit(
+    workloadId: String,
+    heartbeatAt: OffsetDateTime,
+    deadline: OffsetDateTime,
+  ) {
+    pending.merge(workloadId, PendingHeartbeat(heartbeatAt, deadline), ::latest)
+  }
+
+  @Scheduled(fixedDelay = "\${airbyte.workload-api.heartbeat.coalescing.flush-interval:1s}")
+  fun flush() {
+    if (pending.isEmpty()) {
+      return
+    }
+
+    val batch = mutableMapOf<String, PendingHeartbeat>()
+    pending.keys.forEach { workloadId -> pending.remove(workloadId)?.let { batch[workloadId] = it } }
+    if (batch.isEmpty()) {
+      return
+    }
+
+    batch.keys.chunked(maxBatchSize).forEach { ids -> flushChunk(ids.associateWith { batch.getValue(it) }) }
+  }
+
+  private fun flushChunk(chunk: Map<String, PendingHeartbeat>) {
+    val ids = chunk.keys.toList()
+    try {
+      workloadRepository.heartbeatAllIfActive(
+        ids,
+        ids.map { chunk.getValue(it).heartbeatAt },
+        ids.map { chunk.getValue(it).deadline },
+      )
+    } catch (e: Exception) {
+      logger.error(e) { "Failed to persist ${chunk.size} workload heartbeats, they will be retried on the next flush." }
+      metricClient.count(WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_FLUSH_FAILURE.metricName)
+      var dropped = 0
+      chunk.forEach { (workloadId, heartbeat) ->
+        val failed = heartbeat.copy(failedFlushes = heartbeat.failedFlushes + 1)
+        if (failed.failedFlushes < maxFlushAttempts) {
+          // Newer heartbeats received while flushing take precedence over the ones being put back.
+          pending.merge(workloadId, failed, ::latest)
+        } else {
+          dropped++
+        }
+      }
+      if (dropped > 0) {
+        logger.warn { "Dropped $dropped workload heartbeats that failed to be persisted $maxFlushAttempts times." }
+        metricClient.distribution(WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_DROPPED.metricName, dropped.toDouble())
+      }
+      return
+    }
+
+    val persistedAt = OffsetDateTime.now()
+    metricClient.distribution(WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_BATCH_SIZE.metricName, chunk.size.toDouble())
+    chunk.values.forEach {
+      metricClient.distribution(
+        WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_PERSIST_LAG_MS.metricName,
+        Duration.between(it.heartbeatAt, persistedAt).toMillis().toDouble(),
+      )
+    }
+  }
+
+  @PreDestroy
+  fun close() {
+    flush()
+  }
+
+  private fun latest(
+    current: PendingHeartbeat,
+    candidate: PendingHeartbeat,
+  ): PendingHeartbeat = if (candidate.heartbeatAt.isBefore(current.heartbeatAt)) current else candidate
+}
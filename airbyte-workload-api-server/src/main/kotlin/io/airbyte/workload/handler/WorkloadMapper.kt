@@ -3,6 +3,7 @@ package io.airbyte.workload.handler
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadLabel
 import io.airbyte.workload.repository.domain.WorkloadStatus
+import io.airbyte.workload.repository.domain.WorkloadStatusProjection
 import io.airbyte.workload.repository.domain.WorkloadType
 import java.util.UUID
 
@@ -12,6 +13,7 @@ typealias ApiWorkload = io.airbyte.workload.api.domain.Workload
 typealias DomainWorkloadLabel = WorkloadLabel
 typealias ApiWorkloadLabel = io.airbyte.workload.api.domain.WorkloadLabel
 typealias ApiWorkloadType = io.airbyte.config.WorkloadType
+typealias ApiWorkloadStatusSummary = io.airbyte.workload.api.domain.WorkloadStatusSummary
 
 fun ApiWorkloadStatus.toDomain(): WorkloadStatus {
   return when (this) {
@@ -73,6 +75,15 @@ fun DomainWorkload.toApi(): ApiWorkload {
   )
 }
 
+fun WorkloadStatusProjection.toApi(): ApiWorkloadStatusSummary {
+  return ApiWorkloadStatusSummary(
+    id = this.id,
+    status = this.status.toApi(),
+    terminationSource = this.terminationSource,
+    terminationReason = this.terminationReason,
+  )
+}
+
 fun DomainWorkloadLabel.toApi(): ApiWorkloadLabel {
   return ApiWorkloadLabel(
     key = this.key,
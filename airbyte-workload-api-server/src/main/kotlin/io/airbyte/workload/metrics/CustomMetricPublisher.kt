@@ -32,6 +32,14 @@ class CustomMetricPublisher(
     maybeMeterRegistry?.gauge(metricName, toTags(*attributes), stateObject, valueFunction)
   }
 
+  fun distribution(
+    metricName: String,
+    value: Double,
+    vararg attributes: MetricAttribute,
+  ) {
+    maybeMeterRegistry?.summary(metricName, toTags(*attributes))?.record(value)
+  }
+
   companion object {
     fun toTags(vararg attributes: MetricAttribute): List<Tag> {
       return Stream.of(*attributes).map { a: MetricAttribute -> Tag.of(a.key, a.value) }.collect(Collectors.toList())
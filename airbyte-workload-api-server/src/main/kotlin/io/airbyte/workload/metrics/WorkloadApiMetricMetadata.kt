@@ -16,6 +16,22 @@ enum class WorkloadApiMetricMetadata(
     "workload_message_published",
     "Count of workloads published to the queue",
   ),
+  WORKLOAD_HEARTBEAT_BATCH_SIZE(
+    "workload_heartbeat_batch_size",
+    "Number of workloads whose heartbeat was persisted in a single batch",
+  ),
+  WORKLOAD_HEARTBEAT_PERSIST_LAG_MS(
+    "workload_heartbeat_persist_lag_ms",
+    "Time between the reception of a heartbeat and its persistence in milliseconds",
+  ),
+  WORKLOAD_HEARTBEAT_FLUSH_FAILURE(
+    "workload_heartbeat_flush_failure",
+    "Count of failures to persist a batch of heartbeats",
+  ),
+  WORKLOAD_HEARTBEAT_DROPPED(
+    "workload_heartbeat_dropped",
+    "Number of heartbeats dropped by a flush after failing to be persisted too many times",
+  ),
   ;
 
   override fun getApplication(): MetricEmittingApp {
@@ -2,6 +2,7 @@ package io.airbyte.workload.repository
 
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadStatus
+import io.airbyte.workload.repository.domain.WorkloadStatusProjection
 import io.airbyte.workload.repository.domain.WorkloadType
 import io.micronaut.data.annotation.Expandable
 import io.micronaut.data.annotation.Id
@@ -48,6 +49,16 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     deadline: OffsetDateTime,
   ): List<Workload>
 
+  @Query(
+    """
+      SELECT id, status, termination_source, termination_reason FROM workload
+      WHERE id IN (:workloadIds)
+      """,
+  )
+  fun findStatusesByIds(
+    @Expandable workloadIds: List<String>,
+  ): List<WorkloadStatusProjection>
+
   fun searchByMutexKeyAndStatusInList(
     mutexKey: String,
     statuses: List<WorkloadStatus>,
@@ -96,4 +107,47 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     status: WorkloadStatus,
     deadline: OffsetDateTime,
   )
+
+  /**
+   * Records a heartbeat in a single statement. The heartbeat is only applied if the workload is still active.
+   *
+   * @return the number of updated rows, 0 if the workload doesn't exist or is not in a status that accepts heartbeats.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'running', last_heartbeat_at = :lastHeartbeatAt, deadline = :deadline, updated_at = now()
+      WHERE id = :id
+      AND status IN ('claimed', 'launched', 'running')
+      """,
+  )
+  fun heartbeatIfActive(
+    id: String,
+    lastHeartbeatAt: OffsetDateTime,
+    deadline: OffsetDateTime,
+  ): Int
+
+  /**
+   * Batched version of [heartbeatIfActive]. The lists are zipped by index, there must be at most one entry per workload.
+   *
+   * @return the number of updated rows.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'running', last_heartbeat_at = heartbeat.last_heartbeat_at, deadline = heartbeat.deadline, updated_at = now()
+      FROM unnest(
+        CAST(ARRAY[:ids] AS varchar[]),
+        CAST(ARRAY[:lastHeartbeatAts] AS timestamptz[]),
+        CAST(ARRAY[:deadlines] AS timestamptz[])
+      ) AS heartbeat(id, last_heartbeat_at, deadline)
+      WHERE workload.id = heartbeat.id
+      AND workload.status IN ('claimed', 'launched', 'running')
+      """,
+  )
+  fun heartbeatAllIfActive(
+    @Expandable ids: List<String>,
+    @Expandable lastHeartbeatAts: List<OffsetDateTime>,
+    @Expandable deadlines: List<OffsetDateTime>,
+  ): Int
 }
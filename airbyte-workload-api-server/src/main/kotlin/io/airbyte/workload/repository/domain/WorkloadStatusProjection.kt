@@ -0,0 +1,20 @@
+package io.airbyte.workload.repository.domain
+
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.data.annotation.TypeDef
+import io.micronaut.data.model.DataType
+
+/**
+ * Status columns of a workload. Used when only the state of a workload is needed so that the input payload is not loaded.
+ */
+@Introspected
+data class WorkloadStatusProjection(
+  var id: String,
+  @field:TypeDef(type = DataType.OBJECT)
+  var status: WorkloadStatus,
+  @Nullable
+  var terminationSource: String? = null,
+  @Nullable
+  var terminationReason: String? = null,
+)
@@ -3,6 +3,7 @@ package io.airbyte.workload.api
 import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.temporal.WorkflowClientWrapped
 import io.airbyte.workload.api.domain.KnownExceptionInfo
+import io.airbyte.workload.api.domain.WorkloadAwaitRequest
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
@@ -10,6 +11,9 @@ import io.airbyte.workload.api.domain.WorkloadFailureRequest
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
+import io.airbyte.workload.api.domain.WorkloadStatus
+import io.airbyte.workload.api.domain.WorkloadStatusListRequest
+import io.airbyte.workload.api.domain.WorkloadStatusSummary
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -177,6 +181,31 @@ class WorkloadApiTest(
     testEndpointStatus(HttpRequest.POST("/api/v1/workload/list", WorkloadListRequest()), HttpStatus.OK)
   }
 
+  @Test
+  fun `test status list success`() {
+    every { workloadHandler.getWorkloadStatuses(listOf("1", "2")) }.returns(emptyList())
+    testEndpointStatus(HttpRequest.POST("/api/v1/workload/status_list", WorkloadStatusListRequest(listOf("1", "2"))), HttpStatus.OK)
+    verify(exactly = 1) { workloadHandler.getWorkloadStatuses(listOf("1", "2")) }
+  }
+
+  @Test
+  fun `test await terminal returns terminal workload`() {
+    every { workloadHandler.getWorkloadStatuses(listOf("1")) } returns listOf(WorkloadStatusSummary("1", WorkloadStatus.SUCCESS))
+    every { workloadHandler.getWorkload("1") } returns ApiWorkload(id = "1", status = WorkloadStatus.SUCCESS)
+    testEndpointStatus(HttpRequest.POST("/api/v1/workload/await_terminal", WorkloadAwaitRequest("1", 5)), HttpStatus.OK)
+  }
+
+  @Test
+  fun `test await terminal workload id not found`() {
+    val exceptionMessage = "Could not find workload with id: 1"
+    every { workloadHandler.getWorkloadStatuses(listOf("1")) } returns listOf()
+    testErrorEndpointResponse(
+      HttpRequest.POST("/api/v1/workload/await_terminal", WorkloadAwaitRequest("1", 5)),
+      HttpStatus.NOT_FOUND,
+      exceptionMessage,
+    )
+  }
+
   @Test
   fun `test cancel success`() {
     every { workloadHandler.cancelWorkload(any(), any(), any()) } just Runs
@@ -0,0 +1,117 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.api.domain.Workload
+import io.airbyte.workload.api.domain.WorkloadStatusSummary
+import io.airbyte.workload.errors.NotFoundException
+import io.airbyte.workload.errors.TooManyRequestsException
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicReference
+
+private const val WORKLOAD_ID = "test"
+
+class WorkloadAwaiterTest {
+  private val workloadHandler: WorkloadHandler = mockk()
+  private val executorService = Executors.newSingleThreadExecutor()
+  private val status = AtomicReference(ApiWorkloadStatus.RUNNING)
+
+  init {
+    every { workloadHandler.getWorkloadStatuses(listOf(WORKLOAD_ID)) } answers { listOf(WorkloadStatusSummary(WORKLOAD_ID, status.get())) }
+    every { workloadHandler.getWorkload(WORKLOAD_ID) } answers { Workload(id = WORKLOAD_ID, status = status.get()) }
+  }
+
+  @AfterEach
+  fun tearDown() {
+    executorService.shutdownNow()
+  }
+
+  @Test
+  fun `returns immediately when the workload is already terminal`() {
+    status.set(ApiWorkloadStatus.SUCCESS)
+    val awaiter = WorkloadAwaiter(workloadHandler, Duration.ofMinutes(1), 10, executorService)
+
+    val workload = awaiter.awaitTerminal(WORKLOAD_ID, null).get(5, TimeUnit.SECONDS)
+
+    assertEquals(ApiWorkloadStatus.SUCCESS, workload.status)
+    verify(exactly = 1) { workloadHandler.getWorkload(WORKLOAD_ID) }
+  }
+
+  @Test
+  fun `returns the active workload once the timeout expires`() {
+    val awaiter = WorkloadAwaiter(workloadHandler, Duration.ofMinutes(1), 10, executorService)
+
+    val workload = awaiter.awaitTerminal(WORKLOAD_ID, Duration.ofMillis(50)).get(5, TimeUnit.SECONDS)
+
+    assertEquals(ApiWorkloadStatus.RUNNING, workload.status)
+    // Only the status is read while waiting, the workload is read once the wait is over.
+    verify(exactly = 1) { workloadHandler.getWorkload(WORKLOAD_ID) }
+  }
+
+  @Test
+  fun `wakes up when the workload is notified as terminal`() {
+    // The timeout doesn't expire during the test, only the notification can end the wait.
+    val awaiter = WorkloadAwaiter(workloadHandler, Duration.ofMinutes(10), 10, executorService)
+
+    val result = awaiter.awaitTerminal(WORKLOAD_ID, null)
+    assertFalse(result.isDone)
+    status.set(ApiWorkloadStatus.CANCELLED)
+    awaiter.notifyTerminal(WORKLOAD_ID)
+
+    assertEquals(ApiWorkloadStatus.CANCELLED, result.get(5, TimeUnit.SECONDS).status)
+  }
+
+  @Test
+  fun `wakes up when a recheck finds the workload terminal`() {
+    val awaiter = WorkloadAwaiter(workloadHandler, Duration.ofMinutes(10), 10, executorService)
+
+    val result = awaiter.awaitTerminal(WORKLOAD_ID, null)
+    awaiter.recheck()
+    assertFalse(result.isDone)
+    // The transition went through another instance, which didn't notify this one.
+    status.set(ApiWorkloadStatus.FAILURE)
+    awaiter.recheck()
+
+    assertEquals(ApiWorkloadStatus.FAILURE, result.get(5, TimeUnit.SECONDS).status)
+  }
+
+  @Test
+  fun `caps the requested timeout to the max timeout`() {
+    val awaiter = WorkloadAwaiter(workloadHandler, Duration.ofMillis(50), 10, executorService)
+
+    assertEquals(ApiWorkloadStatus.RUNNING, awaiter.awaitTerminal(WORKLOAD_ID, Duration.ofHours(1)).get(5, TimeUnit.SECONDS).status)
+  }
+
+  @Test
+  fun `rejects waits over the max waiters until one completes`() {
+    val awaiter = WorkloadAwaiter(workloadHandler, Duration.ofMinutes(10), 1, executorService)
+
+    val result = awaiter.awaitTerminal(WORKLOAD_ID, null)
+    assertThrows<TooManyRequestsException> { awaiter.awaitTerminal(WORKLOAD_ID, null) }
+
+    status.set(ApiWorkloadStatus.SUCCESS)
+    awaiter.notifyTerminal(WORKLOAD_ID)
+    result.get(5, TimeUnit.SECONDS)
+
+    assertEquals(ApiWorkloadStatus.SUCCESS, awaiter.awaitTerminal(WORKLOAD_ID, null).get(5, TimeUnit.SECONDS).status)
+  }
+
+  @Test
+  fun `throws not found for an unknown workload and releases its wait`() {
+    every { workloadHandler.getWorkloadStatuses(listOf("unknown")) } returns listOf()
+    val awaiter = WorkloadAwaiter(workloadHandler, Duration.ofMinutes(10), 1, executorService)
+
+    assertThrows<NotFoundException> { awaiter.awaitTerminal("unknown", null) }
+
+    status.set(ApiWorkloadStatus.SUCCESS)
+    assertEquals(ApiWorkloadStatus.SUCCESS, awaiter.awaitTerminal(WORKLOAD_ID, null).get(5, TimeUnit.SECONDS).status)
+  }
+}
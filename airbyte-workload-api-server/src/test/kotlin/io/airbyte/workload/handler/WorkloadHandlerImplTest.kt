@@ -13,6 +13,7 @@ import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
 import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.DATAPLANE_ID
+import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.heartbeatCoalescer
 import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.WORKLOAD_ID
 import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.metricClient
 import io.airbyte.workload.handler.WorkloadHandlerImplTest.Fixtures.mockApi
@@ -26,6 +27,7 @@ import io.airbyte.workload.metrics.CustomMetricPublisher
 import io.airbyte.workload.repository.WorkloadRepository
 import io.airbyte.workload.repository.domain.Workload
 import io.airbyte.workload.repository.domain.WorkloadStatus
+import io.airbyte.workload.repository.domain.WorkloadStatusProjection
 import io.airbyte.workload.repository.domain.WorkloadType
 import io.mockk.Called
 import io.mockk.Runs
@@ -212,25 +214,63 @@ class WorkloadHandlerImplTest {
     assertEquals(io.airbyte.config.WorkloadType.DISCOVER, workloads[0].type)
   }
 
+  @Test
+  fun `test get workload statuses`() {
+    every { workloadRepository.findStatusesByIds(listOf(WORKLOAD_ID)) }.returns(
+      listOf(WorkloadStatusProjection(WORKLOAD_ID, WorkloadStatus.FAILURE, "source", "oops")),
+    )
+    val statuses = workloadHandler.getWorkloadStatuses(listOf(WORKLOAD_ID))
+    assertEquals(1, statuses.size)
+    assertEquals(WORKLOAD_ID, statuses[0].id)
+    assertEquals(ApiWorkloadStatus.FAILURE, statuses[0].status)
+    assertEquals("source", statuses[0].terminationSource)
+    assertEquals("oops", statuses[0].terminationReason)
+  }
+
+  @Test
+  fun `test get workload statuses skips the query when no ids are given`() {
+    assertTrue(workloadHandler.getWorkloadStatuses(listOf()).isEmpty())
+    verify { workloadRepository wasNot Called }
+  }
+
+  @Test
+  fun `test successfulHeartbeat`() {
+    every { workloadRepository.heartbeatIfActive(WORKLOAD_ID, now, now.plusMinutes(10)) }.returns(1)
+    workloadHandler.heartbeat(WORKLOAD_ID, now.plusMinutes(10))
+    verify(exactly = 1) { workloadRepository.heartbeatIfActive(WORKLOAD_ID, now, now.plusMinutes(10)) }
+    verify(exactly = 0) { workloadRepository.findById(any()) }
+  }
+
+  @Test
+  fun `test heartbeat of unknown workload`() {
+    every { workloadRepository.heartbeatIfActive(WORKLOAD_ID, now, now) }.returns(0)
+    every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
+    assertThrows<NotFoundException> { workloadHandler.heartbeat(WORKLOAD_ID, now) }
+  }
+
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED", "RUNNING"])
-  fun `test successfulHeartbeat`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
-    )
-    every { workloadRepository.update(eq(WORKLOAD_ID), any(), ofType(OffsetDateTime::class), eq(now.plusMinutes(10))) }.returns(Unit)
+  fun `test coalesced heartbeat`(workloadStatus: WorkloadStatus) {
+    every { heartbeatCoalescer.enabled } returns true
+    every { workloadRepository.findStatusesByIds(listOf(WORKLOAD_ID)) }.returns(listOf(WorkloadStatusProjection(WORKLOAD_ID, workloadStatus)))
     workloadHandler.heartbeat(WORKLOAD_ID, now.plusMinutes(10))
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.RUNNING), any(), eq(now.plusMinutes(10))) }
+    verify { heartbeatCoalescer.submit(WORKLOAD_ID, now, now.plusMinutes(10)) }
+    verify(exactly = 0) { workloadRepository.heartbeatIfActive(any(), any(), any()) }
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = WorkloadStatus::class, names = ["CANCELLED", "FAILURE", "SUCCESS", "PENDING"])
+  fun `test non authorized coalesced heartbeat`(workloadStatus: WorkloadStatus) {
+    every { heartbeatCoalescer.enabled } returns true
+    every { workloadRepository.findStatusesByIds(listOf(WORKLOAD_ID)) }.returns(listOf(WorkloadStatusProjection(WORKLOAD_ID, workloadStatus)))
+    assertThrows<InvalidStatusTransitionException> { workloadHandler.heartbeat(WORKLOAD_ID, now) }
+    verify(exactly = 0) { heartbeatCoalescer.submit(any(), any(), any()) }
   }
 
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["CANCELLED", "FAILURE", "SUCCESS", "PENDING"])
   fun `test nonAuthorizedHeartbeat`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.heartbeatIfActive(WORKLOAD_ID, now, now) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -752,7 +792,8 @@ class WorkloadHandlerImplTest {
     val signalApi: SignalApi = mockk()
     const val WORKLOAD_ID = "test"
     const val DATAPLANE_ID = "dataplaneId"
-    val workloadHandler = spyk(WorkloadHandlerImpl(workloadRepository, airbyteApi, metricClient))
+    val heartbeatCoalescer: WorkloadHeartbeatCoalescer = mockk(relaxed = true)
+    val workloadHandler = spyk(WorkloadHandlerImpl(workloadRepository, airbyteApi, metricClient, heartbeatCoalescer))
 
     val configSignalInput =
       ConfigSignalInput(
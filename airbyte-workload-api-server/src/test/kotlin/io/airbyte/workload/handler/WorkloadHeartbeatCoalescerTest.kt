@@ -0,0 +1,87 @@
+package io.airbyte.workload.handler
+
+import io.airbyte.workload.metrics.CustomMetricPublisher
+import io.airbyte.workload.metrics.WorkloadApiMetricMetadata
+import io.airbyte.workload.repository.WorkloadRepository
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import java.time.OffsetDateTime
+
+class WorkloadHeartbeatCoalescerTest {
+  private val workloadRepository: WorkloadRepository = mockk()
+  private val metricClient: CustomMetricPublisher = mockk(relaxed = true)
+  private val coalescer = WorkloadHeartbeatCoalescer(workloadRepository, metricClient, true, 2, 3)
+
+  private val now = OffsetDateTime.now()
+
+  @Test
+  fun `flush persists the latest heartbeat of each workload in a single statement`() {
+    every { workloadRepository.heartbeatAllIfActive(any(), any(), any()) } returns 2
+
+    coalescer.submit("a", now, now.plusMinutes(10))
+    coalescer.submit("a", now.plusSeconds(5), now.plusMinutes(11))
+    // Out of order heartbeats don't override a more recent one.
+    coalescer.submit("a", now.plusSeconds(1), now.plusMinutes(12))
+    coalescer.submit("b", now, now.plusMinutes(10))
+    coalescer.flush()
+
+    verify(exactly = 1) {
+      workloadRepository.heartbeatAllIfActive(
+        match { it.toSet() == setOf("a", "b") },
+        match { it.toSet() == setOf(now.plusSeconds(5), now) },
+        match { it.toSet() == setOf(now.plusMinutes(11), now.plusMinutes(10)) },
+      )
+    }
+    verify { metricClient.distribution(WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_BATCH_SIZE.metricName, 2.0) }
+    verify(exactly = 2) { metricClient.distribution(WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_PERSIST_LAG_MS.metricName, any()) }
+  }
+
+  @Test
+  fun `flush is a noop when no heartbeat is pending`() {
+    coalescer.flush()
+
+    verify(exactly = 0) { workloadRepository.heartbeatAllIfActive(any(), any(), any()) }
+  }
+
+  @Test
+  fun `failed flushes are retried with the latest heartbeats`() {
+    every { workloadRepository.heartbeatAllIfActive(any(), any(), any()) } throws RuntimeException("db is down") andThen 1
+
+    coalescer.submit("a", now, now.plusMinutes(10))
+    coalescer.flush()
+    coalescer.submit("a", now.plusSeconds(5), now.plusMinutes(11))
+    coalescer.flush()
+
+    verify { metricClient.count(WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_FLUSH_FAILURE.metricName) }
+    verify { workloadRepository.heartbeatAllIfActive(listOf("a"), listOf(now.plusSeconds(5)), listOf(now.plusMinutes(11))) }
+  }
+
+  @Test
+  fun `flush writes at most max batch size workloads per statement`() {
+    every { workloadRepository.heartbeatAllIfActive(any(), any(), any()) } answers { firstArg<List<String>>().size }
+
+    coalescer.submit("a", now, now.plusMinutes(10))
+    coalescer.submit("b", now, now.plusMinutes(10))
+    coalescer.submit("c", now, now.plusMinutes(10))
+    coalescer.flush()
+
+    val ids = mutableListOf<List<String>>()
+    verify(exactly = 2) { workloadRepository.heartbeatAllIfActive(capture(ids), any(), any()) }
+    assertEquals(listOf(2, 1), ids.map { it.size }.sortedDescending())
+    assertEquals(setOf("a", "b", "c"), ids.flatten().toSet())
+  }
+
+  @Test
+  fun `heartbeats that keep failing are dropped`() {
+    every { workloadRepository.heartbeatAllIfActive(any(), any(), any()) } throws RuntimeException("db is down")
+
+    coalescer.submit("a", now, now.plusMinutes(10))
+    repeat(5) { coalescer.flush() }
+
+    verify(exactly = 3) { workloadRepository.heartbeatAllIfActive(any(), any(), any()) }
+    verify { metricClient.distribution(WorkloadApiMetricMetadata.WORKLOAD_HEARTBEAT_DROPPED.metricName, 1.0) }
+  }
+}
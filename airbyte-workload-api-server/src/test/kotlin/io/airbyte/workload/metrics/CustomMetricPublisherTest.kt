@@ -7,6 +7,7 @@ package io.airbyte.workload.metrics
 import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.workload.metrics.CustomMetricPublisher.Companion.toTags
 import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.DistributionSummary
 import io.micrometer.core.instrument.MeterRegistry
 import io.mockk.every
 import io.mockk.mockk
@@ -47,4 +48,21 @@ class CustomMetricPublisherTest {
 
     verify(exactly = 1) { meterRegistry.gauge(metricName, toTags(metricAttribute), stateObject, any()) }
   }
+
+  @Test
+  internal fun `test publishing distribution metrics`() {
+    val metricName = "metric-name"
+    val metricAttribute = MetricAttribute("key", "value")
+    val summary: DistributionSummary = mockk()
+    val meterRegistry: MeterRegistry = mockk()
+
+    every { summary.record(any<Double>()) } returns Unit
+    every { meterRegistry.summary(metricName, toTags(metricAttribute)) } returns summary
+
+    val publisher = CustomMetricPublisher(meterRegistry)
+
+    publisher.distribution(metricName, 42.0, metricAttribute)
+
+    verify(exactly = 1) { summary.record(42.0) }
+  }
 }
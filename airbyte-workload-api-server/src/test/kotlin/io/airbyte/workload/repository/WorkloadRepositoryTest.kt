@@ -224,6 +224,64 @@ internal class WorkloadRepositoryTest {
     assertEquals(nowPlusOneMinute.toEpochSecond(), persistedWorkload.get().deadline?.toEpochSecond())
   }
 
+  @Test
+  fun `test conditional heartbeat only updates active workloads`() {
+    workloadRepo.save(Fixtures.workload(id = "active", dataplaneId = null, status = WorkloadStatus.LAUNCHED))
+    workloadRepo.save(Fixtures.workload(id = "pending", dataplaneId = null, status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "failed", dataplaneId = null, status = WorkloadStatus.FAILURE))
+    val now = OffsetDateTime.now()
+
+    assertEquals(1, workloadRepo.heartbeatIfActive("active", now, now.plusMinutes(10)))
+    assertEquals(0, workloadRepo.heartbeatIfActive("pending", now, now.plusMinutes(10)))
+    assertEquals(0, workloadRepo.heartbeatIfActive("failed", now, now.plusMinutes(10)))
+    assertEquals(0, workloadRepo.heartbeatIfActive("unknown", now, now.plusMinutes(10)))
+
+    val active = workloadRepo.findById("active").get()
+    assertEquals(WorkloadStatus.RUNNING, active.status)
+    assertEquals(now.toEpochSecond(), active.lastHeartbeatAt?.toEpochSecond())
+    assertEquals(now.plusMinutes(10).toEpochSecond(), active.deadline?.toEpochSecond())
+    assertEquals(WorkloadStatus.PENDING, workloadRepo.findById("pending").get().status)
+    assertEquals(WorkloadStatus.FAILURE, workloadRepo.findById("failed").get().status)
+  }
+
+  @Test
+  fun `test batched heartbeat`() {
+    workloadRepo.save(Fixtures.workload(id = "claimed", dataplaneId = null, status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "running", dataplaneId = null, status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "cancelled", dataplaneId = null, status = WorkloadStatus.CANCELLED))
+    val now = OffsetDateTime.now()
+
+    val updated =
+      workloadRepo.heartbeatAllIfActive(
+        listOf("claimed", "running", "cancelled"),
+        listOf(now, now.plusSeconds(1), now.plusSeconds(2)),
+        listOf(now.plusMinutes(10), now.plusMinutes(11), now.plusMinutes(12)),
+      )
+
+    assertEquals(2, updated)
+    val claimed = workloadRepo.findById("claimed").get()
+    assertEquals(WorkloadStatus.RUNNING, claimed.status)
+    assertEquals(now.plusMinutes(10).toEpochSecond(), claimed.deadline?.toEpochSecond())
+    val running = workloadRepo.findById("running").get()
+    assertEquals(now.plusSeconds(1).toEpochSecond(), running.lastHeartbeatAt?.toEpochSecond())
+    assertEquals(now.plusMinutes(11).toEpochSecond(), running.deadline?.toEpochSecond())
+    val cancelled = workloadRepo.findById("cancelled").get()
+    assertEquals(WorkloadStatus.CANCELLED, cancelled.status)
+    assertNull(cancelled.lastHeartbeatAt)
+  }
+
+  @Test
+  fun `test find statuses by ids`() {
+    workloadRepo.save(Fixtures.workload(id = "a", dataplaneId = null, status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "b", dataplaneId = null, status = WorkloadStatus.FAILURE))
+
+    val statuses = workloadRepo.findStatusesByIds(listOf("a", "b", "unknown")).associateBy { it.id }
+
+    assertEquals(2, statuses.size)
+    assertEquals(WorkloadStatus.RUNNING, statuses["a"]?.status)
+    assertEquals(WorkloadStatus.FAILURE, statuses["b"]?.status)
+  }
+
   @Test
   fun `test dataplane update`() {
     val workload =
@@ -1,7 +1,9 @@
 package io.airbyte.initContainer.input
 
 import io.airbyte.commons.protocol.ProtocolSerializer
+import io.airbyte.featureflag.Connection
 import io.airbyte.featureflag.FeatureFlagClient
+import io.airbyte.featureflag.SourceOutputChannels
 import io.airbyte.initContainer.system.FileClient
 import io.airbyte.mappers.transformations.DestinationCatalogGenerator
 import io.airbyte.metrics.lib.MetricAttribute
@@ -107,7 +109,8 @@ class ReplicationHydrationProcessor(
 
     // pipes for passing messages between all three
     logger.info { "Making named pipes..." }
-    fileClient.makeNamedPipes()
+    val sourceOutputChannels = featureFlagClient.intVariation(SourceOutputChannels, Connection(parsed.connectionId))
+    fileClient.makeNamedPipes(sourceOutputChannels = sourceOutputChannels)
   }
 
   private fun sendMapperErrorMetrics(
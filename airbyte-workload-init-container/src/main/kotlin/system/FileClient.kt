@@ -6,10 +6,12 @@ package io.airbyte.initContainer.system
 
 import io.airbyte.workers.pod.FileConstants
 import io.airbyte.workers.pod.FileConstants.DEST_DIR
+import io.airbyte.workers.pod.FileConstants.MAX_SOURCE_OUTPUT_CHANNELS
 import io.airbyte.workers.pod.FileConstants.SOURCE_DIR
 import io.airbyte.workers.pod.FileConstants.STDERR_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDIN_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDOUT_PIPE_FILE
+import io.airbyte.workers.pod.FileConstants.sourceOutputChannelPipeFile
 import jakarta.inject.Singleton
 import java.nio.charset.StandardCharsets
 import java.nio.file.FileSystems
@@ -38,11 +40,19 @@ class FileClient {
     )
   }
 
+  /**
+   * Makes the pipes of the source and destination. A source writing on several output channels gets an
+   * additional output pipe per channel after the first, which is its stdout.
+   */
   fun makeNamedPipes(
     sourceDir: String = SOURCE_DIR,
     destDir: String = DEST_DIR,
+    sourceOutputChannels: Int = 1,
   ) {
     makeNamedPipe("$sourceDir/$STDOUT_PIPE_FILE")
+    for (channel in 1 until sourceOutputChannels.coerceIn(1, MAX_SOURCE_OUTPUT_CHANNELS)) {
+      makeNamedPipe("$sourceDir/${sourceOutputChannelPipeFile(channel)}")
+    }
     makeNamedPipe("$sourceDir/$STDERR_PIPE_FILE")
     makeNamedPipe("$destDir/$STDOUT_PIPE_FILE")
     makeNamedPipe("$destDir/$STDERR_PIPE_FILE")
@@ -130,6 +130,7 @@ class ReplicationHydrationProcessorTest {
       destinationCatalogGenerator.generateDestinationCatalog(any())
     } returns DestinationCatalogGenerator.CatalogGenerationResult(hydrated.catalog, mapOf())
     every { featureFlagClient.boolVariation(any(), any()) } returns false
+    every { featureFlagClient.intVariation(any(), any()) } returns 1
 
     processor.process(input)
 
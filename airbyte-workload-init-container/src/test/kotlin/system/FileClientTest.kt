@@ -5,9 +5,11 @@
 package io.airbyte.initContainer.system
 
 import io.airbyte.initContainer.system.FileClient.Companion.pipePermissions
+import io.airbyte.workers.pod.FileConstants.MAX_SOURCE_OUTPUT_CHANNELS
 import io.airbyte.workers.pod.FileConstants.STDERR_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDIN_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDOUT_PIPE_FILE
+import io.airbyte.workers.pod.FileConstants.sourceOutputChannelPipeFile
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -71,4 +73,40 @@ internal class FileClientTest {
       destDir.deleteRecursively()
     }
   }
+
+  @OptIn(ExperimentalPathApi::class)
+  @Test
+  internal fun testMakeNamedPipesForSourceOutputChannels() {
+    val sourceDir = createTempDirectory(prefix = "source")
+    val destDir = createTempDirectory(prefix = "dest")
+    try {
+      fileClient.makeNamedPipes(sourceDir = sourceDir.toString(), destDir = destDir.toString(), sourceOutputChannels = 3)
+
+      assertEquals(4, sourceDir.listDirectoryEntries().size)
+      assertEquals(3, destDir.listDirectoryEntries().size)
+      listOf(STDOUT_PIPE_FILE, sourceOutputChannelPipeFile(1), sourceOutputChannelPipeFile(2)).forEach {
+        assertEquals(true, Path.of(sourceDir.toString(), it).exists())
+        assertEquals(pipePermissions, Path.of(sourceDir.toString(), it).getPosixFilePermissions())
+      }
+      assertEquals(false, Path.of(sourceDir.toString(), sourceOutputChannelPipeFile(3)).exists())
+    } finally {
+      sourceDir.deleteRecursively()
+      destDir.deleteRecursively()
+    }
+  }
+
+  @OptIn(ExperimentalPathApi::class)
+  @Test
+  internal fun testSourceOutputChannelsAreCapped() {
+    val sourceDir = createTempDirectory(prefix = "source")
+    val destDir = createTempDirectory(prefix = "dest")
+    try {
+      fileClient.makeNamedPipes(sourceDir = sourceDir.toString(), destDir = destDir.toString(), sourceOutputChannels = MAX_SOURCE_OUTPUT_CHANNELS + 1)
+
+      assertEquals(MAX_SOURCE_OUTPUT_CHANNELS + 1, sourceDir.listDirectoryEntries().size)
+    } finally {
+      sourceDir.deleteRecursively()
+      destDir.deleteRecursively()
+    }
+  }
 }
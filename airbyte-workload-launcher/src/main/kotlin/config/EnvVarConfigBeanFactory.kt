@@ -40,6 +40,7 @@ class EnvVarConfigBeanFactory {
   @Singleton
   @Named("initEnvVars")
   fun initEnvVars(
+    storageConfig: StorageConfig,
     @Named("apiClientEnvMap") apiClientEnvMap: Map<String, String>,
     @Named("featureFlagEnvVars") ffEnvVars: Map<String, String>,
     @Named("micronautEnvMap") micronautEnvMap: Map<String, String>,
@@ -52,6 +53,9 @@ class EnvVarConfigBeanFactory {
   ): List<EnvVar> {
     val envMap: MutableMap<String, String> = HashMap()
 
+    // Cloud storage configuration, to read workload inputs offloaded to the doc store
+    envMap.putAll(storageConfig.toEnvVarMap())
+
     // Workload Api configuration
     envMap.putAll(workloadApiEnvMap)
 
@@ -90,12 +94,16 @@ class EnvVarConfigBeanFactory {
     @Named("loggingEnvVars") loggingEnvMap: Map<String, String>,
     @Named("micronautEnvMap") micronautEnvMap: Map<String, String>,
     @Named("workloadApiEnvMap") workloadApiEnvMap: Map<String, String>,
+    @Named("metricsEnvMap") metricsEnvMap: Map<String, String>,
     @Named("apiAuthSecretEnv") secretsEnvMap: Map<String, EnvVarSource>,
   ): List<EnvVar> {
     val envMap: MutableMap<String, String> = HashMap()
 
     envMap.putAll(loggingEnvMap)
 
+    // Metrics configuration
+    envMap.putAll(metricsEnvMap)
+
     // Cloud storage configuration
     envMap.putAll(storageConfig.toEnvVarMap())
 
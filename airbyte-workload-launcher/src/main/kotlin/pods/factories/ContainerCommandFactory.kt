@@ -7,6 +7,7 @@ import io.airbyte.workers.pod.FileConstants.DEST_DIR
 import io.airbyte.workers.pod.FileConstants.EXIT_CODE_FILE
 import io.airbyte.workers.pod.FileConstants.INPUT_STATE_FILE
 import io.airbyte.workers.pod.FileConstants.JOB_OUTPUT_FILE
+import io.airbyte.workers.pod.FileConstants.MAX_SOURCE_OUTPUT_CHANNELS
 import io.airbyte.workers.pod.FileConstants.SOURCE_DIR
 import io.airbyte.workers.pod.FileConstants.STDERR_PIPE_FILE
 import io.airbyte.workers.pod.FileConstants.STDIN_PIPE_FILE
@@ -54,15 +55,34 @@ object ContainerCommandFactory {
     """.trimIndent(),
   )
 
+  /**
+   * Runs the source read. A source can write its messages on several output channels: its stdout and
+   * the additional output pipes listed in AIRBYTE_SOURCE_OUTPUT_PIPES, which stay open until it exits.
+   * It announces them with a handshake on stdout, see SourceChannelMerger. Sources that ignore the
+   * additional pipes keep working over stdout alone.
+   */
   @SuppressWarnings("LineLength")
   fun source() =
     connectorCommandWrapper(
       """
+      # open the pipes in the order the orchestrator opens them, as opening a fifo blocks
+      exec 2> $STDERR_PIPE_FILE > $STDOUT_PIPE_FILE
+
+      # open the additional output pipes, if any, on fds 3 and up for the connector to write to
+      AIRBYTE_SOURCE_OUTPUT_PIPES=""
+      CHANNEL=1
+      while [ ${'$'}CHANNEL -lt $MAX_SOURCE_OUTPUT_CHANNELS ] && [ -p $STDOUT_PIPE_FILE-${'$'}CHANNEL ]; do
+        eval "exec ${'$'}((CHANNEL + 2))> $STDOUT_PIPE_FILE-${'$'}CHANNEL"
+        AIRBYTE_SOURCE_OUTPUT_PIPES="${'$'}AIRBYTE_SOURCE_OUTPUT_PIPES $SOURCE_DIR/$STDOUT_PIPE_FILE-${'$'}CHANNEL"
+        CHANNEL=${'$'}((CHANNEL + 1))
+      done
+      export AIRBYTE_SOURCE_OUTPUT_PIPES
+
       # only provide the state flag if present
       if [ ! -f $SOURCE_DIR/$INPUT_STATE_FILE ]; then
-        eval "${'$'}AIRBYTE_ENTRYPOINT read --config $SOURCE_DIR/${CONNECTOR_CONFIG_FILE} --catalog $SOURCE_DIR/${CATALOG_FILE}" 2> $STDERR_PIPE_FILE > $STDOUT_PIPE_FILE
+        eval "${'$'}AIRBYTE_ENTRYPOINT read --config $SOURCE_DIR/${CONNECTOR_CONFIG_FILE} --catalog $SOURCE_DIR/${CATALOG_FILE}"
       else
-        eval "${'$'}AIRBYTE_ENTRYPOINT read --config $SOURCE_DIR/${CONNECTOR_CONFIG_FILE} --catalog $SOURCE_DIR/${CATALOG_FILE} --state $SOURCE_DIR/$INPUT_STATE_FILE" 2> $STDERR_PIPE_FILE > $STDOUT_PIPE_FILE
+        eval "${'$'}AIRBYTE_ENTRYPOINT read --config $SOURCE_DIR/${CONNECTOR_CONFIG_FILE} --catalog $SOURCE_DIR/${CATALOG_FILE} --state $SOURCE_DIR/$INPUT_STATE_FILE"
       fi
       """.trimIndent(),
     )